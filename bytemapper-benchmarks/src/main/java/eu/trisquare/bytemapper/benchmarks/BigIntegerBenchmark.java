@@ -0,0 +1,112 @@
+package eu.trisquare.bytemapper.benchmarks;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.annotations.Unsigned;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of mapping 64-bit values into BigInteger and unsigned long, compared to decoding them
+ * from temporary copy of their bytes, as BigInteger values of every size were decoded before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BigIntegerBenchmark {
+
+    private static final int RECORD_SIZE = 8;
+
+    @Param({"100000"})
+    private int records;
+
+    private ByteMapper mapper;
+
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ByteMapperBuilder().build();
+        buffer = ByteBuffer.allocate(records * RECORD_SIZE);
+        for (int i = 0; i < records; i++) {
+            buffer.putLong(i * RECORD_SIZE, i * 0x9E3779B97F4A7C15L);
+        }
+    }
+
+    @Benchmark
+    public long copiedBytes() {
+        long checksum = 0;
+        for (int i = 0; i < records; i++) {
+            //mirrors previous decoding, which copied bytes of each value into new array
+            final byte[] copy = new byte[RECORD_SIZE];
+            for (int n = 0; n < RECORD_SIZE; n++) {
+                copy[n] = buffer.get(i * RECORD_SIZE + n);
+            }
+            checksum += new BigInteger(copy).longValue();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long signedBigInteger() {
+        final long[] checksum = new long[1];
+        mapper.mapAll(SignedRecord.class, buffer, 0, RECORD_SIZE, records, record -> checksum[0] += record.value.longValue());
+        return checksum[0];
+    }
+
+    @Benchmark
+    public long unsignedBigInteger() {
+        final long[] checksum = new long[1];
+        mapper.mapAll(UnsignedRecord.class, buffer, 0, RECORD_SIZE, records, record -> checksum[0] += record.value.longValue());
+        return checksum[0];
+    }
+
+    @Benchmark
+    public long unsignedLong() {
+        final long[] checksum = new long[1];
+        mapper.mapAll(UnsignedLongRecord.class, buffer, 0, RECORD_SIZE, records, record -> checksum[0] += record.value);
+        return checksum[0];
+    }
+
+    public static class SignedRecord {
+
+        @Value(startByte = 0, size = 8)
+        public BigInteger value;
+
+    }
+
+    public static class UnsignedRecord {
+
+        @Value(startByte = 0, size = 8)
+        @Unsigned
+        public BigInteger value;
+
+    }
+
+    public static class UnsignedLongRecord {
+
+        @Value(startByte = 0, size = 8)
+        @Unsigned
+        public long value;
+
+    }
+
+}
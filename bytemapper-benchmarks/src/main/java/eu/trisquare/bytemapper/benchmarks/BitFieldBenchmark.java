@@ -0,0 +1,105 @@
+package eu.trisquare.bytemapper.benchmarks;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.annotations.Bits;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.classmapper.MappingEngine;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of mapping packet header with fields packed into bits of a single word, compared to mapping
+ * the containing word and masking its bits in user code, using both reflection and generated mappers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BitFieldBenchmark {
+
+    @Param({"REFLECTION", "BYTECODE_GENERATION"})
+    private MappingEngine engine;
+
+    private ByteMapper mapper;
+
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ByteMapperBuilder().withMappingEngine(engine).build();
+        buffer = ByteBuffer.allocate(8);
+        buffer.putInt(0x452E_4ABC).putInt(42);
+        buffer.flip();
+    }
+
+    @Benchmark
+    public int maskedWord() {
+        final WordHeader header = mapper.mapValues(WordHeader.class, buffer);
+        final int version = header.word >>> 28;
+        final int headerLength = header.word >>> 24 & 0xF;
+        final int type = header.word >>> 18 & 0x3F;
+        final boolean urgent = (header.word >>> 15 & 1) != 0;
+        final int length = header.word & 0xFFF;
+        return version + headerLength + type + (urgent ? 1 : 0) + length + header.sequence;
+    }
+
+    @Benchmark
+    public int bitFields() {
+        final BitsHeader header = mapper.mapValues(BitsHeader.class, buffer);
+        return header.version + header.headerLength + header.type + (header.urgent ? 1 : 0) + header.length + header.sequence;
+    }
+
+    public static class WordHeader {
+
+        @Value(startByte = 0, size = 4)
+        public int word;
+
+        @Value(startByte = 4, size = 4)
+        public int sequence;
+
+    }
+
+    public static class BitsHeader {
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 0, width = 4)
+        public int version;
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 4, width = 4)
+        public int headerLength;
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 8, width = 6)
+        public int type;
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 16, width = 1)
+        public boolean urgent;
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 20, width = 12)
+        public int length;
+
+        @Value(startByte = 4, size = 4)
+        public int sequence;
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package eu.trisquare.bytemapper.benchmarks;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of mapping large "any flag set" region into boolean, compared to checking each of its bytes,
+ * as boolean values were decoded before, and time of decoding the same region into BitSet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BooleanScanBenchmark {
+
+    private static final int REGION_SIZE = 4096;
+
+    /**
+     * Index of the only non-zero byte of the region, or -1 if all bytes are zero
+     */
+    @Param({"-1", "100"})
+    private int flagIndex;
+
+    @Param({"false", "true"})
+    private boolean direct;
+
+    private ByteMapper mapper;
+
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ByteMapperBuilder().build();
+        buffer = direct ? ByteBuffer.allocateDirect(REGION_SIZE) : ByteBuffer.allocate(REGION_SIZE);
+        if (flagIndex >= 0) {
+            buffer.put(flagIndex, (byte) 1);
+        }
+    }
+
+    @Benchmark
+    public boolean byteLoop() {
+        boolean outcome = false;
+        for (int i = 0; i < REGION_SIZE; i++) {
+            outcome |= buffer.get(i) != 0x00;
+        }
+        return outcome;
+    }
+
+    @Benchmark
+    public boolean wordScan() {
+        return mapper.mapValues(Flags.class, buffer).anySet;
+    }
+
+    @Benchmark
+    public BitSet bitSet() {
+        return mapper.mapValues(Bits.class, buffer).bits;
+    }
+
+    public static class Flags {
+
+        @Value(startByte = 0, size = REGION_SIZE)
+        public boolean anySet;
+
+    }
+
+    public static class Bits {
+
+        @Value(startByte = 0, size = REGION_SIZE)
+        public BitSet bits;
+
+    }
+
+}
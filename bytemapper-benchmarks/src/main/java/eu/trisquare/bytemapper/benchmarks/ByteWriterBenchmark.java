@@ -0,0 +1,112 @@
+package eu.trisquare.bytemapper.benchmarks;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.ByteWriter;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import eu.trisquare.bytemapper.impl.ByteWriterBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of writing array of records with {@link ByteWriter} compared to hand-written encoder
+ * of the same layout, and of full round trip: writing records and mapping them back.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ByteWriterBenchmark {
+
+    private static final int RECORD_SIZE = 24;
+
+    @Param({"100000"})
+    private int records;
+
+    private ByteWriter writer;
+
+    private ByteMapper mapper;
+
+    private Record[] values;
+
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        writer = new ByteWriterBuilder().build();
+        mapper = new ByteMapperBuilder().build();
+        values = new Record[records];
+        for (int i = 0; i < records; i++) {
+            final Record record = new Record();
+            record.id = i;
+            record.value = i / 2.0;
+            record.counter = i & 0xFFFFFF;
+            record.flag = (i & 1) == 1;
+            values[i] = record;
+        }
+        buffer = ByteBuffer.allocate(records * RECORD_SIZE);
+    }
+
+    @Benchmark
+    public ByteBuffer byteWriter() {
+        writer.writeAll(Record.class, values, buffer, 0, RECORD_SIZE);
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer handWrittenEncoder() {
+        for (int i = 0; i < values.length; i++) {
+            final Record record = values[i];
+            final int offset = i * RECORD_SIZE;
+            buffer.putLong(offset, record.id);
+            buffer.putDouble(offset + 8, record.value);
+            buffer.put(offset + 16, (byte) (record.counter >>> 16));
+            buffer.putShort(offset + 17, (short) record.counter);
+            buffer.put(offset + 19, (byte) (record.flag ? 1 : 0));
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public long roundTrip() {
+        writer.writeAll(Record.class, values, buffer, 0, RECORD_SIZE);
+        final long[] checksum = new long[1];
+        mapper.mapAll(Record.class, buffer, 0, RECORD_SIZE, records, record -> checksum[0] += record.id);
+        return checksum[0];
+    }
+
+    /**
+     * Record of 24 bytes, last 4 are padding
+     */
+    public static class Record {
+
+        @Value(startByte = 0, size = 8)
+        public long id;
+
+        @Value(startByte = 8, size = 8)
+        public double value;
+
+        @Value(startByte = 16, size = 3)
+        public int counter;
+
+        @Value(startByte = 19)
+        public boolean flag;
+
+    }
+
+}
@@ -0,0 +1,155 @@
+package eu.trisquare.bytemapper.benchmarks;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.annotations.Discriminator;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.classmapper.MappingEngine;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of mapping a feed mixing messages of several types, dispatched by their tag in user code, compared
+ * to mapping them through discriminated base type, using both reflection and generated mappers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscriminatorBenchmark {
+
+    private static final int RECORD_SIZE = 16;
+
+    private static final int RECORD_COUNT = 64;
+
+    @Param({"REFLECTION", "BYTECODE_GENERATION"})
+    private MappingEngine engine;
+
+    private ByteMapper mapper;
+
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ByteMapperBuilder().withMappingEngine(engine).build();
+        buffer = ByteBuffer.allocate(RECORD_SIZE * RECORD_COUNT);
+        final byte[] tags = {'A', 'X', 'E', 'A', 'A', 'X', 'E', 'X'};
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            buffer.position(i * RECORD_SIZE);
+            buffer.put(tags[i % tags.length]).putInt(i).putInt(100 + i).putInt(1000 + i);
+        }
+        buffer.clear();
+    }
+
+    @Benchmark
+    public long tagSwitch() {
+        long sum = 0;
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            final int offset = i * RECORD_SIZE;
+            final Message message;
+            switch (buffer.get(offset)) {
+                case 'A':
+                    message = mapper.mapValues(AddOrder.class, buffer, offset);
+                    break;
+                case 'X':
+                    message = mapper.mapValues(CancelOrder.class, buffer, offset);
+                    break;
+                case 'E':
+                    message = mapper.mapValues(ExecuteOrder.class, buffer, offset);
+                    break;
+                default:
+                    throw new IllegalStateException();
+            }
+            sum += message.getOrderId();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long discriminator() {
+        long sum = 0;
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            sum += mapper.mapValues(Message.class, buffer, i * RECORD_SIZE).getOrderId();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long discriminatorMapAll() {
+        final long[] sum = new long[1];
+        mapper.mapAll(Message.class, buffer, 0, RECORD_SIZE, RECORD_COUNT, message -> sum[0] += message.getOrderId());
+        return sum[0];
+    }
+
+    @Discriminator(startByte = 0, subtypes = {
+            @Discriminator.Subtype(tag = 'A', type = AddOrder.class),
+            @Discriminator.Subtype(tag = 'E', type = ExecuteOrder.class),
+            @Discriminator.Subtype(tag = 'X', type = CancelOrder.class)
+    })
+    public interface Message {
+
+        int getOrderId();
+
+    }
+
+    public static class AddOrder implements Message {
+
+        @Value(startByte = 1, size = 4)
+        public int orderId;
+
+        @Value(startByte = 5, size = 4)
+        public int quantity;
+
+        @Value(startByte = 9, size = 4)
+        public int price;
+
+        @Override
+        public int getOrderId() {
+            return orderId;
+        }
+
+    }
+
+    public static class ExecuteOrder implements Message {
+
+        @Value(startByte = 1, size = 4)
+        public int orderId;
+
+        @Value(startByte = 5, size = 4)
+        public int quantity;
+
+        @Override
+        public int getOrderId() {
+            return orderId;
+        }
+
+    }
+
+    public static class CancelOrder implements Message {
+
+        @Value(startByte = 1, size = 4)
+        public int orderId;
+
+        @Override
+        public int getOrderId() {
+            return orderId;
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+package eu.trisquare.bytemapper.benchmarks;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.Flyweight;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.classmapper.MappingEngine;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of reading two fields of each record, using eagerly mapped instances and reused flyweight.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlyweightBenchmark {
+
+    private static final int RECORD_SIZE = 32;
+
+    @Param({"100000"})
+    private int records;
+
+    private ByteMapper mapper;
+
+    private ByteBuffer buffer;
+
+    private RecordView view;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ByteMapperBuilder()
+                .withMappingEngine(MappingEngine.BYTECODE_GENERATION)
+                .build();
+        buffer = ByteBuffer.allocate(records * RECORD_SIZE);
+        for (int i = 0; i < records; i++) {
+            buffer.putLong(i);
+            buffer.putDouble(i / 2.0);
+            buffer.putInt(i);
+            buffer.put("name".getBytes());
+            buffer.putLong(-i);
+        }
+        buffer.flip();
+        view = mapper.flyweight(RecordView.class);
+    }
+
+    @Benchmark
+    public long mapValues() {
+        final long[] sum = new long[1];
+        mapper.mapAll(Record.class, buffer, 0, RECORD_SIZE, records, record -> sum[0] += record.id + record.counter);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long flyweight() {
+        long sum = 0;
+        for (int i = 0; i < records; i++) {
+            view.wrap(buffer, i * RECORD_SIZE);
+            sum += view.getId() + view.getCounter();
+        }
+        return sum;
+    }
+
+    /**
+     * Record of 32 bytes, mapped eagerly
+     */
+    public static class Record {
+
+        @Value(startByte = 0, size = 8)
+        public long id;
+
+        @Value(startByte = 8, size = 8)
+        public double value;
+
+        @Value(startByte = 16, size = 4)
+        public int counter;
+
+        @Value(startByte = 20, size = 4)
+        public String name;
+
+        @Value(startByte = 24, size = 8)
+        public long checksum;
+
+    }
+
+    /**
+     * Flyweight of the same 32 bytes record
+     */
+    public interface RecordView extends Flyweight {
+
+        @Value(startByte = 0, size = 8)
+        long getId();
+
+        @Value(startByte = 8, size = 8)
+        double getValue();
+
+        @Value(startByte = 16, size = 4)
+        int getCounter();
+
+        @Value(startByte = 20, size = 4)
+        String getName();
+
+        @Value(startByte = 24, size = 8)
+        long getChecksum();
+
+    }
+
+}
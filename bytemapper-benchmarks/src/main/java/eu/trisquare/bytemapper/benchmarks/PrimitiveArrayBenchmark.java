@@ -0,0 +1,94 @@
+package eu.trisquare.bytemapper.benchmarks;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of mapping block of 4096 int samples into int[], compared to decoding the same block
+ * element by element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveArrayBenchmark {
+
+    private static final int SAMPLES = 4096;
+
+    @Param({"false", "true"})
+    private boolean direct;
+
+    private ByteMapper mapper;
+
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ByteMapperBuilder().build();
+        buffer = direct ? ByteBuffer.allocateDirect(SAMPLES * Integer.BYTES) : ByteBuffer.allocate(SAMPLES * Integer.BYTES);
+        for (int i = 0; i < SAMPLES; i++) {
+            buffer.putInt(i * Integer.BYTES, i * 31);
+        }
+    }
+
+    @Benchmark
+    public int[] elementLoopBigEndian() {
+        final int[] samples = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = buffer.getInt(i * Integer.BYTES);
+        }
+        return samples;
+    }
+
+    @Benchmark
+    public int[] elementLoopLittleEndian() {
+        final int[] samples = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = Integer.reverseBytes(buffer.getInt(i * Integer.BYTES));
+        }
+        return samples;
+    }
+
+    @Benchmark
+    public int[] bulkBigEndian() {
+        return mapper.mapValues(BigEndianBlock.class, buffer).samples;
+    }
+
+    @Benchmark
+    public int[] bulkLittleEndian() {
+        return mapper.mapValues(LittleEndianBlock.class, buffer).samples;
+    }
+
+    public static class BigEndianBlock {
+
+        @Value(startByte = 0, size = SAMPLES * Integer.BYTES)
+        public int[] samples;
+
+    }
+
+    public static class LittleEndianBlock {
+
+        @Value(startByte = 0, size = SAMPLES * Integer.BYTES, bigEndian = false)
+        public int[] samples;
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package eu.trisquare.bytemapper.benchmarks;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.classmapper.MappingEngine;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of mapping whole buffer of fixed-size records using sequential and parallel streams.
+ * Parallel stream is run in dedicated fork-join pool of given parallelism, so scaling across core counts
+ * may be compared within single run. Parallelism bigger than number of available cores is pointless.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordStreamBenchmark {
+
+    private static final int RECORD_SIZE = 32;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int parallelism;
+
+    @Param({"1000000"})
+    private int records;
+
+    @Param({"REFLECTION", "BYTECODE_GENERATION"})
+    private MappingEngine mappingEngine;
+
+    private ByteMapper mapper;
+
+    private ByteBuffer buffer;
+
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ByteMapperBuilder()
+                .withMappingEngine(mappingEngine)
+                .build();
+        buffer = ByteBuffer.allocate(records * RECORD_SIZE);
+        for (int i = 0; i < records; i++) {
+            buffer.putLong(i);
+            buffer.putDouble(i / 2.0);
+            buffer.putInt(i);
+            buffer.putInt(-i);
+            buffer.putShort((short) i);
+            buffer.put((byte) i);
+            buffer.put((byte) (i & 1));
+            buffer.putInt(0);
+        }
+        buffer.flip();
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long sequentialStream() {
+        return mapper.stream(Record.class, buffer, RECORD_SIZE)
+                .mapToLong(Record::checksum)
+                .sum();
+    }
+
+    @Benchmark
+    public long parallelStream() throws ExecutionException, InterruptedException {
+        //parallel stream started from fork-join task is executed in pool of this task
+        return pool.submit(
+                () -> mapper.stream(Record.class, buffer, RECORD_SIZE)
+                        .parallel()
+                        .mapToLong(Record::checksum)
+                        .sum()
+        ).get();
+    }
+
+    /**
+     * Record of 32 bytes, last 4 are padding
+     */
+    public static class Record {
+
+        @Value(startByte = 0, size = 8)
+        public long id;
+
+        @Value(startByte = 8, size = 8)
+        public double value;
+
+        @Value(startByte = 16, size = 4)
+        public int first;
+
+        @Value(startByte = 20, size = 4)
+        public int second;
+
+        @Value(startByte = 24, size = 2)
+        public short shortValue;
+
+        @Value(startByte = 26)
+        public byte byteValue;
+
+        @Value(startByte = 27)
+        public boolean flag;
+
+        long checksum() {
+            return id + (long) value + first + second + shortValue + byteValue + (flag ? 1 : 0);
+        }
+
+    }
+
+}
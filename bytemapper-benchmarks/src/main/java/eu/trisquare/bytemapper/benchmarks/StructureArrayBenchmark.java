@@ -0,0 +1,90 @@
+package eu.trisquare.bytemapper.benchmarks;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.annotations.Structure;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of mapping order book of 64 price levels as structure array, compared to mapping
+ * each level from its own buffer slice, as nested structures are mapped.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StructureArrayBenchmark {
+
+    private static final int LEVELS = 64;
+
+    private static final int LEVEL_SIZE = 12;
+
+    private ByteMapper mapper;
+
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ByteMapperBuilder().build();
+        buffer = ByteBuffer.allocate(1 + LEVELS * LEVEL_SIZE);
+        buffer.put(0, (byte) LEVELS);
+        for (int i = 0; i < LEVELS; i++) {
+            buffer.putLong(1 + i * LEVEL_SIZE, 1000L - i);
+            buffer.putInt(1 + i * LEVEL_SIZE + 8, i * 10);
+        }
+    }
+
+    @Benchmark
+    public PriceLevel[] slicedElements() {
+        final int count = buffer.get(0);
+        final PriceLevel[] levels = new PriceLevel[count];
+        for (int i = 0; i < count; i++) {
+            final ByteBuffer slice = buffer.duplicate();
+            slice.position(1 + i * LEVEL_SIZE).limit(1 + (i + 1) * LEVEL_SIZE);
+            levels[i] = mapper.mapValues(PriceLevel.class, slice.slice());
+        }
+        return levels;
+    }
+
+    @Benchmark
+    public PriceLevel[] structureArray() {
+        return mapper.mapValues(OrderBook.class, buffer).levels;
+    }
+
+    public static class OrderBook {
+
+        @Value(startByte = 0)
+        public byte count;
+
+        @Structure(startByte = 1, size = LEVEL_SIZE, countField = "count")
+        public PriceLevel[] levels;
+
+    }
+
+    public static class PriceLevel {
+
+        @Value(startByte = 0, size = 8)
+        public long price;
+
+        @Value(startByte = 8, size = 4)
+        public int quantity;
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package eu.trisquare.bytemapper.benchmarks;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of mapping message with values following variable-length symbol, compared to pre-parsing
+ * symbol length by hand and mapping remaining values from slice of the message, and to mapping the same
+ * message of constant layout.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VariableLayoutBenchmark {
+
+    private ByteMapper mapper;
+
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ByteMapperBuilder().build();
+        buffer = ByteBuffer.allocate(32);
+        buffer.put((byte) 4).put("EURO".getBytes(StandardCharsets.US_ASCII)).putLong(12_345L).putInt(100);
+        buffer.flip();
+    }
+
+    @Benchmark
+    public long handParsed() {
+        final int symbolLength = buffer.get(0);
+        final String symbol = new String(buffer.array(), 1, symbolLength, StandardCharsets.US_ASCII);
+        final ByteBuffer tail = buffer.duplicate();
+        tail.position(1 + symbolLength);
+        final Quantities quantities = mapper.mapValues(Quantities.class, tail.slice());
+        return symbol.length() + quantities.price + quantities.quantity;
+    }
+
+    @Benchmark
+    public long variableLayout() {
+        final VariableQuote quote = mapper.mapValues(VariableQuote.class, buffer);
+        return quote.symbol.length() + quote.price + quote.quantity;
+    }
+
+    @Benchmark
+    public long constantLayout() {
+        final ConstantQuote quote = mapper.mapValues(ConstantQuote.class, buffer);
+        return quote.symbol.length() + quote.price + quote.quantity;
+    }
+
+    public static class VariableQuote {
+
+        @Value(startByte = 0)
+        public byte symbolLength;
+
+        @Value(startByte = 0, after = "symbolLength", lengthField = "symbolLength")
+        public String symbol;
+
+        @Value(startByte = 0, size = 8, after = "symbol")
+        public long price;
+
+        @Value(startByte = 8, size = 4, after = "symbol")
+        public int quantity;
+
+    }
+
+    public static class Quantities {
+
+        @Value(startByte = 0, size = 8)
+        public long price;
+
+        @Value(startByte = 8, size = 4)
+        public int quantity;
+
+    }
+
+    public static class ConstantQuote {
+
+        @Value(startByte = 0)
+        public byte symbolLength;
+
+        @Value(startByte = 1, size = 4)
+        public String symbol;
+
+        @Value(startByte = 5, size = 8)
+        public long price;
+
+        @Value(startByte = 13, size = 4)
+        public int quantity;
+
+    }
+
+}
@@ -0,0 +1,678 @@
+package eu.trisquare.bytemapper.processor;
+
+import eu.trisquare.bytemapper.annotations.Bits;
+import eu.trisquare.bytemapper.annotations.ByteMapperConstructor;
+import eu.trisquare.bytemapper.annotations.Discriminator;
+import eu.trisquare.bytemapper.annotations.Structure;
+import eu.trisquare.bytemapper.annotations.Text;
+import eu.trisquare.bytemapper.annotations.Value;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates {@code ClassMapper} implementations for classes using {@link Value}, {@link Structure}
+ * and {@link ByteMapperConstructor} annotations. Invalid layouts (unsupported types, sizes exceeding
+ * type width, overlapping values) are reported as compilation errors. Classes which can not be accessed
+ * by generated code are skipped with a warning and are mapped using reflection at runtime. Classes annotated with
+ * {@link Discriminator} are skipped, as their records are dispatched to mappers of their subclasses at runtime.
+ * <p>
+ * Generated mapper of class {@code com.example.Outer.Inner} is named {@code com.example.Outer$InnerByteMapper}
+ * and is picked by {@code StandardByteMapper} automatically.
+ */
+public class ByteMapperProcessor extends AbstractProcessor {
+
+    /**
+     * Suffix appended to mapped class name to create name of generated mapper class
+     */
+    private static final String CLASS_NAME_SUFFIX = "ByteMapper";
+
+    /**
+     * Qualified name of lazily decoded value type
+     */
+    private static final String LAZY_CLASS_NAME = "eu.trisquare.bytemapper.Lazy";
+
+    /**
+     * Qualified name of list type mapped as structure array
+     */
+    private static final String LIST_CLASS_NAME = "java.util.List";
+
+    /**
+     * Types of fields which may hold number of structure array's elements
+     */
+    private static final Set<String> COUNT_TYPES = new HashSet<>(Arrays.asList(
+            "int", "short", "byte", "java.lang.Integer", "java.lang.Short", "java.lang.Byte"
+    ));
+
+    /**
+     * Types of fields which may hold bit fields, by their width in bits
+     */
+    private static final Map<String, Integer> BIT_FIELD_WIDTHS = createBitFieldWidths();
+
+    /**
+     * Names of classes already processed in previous rounds
+     */
+    private final Set<String> processedTypes = new HashSet<>();
+
+    private static Map<String, Integer> createBitFieldWidths() {
+        final Map<String, Integer> widths = new HashMap<>();
+        widths.put("boolean", 1);
+        widths.put("byte", Byte.SIZE);
+        widths.put("short", Short.SIZE);
+        widths.put("int", Integer.SIZE);
+        widths.put("long", Long.SIZE);
+        widths.put("java.lang.Boolean", 1);
+        widths.put("java.lang.Byte", Byte.SIZE);
+        widths.put("java.lang.Short", Short.SIZE);
+        widths.put("java.lang.Integer", Integer.SIZE);
+        widths.put("java.lang.Long", Long.SIZE);
+        return widths;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(
+                Value.class.getCanonicalName(),
+                Structure.class.getCanonicalName(),
+                ByteMapperConstructor.class.getCanonicalName()
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        final Set<TypeElement> mappedTypes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                final TypeElement mappedType = getMappedType(element);
+                if (mappedType != null && processedTypes.add(mappedType.getQualifiedName().toString())) {
+                    mappedTypes.add(mappedType);
+                }
+            }
+        }
+        for (TypeElement mappedType : mappedTypes) {
+            process(mappedType);
+        }
+        return false;
+    }
+
+    /**
+     * Returns class which is mapped using given annotated element
+     */
+    private TypeElement getMappedType(Element element) {
+        switch (element.getKind()) {
+            case FIELD:
+            case CONSTRUCTOR:
+                return (TypeElement) element.getEnclosingElement();
+            case PARAMETER:
+                final Element executable = element.getEnclosingElement();
+                return executable.getKind() == ElementKind.CONSTRUCTOR ? (TypeElement) executable.getEnclosingElement() : null;
+            default:
+                return null;
+        }
+    }
+
+    private void process(TypeElement type) {
+        final Messager messager = processingEnv.getMessager();
+        if (type.getAnnotation(Discriminator.class) != null) {
+            final String message = String.format(
+                    "Mapper for %s was not generated, because it is annotated with Discriminator. "
+                            + "Its records will be mapped by mappers of its subclasses.",
+                    type.getQualifiedName()
+            );
+            messager.printMessage(Diagnostic.Kind.NOTE, message, type);
+            return;
+        }
+        final List<ExecutableElement> annotatedConstructors = new ArrayList<>();
+        ExecutableElement defaultConstructor = null;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getAnnotation(ByteMapperConstructor.class) != null) {
+                annotatedConstructors.add(constructor);
+            } else if (constructor.getParameters().isEmpty()) {
+                defaultConstructor = constructor;
+            }
+        }
+        if (annotatedConstructors.size() > 1) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Class must have exactly one annotated constructor.", type);
+            return;
+        }
+
+        final boolean constructorBased = !annotatedConstructors.isEmpty();
+        final ExecutableElement constructor = constructorBased ? annotatedConstructors.get(0) : defaultConstructor;
+        final List<MappedSlot> slots = new ArrayList<>();
+        boolean valid = constructorBased
+                ? collectParameterSlots(annotatedConstructors.get(0), slots)
+                : collectFieldSlots(type, slots);
+        valid &= isInstantiable(type, constructor);
+        valid &= isLayoutValid(slots);
+        if (valid && isStatic(type, slots) && isAccessible(type, constructor, slots, constructorBased)) {
+            generate(type, slots, constructorBased);
+        }
+    }
+
+    /**
+     * Adds slots for each parameter of annotated constructor, reporting not annotated ones
+     *
+     * @return true if all parameters are annotated
+     */
+    private boolean collectParameterSlots(ExecutableElement constructor, List<MappedSlot> slots) {
+        boolean valid = true;
+        for (VariableElement parameter : constructor.getParameters()) {
+            final MappedSlot slot = createSlot(parameter);
+            if (slot == null) {
+                processingEnv.getMessager().printMessage(
+                        Diagnostic.Kind.ERROR,
+                        "Not annotated parameter in annotated constructor.",
+                        parameter
+                );
+                valid = false;
+            } else {
+                slots.add(slot);
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Adds slots for each annotated field, reporting static and final ones
+     *
+     * @return true if all annotated fields may be assigned
+     */
+    private boolean collectFieldSlots(TypeElement type, List<MappedSlot> slots) {
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            final MappedSlot slot = createSlot(field);
+            if (slot == null) {
+                continue;
+            }
+            if (field.getModifiers().contains(Modifier.FINAL) || field.getModifiers().contains(Modifier.STATIC)) {
+                final String message = String.format(
+                        "Unable to set value for field: %s. Mapped field must not be static nor final.",
+                        field.getSimpleName()
+                );
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, field);
+                valid = false;
+            }
+            slots.add(slot);
+        }
+        return valid;
+    }
+
+    /**
+     * Creates slot for annotated field or parameter, or returns null if element is not annotated
+     */
+    private MappedSlot createSlot(VariableElement element) {
+        final TypeMirror type = processingEnv.getTypeUtils().erasure(element.asType());
+        final Value value = element.getAnnotation(Value.class);
+        if (value != null && LAZY_CLASS_NAME.equals(type.toString())) {
+            final List<? extends TypeMirror> typeArguments = ((DeclaredType) element.asType()).getTypeArguments();
+            final TypeMirror valueType = typeArguments.isEmpty() || typeArguments.get(0).getKind() != TypeKind.DECLARED
+                    ? null
+                    : processingEnv.getTypeUtils().erasure(typeArguments.get(0));
+            return new MappedSlot(element, type, valueType, true, false, value.startByte(), value.size(), value.bigEndian());
+        }
+        if (value != null) {
+            return new MappedSlot(element, type, false, value.startByte(), value.size(), value.bigEndian());
+        }
+        final Structure structure = element.getAnnotation(Structure.class);
+        if (structure != null) {
+            return new MappedSlot(element, type, getStructureArrayElementType(element, type), structure);
+        }
+        return null;
+    }
+
+    /**
+     * Returns erased element type of array or {@code java.util.List<T>} element, or null if element is
+     * neither an array nor a List, or List does not declare its element type
+     */
+    private TypeMirror getStructureArrayElementType(VariableElement element, TypeMirror type) {
+        final Types types = processingEnv.getTypeUtils();
+        if (type.getKind() == TypeKind.ARRAY) {
+            return types.erasure(((ArrayType) type).getComponentType());
+        }
+        if (LIST_CLASS_NAME.equals(type.toString())) {
+            final List<? extends TypeMirror> typeArguments = ((DeclaredType) element.asType()).getTypeArguments();
+            return typeArguments.isEmpty() || typeArguments.get(0).getKind() != TypeKind.DECLARED
+                    ? null
+                    : types.erasure(typeArguments.get(0));
+        }
+        return null;
+    }
+
+    /**
+     * Checks if class may be instantiated at all, reporting errors otherwise
+     */
+    private boolean isInstantiable(TypeElement type, ExecutableElement constructor) {
+        final Messager messager = processingEnv.getMessager();
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            final String message = String.format(
+                    "Provided class must not be interface nor abstract class: %s",
+                    type.getSimpleName()
+            );
+            messager.printMessage(Diagnostic.Kind.ERROR, message, type);
+            return false;
+        }
+        if (constructor == null || isNonStaticInnerClass(type)) {
+            final String message = String.format(
+                    "Class %s must have default constructor and must be declared in static context",
+                    type.getSimpleName()
+            );
+            messager.printMessage(Diagnostic.Kind.ERROR, message, type);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isNonStaticInnerClass(TypeElement type) {
+        return type.getNestingKind() != NestingKind.TOP_LEVEL && !type.getModifiers().contains(Modifier.STATIC);
+    }
+
+    /**
+     * Checks values' types, sizes and positions, reporting errors for each invalid one
+     */
+    private boolean isLayoutValid(List<MappedSlot> slots) {
+        final Messager messager = processingEnv.getMessager();
+        final SupportedTypes supportedTypes = new SupportedTypes(processingEnv.getTypeUtils(), processingEnv.getElementUtils());
+        boolean valid = true;
+        for (MappedSlot slot : slots) {
+            final String error = getSlotError(slot, supportedTypes);
+            if (error != null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, error, slot.getElement());
+                valid = false;
+            }
+        }
+        for (MappedSlot slot : slots) {
+            final String error = slot.isStructureArray() ? getCountFieldError(slot, slots) : getPositionError(slot, slots);
+            if (error != null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, error, slot.getElement());
+                valid = false;
+            }
+        }
+        if (!valid) {
+            return false;
+        }
+
+        //positions of dynamic slots are known only at runtime
+        final List<MappedSlot> sortedSlots = slots.stream().filter(slot -> !slot.isDynamic()).collect(Collectors.toList());
+        sortedSlots.sort(Comparator.comparingInt(MappedSlot::getStartByte));
+        for (int i = 1; i < sortedSlots.size(); i++) {
+            final MappedSlot previous = sortedSlots.get(i - 1);
+            final MappedSlot current = sortedSlots.get(i);
+            if (current.sharesWord(previous)) {
+                continue;
+            }
+            if (current.getStartByte() < previous.getEndByte()) {
+                final String message = String.format(
+                        "Bytes %d to %d of %s overlap with bytes %d to %d of %s.",
+                        current.getStartByte(), current.getEndByte(), current.getName(),
+                        previous.getStartByte(), previous.getEndByte(), previous.getName()
+                );
+                messager.printMessage(Diagnostic.Kind.ERROR, message, current.getElement());
+                valid = false;
+            }
+        }
+        return valid && areBitsDisjoint(slots);
+    }
+
+    /**
+     * Checks if bit fields sharing their word use distinct bits, reporting errors for each overlapping one
+     */
+    private boolean areBitsDisjoint(List<MappedSlot> slots) {
+        boolean valid = true;
+        for (int i = 0; i < slots.size(); i++) {
+            final MappedSlot current = slots.get(i);
+            for (int j = 0; j < i; j++) {
+                final MappedSlot previous = slots.get(j);
+                if (current.sharesWord(previous) && getLowestBit(current) < getLowestBit(previous) + previous.getBits().width()
+                        && getLowestBit(previous) < getLowestBit(current) + current.getBits().width()) {
+                    final String message = String.format(
+                            "Bits %d to %d of %s overlap with bits %d to %d of %s.",
+                            current.getBits().offset(), current.getBits().offset() + current.getBits().width(), current.getName(),
+                            previous.getBits().offset(), previous.getBits().offset() + previous.getBits().width(), previous.getName()
+                    );
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, current.getElement());
+                    valid = false;
+                }
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Returns index of bit field's least significant bit within its word
+     */
+    private static int getLowestBit(MappedSlot slot) {
+        final Bits bits = slot.getBits();
+        return bits.numbering() == Bits.Numbering.MSB_FIRST
+                ? slot.getSize() * Byte.SIZE - bits.offset() - bits.width()
+                : bits.offset();
+    }
+
+    private String getSlotError(MappedSlot slot, SupportedTypes supportedTypes) {
+        if (slot.getStartByte() < 0) {
+            return String.format("Byte index must be positive! (%d was provided)", slot.getStartByte());
+        }
+        if (slot.getSize() < 1) {
+            return String.format("Size should be bigger than 0, but %d was provided", slot.getSize());
+        }
+        final Integer internCapacity = slot.getInternCapacity();
+        if (internCapacity != null && internCapacity < 1) {
+            return String.format("Intern capacity must be bigger than 0, but %d was provided", internCapacity);
+        }
+        if (slot.isStructure()) {
+            return getStructureError(slot);
+        }
+        final TypeMirror valueType = slot.getValueType();
+        if (valueType == null) {
+            return String.format("Lazy value %s must declare its value type, i.e. Lazy<String>.", slot.getName());
+        }
+        if (!supportedTypes.isSupported(valueType)) {
+            return String.format("No mapper has been found for class: %s", valueType);
+        }
+        if (internCapacity != null && !isInternable(valueType)) {
+            return String.format(
+                    "Interned value %s must be of immutable reference type, but %s was provided.",
+                    slot.getName(), valueType.getKind() == TypeKind.DECLARED
+                            ? ((DeclaredType) valueType).asElement().getSimpleName() : valueType
+            );
+        }
+        if (slot.getBits() != null) {
+            return getBitsError(slot, valueType);
+        }
+        final Text text = slot.getText();
+        if (text != null) {
+            return getTextError(slot, text, valueType);
+        }
+        if (slot.isUnsigned() && !isUnsignedSupported(valueType)) {
+            return String.format("Unsigned value %s must be of type long or assignable from BigInteger.", slot.getName());
+        }
+        final int maximumSize = supportedTypes.getMaximumSize(valueType);
+        if (slot.getSize() > maximumSize) {
+            return String.format(
+                    "For type %s maximum allowed size is %d, but requested parsing of %d bytes. Would you like to use different data type?",
+                    supportedTypes.getMappedType(valueType),
+                    maximumSize,
+                    slot.getSize()
+            );
+        }
+        return null;
+    }
+
+    /**
+     * Returns error of {@link Bits} annotated slot, or null if its bits fit both its type and its word
+     */
+    private static String getBitsError(MappedSlot slot, TypeMirror valueType) {
+        final Bits bits = slot.getBits();
+        final Integer maximumWidth = BIT_FIELD_WIDTHS.get(valueType.toString());
+        if (maximumWidth == null) {
+            return String.format("Bit field %s must be of boolean, byte, short, int or long type.", slot.getName());
+        }
+        if (!slot.getLengthField().isEmpty() || slot.getSize() > Long.BYTES) {
+            return String.format("Bit field %s must be read from constant-size word of up to %d bytes.", slot.getName(), Long.BYTES);
+        }
+        if (bits.offset() < 0 || bits.width() < 1) {
+            return String.format(
+                    "Bit field %s must have non-negative offset and positive width, but %d and %d were provided.",
+                    slot.getName(), bits.offset(), bits.width()
+            );
+        }
+        if (bits.width() > maximumWidth) {
+            final String typeName = valueType.getKind() == TypeKind.DECLARED
+                    ? ((DeclaredType) valueType).asElement().getSimpleName().toString() : valueType.toString();
+            return String.format("Bit field %s of %d bits does not fit in %s.", slot.getName(), bits.width(), typeName);
+        }
+        if (bits.offset() + bits.width() > slot.getSize() * Byte.SIZE) {
+            return String.format(
+                    "Bits %d to %d of %s exceed %d bits of its word.",
+                    bits.offset(), bits.offset() + bits.width(), slot.getName(), slot.getSize() * Byte.SIZE
+            );
+        }
+        return null;
+    }
+
+    /**
+     * Returns error of {@link Structure} annotated slot, or null if it is valid
+     */
+    private static String getStructureError(MappedSlot slot) {
+        if (!slot.isStructureArray()) {
+            if (slot.getCount() != 0 || !slot.getCountField().isEmpty()) {
+                return String.format("Only structure arrays may declare count, but %s is neither an array nor a List.", slot.getName());
+            }
+            return null;
+        }
+        final TypeMirror elementType = slot.getElementType();
+        if (elementType == null) {
+            return String.format("Structure array %s must declare its element type, i.e. List<Item>.", slot.getName());
+        }
+        if (elementType.getKind().isPrimitive()) {
+            return String.format("Structure array %s must contain structures, but %s was provided.", slot.getName(), elementType);
+        }
+        if (slot.getCountField().isEmpty() == (slot.getCount() < 1)) {
+            return String.format("Structure array %s must declare either positive count or countField.", slot.getName());
+        }
+        if (slot.getInternCapacity() != null) {
+            return String.format("Structure array %s must not be interned, as arrays are mutable.", slot.getName());
+        }
+        return null;
+    }
+
+    /**
+     * Returns error of structure array's count field, or null if number of elements is fixed or
+     * count field is an int, short or byte value
+     */
+    private static String getCountFieldError(MappedSlot slot, List<MappedSlot> slots) {
+        if (slot.getCountField().isEmpty()) {
+            return null;
+        }
+        for (MappedSlot countSlot : slots) {
+            if (countSlot.getName().equals(slot.getCountField())) {
+                if (countSlot.isStructure() || countSlot.isLazy() || !COUNT_TYPES.contains(countSlot.getType().toString())) {
+                    return String.format(
+                            "Count field %s of structure array %s must be an int, short or byte value.",
+                            slot.getCountField(), slot.getName()
+                    );
+                }
+                return null;
+            }
+        }
+        return String.format("Unable to find count field %s of structure array %s.", slot.getCountField(), slot.getName());
+    }
+
+    /**
+     * Returns error of slot positioned after other field or with length held by other field,
+     * or null if referenced fields exist and length field is an int, short or byte value
+     */
+    private static String getPositionError(MappedSlot slot, List<MappedSlot> slots) {
+        if (!slot.getAfter().isEmpty() && slots.stream().noneMatch(other -> other.getName().equals(slot.getAfter()))) {
+            return String.format("Unable to find field %s, which %s is positioned after.", slot.getAfter(), slot.getName());
+        }
+        if (slot.getLengthField().isEmpty()) {
+            return null;
+        }
+        for (MappedSlot lengthSlot : slots) {
+            if (lengthSlot.getName().equals(slot.getLengthField())) {
+                if (lengthSlot.isStructure() || lengthSlot.isLazy() || !COUNT_TYPES.contains(lengthSlot.getType().toString())) {
+                    return String.format(
+                            "Length field %s of %s must be an int, short or byte value.",
+                            slot.getLengthField(), slot.getName()
+                    );
+                }
+                return null;
+            }
+        }
+        return String.format("Unable to find length field %s of %s.", slot.getLengthField(), slot.getName());
+    }
+
+    /**
+     * Checks if unsigned values may be mapped into given type, which must be long, Long or assignable from BigInteger
+     */
+    private boolean isUnsignedSupported(TypeMirror valueType) {
+        final Types types = processingEnv.getTypeUtils();
+        final TypeMirror bigIntegerType = processingEnv.getElementUtils().getTypeElement(BigInteger.class.getCanonicalName()).asType();
+        final TypeMirror longType = processingEnv.getElementUtils().getTypeElement(Long.class.getCanonicalName()).asType();
+        return valueType.getKind() == TypeKind.LONG || types.isSameType(valueType, longType)
+                || types.isAssignable(bigIntegerType, valueType);
+    }
+
+    /**
+     * Checks if values of given type may be shared, which excludes primitives, arrays and buffers
+     */
+    private boolean isInternable(TypeMirror valueType) {
+        if (valueType.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final TypeMirror bufferType = processingEnv.getElementUtils().getTypeElement(Buffer.class.getCanonicalName()).asType();
+        return !processingEnv.getTypeUtils().isAssignable(valueType, bufferType);
+    }
+
+    /**
+     * Returns error of {@link Text} annotated slot, or null if it is valid
+     */
+    private String getTextError(MappedSlot slot, Text text, TypeMirror valueType) {
+        final TypeMirror stringType = processingEnv.getElementUtils().getTypeElement(String.class.getCanonicalName()).asType();
+        if (!processingEnv.getTypeUtils().isAssignable(stringType, valueType)) {
+            return String.format("Text value %s must be of type assignable from String.", slot.getName());
+        }
+        if (!isCharsetSupported(text.charset())) {
+            return String.format("Unsupported charset: %s", text.charset());
+        }
+        if (text.internCapacity() < 0) {
+            return String.format("Intern capacity must not be negative, but %d was provided", text.internCapacity());
+        }
+        if (text.internCapacity() > 0 && slot.getInternCapacity() != null) {
+            return String.format(
+                    "Interned value %s must not declare intern capacity of its @Text annotation.",
+                    slot.getName()
+            );
+        }
+        return null;
+    }
+
+    private static boolean isCharsetSupported(String charsetName) {
+        try {
+            return Charset.isSupported(charsetName);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if all slots start at constant index and have constant size. Otherwise, their positions are resolved
+     * from mapped data at runtime, and note is emitted as class will be mapped using reflection.
+     */
+    private boolean isStatic(TypeElement type, List<MappedSlot> slots) {
+        for (MappedSlot slot : slots) {
+            if (slot.isDynamic()) {
+                final String message = String.format(
+                        "Mapper for %s was not generated, because position or size of %s is read from mapped data. "
+                                + "Class will be mapped using reflection.",
+                        type.getQualifiedName(),
+                        slot.getName()
+                );
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, slot.getElement());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if generated mapper, placed in the same package, will be able to access class and its members.
+     * Emits warning if it is not, as such class will still be mapped using reflection.
+     */
+    private boolean isAccessible(TypeElement type, ExecutableElement constructor, List<MappedSlot> slots, boolean constructorBased) {
+        final List<Element> usedElements = new ArrayList<>();
+        usedElements.add(constructor);
+        if (!constructorBased) {
+            for (MappedSlot slot : slots) {
+                usedElements.add(slot.getElement());
+            }
+        }
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            usedElements.add(element);
+        }
+        for (Element element : usedElements) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                final String message = String.format(
+                        "Mapper for %s was not generated, because %s is private. Class will be mapped using reflection.",
+                        type.getQualifiedName(),
+                        element.getSimpleName()
+                );
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, List<MappedSlot> slots, boolean constructorBased) {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        final String nestedName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        //binary name keeps mappers of nested and top-level classes, like Outer$Inner and Outer_Inner, distinct
+        final String mapperName = nestedName + CLASS_NAME_SUFFIX;
+        final String mapperQualifiedName = packageName.isEmpty() ? mapperName : packageName + "." + mapperName;
+        final String source = new MapperSourceWriter(
+                packageName,
+                mapperName,
+                type.getQualifiedName().toString(),
+                slots,
+                constructorBased
+        ).write();
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(mapperQualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            final String message = String.format("Unable to generate mapper %s: %s", mapperQualifiedName, e.getMessage());
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, type);
+        }
+    }
+
+}
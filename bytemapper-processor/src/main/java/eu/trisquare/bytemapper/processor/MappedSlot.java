@@ -0,0 +1,301 @@
+package eu.trisquare.bytemapper.processor;
+
+import eu.trisquare.bytemapper.annotations.Bits;
+import eu.trisquare.bytemapper.annotations.Interned;
+import eu.trisquare.bytemapper.annotations.Structure;
+import eu.trisquare.bytemapper.annotations.Text;
+import eu.trisquare.bytemapper.annotations.Unsigned;
+import eu.trisquare.bytemapper.annotations.Value;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Single annotated field or constructor parameter of processed class
+ */
+final class MappedSlot {
+
+    /**
+     * Annotated field or parameter
+     */
+    private final Element element;
+
+    /**
+     * Erased type of annotated field or parameter
+     */
+    private final TypeMirror type;
+
+    /**
+     * Erased type of mapped value: declared value type for {@code Lazy<T>} slots, null if it is not declared,
+     * and slot's type otherwise
+     */
+    private final TypeMirror valueType;
+
+    /**
+     * True if slot is of {@code eu.trisquare.bytemapper.Lazy} type
+     */
+    private final boolean lazy;
+
+    /**
+     * True if slot is annotated with {@link eu.trisquare.bytemapper.annotations.Structure}
+     */
+    private final boolean structure;
+
+    /**
+     * Erased type of elements of structure array, null if slot is not a structure array or its
+     * element type is not declared
+     */
+    private final TypeMirror elementType;
+
+    /**
+     * Fixed number of elements of structure array, 0 if it is not declared
+     */
+    private final int count;
+
+    /**
+     * Name of field holding number of elements of structure array, empty if it is not declared
+     */
+    private final String countField;
+
+    /**
+     * Name of field after which slot starts, empty if it starts at constant index
+     */
+    private final String after;
+
+    /**
+     * Name of field holding number of value's bytes, empty if value has constant size
+     */
+    private final String lengthField;
+
+    /**
+     * Zero-inclusive index of slot's first byte
+     */
+    private final int startByte;
+
+    /**
+     * Number of bytes used to obtain slot's value
+     */
+    private final int size;
+
+    /**
+     * True for big-endian values, false otherwise. Always true for structures.
+     */
+    private final boolean bigEndian;
+
+    /**
+     * Decoding properties of text values, null if slot is not annotated with {@link Text}
+     */
+    private final Text text;
+
+    /**
+     * Capacity of slot's own intern cache, null if slot is not annotated with {@link Interned}
+     */
+    private final Integer internCapacity;
+
+    /**
+     * True if slot is annotated with {@link Unsigned}
+     */
+    private final boolean unsigned;
+
+    /**
+     * Bit range of value, null if slot is not annotated with {@link Bits}
+     */
+    private final Bits bits;
+
+    MappedSlot(Element element, TypeMirror type, boolean structure, int startByte, int size, boolean bigEndian) {
+        this(element, type, type, false, structure, startByte, size, bigEndian);
+    }
+
+    /**
+     * Creates slot of {@link Structure} annotated element, which is structure array if element type is given
+     */
+    MappedSlot(Element element, TypeMirror type, TypeMirror elementType, Structure structure) {
+        this(element, type, type, elementType, false, true, structure.startByte(), structure.size(), true);
+    }
+
+    MappedSlot(
+            Element element,
+            TypeMirror type,
+            TypeMirror valueType,
+            boolean lazy,
+            boolean structure,
+            int startByte,
+            int size,
+            boolean bigEndian
+    ) {
+        this(element, type, valueType, null, lazy, structure, startByte, size, bigEndian);
+    }
+
+    MappedSlot(
+            Element element,
+            TypeMirror type,
+            TypeMirror valueType,
+            TypeMirror elementType,
+            boolean lazy,
+            boolean structure,
+            int startByte,
+            int size,
+            boolean bigEndian
+    ) {
+        this.element = element;
+        this.type = type;
+        this.valueType = valueType;
+        this.elementType = elementType;
+        final Structure structureAnnotation = structure ? element.getAnnotation(Structure.class) : null;
+        this.count = structureAnnotation == null ? 0 : structureAnnotation.count();
+        this.countField = structureAnnotation == null ? "" : structureAnnotation.countField();
+        final Value valueAnnotation = structure ? null : element.getAnnotation(Value.class);
+        this.after = structureAnnotation != null ? structureAnnotation.after() : valueAnnotation.after();
+        this.lengthField = valueAnnotation == null ? "" : valueAnnotation.lengthField();
+        this.lazy = lazy;
+        this.structure = structure;
+        this.startByte = startByte;
+        this.size = size;
+        this.bigEndian = bigEndian;
+        this.text = structure ? null : element.getAnnotation(Text.class);
+        final Interned interned = element.getAnnotation(Interned.class);
+        this.internCapacity = interned == null ? null : interned.capacity();
+        this.unsigned = !structure && element.getAnnotation(Unsigned.class) != null;
+        this.bits = structure ? null : element.getAnnotation(Bits.class);
+    }
+
+    Element getElement() {
+        return element;
+    }
+
+    String getName() {
+        return element.getSimpleName().toString();
+    }
+
+    TypeMirror getType() {
+        return type;
+    }
+
+    TypeMirror getValueType() {
+        return valueType;
+    }
+
+    boolean isLazy() {
+        return lazy;
+    }
+
+    boolean isStructure() {
+        return structure;
+    }
+
+    /**
+     * Checks if slot is {@link Structure} annotated array or {@code java.util.List}
+     */
+    boolean isStructureArray() {
+        return structure && (type.getKind() == TypeKind.ARRAY || "java.util.List".equals(type.toString()));
+    }
+
+    /**
+     * Returns erased type of structure array's elements, or null if it is not declared
+     */
+    TypeMirror getElementType() {
+        return elementType;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    String getCountField() {
+        return countField;
+    }
+
+    String getAfter() {
+        return after;
+    }
+
+    String getLengthField() {
+        return lengthField;
+    }
+
+    /**
+     * Checks if slot's position or size is read from mapped data, so it is resolved at runtime
+     */
+    boolean isDynamic() {
+        return !after.isEmpty() || !lengthField.isEmpty();
+    }
+
+    int getStartByte() {
+        return startByte;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns exclusive index of slot's last byte. For structure arrays without fixed number of elements,
+     * this is index of first element's first byte.
+     */
+    int getEndByte() {
+        if (isStructureArray()) {
+            return startByte + size * (countField.isEmpty() ? count : 0);
+        }
+        return startByte + size;
+    }
+
+    boolean isBigEndian() {
+        return bigEndian;
+    }
+
+    /**
+     * Returns decoding properties of text value, or null if slot is not annotated with {@link Text}
+     */
+    Text getText() {
+        return text;
+    }
+
+    boolean isUnsigned() {
+        return unsigned;
+    }
+
+    /**
+     * Returns bit range of value, or null if slot is not annotated with {@link Bits}
+     */
+    Bits getBits() {
+        return bits;
+    }
+
+    /**
+     * Checks if slot's value is extracted from word, which may be read once for all bit fields of the same bytes.
+     * Lazy and interned bit fields read their word by themselves.
+     */
+    boolean isBitField() {
+        return bits != null && !lazy && internCapacity == null;
+    }
+
+    /**
+     * Checks if both slots are bit fields of the same bytes and endianness, so they share their word
+     */
+    boolean sharesWord(MappedSlot other) {
+        return isBitField() && other.isBitField() && startByte == other.startByte && size == other.size
+                && bigEndian == other.bigEndian && after.equals(other.after);
+    }
+
+    /**
+     * Returns capacity of slot's own intern cache, or null if slot is not annotated with {@link Interned}
+     */
+    Integer getInternCapacity() {
+        return internCapacity;
+    }
+
+    /**
+     * Checks if values of slot are remembered by its mapper, either in slot's own cache, in cache of
+     * {@link Text} value or in cache of structure class annotated with {@link Interned}
+     */
+    boolean isInterned() {
+        if (internCapacity != null || text != null && text.internCapacity() > 0) {
+            return true;
+        }
+        return structure && type instanceof DeclaredType
+                && ((DeclaredType) type).asElement().getAnnotation(Interned.class) != null;
+    }
+
+}
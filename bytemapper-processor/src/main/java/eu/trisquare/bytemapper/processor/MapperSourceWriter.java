@@ -0,0 +1,380 @@
+package eu.trisquare.bytemapper.processor;
+
+import eu.trisquare.bytemapper.annotations.Bits;
+import eu.trisquare.bytemapper.annotations.Interned;
+import eu.trisquare.bytemapper.annotations.Text;
+
+import javax.lang.model.type.TypeKind;
+import java.util.List;
+
+/**
+ * Creates source code of {@code ClassMapper} implementation for processed class
+ */
+final class MapperSourceWriter {
+
+    /**
+     * Package of processed class, empty for default package
+     */
+    private final String packageName;
+
+    /**
+     * Simple name of generated mapper
+     */
+    private final String mapperName;
+
+    /**
+     * Canonical name of processed class
+     */
+    private final String typeName;
+
+    /**
+     * Annotated fields or constructor parameters, in declaration order
+     */
+    private final List<MappedSlot> slots;
+
+    /**
+     * True if class is instantiated using annotated constructor
+     */
+    private final boolean constructorBased;
+
+    /**
+     * Name of local variable holding word of each bit field slot, null for other slots
+     */
+    private final String[] wordNames;
+
+    private final StringBuilder source = new StringBuilder();
+
+    MapperSourceWriter(String packageName, String mapperName, String typeName, List<MappedSlot> slots, boolean constructorBased) {
+        this.packageName = packageName;
+        this.mapperName = mapperName;
+        this.typeName = typeName;
+        this.slots = slots;
+        this.constructorBased = constructorBased;
+        this.wordNames = getWordNames(slots);
+    }
+
+    /**
+     * Returns names of local variables holding words of bit field slots, shared by slots of the same word
+     */
+    private static String[] getWordNames(List<MappedSlot> slots) {
+        final String[] names = new String[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            if (!slots.get(i).isBitField()) {
+                continue;
+            }
+            names[i] = "word" + i;
+            for (int j = 0; j < i; j++) {
+                if (slots.get(i).sharesWord(slots.get(j))) {
+                    names[i] = names[j];
+                    break;
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns complete source code of generated mapper
+     */
+    String write() {
+        if (!packageName.isEmpty()) {
+            line(0, "package " + packageName + ";");
+            line(0, "");
+        }
+        line(0, "/**");
+        line(0, " * Maps bytes into {@link " + typeName + "} instances. Generated by bytemapper-processor, do not edit.");
+        line(0, " */");
+        line(0, "public final class " + mapperName + " implements eu.trisquare.bytemapper.classmapper.ClassMapper<" + typeName + "> {");
+        line(0, "");
+        writeMappers();
+        if (slots.stream().anyMatch(MappedSlot::isInterned)) {
+            writeInternCachesMethod();
+        }
+        writeMapMethods();
+        writeMapAllMethod();
+        if (!constructorBased) {
+            writeMapIntoMethod();
+        }
+        writeMapRecordMethod();
+        if (!constructorBased) {
+            writeAssignMethod();
+        }
+        writeCheckBoundsMethod();
+        line(0, "}");
+        return source.toString();
+    }
+
+    private void writeMappers() {
+        line(1, "private static final eu.trisquare.bytemapper.fieldmapper.FieldMapperProvider FIELD_MAPPERS =");
+        line(3, "new eu.trisquare.bytemapper.fieldmapper.StandardFieldMapperProvider();");
+        line(0, "");
+        line(1, "private static final eu.trisquare.bytemapper.fieldmapper.StructureMapperProvider STRUCTURE_MAPPERS =");
+        line(3, "new eu.trisquare.bytemapper.fieldmapper.StandardStructureMapperProvider();");
+        line(0, "");
+        if (slots.stream().anyMatch(MappedSlot::isStructureArray)) {
+            //elements of structure arrays are mapped by class mappers cached by byte mapper
+            line(1, "private static final eu.trisquare.bytemapper.ByteMapper BYTE_MAPPER =");
+            line(3, "new eu.trisquare.bytemapper.impl.ByteMapperBuilder().build();");
+            line(0, "");
+        }
+        for (int i = 0; i < slots.size(); i++) {
+            final MappedSlot slot = slots.get(i);
+            if (slot.isStructureArray()) {
+                continue;
+            } else if (slot.isStructure() && slot.getInternCapacity() != null) {
+                line(1, "private static final eu.trisquare.bytemapper.fieldmapper.StructureMapper MAPPER_" + i + " =");
+                line(3, "new eu.trisquare.bytemapper.fieldmapper.InterningStructureMapper(STRUCTURE_MAPPERS.getStructureMapper("
+                        + slot.getType() + ".class), " + slot.getInternCapacity() + ");");
+            } else if (slot.isStructure()) {
+                line(1, "private static final eu.trisquare.bytemapper.fieldmapper.StructureMapper MAPPER_" + i + " =");
+                line(3, "STRUCTURE_MAPPERS.getStructureMapper(" + slot.getType() + ".class);");
+            } else if (slot.isBitField()) {
+                line(1, "private static final eu.trisquare.bytemapper.fieldmapper.BitFieldMapper MAPPER_" + i + " =");
+                line(3, getFieldMapperExpression(slot) + ";");
+            } else if (slot.getType().getKind().isPrimitive()) {
+                line(1, "private static final eu.trisquare.bytemapper.fieldmapper.PrimitiveFieldMapper MAPPER_" + i + " =");
+                line(3, "(eu.trisquare.bytemapper.fieldmapper.PrimitiveFieldMapper) " + getFieldMapperExpression(slot) + ";");
+            } else {
+                line(1, "private static final eu.trisquare.bytemapper.fieldmapper.FieldMapper MAPPER_" + i + " =");
+                line(3, getFieldMapperExpression(slot) + ";");
+            }
+            line(0, "");
+        }
+    }
+
+    /**
+     * Returns expression creating mapper of slot's values, wrapped by interning mapper if slot is annotated with {@link Interned}.
+     * Mapper of Lazy slot is created for its value type.
+     */
+    private static String getFieldMapperExpression(MappedSlot slot) {
+        final Text text = slot.getText();
+        final Bits bits = slot.getBits();
+        final String mapper;
+        if (bits != null) {
+            mapper = "new eu.trisquare.bytemapper.fieldmapper.BitFieldMapper(" + slot.getValueType() + ".class, "
+                    + slot.getSize() + ", " + bits.offset() + ", " + bits.width() + ", "
+                    + "eu.trisquare.bytemapper.annotations.Bits.Numbering." + bits.numbering() + ")";
+        } else if (text != null) {
+            mapper = "new eu.trisquare.bytemapper.fieldmapper.TextFieldMapper(\"" + text.charset() + "\", "
+                    + "eu.trisquare.bytemapper.annotations.Text.Padding." + text.padding() + ", "
+                    + text.terminated() + ", " + text.internCapacity() + ")";
+        } else if (slot.isUnsigned()) {
+            mapper = "new eu.trisquare.bytemapper.fieldmapper.UnsignedFieldMapper(" + slot.getValueType() + ".class)";
+        } else {
+            mapper = "FIELD_MAPPERS.getMapper(" + slot.getValueType() + ".class)";
+        }
+        if (slot.getInternCapacity() != null) {
+            return "new eu.trisquare.bytemapper.fieldmapper.InterningFieldMapper(" + mapper + ", " + slot.getInternCapacity() + ")";
+        }
+        return mapper;
+    }
+
+    /**
+     * Writes caches of interned slots, only if there are any, as by default class mapper has no caches
+     */
+    private void writeInternCachesMethod() {
+        line(1, "private static final java.util.Map<String, eu.trisquare.bytemapper.fieldmapper.InternCache<?>> INTERN_CACHES =");
+        line(3, "createInternCaches();");
+        line(0, "");
+        line(1, "private static java.util.Map<String, eu.trisquare.bytemapper.fieldmapper.InternCache<?>> createInternCaches() {");
+        line(2, "final java.util.Map<String, eu.trisquare.bytemapper.fieldmapper.InternCache<?>> caches = new java.util.LinkedHashMap<>();");
+        for (int i = 0; i < slots.size(); i++) {
+            final MappedSlot slot = slots.get(i);
+            if (slot.isInterned()) {
+                line(2, "caches.put(\"" + slot.getName() + "\", "
+                        + "((eu.trisquare.bytemapper.fieldmapper.InterningMapper) MAPPER_" + i + ").getInternCache());");
+            }
+        }
+        line(2, "return java.util.Collections.unmodifiableMap(caches);");
+        line(1, "}");
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public java.util.Map<String, eu.trisquare.bytemapper.fieldmapper.InternCache<?>> getInternCaches() {");
+        line(2, "return INTERN_CACHES;");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeMapMethods() {
+        line(1, "@Override");
+        line(1, "public " + typeName + " map(java.nio.ByteBuffer buffer) {");
+        line(2, "return map(buffer, 0);");
+        line(1, "}");
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public " + typeName + " map(java.nio.ByteBuffer buffer, int offset) {");
+        line(2, "eu.trisquare.bytemapper.classmapper.BufferBounds.checkOffset(offset);");
+        line(2, "checkBounds(buffer.limit() - offset);");
+        line(2, "return mapRecord(buffer, offset, buffer.limit());");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeMapAllMethod() {
+        line(1, "@Override");
+        line(1, "public void mapAll(java.nio.ByteBuffer buffer, int offset, int recordSize, int count, "
+                + "java.util.function.Consumer<? super " + typeName + "> consumer) {");
+        line(2, "eu.trisquare.bytemapper.classmapper.BufferBounds.checkRecords(buffer.limit(), offset, recordSize, count);");
+        line(2, "checkBounds(recordSize);");
+        line(2, "for (int i = 0; i < count; i++) {");
+        line(3, "final int recordOffset = offset + i * recordSize;");
+        line(3, "consumer.accept(mapRecord(buffer, recordOffset, recordOffset + recordSize));");
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeMapIntoMethod() {
+        line(1, "@Override");
+        line(1, "public " + typeName + " mapInto(" + typeName + " target, java.nio.ByteBuffer buffer) {");
+        line(2, "checkBounds(buffer.limit());");
+        line(2, "assign(target, buffer, 0, buffer.limit());");
+        line(2, "return target;");
+        line(1, "}");
+        line(0, "");
+    }
+
+    /**
+     * Writes method creating instance from record starting at given offset, without bounds validation of values.
+     * Elements of structure arrays are validated against given limit of the record.
+     */
+    private void writeMapRecordMethod() {
+        line(1, "@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        line(1, "private static " + typeName + " mapRecord(java.nio.ByteBuffer buffer, int offset, int limit) {");
+        if (constructorBased) {
+            writeWordReads();
+            line(2, "return new " + typeName + "(");
+            for (int i = 0; i < slots.size(); i++) {
+                line(4, getValueExpression(i) + (i < slots.size() - 1 ? "," : ""));
+            }
+            line(2, ");");
+        } else {
+            line(2, "final " + typeName + " instance = new " + typeName + "();");
+            line(2, "assign(instance, buffer, offset, limit);");
+            line(2, "return instance;");
+        }
+        line(1, "}");
+        line(0, "");
+    }
+
+    /**
+     * Writes method assigning fields with values of record starting at given offset, same as {@link #writeMapRecordMethod()}
+     */
+    private void writeAssignMethod() {
+        line(1, "@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        line(1, "private static void assign(" + typeName + " target, java.nio.ByteBuffer buffer, int offset, int limit) {");
+        writeWordReads();
+        for (int i = 0; i < slots.size(); i++) {
+            line(2, "target." + slots.get(i).getName() + " = " + getValueExpression(i) + ";");
+        }
+        line(1, "}");
+        line(0, "");
+    }
+
+    /**
+     * Writes local variables holding words of bit fields, each read once for all bit fields of the same bytes
+     */
+    private void writeWordReads() {
+        for (int i = 0; i < slots.size(); i++) {
+            final MappedSlot slot = slots.get(i);
+            if (wordNames[i] != null && wordNames[i].equals("word" + i)) {
+                line(2, String.format(
+                        "final long %s = MAPPER_%d.readWord(buffer, %b, offset + %d, %d);",
+                        wordNames[i], i, slot.isBigEndian(), slot.getStartByte(), slot.getSize()
+                ));
+            }
+        }
+    }
+
+    private String getValueExpression(int slotIdx) {
+        final MappedSlot slot = slots.get(slotIdx);
+        final String type = slot.getType().toString();
+        if (slot.isBitField()) {
+            return slot.getType().getKind().isPrimitive()
+                    ? String.format("MAPPER_%d.extract%s(%s)", slotIdx, Character.toUpperCase(type.charAt(0)) + type.substring(1), wordNames[slotIdx])
+                    : String.format("(%s) MAPPER_%d.extractValue(%s)", type, slotIdx, wordNames[slotIdx]);
+        }
+        if (slot.isStructureArray()) {
+            final String elements = String.format(
+                    "BYTE_MAPPER.mapAll(%s.class, buffer, offset + %d, %d, "
+                            + "eu.trisquare.bytemapper.classmapper.BufferBounds.checkElements(limit - offset, %d, %d, %s))",
+                    slot.getElementType(), slot.getStartByte(), slot.getSize(),
+                    slot.getStartByte(), slot.getSize(), getCountExpression(slot)
+            );
+            return slot.getType().getKind() == TypeKind.ARRAY ? elements : "java.util.Arrays.asList(" + elements + ")";
+        }
+        if (slot.isStructure()) {
+            return String.format(
+                    "(%s) MAPPER_%d.getValue(buffer, %s.class, offset + %d, %d)",
+                    type, slotIdx, type, slot.getStartByte(), slot.getSize()
+            );
+        }
+        if (slot.isLazy()) {
+            return String.format(
+                    "eu.trisquare.bytemapper.classmapper.LazyValues.create(MAPPER_%d, buffer, %b, offset + %d, %d)",
+                    slotIdx, slot.isBigEndian(), slot.getStartByte(), slot.getSize()
+            );
+        }
+        if (slot.getType().getKind().isPrimitive()) {
+            return String.format(
+                    "MAPPER_%d.get%s(buffer, %b, offset + %d, %d)",
+                    slotIdx, Character.toUpperCase(type.charAt(0)) + type.substring(1),
+                    slot.isBigEndian(), slot.getStartByte(), slot.getSize()
+            );
+        }
+        return String.format(
+                "(%s) MAPPER_%d.getValue(buffer, %b, offset + %d, %d)",
+                type, slotIdx, slot.isBigEndian(), slot.getStartByte(), slot.getSize()
+        );
+    }
+
+    /**
+     * Returns expression of structure array's number of elements, either fixed or read from its count field
+     */
+    private String getCountExpression(MappedSlot slot) {
+        if (slot.getCountField().isEmpty()) {
+            return String.valueOf(slot.getCount());
+        }
+        for (int i = 0; i < slots.size(); i++) {
+            final MappedSlot countSlot = slots.get(i);
+            if (countSlot.getName().equals(slot.getCountField())) {
+                final String value = getValueExpression(i);
+                return countSlot.getType().getKind().isPrimitive() ? value : "(" + value + ").intValue()";
+            }
+        }
+        throw new IllegalStateException("Count field of structure array " + slot.getName() + " is not mapped.");
+    }
+
+    /**
+     * Writes bounds validation of values and structures, as elements of structure arrays are validated against
+     * the end of each record when mapped. Each slot is validated separately only if buffer is shorter than
+     * required, so the error message points to the first value exceeding the buffer.
+     */
+    private void writeCheckBoundsMethod() {
+        int requiredLimit = 0;
+        for (MappedSlot slot : slots) {
+            if (!slot.isStructureArray()) {
+                requiredLimit = Math.max(requiredLimit, Math.max(1, slot.getEndByte()));
+            }
+        }
+        line(1, "private static void checkBounds(int bufferLimit) {");
+        line(2, "if (bufferLimit < " + requiredLimit + ") {");
+        line(3, "eu.trisquare.bytemapper.classmapper.BufferBounds.checkBufferLimit(bufferLimit);");
+        for (MappedSlot slot : slots) {
+            if (!slot.isStructureArray()) {
+                line(3, "eu.trisquare.bytemapper.classmapper.BufferBounds.checkEndByte(" + slot.getEndByte() + ", bufferLimit);");
+            }
+        }
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void line(int indentation, String content) {
+        for (int i = 0; i < indentation; i++) {
+            source.append("    ");
+        }
+        source.append(content).append('\n');
+    }
+
+}
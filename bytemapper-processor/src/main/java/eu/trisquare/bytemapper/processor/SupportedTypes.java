@@ -0,0 +1,92 @@
+package eu.trisquare.bytemapper.processor;
+
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Compile-time counterpart of {@code StandardFieldMapperProvider}: knows types supported by standard
+ * field mappers, in the same order of importance, together with their maximum sizes.
+ */
+final class SupportedTypes {
+
+    private final Types types;
+
+    /**
+     * Types returned by standard mappers, stored in importance order
+     */
+    private final List<TypeMirror> mappedTypes = new ArrayList<>();
+
+    /**
+     * Maximum allowed size of each type from {@link #mappedTypes}
+     */
+    private final List<Integer> maximumSizes = new ArrayList<>();
+
+    SupportedTypes(Types types, Elements elements) {
+        this.types = types;
+        add(elements.getTypeElement(String.class.getCanonicalName()).asType(), Integer.MAX_VALUE);
+        add(elements.getTypeElement(BigInteger.class.getCanonicalName()).asType(), Integer.MAX_VALUE);
+        add(types.getPrimitiveType(TypeKind.DOUBLE), Double.BYTES);
+        add(types.getPrimitiveType(TypeKind.FLOAT), Float.BYTES);
+        add(types.getArrayType(elements.getTypeElement(Byte.class.getCanonicalName()).asType()), Integer.MAX_VALUE);
+        add(types.getArrayType(types.getPrimitiveType(TypeKind.BYTE)), Integer.MAX_VALUE);
+        add(types.getPrimitiveType(TypeKind.LONG), Long.BYTES);
+        add(types.getPrimitiveType(TypeKind.INT), Integer.BYTES);
+        add(types.getPrimitiveType(TypeKind.SHORT), Short.BYTES);
+        add(types.getPrimitiveType(TypeKind.BYTE), Byte.BYTES);
+        add(types.getPrimitiveType(TypeKind.BOOLEAN), Integer.MAX_VALUE);
+        add(types.getArrayType(types.getPrimitiveType(TypeKind.SHORT)), Integer.MAX_VALUE);
+        add(types.getArrayType(types.getPrimitiveType(TypeKind.INT)), Integer.MAX_VALUE);
+        add(types.getArrayType(types.getPrimitiveType(TypeKind.LONG)), Integer.MAX_VALUE);
+        add(types.getArrayType(types.getPrimitiveType(TypeKind.FLOAT)), Integer.MAX_VALUE);
+        add(types.getArrayType(types.getPrimitiveType(TypeKind.DOUBLE)), Integer.MAX_VALUE);
+        add(types.getArrayType(types.getPrimitiveType(TypeKind.BOOLEAN)), Integer.MAX_VALUE / Byte.SIZE);
+        add(elements.getTypeElement(BitSet.class.getCanonicalName()).asType(), Integer.MAX_VALUE / Byte.SIZE);
+        add(elements.getTypeElement(ByteBuffer.class.getCanonicalName()).asType(), Integer.MAX_VALUE);
+    }
+
+    private void add(TypeMirror mappedType, int maximumSize) {
+        mappedTypes.add(mappedType);
+        maximumSizes.add(maximumSize);
+    }
+
+    /**
+     * Returns index of first mapped type assignable to given type, or -1 if type is not supported
+     */
+    private int indexOf(TypeMirror type) {
+        for (int i = 0; i < mappedTypes.size(); i++) {
+            if (types.isAssignable(mappedTypes.get(i), type)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if any standard mapper supports given type
+     */
+    boolean isSupported(TypeMirror type) {
+        return indexOf(type) >= 0;
+    }
+
+    /**
+     * Returns type which is actually mapped for given, supported type
+     */
+    TypeMirror getMappedType(TypeMirror type) {
+        return mappedTypes.get(indexOf(type));
+    }
+
+    /**
+     * Returns maximum allowed size of given, supported type
+     */
+    int getMaximumSize(TypeMirror type) {
+        return maximumSizes.get(indexOf(type));
+    }
+
+}
@@ -0,0 +1,760 @@
+package eu.trisquare.bytemapper.processor;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.Lazy;
+import eu.trisquare.bytemapper.classmapper.ClassMapper;
+import eu.trisquare.bytemapper.classmapper.MappingEngine;
+import eu.trisquare.bytemapper.classmapper.StandardByteMapper;
+import eu.trisquare.bytemapper.classmapper.StandardPOJOAccessor;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.StandardFieldMapperProvider;
+import eu.trisquare.bytemapper.fieldmapper.StandardStructureMapperProvider;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteMapperProcessorTest {
+
+    private static final String FIELDS_CLASS = String.join("\n",
+            "package test;",
+            "import eu.trisquare.bytemapper.annotations.*;",
+            "public class Packet {",
+            "    @Value(startByte = 0) boolean flag;",
+            "    @Value(startByte = 1, size = 2) int unsigned;",
+            "    @Value(startByte = 3, size = 4, bigEndian = false) int little;",
+            "    @Value(startByte = 7, size = 4) String text;",
+            "    @Structure(startByte = 11, size = 8) Header header;",
+            "    public static class Header {",
+            "        private final long id;",
+            "        @ByteMapperConstructor",
+            "        Header(@Value(startByte = 0, size = 8) long id) {",
+            "            this.id = id;",
+            "        }",
+            "    }",
+            "}"
+    );
+
+    @TempDir
+    Path outputDirectory;
+
+    private static ByteBuffer getPacketBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocate(19);
+        buffer.put((byte) 1);
+        buffer.putShort((short) 0xFFFF);
+        buffer.putInt(0x01000000);
+        buffer.put("ABCD".getBytes());
+        buffer.putLong(Long.MIN_VALUE);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static Object getField(Object object, String name) throws ReflectiveOperationException {
+        final Field field = object.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(object);
+    }
+
+    @Test
+    void processorShouldGenerateMappersUsedByByteMapper() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Packet", FIELDS_CLASS);
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        assertTrue(Files.exists(outputDirectory.resolve("test/PacketByteMapper.java")));
+        assertTrue(Files.exists(outputDirectory.resolve("test/Packet$HeaderByteMapper.java")));
+
+        try (URLClassLoader classLoader = getClassLoader()) {
+            final Class<?> packetClass = classLoader.loadClass("test.Packet");
+            final Class<?> mapperClass = classLoader.loadClass("test.PacketByteMapper");
+            assertTrue(ClassMapper.class.isAssignableFrom(mapperClass));
+
+            final ByteMapper mapper = new StandardByteMapper(
+                    new StandardFieldMapperProvider(),
+                    new StandardStructureMapperProvider(),
+                    new StandardPOJOAccessor() {
+                        @Override
+                        public boolean hasAnnotatedConstructor(Class<?> objectClass) {
+                            throw new IllegalStateException("reflection should not be used");
+                        }
+                    },
+                    MappingEngine.REFLECTION,
+                    true
+            );
+            final Object packet = mapper.mapValues(packetClass, getPacketBuffer());
+            assertEquals(true, getField(packet, "flag"));
+            assertEquals(0xFFFF, getField(packet, "unsigned"));
+            assertEquals(1, getField(packet, "little"));
+            assertEquals("ABCD", getField(packet, "text"));
+            assertEquals(Long.MIN_VALUE, getField(getField(packet, "header"), "id"));
+        }
+    }
+
+    @Test
+    void generatedMappersShouldNotOverrideCustomConfiguration() throws Exception {
+        compile("test.Packet", FIELDS_CLASS);
+        try (URLClassLoader classLoader = getClassLoader()) {
+            final Class<?> packetClass = classLoader.loadClass("test.Packet");
+            final List<Class<?>> lookups = new ArrayList<>();
+            final StandardFieldMapperProvider customProvider = new StandardFieldMapperProvider() {
+                @Override
+                public FieldMapper getMapper(Class<?> clazz) {
+                    lookups.add(clazz);
+                    return super.getMapper(clazz);
+                }
+            };
+            new ByteMapperBuilder()
+                    .withFieldMapperProvider(customProvider)
+                    .build()
+                    .mapValues(packetClass, getPacketBuffer());
+            assertFalse(lookups.isEmpty());
+
+            lookups.clear();
+            new ByteMapperBuilder()
+                    .withFieldMapperProvider(customProvider)
+                    .withCompileTimeMappers(true)
+                    .build()
+                    .mapValues(packetClass, getPacketBuffer());
+            assertTrue(lookups.isEmpty());
+        }
+    }
+
+    @Test
+    void generatedMappersOfNestedAndTopLevelClassesShouldNotCollide() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Outer", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class Outer {",
+                "    public static class Inner {",
+                "        @Value(startByte = 0, size = 2) public int nested;",
+                "    }",
+                "}",
+                "class Outer_Inner {",
+                "    @Value(startByte = 1) public byte topLevel;",
+                "}"
+        ));
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        assertTrue(Files.exists(outputDirectory.resolve("test/Outer$InnerByteMapper.java")));
+        assertTrue(Files.exists(outputDirectory.resolve("test/Outer_InnerByteMapper.java")));
+        try (URLClassLoader classLoader = getClassLoader()) {
+            final ByteMapper mapper = new ByteMapperBuilder().build();
+            final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2});
+            assertEquals(258, getField(mapper.mapValues(classLoader.loadClass("test.Outer$Inner"), buffer), "nested"));
+            assertEquals((byte) 2, getField(mapper.mapValues(classLoader.loadClass("test.Outer_Inner"), buffer), "topLevel"));
+        }
+    }
+
+    @Test
+    void generatedMapperShouldValidateBufferBounds() throws Exception {
+        compile("test.Packet", FIELDS_CLASS);
+        try (URLClassLoader classLoader = getClassLoader()) {
+            @SuppressWarnings("unchecked")
+            final ClassMapper<Object> mapper = (ClassMapper<Object>) classLoader
+                    .loadClass("test.PacketByteMapper")
+                    .getConstructor()
+                    .newInstance();
+            final Exception e = assertThrows(MappingException.class, () -> mapper.map(ByteBuffer.allocate(5)));
+            assertEquals(
+                    "Last byte index should not exceed buffer limit of 5 bytes, but 7 was calculated",
+                    e.getMessage()
+            );
+        }
+    }
+
+    @Test
+    void generatedMapperShouldMapIntoExistingInstance() throws Exception {
+        compile("test.Packet", FIELDS_CLASS);
+        try (URLClassLoader classLoader = getClassLoader()) {
+            @SuppressWarnings("unchecked")
+            final ClassMapper<Object> mapper = (ClassMapper<Object>) classLoader
+                    .loadClass("test.PacketByteMapper")
+                    .getConstructor()
+                    .newInstance();
+            final Object target = mapper.map(getPacketBuffer());
+            final ByteBuffer buffer = getPacketBuffer();
+            buffer.put(0, (byte) 0);
+            assertSame(target, mapper.mapInto(target, buffer));
+            assertEquals(false, getField(target, "flag"));
+            assertEquals("ABCD", getField(target, "text"));
+        }
+    }
+
+    @Test
+    void generatedMapperShouldMapAllRecords() throws Exception {
+        compile("test.Packet", FIELDS_CLASS);
+        try (URLClassLoader classLoader = getClassLoader()) {
+            @SuppressWarnings("unchecked")
+            final ClassMapper<Object> mapper = (ClassMapper<Object>) classLoader
+                    .loadClass("test.PacketByteMapper")
+                    .getConstructor()
+                    .newInstance();
+            final ByteBuffer buffer = ByteBuffer.allocate(1 + 3 * 19);
+            buffer.position(1);
+            for (int i = 0; i < 3; i++) {
+                final ByteBuffer record = getPacketBuffer();
+                record.put(7, (byte) ('A' + i));
+                buffer.put(record);
+            }
+            buffer.flip();
+            final List<Object> records = new ArrayList<>();
+            mapper.mapAll(buffer, 1, 19, 3, records::add);
+            assertEquals(3, records.size());
+            for (int i = 0; i < 3; i++) {
+                assertEquals((char) ('A' + i) + "BCD", getField(records.get(i), "text"));
+                assertEquals(Long.MIN_VALUE, getField(getField(records.get(i), "header"), "id"));
+            }
+            assertEquals("BBCD", getField(mapper.map(buffer, 1 + 19), "text"));
+
+            final Exception e = assertThrows(MappingException.class, () -> mapper.mapAll(buffer, 0, 5, 1, records::add));
+            assertEquals(
+                    "Last byte index should not exceed buffer limit of 5 bytes, but 7 was calculated",
+                    e.getMessage()
+            );
+        }
+    }
+
+    @Test
+    void processorShouldReportSizeExceedingTypeWidth() throws Exception {
+        final List<String> errors = errors(compile("test.Wide", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class Wide {",
+                "    @Value(startByte = 0, size = 3) short value;",
+                "}"
+        )));
+        assertEquals(Collections.singletonList(
+                "For type short maximum allowed size is 2, but requested parsing of 3 bytes. Would you like to use different data type?"
+        ), errors);
+    }
+
+    @Test
+    void processorShouldReportOverlappingValues() throws Exception {
+        final List<String> errors = errors(compile("test.Overlap", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class Overlap {",
+                "    @Value(startByte = 0, size = 4) int first;",
+                "    @Value(startByte = 2, size = 2) int second;",
+                "}"
+        )));
+        assertEquals(Collections.singletonList(
+                "Bytes 2 to 4 of second overlap with bytes 0 to 4 of first."
+        ), errors);
+    }
+
+    @Test
+    void processorShouldReportUnsupportedTypeAndInvalidIndexes() throws Exception {
+        final List<String> errors = errors(compile("test.Invalid", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class Invalid {",
+                "    @Value(startByte = 0) Void unsupported;",
+                "    @Value(startByte = -1) byte negativeIndex;",
+                "    @Value(startByte = 2, size = 0) byte emptySize;",
+                "    @Value(startByte = 3) final byte finalValue = 0;",
+                "}"
+        )));
+        assertEquals(4, errors.size());
+        assertTrue(errors.contains("No mapper has been found for class: java.lang.Void"));
+        assertTrue(errors.contains("Byte index must be positive! (-1 was provided)"));
+        assertTrue(errors.contains("Size should be bigger than 0, but 0 was provided"));
+        assertTrue(errors.contains("Unable to set value for field: finalValue. Mapped field must not be static nor final."));
+    }
+
+    @Test
+    void generatedMapperShouldCreateLazyValues() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.LazyPacket", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.Lazy;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class LazyPacket {",
+                "    @Value(startByte = 0) boolean flag;",
+                "    @Value(startByte = 7, size = 4) Lazy<String> text;",
+                "}"
+        ));
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        try (URLClassLoader classLoader = getClassLoader()) {
+            @SuppressWarnings("unchecked")
+            final ClassMapper<Object> mapper = (ClassMapper<Object>) classLoader
+                    .loadClass("test.LazyPacketByteMapper")
+                    .getConstructor()
+                    .newInstance();
+            final Object packet = mapper.map(getPacketBuffer());
+            final Lazy<?> text = (Lazy<?>) getField(packet, "text");
+            assertFalse(text.isLoaded());
+            assertEquals("ABCD", text.get());
+        }
+    }
+
+    @Test
+    void processorShouldReportInvalidLazyValues() throws Exception {
+        final List<String> errors = errors(compile("test.InvalidLazy", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.Lazy;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class InvalidLazy {",
+                "    @Value(startByte = 0) Lazy raw;",
+                "    @Value(startByte = 1, size = 4) Lazy<Short> wide;",
+                "}"
+        )));
+        assertEquals(2, errors.size());
+        assertTrue(errors.contains("Lazy value raw must declare its value type, i.e. Lazy<String>."));
+        assertTrue(errors.contains("For type short maximum allowed size is 2, but requested parsing of 4 bytes. Would you like to use different data type?"));
+    }
+
+    @Test
+    void generatedMapperShouldDecodeTextValues() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.TextPacket", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class TextPacket {",
+                "    @Value(startByte = 0, size = 6)",
+                "    @Text(charset = \"US-ASCII\", padding = Text.Padding.SPACE, internCapacity = 16)",
+                "    String symbol;",
+                "}"
+        ));
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        try (URLClassLoader classLoader = getClassLoader()) {
+            @SuppressWarnings("unchecked")
+            final ClassMapper<Object> mapper = (ClassMapper<Object>) classLoader
+                    .loadClass("test.TextPacketByteMapper")
+                    .getConstructor()
+                    .newInstance();
+            final ByteBuffer buffer = ByteBuffer.wrap("IBM   ".getBytes(StandardCharsets.US_ASCII));
+            assertEquals("IBM", getField(mapper.map(buffer), "symbol"));
+        }
+    }
+
+    @Test
+    void processorShouldReportInvalidTextValues() throws Exception {
+        final List<String> errors = errors(compile("test.InvalidText", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class InvalidText {",
+                "    @Value(startByte = 0) @Text int number;",
+                "    @Value(startByte = 1) @Text(charset = \"NO-SUCH-CHARSET\") String unknown;",
+                "    @Value(startByte = 2) @Text(internCapacity = -1) String negative;",
+                "    @Value(startByte = 3) @Text(internCapacity = 4) @Interned(capacity = 4) String twice;",
+                "}"
+        )));
+        assertEquals(4, errors.size());
+        assertTrue(errors.contains("Interned value twice must not declare intern capacity of its @Text annotation."));
+        assertTrue(errors.contains("Text value number must be of type assignable from String."));
+        assertTrue(errors.contains("Unsupported charset: NO-SUCH-CHARSET"));
+        assertTrue(errors.contains("Intern capacity must not be negative, but -1 was provided"));
+    }
+
+    @Test
+    void generatedMapperShouldInternValues() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.InternedPacket", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class InternedPacket {",
+                "    @Value(startByte = 0, size = 2) @Interned(capacity = 16) String symbol;",
+                "    @Value(startByte = 2, size = 2) @Text(internCapacity = 16) String venue;",
+                "    @Value(startByte = 4, size = 2) String text;",
+                "}"
+        ));
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        try (URLClassLoader classLoader = getClassLoader()) {
+            @SuppressWarnings("unchecked")
+            final ClassMapper<Object> mapper = (ClassMapper<Object>) classLoader
+                    .loadClass("test.InternedPacketByteMapper")
+                    .getConstructor()
+                    .newInstance();
+            final ByteBuffer buffer = ByteBuffer.wrap("IBXNab".getBytes(StandardCharsets.US_ASCII));
+            final Object first = mapper.map(buffer);
+            final Object second = mapper.map(buffer);
+            assertEquals("IB", getField(first, "symbol"));
+            assertSame(getField(first, "symbol"), getField(second, "symbol"));
+            assertSame(getField(first, "venue"), getField(second, "venue"));
+            assertEquals(Arrays.asList("symbol", "venue"), new ArrayList<>(mapper.getInternCaches().keySet()));
+            assertEquals(1, mapper.getInternCaches().get("symbol").getHitCount());
+        }
+    }
+
+    @Test
+    void processorShouldReportInvalidInternedValues() throws Exception {
+        final List<String> errors = errors(compile("test.InvalidInterned", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class InvalidInterned {",
+                "    @Value(startByte = 0) @Interned(capacity = 16) int number;",
+                "    @Value(startByte = 1) @Interned(capacity = 16) byte[] bytes;",
+                "    @Value(startByte = 2) @Interned(capacity = 0) String empty;",
+                "}"
+        )));
+        assertEquals(3, errors.size());
+        assertTrue(errors.contains("Interned value number must be of immutable reference type, but int was provided."));
+        assertTrue(errors.contains("Interned value bytes must be of immutable reference type, but byte[] was provided."));
+        assertTrue(errors.contains("Intern capacity must be bigger than 0, but 0 was provided"));
+    }
+
+    @Test
+    void generatedMapperShouldMapUnsignedValues() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.UnsignedPacket", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class UnsignedPacket {",
+                "    @Value(startByte = 0, size = 8) @Unsigned long sequence;",
+                "    @Value(startByte = 8, size = 8) @Unsigned java.math.BigInteger volume;",
+                "    @Value(startByte = 16, size = 2, bigEndian = false) @Unsigned Long length;",
+                "}"
+        ));
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        try (URLClassLoader classLoader = getClassLoader()) {
+            @SuppressWarnings("unchecked")
+            final ClassMapper<Object> mapper = (ClassMapper<Object>) classLoader
+                    .loadClass("test.UnsignedPacketByteMapper")
+                    .getConstructor()
+                    .newInstance();
+            final ByteBuffer buffer = ByteBuffer.allocate(18).putLong(0, -1L).putLong(8, -1L).putShort(16, (short) -2);
+            final Object packet = mapper.map(buffer);
+            assertEquals(-1L, getField(packet, "sequence"));
+            assertEquals(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), getField(packet, "volume"));
+            assertEquals(0xFEFFL, getField(packet, "length"));
+        }
+    }
+
+    @Test
+    void processorShouldReportInvalidUnsignedValues() throws Exception {
+        final List<String> errors = errors(compile("test.InvalidUnsigned", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class InvalidUnsigned {",
+                "    @Value(startByte = 0, size = 4) @Unsigned int number;",
+                "}"
+        )));
+        assertEquals(Collections.singletonList("Unsigned value number must be of type long or assignable from BigInteger."), errors);
+    }
+
+    @Test
+    void generatedMapperShouldExtractBitFields() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Header", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "import java.util.List;",
+                "public class Header {",
+                "    @Value(startByte = 0, size = 2) @Bits(offset = 0, width = 3) int version;",
+                "    @Value(startByte = 0, size = 2) @Bits(offset = 3, width = 1) Boolean urgent;",
+                "    @Value(startByte = 0, size = 2) @Bits(offset = 4, width = 12) short length;",
+                "    @Value(startByte = 2, bigEndian = false) @Bits(offset = 0, width = 2, numbering = Bits.Numbering.LSB_FIRST) byte count;",
+                "    @Value(startByte = 2, bigEndian = false) @Bits(offset = 7, width = 1, numbering = Bits.Numbering.LSB_FIRST) boolean last;",
+                "    @Structure(startByte = 3, size = 1, countField = \"count\") List<Item> items;",
+                "    public static class Item {",
+                "        @Value(startByte = 0) public byte id;",
+                "    }",
+                "}"
+        ));
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        try (URLClassLoader classLoader = getClassLoader()) {
+            @SuppressWarnings("unchecked")
+            final ClassMapper<Object> mapper = (ClassMapper<Object>) classLoader
+                    .loadClass("test.HeaderByteMapper")
+                    .getConstructor()
+                    .newInstance();
+            final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) 0xB2, 0x34, (byte) 0x82, 7, 8});
+            final Object header = mapper.map(buffer);
+            assertEquals(5, getField(header, "version"));
+            assertEquals(Boolean.TRUE, getField(header, "urgent"));
+            assertEquals((short) 0x234, getField(header, "length"));
+            assertEquals((byte) 2, getField(header, "count"));
+            assertEquals(true, getField(header, "last"));
+            assertEquals(2, ((List<?>) getField(header, "items")).size());
+        }
+    }
+
+    @Test
+    void processorShouldReportInvalidBitFields() throws Exception {
+        final List<String> errors = errors(compile("test.InvalidBits", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class InvalidBits {",
+                "    @Value(startByte = 0, size = 4) @Bits(offset = 0, width = 4) String name;",
+                "    @Value(startByte = 4) @Bits(offset = 0, width = 9) byte wide;",
+                "    @Value(startByte = 5) @Bits(offset = 4, width = 5) int exceeding;",
+                "}"
+        )));
+        assertEquals(Arrays.asList(
+                "Bit field name must be of boolean, byte, short, int or long type.",
+                "Bit field wide of 9 bits does not fit in byte.",
+                "Bits 4 to 9 of exceeding exceed 8 bits of its word."
+        ), errors);
+        final List<String> overlapping = errors(compile("test.OverlappingBits", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class OverlappingBits {",
+                "    @Value(startByte = 0) @Bits(offset = 0, width = 4) int high;",
+                "    @Value(startByte = 0) @Bits(offset = 0, width = 5, numbering = Bits.Numbering.LSB_FIRST) int low;",
+                "}"
+        )));
+        assertEquals(Collections.singletonList("Bits 0 to 5 of low overlap with bits 0 to 4 of high."), overlapping);
+    }
+
+    @Test
+    void generatedMapperShouldValidateStructuresAgainstRecordEnd() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Outer", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class Outer {",
+                "    @Value(startByte = 0) byte value;",
+                "    @Structure(startByte = 3, size = 2) Inner inner;",
+                "    public static class Inner {",
+                "        @Value(startByte = 1) public byte value;",
+                "    }",
+                "}"
+        ));
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        try (URLClassLoader classLoader = getClassLoader()) {
+            @SuppressWarnings("unchecked")
+            final ClassMapper<Object> mapper = (ClassMapper<Object>) classLoader
+                    .loadClass("test.OuterByteMapper")
+                    .getConstructor()
+                    .newInstance();
+            final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 7, 8, 9, 10});
+            final Exception e = assertThrows(MappingException.class, () -> mapper.mapAll(buffer, 0, 4, 2, record -> {
+            }));
+            assertEquals("Last byte index should not exceed buffer limit of 4 bytes, but 5 was calculated", e.getMessage());
+            assertEquals((byte) 7, getField(getField(mapper.map(buffer), "inner"), "value"));
+        }
+    }
+
+    @Test
+    void generatedMapperShouldMapStructureArrays() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Order", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "import java.util.List;",
+                "public class Order {",
+                "    @Value(startByte = 0) byte count;",
+                "    @Structure(startByte = 1, size = 2, count = 2) Level[] fixed;",
+                "    @Structure(startByte = 5, size = 2, countField = \"count\") List<Level> counted;",
+                "    public static class Level {",
+                "        @Value(startByte = 0, size = 2) public int price;",
+                "    }",
+                "}"
+        ));
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        try (URLClassLoader classLoader = getClassLoader()) {
+            @SuppressWarnings("unchecked")
+            final ClassMapper<Object> mapper = (ClassMapper<Object>) classLoader
+                    .loadClass("test.OrderByteMapper")
+                    .getConstructor()
+                    .newInstance();
+            final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{3, 0, 1, 0, 2, 0, 3, 0, 4, 0, 5});
+            final Object order = mapper.map(buffer);
+            final Object[] fixed = (Object[]) getField(order, "fixed");
+            assertEquals(2, fixed.length);
+            assertEquals(2, getField(fixed[1], "price"));
+            final List<?> counted = (List<?>) getField(order, "counted");
+            assertEquals(3, counted.size());
+            assertEquals(5, getField(counted.get(2), "price"));
+
+            final Exception e = assertThrows(MappingException.class, () -> mapper.map(ByteBuffer.wrap(new byte[]{4, 0, 1, 0, 2, 0, 3, 0, 4, 0, 5})));
+            assertEquals(
+                    "Last byte index of 4 records should not exceed buffer limit of 11 bytes, but 13 was calculated",
+                    e.getMessage()
+            );
+            final ByteBuffer records = ByteBuffer.allocate(22);
+            records.put(new byte[]{4, 0, 1, 0, 2, 0, 3, 0, 4, 0, 5}).put(new byte[]{0, 0, 1, 0, 2, 0, 0, 0, 0, 0, 0});
+            final Exception overrun = assertThrows(MappingException.class, () -> mapper.mapAll(records, 0, 11, 2, record -> {
+            }));
+            assertEquals(
+                    "Last byte index of 4 records should not exceed buffer limit of 11 bytes, but 13 was calculated",
+                    overrun.getMessage()
+            );
+        }
+    }
+
+    @Test
+    void processorShouldReportInvalidStructureArrays() throws Exception {
+        final List<String> errors = errors(compile("test.InvalidArrays", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "import java.util.List;",
+                "public class InvalidArrays {",
+                "    @Value(startByte = 0) long length;",
+                "    @Structure(startByte = 10, size = 2) Item[] uncounted;",
+                "    @Structure(startByte = 20, size = 2, countField = \"length\") Item[] wideCount;",
+                "    @Structure(startByte = 30, size = 2, countField = \"missing\") Item[] missingCount;",
+                "    @Structure(startByte = 40, size = 2, count = 1) List rawList;",
+                "    @Structure(startByte = 50, size = 2, count = 1) Item notArray;",
+                "    public static class Item {",
+                "        @Value(startByte = 0, size = 2) public int value;",
+                "    }",
+                "}"
+        )));
+        assertEquals(5, errors.size());
+        assertTrue(errors.contains("Structure array uncounted must declare either positive count or countField."));
+        assertTrue(errors.contains("Structure array rawList must declare its element type, i.e. List<Item>."));
+        assertTrue(errors.contains("Only structure arrays may declare count, but notArray is neither an array nor a List."));
+        assertTrue(errors.contains("Count field length of structure array wideCount must be an int, short or byte value."));
+        assertTrue(errors.contains("Unable to find count field missing of structure array missingCount."));
+    }
+
+    @Test
+    void processorShouldLeaveVariableLayoutsToRuntimeMapping() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Variable", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class Variable {",
+                "    @Value(startByte = 0) byte length;",
+                "    @Value(startByte = 0, after = \"length\", lengthField = \"length\") String name;",
+                "    @Value(startByte = 0, after = \"name\") byte trailer;",
+                "}"
+        ));
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        assertTrue(diagnostics.stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.NOTE
+                && d.getMessage(null).equals("Mapper for test.Variable was not generated, because position or size of name "
+                + "is read from mapped data. Class will be mapped using reflection.")));
+        assertFalse(Files.exists(outputDirectory.resolve("test/VariableByteMapper.java")));
+    }
+
+    @Test
+    void processorShouldLeaveDiscriminatedTypesToSubclassMappers() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Message", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "@Discriminator(startByte = 0, subtypes = @Discriminator.Subtype(tag = 'A', type = Message.Add.class))",
+                "public abstract class Message {",
+                "    @Value(startByte = 0) public byte type;",
+                "    public static class Add extends Message {",
+                "        @Value(startByte = 1, size = 4) public int quantity;",
+                "    }",
+                "}"
+        ));
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        assertTrue(diagnostics.stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.NOTE
+                && d.getMessage(null).equals("Mapper for test.Message was not generated, because it is annotated with "
+                + "Discriminator. Its records will be mapped by mappers of its subclasses.")));
+        assertFalse(Files.exists(outputDirectory.resolve("test/MessageByteMapper.java")));
+        try (URLClassLoader classLoader = getClassLoader()) {
+            final ByteMapper mapper = new StandardByteMapper(
+                    new StandardFieldMapperProvider(),
+                    new StandardStructureMapperProvider(),
+                    new StandardPOJOAccessor() {
+                        @Override
+                        public boolean hasAnnotatedConstructor(Class<?> objectClass) {
+                            throw new IllegalStateException("reflection should not be used");
+                        }
+                    },
+                    MappingEngine.REFLECTION,
+                    true
+            );
+            final Object message = mapper.mapValues(classLoader.loadClass("test.Message"), ByteBuffer.wrap(new byte[]{'A', 0, 0, 0, 3}));
+            assertEquals("test.Message$Add", message.getClass().getName());
+            assertEquals(3, getField(message, "quantity"));
+        }
+    }
+
+    @Test
+    void processorShouldReportInvalidPositionReferences() throws Exception {
+        final List<String> errors = errors(compile("test.InvalidVariable", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class InvalidVariable {",
+                "    @Value(startByte = 0, size = 8) long length;",
+                "    @Value(startByte = 8, lengthField = \"length\") String wide;",
+                "    @Value(startByte = 0, after = \"missing\") byte orphan;",
+                "    @Value(startByte = 0, after = \"wide\", lengthField = \"unknown\") String other;",
+                "}"
+        )));
+        assertEquals(3, errors.size());
+        assertTrue(errors.contains("Length field length of wide must be an int, short or byte value."));
+        assertTrue(errors.contains("Unable to find field missing, which orphan is positioned after."));
+        assertTrue(errors.contains("Unable to find length field unknown of other."));
+    }
+
+    @Test
+    void processorShouldReportNotAnnotatedConstructorParameter() throws Exception {
+        final List<String> errors = errors(compile("test.Parameters", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class Parameters {",
+                "    @ByteMapperConstructor",
+                "    Parameters(@Value(startByte = 0) byte first, byte second) {",
+                "    }",
+                "}"
+        )));
+        assertEquals(Collections.singletonList("Not annotated parameter in annotated constructor."), errors);
+    }
+
+    @Test
+    void processorShouldSkipPrivateMembersWithWarning() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Hidden", String.join("\n",
+                "package test;",
+                "import eu.trisquare.bytemapper.annotations.*;",
+                "public class Hidden {",
+                "    @Value(startByte = 0) private byte value;",
+                "}"
+        ));
+        assertEquals(Collections.emptyList(), errors(diagnostics));
+        assertTrue(diagnostics.stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING
+                && d.getMessage(null).equals("Mapper for test.Hidden was not generated, because value is private. Class will be mapped using reflection.")));
+        assertFalse(Files.exists(outputDirectory.resolve("test/HiddenByteMapper.java")));
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(String className, String source) throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            final File output = outputDirectory.toFile();
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(output));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(output));
+            fileManager.setLocation(StandardLocation.CLASS_PATH, Collections.singletonList(
+                    new File(ClassMapper.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+            ));
+            final JavaFileObject sourceFile = new SimpleJavaFileObject(
+                    URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                    JavaFileObject.Kind.SOURCE
+            ) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                    null, fileManager, diagnostics, null, null, Collections.singletonList(sourceFile)
+            );
+            task.setProcessors(Collections.singletonList(new ByteMapperProcessor()));
+            task.call();
+        }
+        return new ArrayList<>(diagnostics.getDiagnostics());
+    }
+
+    private List<String> errors(List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        return diagnostics.stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    private URLClassLoader getClassLoader() throws Exception {
+        return new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+}
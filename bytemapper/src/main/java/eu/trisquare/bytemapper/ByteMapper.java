@@ -0,0 +1,196 @@
+package eu.trisquare.bytemapper;
+
+import eu.trisquare.bytemapper.fieldmapper.InternCache;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * helps with deserialization raw bytes data into Plain Old Java Objects (POJO).
+ * Only {@link #mapValues(Class, ByteBuffer)} has to be implemented, as remaining methods by default map records
+ * from slices of the buffer. Reusing instances, flyweights and interning are not supported by default.
+ */
+public interface ByteMapper {
+
+    /**
+     * Handles object instantiation and mapping values from bytes into annotated fields or constructor parameters.
+     *
+     * @param clazz      to instantiate with one public constructor annotated with {@link eu.trisquare.bytemapper.annotations.ByteMapperConstructor}
+     *                   or with accessible default (non-argument) constructor and fields annotated with {@link eu.trisquare.bytemapper.annotations.Value}
+     * @param byteBuffer containing data to deserialize into values
+     * @param <T>        type of instantiated object
+     * @return new instance of object, created from byte buffer content
+     */
+    <T> T mapValues(Class<T> clazz, ByteBuffer byteBuffer);
+
+    /**
+     * Handles object instantiation and mapping values from bytes of record starting at given offset. Record is
+     * mapped as if it was a separate buffer containing bytes from {@code offset} to buffer limit, but no buffer
+     * slice is created and buffer position is ignored.
+     *
+     * @param clazz      to instantiate, same as in {@link #mapValues(Class, ByteBuffer)}
+     * @param byteBuffer containing data to deserialize into values
+     * @param offset     index of record's first byte
+     * @param <T>        type of instantiated object
+     * @return new instance of object, created from byte buffer content
+     */
+    default <T> T mapValues(Class<T> clazz, ByteBuffer byteBuffer, int offset) {
+        RecordBounds.checkOffset(offset);
+        final ByteBuffer record = byteBuffer.duplicate();
+        record.position(offset);
+        return mapValues(clazz, record.slice());
+    }
+
+    /**
+     * Maps values from bytes into annotated fields of already existing instance, overwriting their previous values.
+     * Allows to reuse single mutable instance, i.e. one per thread, instead of creating new object for each buffer.
+     * Only classes mapped using fields annotated with {@link eu.trisquare.bytemapper.annotations.Value} or
+     * {@link eu.trisquare.bytemapper.annotations.Structure} are supported. Nested structures are still created as
+     * new instances. By default, reusing instances is not supported.
+     *
+     * @param target     instance to assign mapped values to
+     * @param byteBuffer containing data to deserialize into values
+     * @param <T>        type of target object
+     * @return given target instance
+     * @throws UnsupportedOperationException if reusing instances is not supported by implementation, as by default
+     */
+    default <T> T mapInto(T target, ByteBuffer byteBuffer) {
+        throw new UnsupportedOperationException("Mapping into existing instances is not supported by " + getClass().getSimpleName());
+    }
+
+
+    /**
+     * Maps whole buffer, consisting of back-to-back records of fixed size, into array of new instances.
+     * Buffer limit must be a multiple of record size. Each record is mapped as if it was a separate buffer
+     * of {@code recordSize} bytes, but bounds of all records are validated once.
+     *
+     * @param clazz      to instantiate, same as in {@link #mapValues(Class, ByteBuffer)}
+     * @param byteBuffer containing records to deserialize, starting at index 0
+     * @param recordSize number of bytes of each record
+     * @param <T>        type of instantiated objects
+     * @return array of new instances, in order of records
+     */
+    default <T> T[] mapAll(Class<T> clazz, ByteBuffer byteBuffer, int recordSize) {
+        return mapAll(clazz, byteBuffer, 0, recordSize, RecordBounds.getRecordsCount(byteBuffer.limit(), recordSize));
+    }
+
+    /**
+     * Maps {@code count} back-to-back records of fixed size into array of new instances. Each record is mapped
+     * as if it was a separate buffer of {@code recordSize} bytes, but bounds of all records are validated once.
+     *
+     * @param clazz      to instantiate, same as in {@link #mapValues(Class, ByteBuffer)}
+     * @param byteBuffer containing records to deserialize
+     * @param offset     index of first record's first byte
+     * @param recordSize number of bytes of each record
+     * @param count      number of records to map
+     * @param <T>        type of instantiated objects
+     * @return array of {@code count} new instances, in order of records
+     */
+    default <T> T[] mapAll(Class<T> clazz, ByteBuffer byteBuffer, int offset, int recordSize, int count) {
+        RecordBounds.checkRecords(byteBuffer.limit(), offset, recordSize, count);
+        @SuppressWarnings("unchecked") //safe, array is created for given class
+        final T[] records = (T[]) Array.newInstance(clazz, count);
+        final int[] index = new int[1];
+        mapAll(clazz, byteBuffer, offset, recordSize, count, record -> records[index[0]++] = record);
+        return records;
+    }
+
+    /**
+     * Maps {@code count} back-to-back records of fixed size into new instances, passed to given consumer in
+     * order of records. Each record is mapped as if it was a separate buffer of {@code recordSize} bytes,
+     * but bounds of all records are validated once, before first record is mapped.
+     *
+     * @param clazz      to instantiate, same as in {@link #mapValues(Class, ByteBuffer)}
+     * @param byteBuffer containing records to deserialize
+     * @param offset     index of first record's first byte
+     * @param recordSize number of bytes of each record
+     * @param count      number of records to map
+     * @param consumer   receiving new instances
+     * @param <T>        type of instantiated objects
+     */
+    default <T> void mapAll(Class<T> clazz, ByteBuffer byteBuffer, int offset, int recordSize, int count, Consumer<? super T> consumer) {
+        RecordBounds.checkRecords(byteBuffer.limit(), offset, recordSize, count);
+        final ByteBuffer record = byteBuffer.duplicate();
+        for (int i = 0; i < count; i++) {
+            final int recordOffset = offset + i * recordSize;
+            record.limit(recordOffset + recordSize);
+            record.position(recordOffset);
+            consumer.accept(mapValues(clazz, record.slice()));
+        }
+    }
+
+    /**
+     * Returns sequential stream of new instances mapped from whole buffer, consisting of back-to-back records
+     * of fixed size. Buffer limit must be a multiple of record size. Records are mapped lazily, as the stream
+     * is consumed. Stream may be turned into parallel one, in which case it is split on record boundaries and
+     * records are mapped concurrently. Buffer content must not be modified until the stream is consumed.
+     *
+     * @param clazz      to instantiate, same as in {@link #mapValues(Class, ByteBuffer)}
+     * @param byteBuffer containing records to deserialize
+     * @param recordSize number of bytes of each record
+     * @param <T>        type of instantiated objects
+     * @return ordered stream of new instances, in order of records
+     */
+    default <T> Stream<T> stream(Class<T> clazz, ByteBuffer byteBuffer, int recordSize) {
+        return stream(clazz, byteBuffer, 0, recordSize, RecordBounds.getRecordsCount(byteBuffer.limit(), recordSize));
+    }
+
+    /**
+     * Returns sequential stream of new instances mapped from {@code count} back-to-back records of fixed size.
+     * Records are mapped lazily, as the stream is consumed. Stream may be turned into parallel one, in which case
+     * it is split on record boundaries and records are mapped concurrently. Buffer content must not be modified
+     * until the stream is consumed.
+     *
+     * @param clazz      to instantiate, same as in {@link #mapValues(Class, ByteBuffer)}
+     * @param byteBuffer containing records to deserialize
+     * @param offset     index of first record's first byte
+     * @param recordSize number of bytes of each record
+     * @param count      number of records to map
+     * @param <T>        type of instantiated objects
+     * @return ordered stream of {@code count} new instances, in order of records
+     */
+    default <T> Stream<T> stream(Class<T> clazz, ByteBuffer byteBuffer, int offset, int recordSize, int count) {
+        RecordBounds.checkRecords(byteBuffer.limit(), offset, recordSize, count);
+        return IntStream.range(0, count).mapToObj(i -> {
+            final ByteBuffer record = byteBuffer.duplicate();
+            record.limit(offset + (i + 1) * recordSize);
+            record.position(offset + i * recordSize);
+            return mapValues(clazz, record.slice());
+        });
+    }
+
+    /**
+     * Returns new flyweight implementing given interface. Flyweight reads values straight from wrapped buffer
+     * on each getter call, so it may be reused for any number of records using {@link Flyweight#wrap(ByteBuffer, int)}.
+     * Implementation class is generated once per interface. By default, flyweights are not supported.
+     *
+     * @param clazz public interface extending {@link Flyweight}, with getters annotated with
+     *              {@link eu.trisquare.bytemapper.annotations.Value} or {@link eu.trisquare.bytemapper.annotations.Structure}
+     * @param <T>   type of flyweight interface
+     * @return new flyweight, which has to be wrapped before its getters are called
+     * @throws UnsupportedOperationException if flyweights are not supported by implementation, as by default
+     */
+    default <T extends Flyweight> T flyweight(Class<T> clazz) {
+        throw new UnsupportedOperationException("Flyweights are not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Returns caches of values remembered for fields or constructor parameters of given class, which are
+     * annotated with {@link eu.trisquare.bytemapper.annotations.Interned} or declare intern capacity of
+     * {@link eu.trisquare.bytemapper.annotations.Text} values. Caches expose hit, miss and eviction counters.
+     * By default, values are not interned.
+     *
+     * @param clazz mapped class
+     * @return unmodifiable map of caches, by names of fields or constructor parameters
+     */
+    default Map<String, InternCache<?>> getInternCaches(Class<?> clazz) {
+        return Collections.emptyMap();
+    }
+
+}
@@ -0,0 +1,75 @@
+package eu.trisquare.bytemapper;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+
+/**
+ * Counterpart of {@link ByteMapper}, which helps with serialization of Plain Old Java Objects (POJO) into raw bytes,
+ * using the same {@link eu.trisquare.bytemapper.annotations.Value} and {@link eu.trisquare.bytemapper.annotations.Structure}
+ * annotations. Values are written at absolute indexes, so neither position nor limit of given buffer is changed,
+ * and bytes not covered by any annotated field are left untouched.
+ */
+public interface ByteWriter {
+
+    /**
+     * Writes values of annotated fields into given buffer, as record starting at index 0. Only classes
+     * with annotated fields are supported, classes using annotated constructor are not.
+     *
+     * @param object     to serialize, with fields annotated with {@link eu.trisquare.bytemapper.annotations.Value}
+     *                   or {@link eu.trisquare.bytemapper.annotations.Structure}
+     * @param byteBuffer to write values into
+     * @param <T>        type of written object
+     */
+    <T> void writeValues(T object, ByteBuffer byteBuffer);
+
+    /**
+     * Writes values of annotated fields into given buffer, as record starting at given offset. Bounds are
+     * validated as if record was a separate buffer containing bytes from {@code offset} to buffer limit.
+     *
+     * @param object     to serialize, same as in {@link #writeValues(Object, ByteBuffer)}
+     * @param byteBuffer to write values into
+     * @param offset     index of record's first byte
+     * @param <T>        type of written object
+     */
+    <T> void writeValues(T object, ByteBuffer byteBuffer, int offset);
+
+    /**
+     * Writes given objects as back-to-back records of fixed size. Each record is written as if it was a separate
+     * buffer of {@code recordSize} bytes, but bounds of all records are validated once, before first record is written.
+     *
+     * @param clazz      of written objects, which annotated fields are written
+     * @param objects    to serialize, in order of records
+     * @param byteBuffer to write values into
+     * @param offset     index of first record's first byte
+     * @param recordSize number of bytes of each record
+     * @param <T>        type of written objects
+     */
+    <T> void writeAll(Class<T> clazz, T[] objects, ByteBuffer byteBuffer, int offset, int recordSize);
+
+    /**
+     * Writes given objects as back-to-back records of fixed size, same as
+     * {@link #writeAll(Class, Object[], ByteBuffer, int, int)}
+     *
+     * @param clazz      of written objects, which annotated fields are written
+     * @param objects    to serialize, in order of records
+     * @param byteBuffer to write values into
+     * @param offset     index of first record's first byte
+     * @param recordSize number of bytes of each record
+     * @param <T>        type of written objects
+     */
+    <T> void writeAll(Class<T> clazz, Collection<? extends T> objects, ByteBuffer byteBuffer, int offset, int recordSize);
+
+    /**
+     * Returns patcher rewriting value of single field directly in encoded records of given class. Fields of inner
+     * structures are reached using dot-separated path, i.e. {@code "header.sequence"}. Position, size and endianness
+     * of the field are resolved by this call, so returned patcher should be reused.
+     *
+     * @param clazz     of encoded records
+     * @param fieldPath name of {@link eu.trisquare.bytemapper.annotations.Value} annotated field, preceded by names
+     *                  of {@link eu.trisquare.bytemapper.annotations.Structure} annotated fields containing it
+     * @return patcher of given field
+     */
+    FieldPatcher getPatcher(Class<?> clazz, String fieldPath);
+
+}
@@ -0,0 +1,93 @@
+package eu.trisquare.bytemapper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Rewrites value of single {@link eu.trisquare.bytemapper.annotations.Value} annotated field directly in encoded
+ * record, without mapping and writing whole object. Position, size and endianness of the field are resolved once,
+ * when patcher is obtained using {@link ByteWriter#getPatcher(Class, String)}, so patcher should be reused.
+ * Only bytes of patched field are written, position and limit of buffer are not changed.
+ * Primitive values are written without boxing if patched field is declared with the same primitive type.
+ */
+public interface FieldPatcher {
+
+    /**
+     * Returns exclusive index of patched field's last byte, relative to record's first byte
+     *
+     * @return number of bytes which record has to contain for field to be patched
+     */
+    int getEndByte();
+
+    /**
+     * Writes given value into field of record starting at given offset
+     *
+     * @param buffer containing encoded record
+     * @param offset index of record's first byte
+     * @param value  to write, must be accepted by field's writer
+     */
+    void putValue(ByteBuffer buffer, int offset, Object value);
+
+    /**
+     * Writes given boolean value into field of record starting at given offset
+     *
+     * @param buffer containing encoded record
+     * @param offset index of record's first byte
+     * @param value  to write
+     */
+    void putBoolean(ByteBuffer buffer, int offset, boolean value);
+
+    /**
+     * Writes given byte value into field of record starting at given offset
+     *
+     * @param buffer containing encoded record
+     * @param offset index of record's first byte
+     * @param value  to write
+     */
+    void putByte(ByteBuffer buffer, int offset, byte value);
+
+    /**
+     * Writes given short value into field of record starting at given offset
+     *
+     * @param buffer containing encoded record
+     * @param offset index of record's first byte
+     * @param value  to write
+     */
+    void putShort(ByteBuffer buffer, int offset, short value);
+
+    /**
+     * Writes given int value into field of record starting at given offset
+     *
+     * @param buffer containing encoded record
+     * @param offset index of record's first byte
+     * @param value  to write
+     */
+    void putInt(ByteBuffer buffer, int offset, int value);
+
+    /**
+     * Writes given long value into field of record starting at given offset
+     *
+     * @param buffer containing encoded record
+     * @param offset index of record's first byte
+     * @param value  to write
+     */
+    void putLong(ByteBuffer buffer, int offset, long value);
+
+    /**
+     * Writes given float value into field of record starting at given offset
+     *
+     * @param buffer containing encoded record
+     * @param offset index of record's first byte
+     * @param value  to write
+     */
+    void putFloat(ByteBuffer buffer, int offset, float value);
+
+    /**
+     * Writes given double value into field of record starting at given offset
+     *
+     * @param buffer containing encoded record
+     * @param offset index of record's first byte
+     * @param value  to write
+     */
+    void putDouble(ByteBuffer buffer, int offset, double value);
+
+}
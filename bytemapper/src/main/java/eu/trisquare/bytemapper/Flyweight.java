@@ -0,0 +1,33 @@
+package eu.trisquare.bytemapper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Base of flyweight interfaces: views reading values directly from wrapped buffer, without mapping whole record.
+ * Each abstract method of extending interface must be a getter annotated with
+ * {@link eu.trisquare.bytemapper.annotations.Value}, or with {@link eu.trisquare.bytemapper.annotations.Structure}
+ * if it returns other flyweight interface. Implementations are generated by {@link ByteMapper#flyweight(Class)}
+ * and are meant to be reused: wrapping next record changes no state other than buffer and offset, so it
+ * allocates nothing. Implementations are not thread-safe.
+ */
+public interface Flyweight {
+
+    /**
+     * Points flyweight at record starting at given offset. Bounds of all annotated getters are validated here,
+     * so getters perform no validation on their own. Buffer content is read on each getter call.
+     *
+     * @param buffer containing record
+     * @param offset index of record's first byte
+     */
+    void wrap(ByteBuffer buffer, int offset);
+
+    /**
+     * Points flyweight at record starting at index 0, same as {@link #wrap(ByteBuffer, int)}
+     *
+     * @param buffer containing record
+     */
+    default void wrap(ByteBuffer buffer) {
+        wrap(buffer, 0);
+    }
+
+}
@@ -0,0 +1,122 @@
+package eu.trisquare.bytemapper;
+
+import eu.trisquare.bytemapper.fieldmapper.FieldMapper;
+
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+
+/**
+ * Value decoded on first access. Fields and constructor parameters of type {@code Lazy<T>} annotated with
+ * {@link eu.trisquare.bytemapper.annotations.Value} are mapped without decoding nor copying value bytes,
+ * which is worthwhile for values expensive to decode, such as Strings, BigIntegers or byte arrays,
+ * which are often not read at all.
+ * <p>
+ * Until first {@link #get()}, Lazy holds reference to mapped buffer, so content of value bytes must not change
+ * until then. Buffers reused for next records, i.e. read buffer of
+ * {@link eu.trisquare.bytemapper.io.RecordStreamDecoder}, require values to be obtained before next record is read.
+ * After first {@link #get()} the buffer is no longer referenced and decoded value is returned by subsequent calls.
+ * Value is decoded at most once per thread which observes it as not loaded, so concurrent first access is safe.
+ *
+ * @param <T> type of value
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    /**
+     * Mapper resolved for value's type
+     */
+    private final FieldMapper fieldMapper;
+
+    /**
+     * True for big-endian values, false otherwise
+     */
+    private final boolean isBigEndian;
+
+    /**
+     * Absolute index of value's first byte
+     */
+    private final int startByte;
+
+    /**
+     * Number of value bytes
+     */
+    private final int size;
+
+    /**
+     * Decoded value, valid once {@link #buffer} is null
+     */
+    private T value;
+
+    /**
+     * Buffer containing value bytes, null once value is decoded
+     */
+    private volatile ByteBuffer buffer;
+
+    /**
+     * Creates Lazy decoding value from given buffer on first access. Mapping engines obtain it through
+     * {@link eu.trisquare.bytemapper.classmapper.LazyValues#create(FieldMapper, ByteBuffer, boolean, int, int)}.
+     *
+     * @param fieldMapper mapper of value's type
+     * @param buffer      containing value bytes, referenced until value is decoded
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   absolute index of value's first byte
+     * @param size        number of value bytes
+     */
+    Lazy(FieldMapper fieldMapper, ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        this.fieldMapper = fieldMapper;
+        this.buffer = buffer;
+        this.isBigEndian = isBigEndian;
+        this.startByte = startByte;
+        this.size = size;
+    }
+
+    private Lazy(T value) {
+        this.fieldMapper = null;
+        this.isBigEndian = true;
+        this.startByte = 0;
+        this.size = 0;
+        this.value = value;
+    }
+
+    /**
+     * Returns already loaded Lazy of given value, i.e. to populate instances written with {@link ByteWriter}
+     *
+     * @param value of returned Lazy
+     * @param <T>   type of value
+     * @return loaded Lazy of given value
+     */
+    public static <T> Lazy<T> of(T value) {
+        return new Lazy<>(value);
+    }
+
+    /**
+     * Returns value, decoding it from referenced buffer on first call
+     *
+     * @return decoded value
+     */
+    @Override
+    public T get() {
+        final ByteBuffer source = buffer;
+        if (source != null) {
+            @SuppressWarnings("unchecked") //safe, mapper is resolved for declared value type
+            final T decoded = (T) fieldMapper.getValue(source, isBigEndian, startByte, size);
+            value = decoded;
+            buffer = null;
+        }
+        return value;
+    }
+
+    /**
+     * Checks if value was already decoded, so buffer is no longer referenced
+     *
+     * @return true if value was already decoded
+     */
+    public boolean isLoaded() {
+        return buffer == null;
+    }
+
+    @Override
+    public String toString() {
+        return isLoaded() ? String.valueOf(value) : "Lazy[not loaded]";
+    }
+
+}
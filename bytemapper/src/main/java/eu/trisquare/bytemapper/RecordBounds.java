@@ -0,0 +1,80 @@
+package eu.trisquare.bytemapper;
+
+/**
+ * Validation of records mapped by default methods of {@link ByteMapper}, reporting the same messages
+ * as standard implementation.
+ */
+final class RecordBounds {
+
+    private RecordBounds() {
+        //utility class
+    }
+
+    /**
+     * Checks if offset of mapped record is not negative
+     *
+     * @param offset index of record's first byte
+     */
+    static void checkOffset(int offset) {
+        if (offset < 0) {
+            final String message = String.format(
+                    "Offset must not be negative, but %d was provided.",
+                    offset
+            );
+            throw new RecordMappingException(message);
+        }
+    }
+
+    /**
+     * Checks if given number of consecutive records fits within buffer limit
+     *
+     * @param bufferLimit limit of mapped buffer
+     * @param offset      index of first record's first byte
+     * @param recordSize  number of bytes of each record
+     * @param count       number of records
+     */
+    static void checkRecords(int bufferLimit, int offset, int recordSize, int count) {
+        checkOffset(offset);
+        if (recordSize < 1) {
+            final String message = String.format(
+                    "Record size should be bigger than 0, but %d was provided",
+                    recordSize
+            );
+            throw new RecordMappingException(message);
+        }
+        if (count < 0) {
+            final String message = String.format(
+                    "Records count must not be negative, but %d was provided.",
+                    count
+            );
+            throw new RecordMappingException(message);
+        }
+        final long endByte = offset + (long) recordSize * count;
+        if (endByte > bufferLimit) {
+            final String message = String.format(
+                    "Last byte index of %d records should not exceed buffer limit of %d bytes, but %d was calculated",
+                    count, bufferLimit, endByte
+            );
+            throw new RecordMappingException(message);
+        }
+    }
+
+    /**
+     * Returns number of records of given size in whole buffer, throws if buffer limit is not a multiple of record size
+     *
+     * @param bufferLimit limit of mapped buffer
+     * @param recordSize  number of bytes of each record
+     * @return number of records, or 0 if record size is not positive, so it is rejected by record validation
+     */
+    static int getRecordsCount(int bufferLimit, int recordSize) {
+        if (recordSize > 0 && bufferLimit % recordSize != 0) {
+            final String message = String.format(
+                    "Buffer limit of %d bytes is not a multiple of record size of %d bytes.",
+                    bufferLimit, recordSize
+            );
+            throw new RecordMappingException(message);
+        }
+        return recordSize > 0 ? bufferLimit / recordSize : 0;
+    }
+
+}
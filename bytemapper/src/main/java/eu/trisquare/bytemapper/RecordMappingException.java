@@ -0,0 +1,14 @@
+package eu.trisquare.bytemapper;
+
+import eu.trisquare.bytemapper.impl.MappingException;
+
+/**
+ * Exception used when records passed to default methods of {@link ByteMapper} exceed mapped buffer
+ */
+class RecordMappingException extends MappingException {
+
+    RecordMappingException(String message) {
+        super(message);
+    }
+
+}
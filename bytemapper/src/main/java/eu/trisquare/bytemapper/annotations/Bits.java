@@ -0,0 +1,58 @@
+package eu.trisquare.bytemapper.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+
+/**
+ * Maps {@link Value} as a range of bits of its bytes, such as flags and small counters packed into protocol
+ * headers. Bytes of the value, up to eight of them, are read as unsigned word in declared endianness, and field
+ * gets bits of given offset and width, zero-extended to the declared type. It may be used on fields, parameters
+ * and flyweight getters of type boolean, byte, short, int, long and their wrappers.
+ * <p>
+ * Fields declaring the same bytes and endianness share the word, so it is read once per mapped record.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({FIELD, PARAMETER, METHOD})
+public @interface Bits {
+
+    /**
+     * Index of field's first bit within the word, counted as determined by {@link #numbering()}
+     *
+     * @return zero-inclusive index of first bit
+     */
+    int offset();
+
+    /**
+     * Number of field's bits, which must not exceed width of the declared type. Boolean fields are one bit wide.
+     *
+     * @return number of bits
+     */
+    int width();
+
+    /**
+     * Order in which bits of the word are counted
+     *
+     * @return numbering of bits
+     */
+    Numbering numbering() default Numbering.MSB_FIRST;
+
+    /**
+     * Orders of counting bits within a word
+     */
+    enum Numbering {
+        /**
+         * Bit 0 is the most significant bit of the word, as in diagrams of network protocol headers
+         */
+        MSB_FIRST,
+        /**
+         * Bit 0 is the least significant bit of the word, as in C bit fields on little-endian platforms
+         */
+        LSB_FIRST
+    }
+
+}
@@ -0,0 +1,73 @@
+package eu.trisquare.bytemapper.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+
+/**
+ * Marks base type of messages, which subclass is selected by tag stored in each record. It may be used on classes,
+ * abstract classes and interfaces, which are then mapped as instances of subclass declared for record's tag, including
+ * records mapped as structures, structure arrays and by {@link eu.trisquare.bytemapper.ByteMapper#mapAll}.
+ * <p>
+ * Tag is read as unsigned number of one or two bytes. Subclass is selected from array indexed by tag, and mappers
+ * of all subclasses are created together with mapper of the base type, so no lookup or class resolution is performed
+ * per record. Annotation is not inherited, so subclasses are mapped using their own annotated fields or constructor.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(TYPE)
+public @interface Discriminator {
+
+    /**
+     * Inclusive index of tag's first byte, starting from 0
+     *
+     * @return index of tag's first byte
+     */
+    int startByte();
+
+    /**
+     * Number of tag's bytes, either 1 or 2
+     *
+     * @return number of tag's bytes
+     */
+    int size() default Byte.BYTES;
+
+    /**
+     * Determines order of tag's bytes
+     *
+     * @return true for big-endian tags, false for little-endian
+     */
+    boolean bigEndian() default true;
+
+    /**
+     * Subclasses of base type, by their tags. Records of tags which are not declared can not be mapped.
+     *
+     * @return subclasses with their tags
+     */
+    Subtype[] subtypes();
+
+    /**
+     * Subclass of discriminated type, mapped from records of given tag
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({})
+    @interface Subtype {
+
+        /**
+         * Tag of records mapped into subclass, i.e. {@code 'A'} for ASCII message types
+         *
+         * @return value of tag
+         */
+        int tag();
+
+        /**
+         * Subclass of discriminated type
+         *
+         * @return mapped subclass
+         */
+        Class<?> type();
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package eu.trisquare.bytemapper.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+
+/**
+ * Values decorated with this annotation are remembered by their raw bytes, so repeated values are returned
+ * as previously decoded instance, without decoding and allocation. It is intended for values with few distinct
+ * values, such as symbols, venue codes or reference data structures.
+ * <p>
+ * It may be used together with {@link Value} or {@link Structure} on fields and parameters, and with {@link Value}
+ * on getters of {@link eu.trisquare.bytemapper.Flyweight} interfaces. Classes annotated with it are interned
+ * whenever they are mapped as structures, in a single cache per class of each mapper, so mappers never share
+ * interned instances. Within a mapper interned instances are shared, so they must not be modified. Values of
+ * primitive types, arrays and buffers must not be interned. Text values must not declare
+ * {@link Text#internCapacity()} together with this annotation.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({FIELD, PARAMETER, METHOD, TYPE})
+public @interface Interned {
+
+    /**
+     * Maximum number of remembered values. When cache is full, values which were not recently used are evicted.
+     * <p>
+     * This value must be bigger than 0.
+     *
+     * @return number of remembered values
+     */
+    int capacity();
+
+}
@@ -0,0 +1,70 @@
+package eu.trisquare.bytemapper.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+
+/**
+ * Fields decorated with this annotation will be processed by {@link eu.trisquare.bytemapper.ByteMapper} as a composite
+ * structures. Annotated fields must not be final nor static. Getters of {@link eu.trisquare.bytemapper.Flyweight}
+ * interfaces annotated with it must return other flyweight interface, wrapping bytes of the structure.
+ * <p>
+ * Fields and parameters of array or {@link java.util.List} type are mapped as structure arrays: back-to-back
+ * elements of {@link #size()} bytes each, starting at {@link #startByte()}. Number of elements is either fixed by
+ * {@link #count()} or read from integral value referenced by {@link #countField()}. Elements are mapped by the
+ * same class mapper as records passed to {@link eu.trisquare.bytemapper.ByteMapper#mapAll}, without slicing the buffer.
+ * Lists are fixed-size lists backed by an array.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({FIELD, PARAMETER, METHOD})
+public @interface Structure {
+
+    /**
+     * Inclusive index of first byte of value, starting from 0.
+     * This value must be lower than input data length. If {@link #after()} is set,
+     * index is counted from the end of referenced field instead.
+     *
+     * @return index of value's first byte
+     */
+    int startByte();
+
+    /**
+     * Number of bytes used to obtain structure starting from startByte.
+     * For structure arrays, this is number of bytes of each element.
+     * <p>
+     * This value must not be lower than index of last byte mapped by
+     * structure.
+     *
+     * @return length of structure in bytes
+     */
+    int size();
+
+    /**
+     * Fixed number of elements of structure array. Must be bigger than 0 for structure arrays
+     * without {@link #countField()}, and not declared for other structures.
+     *
+     * @return number of structure array's elements
+     */
+    int count() default 0;
+
+    /**
+     * Name of field holding number of elements of structure array, declared in the same class. Referenced field
+     * must be annotated with {@link Value} and be of int, short or byte type, or their wrapper.
+     *
+     * @return name of field holding number of elements
+     */
+    String countField() default "";
+
+    /**
+     * Name of field, declared in the same class, after which structure starts. Structure's {@link #startByte()}
+     * is counted from exclusive index of referenced field's last byte, same as {@link Value#after()}.
+     *
+     * @return name of preceding field, or empty string if structure starts at constant index
+     */
+    String after() default "";
+
+}
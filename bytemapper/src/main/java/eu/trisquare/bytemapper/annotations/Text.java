@@ -0,0 +1,76 @@
+package eu.trisquare.bytemapper.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+
+/**
+ * Configures decoding of text values. It is used together with {@link Value} on fields, parameters and
+ * flyweight getters of types assignable from String. Values without this annotation are decoded from
+ * UTF-8, including all their bytes.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({FIELD, PARAMETER, METHOD})
+public @interface Text {
+
+    /**
+     * Name of charset used to decode and encode value, i.e. US-ASCII, ISO-8859-1, UTF-8 or UTF-16.
+     * <p>
+     * Bytes of UTF-16 values are never reversed, instead endianness of value selects between
+     * UTF-16BE and UTF-16LE. Bytes of values in other charsets are reversed for little-endian values.
+     *
+     * @return name of value's charset
+     */
+    String charset() default "UTF-8";
+
+    /**
+     * Padding filling unused bytes of fixed-width value. Trailing padding characters are skipped when value
+     * is decoded, and unused bytes are filled with them when value is written.
+     *
+     * @return padding of value
+     */
+    Padding padding() default Padding.NONE;
+
+    /**
+     * Marks value as NUL-terminated C-string. Decoded value ends before first NUL character, and written
+     * value is followed by NUL character if there is room for it.
+     *
+     * @return true if value is NUL-terminated
+     */
+    boolean terminated() default false;
+
+    /**
+     * Maximum number of distinct values remembered by value's decoder, so repeated values are returned
+     * without decoding and allocation. Values are not remembered by default.
+     * <p>
+     * It is intended for values with few distinct values, such as ticker symbols. Unlike {@link Interned}, values
+     * are remembered by their content, excluding padding and terminator. It must not be declared by values
+     * annotated with {@link Interned}, so each value is remembered by a single cache.
+     *
+     * @return number of remembered values, or 0 if values should not be remembered
+     */
+    int internCapacity() default 0;
+
+    /**
+     * Characters filling unused bytes of fixed-width text values
+     */
+    enum Padding {
+        /**
+         * All bytes belong to value
+         */
+        NONE,
+        /**
+         * Value is padded with NUL characters
+         */
+        NUL,
+        /**
+         * Value is padded with spaces
+         */
+        SPACE
+    }
+
+}
@@ -0,0 +1,22 @@
+package eu.trisquare.bytemapper.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+
+/**
+ * Marks {@link Value} as unsigned number, zero-extended to the declared type. It may be used on fields, parameters
+ * and flyweight getters of type long, Long or types assignable from BigInteger.
+ * <p>
+ * BigInteger values are never negative. Long values of eight bytes are returned with the same bits as unsigned
+ * 64-bit value, so they should be handled by unsigned operations, i.e. {@link Long#compareUnsigned(long, long)}.
+ * Shorter long values are never negative, in both big- and little-endian order.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({FIELD, PARAMETER, METHOD})
+public @interface Unsigned {
+}
@@ -6,19 +6,22 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.PARAMETER;
 
 /**
  * Fields decorated with this annotation will be processed by {@link eu.trisquare.bytemapper.ByteMapper} as a simple
- * values. Annotated fields must not be final nor static.
+ * values. Annotated fields must not be final nor static. Getters of {@link eu.trisquare.bytemapper.Flyweight}
+ * interfaces annotated with it return value read directly from wrapped buffer.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target({FIELD, PARAMETER})
+@Target({FIELD, PARAMETER, METHOD})
 public @interface Value {
 
     /**
      * Inclusive index of first byte of value, starting from 0.
-     * This value must be lower than input data length.
+     * This value must be lower than input data length. If {@link #after()} is set,
+     * index is counted from the end of referenced field instead.
      *
      * @return index of value's first byte
      */
@@ -29,12 +32,29 @@ public @interface Value {
      * <p>
      * This value must not exceed size of data type annotated by this field,
      * (i.e. size for annotated int must be lower or equal to 4) and sum of
-     * startByte and size must not exceed input data length.
+     * startByte and size must not exceed input data length. Ignored if {@link #lengthField()} is set.
      *
      * @return length of value in bytes
      */
     int size() default Byte.BYTES;
 
+    /**
+     * Name of field, declared in the same class, after which value starts. Value's {@link #startByte()} is counted
+     * from exclusive index of referenced field's last byte, so value may follow variable-length values
+     * and structure arrays.
+     *
+     * @return name of preceding field, or empty string if value starts at constant index
+     */
+    String after() default "";
+
+    /**
+     * Name of field holding number of bytes of value, declared in the same class. Referenced field must be
+     * annotated with {@link Value} and be of int, short or byte type, or their wrapper.
+     *
+     * @return name of field holding length of value, or empty string if value has constant size
+     */
+    String lengthField() default "";
+
 
     /**
      * Sets endianness of field. By default, values are treated as big endian, where most significant
@@ -0,0 +1,80 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.annotations.Bits;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.fieldmapper.BitFieldMapper;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Slot mapping {@link Bits} annotated field or parameter. Besides mapping value on its own, it may extract
+ * its bits from word already read by other slot of the same bytes, see {@link BitWordGroups}.
+ */
+class BitFieldSlot extends ValueSlot {
+
+    /**
+     * Same as field mapper of the slot
+     */
+    private final BitFieldMapper bitMapper;
+
+    BitFieldSlot(Class<?> type, BitFieldMapper bitMapper, Value valueAnnotation) {
+        super(type, bitMapper, valueAnnotation);
+        this.bitMapper = bitMapper;
+    }
+
+    /**
+     * Reads word containing slot's bits
+     *
+     * @param buffer used as a data source
+     * @param offset index of mapped record's first byte
+     * @return bits of the word
+     */
+    long readWord(ByteBuffer buffer, int offset) {
+        return bitMapper.readWord(buffer, isBigEndian(), offset + getStartByte(), getSize());
+    }
+
+    /**
+     * Returns slot's value extracted from given word
+     *
+     * @param word read by {@link #readWord(ByteBuffer, int)} of this or other slot of the same word
+     * @return boxed value of slot's bits
+     */
+    Object readBits(long word) {
+        return bitMapper.extractValue(word);
+    }
+
+    /**
+     * Assigns instance's field with slot's value extracted from given word, without boxing of primitive values
+     *
+     * @param pojoAccessor used to assign value
+     * @param field        assigned with slot's value
+     * @param instance     that contains given field
+     * @param word         read by {@link #readWord(ByteBuffer, int)} of this or other slot of the same word
+     */
+    void assignBits(POJOAccessor pojoAccessor, Field field, Object instance, long word) {
+        final Class<?> type = getType();
+        if (type == int.class) {
+            pojoAccessor.assignInt(field, instance, bitMapper.extractInt(word));
+        } else if (type == long.class) {
+            pojoAccessor.assignLong(field, instance, bitMapper.extractLong(word));
+        } else if (type == short.class) {
+            pojoAccessor.assignShort(field, instance, bitMapper.extractShort(word));
+        } else if (type == byte.class) {
+            pojoAccessor.assignByte(field, instance, bitMapper.extractByte(word));
+        } else if (type == boolean.class) {
+            pojoAccessor.assignBoolean(field, instance, bitMapper.extractBoolean(word));
+        } else {
+            pojoAccessor.assignValue(field, instance, bitMapper.extractValue(word));
+        }
+    }
+
+    /**
+     * Checks if given slot reads the same word as this one, so the word may be read once for both of them
+     */
+    boolean sharesWord(BitFieldSlot other) {
+        return getStartByte() == other.getStartByte() && getSize() == other.getSize()
+                && isBigEndian() == other.isBigEndian() && getAfter().equals(other.getAfter());
+    }
+
+}
@@ -0,0 +1,148 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps slots of constant position so that bit fields of the same word follow each other, and the word is
+ * read once by the first of them. Remaining slots of constant position are mapped as usual, while slots
+ * positioned by {@link DynamicLayout} are left to the layout. Order is resolved once per class.
+ */
+final class BitWordGroups {
+
+    /**
+     * Indexes of slots in order of mapping
+     */
+    private final int[] order;
+
+    /**
+     * Bit field slot at given position of the order, if it shares its word with other slots, null otherwise
+     */
+    private final BitFieldSlot[] bitSlots;
+
+    /**
+     * True if slot at given position of the order reads its word, false if it uses word read by previous slot
+     */
+    private final boolean[] wordReads;
+
+    private BitWordGroups(int[] order, BitFieldSlot[] bitSlots, boolean[] wordReads) {
+        this.order = order;
+        this.bitSlots = bitSlots;
+        this.wordReads = wordReads;
+    }
+
+    /**
+     * Creates groups of given slots of constant position, or returns null if no bit fields share their word,
+     * so slots may be mapped in their own order
+     *
+     * @param slots         of the plan
+     * @param constantSlots indexes of slots of constant position
+     * @return groups of slots or null if they are not required
+     */
+    static BitWordGroups create(List<Slot> slots, int[] constantSlots) {
+        final List<List<Integer>> groups = new ArrayList<>();
+        boolean shared = false;
+        for (int i : constantSlots) {
+            final List<Integer> group = findGroup(groups, slots, slots.get(i));
+            if (group != null) {
+                group.add(i);
+                shared = true;
+            } else {
+                final List<Integer> newGroup = new ArrayList<>();
+                newGroup.add(i);
+                groups.add(newGroup);
+            }
+        }
+        if (!shared) {
+            return null;
+        }
+        final int[] order = new int[constantSlots.length];
+        final BitFieldSlot[] bitSlots = new BitFieldSlot[constantSlots.length];
+        final boolean[] wordReads = new boolean[constantSlots.length];
+        int position = 0;
+        for (List<Integer> group : groups) {
+            for (int j = 0; j < group.size(); j++) {
+                final int slotIdx = group.get(j);
+                order[position] = slotIdx;
+                bitSlots[position] = group.size() > 1 ? (BitFieldSlot) slots.get(slotIdx) : null;
+                wordReads[position] = j == 0;
+                position++;
+            }
+        }
+        return new BitWordGroups(order, bitSlots, wordReads);
+    }
+
+    /**
+     * Returns group of bit fields sharing word with given slot, or null if slot is not a bit field or it is
+     * the first one of its word
+     */
+    private static List<Integer> findGroup(List<List<Integer>> groups, List<Slot> slots, Slot slot) {
+        if (!(slot instanceof BitFieldSlot)) {
+            return null;
+        }
+        for (List<Integer> group : groups) {
+            final Slot first = slots.get(group.get(0));
+            if (first instanceof BitFieldSlot && ((BitFieldSlot) first).sharesWord((BitFieldSlot) slot)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads values of slots of constant position of record starting at given offset
+     *
+     * @param slots  of the plan, in order used to create groups
+     * @param buffer used as a data source
+     * @param offset index of mapped record's first byte
+     * @param limit  exclusive index of mapped record's last byte within buffer
+     * @return values in order of slots, null for slots which are not of constant position
+     */
+    Object[] read(Slot[] slots, ByteBuffer buffer, int offset, int limit) {
+        final Object[] values = new Object[slots.length];
+        long word = 0;
+        for (int position = 0; position < order.length; position++) {
+            final int slotIdx = order[position];
+            final BitFieldSlot bitSlot = bitSlots[position];
+            if (bitSlot == null) {
+                values[slotIdx] = slots[slotIdx].read(buffer, offset, limit);
+                continue;
+            }
+            if (wordReads[position]) {
+                word = bitSlot.readWord(buffer, offset);
+            }
+            values[slotIdx] = bitSlot.readBits(word);
+        }
+        return values;
+    }
+
+    /**
+     * Assigns fields of given instance with values of slots of constant position of record starting at given offset
+     *
+     * @param slots        of the plan, in order used to create groups
+     * @param pojoAccessor used to assign values
+     * @param fields       assigned with slots' values, in order of slots
+     * @param instance     that contains given fields
+     * @param buffer       used as a data source
+     * @param offset       index of mapped record's first byte
+     * @param limit        exclusive index of mapped record's last byte within buffer
+     */
+    void assign(Slot[] slots, POJOAccessor pojoAccessor, Field[] fields, Object instance, ByteBuffer buffer, int offset, int limit) {
+        long word = 0;
+        for (int position = 0; position < order.length; position++) {
+            final int slotIdx = order[position];
+            final BitFieldSlot bitSlot = bitSlots[position];
+            if (bitSlot == null) {
+                slots[slotIdx].assign(pojoAccessor, fields[slotIdx], instance, buffer, offset, limit);
+                continue;
+            }
+            if (wordReads[position]) {
+                word = bitSlot.readWord(buffer, offset);
+            }
+            bitSlot.assignBits(pojoAccessor, fields[slotIdx], instance, word);
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package eu.trisquare.bytemapper.classmapper;
+
+/**
+ * Buffer bounds validation shared by class mappers, including ones generated at compile time.
+ */
+public final class BufferBounds {
+
+    private BufferBounds() {
+        //utility class
+    }
+
+    /**
+     * Checks if buffer limit is bigger than zero
+     *
+     * @param bufferLimit limit of mapped buffer
+     */
+    public static void checkBufferLimit(int bufferLimit) {
+        if (bufferLimit < 1) {
+            final String message = String.format(
+                    "Buffer limit must be bigger than 0, but is %d.",
+                    bufferLimit
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+    /**
+     * Checks if last byte index does not exceed buffer limit.
+     *
+     * @param endByte     exclusive index of value's last byte
+     * @param bufferLimit limit of mapped buffer
+     */
+    public static void checkEndByte(int endByte, int bufferLimit) {
+        if (endByte > bufferLimit) {
+            final String message = String.format(
+                    "Last byte index should not exceed buffer limit of %d bytes, but %d was calculated",
+                    bufferLimit, endByte
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+    /**
+     * Checks if offset of mapped record is not negative
+     *
+     * @param offset index of record's first byte
+     */
+    public static void checkOffset(int offset) {
+        if (offset < 0) {
+            final String message = String.format(
+                    "Offset must not be negative, but %d was provided.",
+                    offset
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+    /**
+     * Checks if given number of consecutive records fits within buffer limit
+     *
+     * @param bufferLimit limit of mapped buffer
+     * @param offset      index of first record's first byte
+     * @param recordSize  number of bytes of each record
+     * @param count       number of records
+     */
+    public static void checkRecords(int bufferLimit, int offset, int recordSize, int count) {
+        checkOffset(offset);
+        if (recordSize < 1) {
+            final String message = String.format(
+                    "Record size should be bigger than 0, but %d was provided",
+                    recordSize
+            );
+            throw new ClassMappingException(message);
+        }
+        if (count < 0) {
+            final String message = String.format(
+                    "Records count must not be negative, but %d was provided.",
+                    count
+            );
+            throw new ClassMappingException(message);
+        }
+        final long endByte = offset + (long) recordSize * count;
+        if (endByte > bufferLimit) {
+            final String message = String.format(
+                    "Last byte index of %d records should not exceed buffer limit of %d bytes, but %d was calculated",
+                    count, bufferLimit, endByte
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+    /**
+     * Returns number of records of given size in whole buffer, throws if buffer limit is not a multiple of record size
+     *
+     * @param bufferLimit limit of mapped buffer
+     * @param recordSize  number of bytes of each record
+     * @return number of records, or 0 if record size is not positive, so it is rejected by record validation
+     */
+    public static int getRecordsCount(int bufferLimit, int recordSize) {
+        if (recordSize > 0 && bufferLimit % recordSize != 0) {
+            final String message = String.format(
+                    "Buffer limit of %d bytes is not a multiple of record size of %d bytes.",
+                    bufferLimit, recordSize
+            );
+            throw new ClassMappingException(message);
+        }
+        return recordSize > 0 ? bufferLimit / recordSize : 0;
+    }
+
+    /**
+     * Checks if given number of structure array elements fits within their record, same as
+     * {@link #checkRecords(int, int, int, int)}, and returns number of elements
+     *
+     * @param recordLimit number of bytes of mapped record
+     * @param startByte   index of first element's first byte within record
+     * @param elementSize number of bytes of each element
+     * @param count       number of elements
+     * @return number of elements
+     */
+    public static int checkElements(int recordLimit, int startByte, int elementSize, int count) {
+        checkRecords(recordLimit, startByte, elementSize, count);
+        return count;
+    }
+
+}
@@ -0,0 +1,50 @@
+package eu.trisquare.bytemapper.classmapper;
+
+/**
+ * Checks availability of ASM, which is an optional dependency required only by features generating bytecode
+ * at runtime. It must not reference ASM classes itself, so it can be loaded without them.
+ */
+final class BytecodeSupport {
+
+    /**
+     * Name of ASM class used to detect its presence
+     */
+    private static final String ASM_CLASS_NAME = "org.objectweb.asm.ClassWriter";
+
+    /**
+     * True if ASM is on the classpath of this library
+     */
+    private static final boolean AVAILABLE = isPresent(ASM_CLASS_NAME);
+
+    private BytecodeSupport() {
+        //utility class
+    }
+
+    /**
+     * Throws if ASM is not available, so given feature can not be used
+     *
+     * @param feature requiring bytecode generation, i.e. "Flyweight generation"
+     */
+    static void checkAvailable(String feature) {
+        if (!AVAILABLE) {
+            final String message = String.format(
+                    "%s requires org.ow2.asm:asm on the classpath, which is an optional dependency of ByteMapper.",
+                    feature
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+    /**
+     * Checks if class of given name may be loaded by class loader of this library
+     */
+    static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, BytecodeSupport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.fieldmapper.InternCache;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Maps bytes into instances of a single, specific class. Implementations are created once per
+ * mapped class and reused by {@link StandardByteMapper}, so they must be thread-safe.
+ *
+ * @param <T> type of mapped class
+ */
+public interface ClassMapper<T> {
+
+    /**
+     * Creates new instance of mapped class from buffer content
+     *
+     * @param buffer containing data to deserialize into values
+     * @return new instance of mapped class
+     */
+    T map(ByteBuffer buffer);
+
+    /**
+     * Creates new instance of mapped class from record starting at given offset. Record is validated as
+     * if it was a buffer starting at given offset. By default, record is mapped from buffer's slice.
+     *
+     * @param buffer containing data to deserialize into values
+     * @param offset index of record's first byte
+     * @return new instance of mapped class
+     */
+    default T map(ByteBuffer buffer, int offset) {
+        BufferBounds.checkOffset(offset);
+        final ByteBuffer record = buffer.duplicate();
+        record.position(offset);
+        return map(record.slice());
+    }
+
+    /**
+     * Creates instances of mapped class from {@code count} consecutive records of {@code recordSize} bytes,
+     * passing them to consumer in buffer order. Each record is validated as if it was a buffer of
+     * {@code recordSize} bytes. By default, each record is mapped from buffer's slice.
+     *
+     * @param buffer     containing data to deserialize into values
+     * @param offset     index of first record's first byte
+     * @param recordSize number of bytes of each record
+     * @param count      number of records to map
+     * @param consumer   receiving created instances
+     */
+    default void mapAll(ByteBuffer buffer, int offset, int recordSize, int count, Consumer<? super T> consumer) {
+        BufferBounds.checkRecords(buffer.limit(), offset, recordSize, count);
+        final ByteBuffer record = buffer.duplicate();
+        for (int i = 0; i < count; i++) {
+            final int recordOffset = offset + i * recordSize;
+            record.limit(recordOffset + recordSize);
+            record.position(recordOffset);
+            consumer.accept(map(record.slice()));
+        }
+    }
+
+    /**
+     * Assigns annotated fields of existing instance of mapped class with buffer content.
+     * By default, reusing instances is not supported.
+     *
+     * @param target instance of mapped class to assign values to
+     * @param buffer containing data to deserialize into values
+     * @return given target instance
+     */
+    default T mapInto(T target, ByteBuffer buffer) {
+        final String message = String.format(
+                "Unable to map into existing instance of %s. Only classes with annotated fields may be reused.",
+                target.getClass().getSimpleName()
+        );
+        throw new ClassMappingException(message);
+    }
+
+    /**
+     * Returns caches of values remembered by mappers of interned fields or constructor parameters, by their names.
+     * By default, values are not interned.
+     *
+     * @return unmodifiable map of caches
+     */
+    default Map<String, InternCache<?>> getInternCaches() {
+        return Collections.emptyMap();
+    }
+
+}
@@ -0,0 +1,464 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.Lazy;
+import eu.trisquare.bytemapper.fieldmapper.BitFieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.PrimitiveFieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.StructureMapper;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates bytecode of dedicated {@link ClassMapper} implementations for given {@link MappingPlan}.
+ * Generated mapper instantiates class and assigns its fields directly, passing parameters to
+ * constructor without any arguments array.
+ */
+final class ClassMapperGenerator {
+
+    /**
+     * Used instead of local variable index, if mapped record always starts at index 0
+     */
+    private static final int NO_OFFSET_VAR = -1;
+
+    /**
+     * Index of first local variable holding word shared by bit fields, following parameters of both
+     * {@code map(ByteBuffer, int)} and {@code mapInto(Object, ByteBuffer)}
+     */
+    private static final int FIRST_WORD_VAR = 3;
+
+    /**
+     * Suffix appended to mapped class name to create name of generated mapper class
+     */
+    private static final String CLASS_NAME_SUFFIX = "$$ByteMapper";
+
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String BYTE_BUFFER = Type.getInternalName(ByteBuffer.class);
+    private static final String FIELD_MAPPER = Type.getInternalName(FieldMapper.class);
+    private static final String PRIMITIVE_FIELD_MAPPER = Type.getInternalName(PrimitiveFieldMapper.class);
+    private static final String BIT_FIELD_MAPPER = Type.getInternalName(BitFieldMapper.class);
+    private static final String STRUCTURE_MAPPER = Type.getInternalName(StructureMapper.class);
+    private static final String STRUCTURE_MAPPER_DESCRIPTOR = Type.getDescriptor(StructureMapper.class);
+    private static final String CLASS_DESCRIPTOR = Type.getDescriptor(Class.class);
+    private static final String GET_VALUE_DESCRIPTOR = "(Ljava/nio/ByteBuffer;ZII)Ljava/lang/Object;";
+    private static final String GET_STRUCTURE_DESCRIPTOR = "(Ljava/nio/ByteBuffer;Ljava/lang/Class;II)Ljava/lang/Object;";
+    private static final String LAZY_VALUES = Type.getInternalName(LazyValues.class);
+    private static final String CREATE_LAZY_DESCRIPTOR = "(Leu/trisquare/bytemapper/fieldmapper/FieldMapper;Ljava/nio/ByteBuffer;ZII)Leu/trisquare/bytemapper/Lazy;";
+    private static final String MAP_DESCRIPTOR = "(Ljava/nio/ByteBuffer;)Ljava/lang/Object;";
+    private static final String MAP_RECORD_DESCRIPTOR = "(Ljava/nio/ByteBuffer;I)Ljava/lang/Object;";
+    private static final String MAP_INTO_DESCRIPTOR = "(Ljava/lang/Object;Ljava/nio/ByteBuffer;)Ljava/lang/Object;";
+
+    private ClassMapperGenerator() {
+        //utility class
+    }
+
+    /**
+     * Returns generated mapper for given plan, or plan itself if generation is not possible,
+     * i.e. because mapped class or its members are not public.
+     *
+     * @param plan to generate mapper for
+     * @param <T>  type of mapped class
+     * @return generated mapper or plan itself as a fallback
+     */
+    static <T> ClassMapper<T> generate(MappingPlan<T> plan) {
+        if (!isGenerationPossible(plan)) {
+            return plan;
+        }
+        try {
+            final Class<T> type = plan.getType();
+            final String className = type.getName() + CLASS_NAME_SUFFIX;
+            final byte[] bytecode = createBytecode(plan, className.replace('.', '/'));
+            final Class<?> mapperClass = new GeneratedClassLoader(type.getClassLoader()).define(className, bytecode);
+            @SuppressWarnings("unchecked") //safe, generated class always maps given type
+            final ClassMapper<T> generated = (ClassMapper<T>) mapperClass
+                    .getConstructor(Object[].class)
+                    .newInstance((Object) getDependencies(plan));
+            return new GeneratedClassMapper<>(plan, generated);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return plan;
+        }
+    }
+
+    /**
+     * Checks if generated class will have access to all members used by mapping
+     */
+    private static boolean isGenerationPossible(MappingPlan<?> plan) {
+        final Class<?> type = plan.getType();
+        if (type.getClassLoader() == null || !isPublic(type) || Modifier.isAbstract(type.getModifiers()) || plan.hasDynamicLayout()) {
+            return false;
+        }
+        final List<Class<?>> slotTypes = new ArrayList<>();
+        for (Slot slot : plan.getSlots()) {
+            if (!(slot instanceof ValueSlot) && !(slot instanceof StructureSlot) || !isPublic(slot.getType())) {
+                return false;
+            }
+            slotTypes.add(slot.getType());
+        }
+        final Constructor<?> constructor;
+        try {
+            constructor = plan.isConstructorBased()
+                    ? type.getDeclaredConstructor(slotTypes.toArray(new Class<?>[0]))
+                    : type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+        if (!Modifier.isPublic(constructor.getModifiers())) {
+            return false;
+        }
+        if (!plan.isConstructorBased()) {
+            for (Field field : plan.getFields()) {
+                final int modifiers = field.getModifiers();
+                if (!Modifier.isPublic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isStatic(modifiers)
+                        || field.getDeclaringClass() != type) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if given type is public, including its enclosing classes and array components
+     */
+    static boolean isPublic(Class<?> type) {
+        if (type.isArray()) {
+            return isPublic(type.getComponentType());
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        final Class<?> enclosingClass = type.getEnclosingClass();
+        return Modifier.isPublic(type.getModifiers()) && (enclosingClass == null || isPublic(enclosingClass));
+    }
+
+    /**
+     * Returns objects passed to generated class constructor: resolved mapper of each slot,
+     * followed by structure type for structure slots.
+     */
+    private static Object[] getDependencies(MappingPlan<?> plan) {
+        final List<Object> dependencies = new ArrayList<>();
+        for (Slot slot : plan.getSlots()) {
+            if (slot instanceof ValueSlot) {
+                dependencies.add(((ValueSlot) slot).getFieldMapper());
+            } else {
+                dependencies.add(((StructureSlot) slot).getStructureMapper());
+                dependencies.add(slot.getType());
+            }
+        }
+        return dependencies.toArray();
+    }
+
+    private static byte[] createBytecode(MappingPlan<?> plan, String className) {
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        writer.visit(
+                Opcodes.V1_8,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+                className,
+                null,
+                OBJECT,
+                new String[]{Type.getInternalName(ClassMapper.class)}
+        );
+        final Slot[] slots = plan.getSlots();
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] instanceof ValueSlot) {
+                final String mapperDescriptor = "L" + getFieldMapperType((ValueSlot) slots[i]) + ";";
+                writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, "mapper" + i, mapperDescriptor, null, null).visitEnd();
+            } else {
+                writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, "mapper" + i, STRUCTURE_MAPPER_DESCRIPTOR, null, null).visitEnd();
+                writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, "type" + i, CLASS_DESCRIPTOR, null, null).visitEnd();
+            }
+        }
+        writeConstructor(writer, className, slots);
+        writeMapMethod(writer, className);
+        writeMapRecordMethod(writer, className, plan);
+        if (!plan.isConstructorBased()) {
+            writeMapIntoMethod(writer, className, plan);
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    /**
+     * Writes constructor assigning generated class fields with elements of dependencies array
+     */
+    private static void writeConstructor(ClassWriter writer, String className, Slot[] slots) {
+        final MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V", null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        int dependencyIdx = 0;
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] instanceof ValueSlot) {
+                writeDependencyAssignment(method, className, dependencyIdx++, "mapper" + i, getFieldMapperType((ValueSlot) slots[i]));
+            } else {
+                writeDependencyAssignment(method, className, dependencyIdx++, "mapper" + i, STRUCTURE_MAPPER);
+                writeDependencyAssignment(method, className, dependencyIdx++, "type" + i, Type.getInternalName(Class.class));
+            }
+        }
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    private static void writeDependencyAssignment(MethodVisitor method, String className, int index, String fieldName, String fieldType) {
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitVarInsn(Opcodes.ALOAD, 1);
+        pushInt(method, index);
+        method.visitInsn(Opcodes.AALOAD);
+        method.visitTypeInsn(Opcodes.CHECKCAST, fieldType);
+        method.visitFieldInsn(Opcodes.PUTFIELD, className, fieldName, "L" + fieldType + ";");
+    }
+
+    /**
+     * Writes {@link ClassMapper#map(ByteBuffer)} implementation, mapping record starting at index 0
+     */
+    private static void writeMapMethod(ClassWriter writer, String className) {
+        final MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "map", MAP_DESCRIPTOR, null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitVarInsn(Opcodes.ALOAD, 1);
+        method.visitInsn(Opcodes.ICONST_0);
+        method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, className, "map", MAP_RECORD_DESCRIPTOR, false);
+        method.visitInsn(Opcodes.ARETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    /**
+     * Writes {@link ClassMapper#map(ByteBuffer, int)} implementation
+     */
+    private static void writeMapRecordMethod(ClassWriter writer, String className, MappingPlan<?> plan) {
+        final MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "map", MAP_RECORD_DESCRIPTOR, null, null);
+        method.visitCode();
+        final String type = Type.getInternalName(plan.getType());
+        final Slot[] slots = plan.getSlots();
+        final int[] wordVars = writeWordReads(method, className, slots, 1, 2);
+        method.visitTypeInsn(Opcodes.NEW, type);
+        method.visitInsn(Opcodes.DUP);
+        if (plan.isConstructorBased()) {
+            final Type[] parameterTypes = new Type[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                writeSlotValue(method, className, slots[i], i, 1, 2, wordVars[i]);
+                parameterTypes[i] = Type.getType(slots[i].getType());
+            }
+            method.visitMethodInsn(Opcodes.INVOKESPECIAL, type, "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, parameterTypes), false);
+        } else {
+            method.visitMethodInsn(Opcodes.INVOKESPECIAL, type, "<init>", "()V", false);
+            writeFieldAssignments(method, className, plan, 1, 2, wordVars);
+        }
+        method.visitInsn(Opcodes.ARETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    /**
+     * Writes {@link ClassMapper#mapInto(Object, ByteBuffer)} implementation for class mapped using annotated fields
+     */
+    private static void writeMapIntoMethod(ClassWriter writer, String className, MappingPlan<?> plan) {
+        final MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "mapInto", MAP_INTO_DESCRIPTOR, null, null);
+        method.visitCode();
+        final int[] wordVars = writeWordReads(method, className, plan.getSlots(), 2, NO_OFFSET_VAR);
+        method.visitVarInsn(Opcodes.ALOAD, 1);
+        method.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(plan.getType()));
+        writeFieldAssignments(method, className, plan, 2, NO_OFFSET_VAR, wordVars);
+        method.visitInsn(Opcodes.ARETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    /**
+     * Writes instructions assigning each annotated field of instance on top of the operand stack, leaving it on the stack
+     */
+    private static void writeFieldAssignments(MethodVisitor method, String className, MappingPlan<?> plan, int bufferVar, int offsetVar, int[] wordVars) {
+        final String type = Type.getInternalName(plan.getType());
+        final Slot[] slots = plan.getSlots();
+        final Field[] fields = plan.getFields();
+        for (int i = 0; i < slots.length; i++) {
+            method.visitInsn(Opcodes.DUP);
+            writeSlotValue(method, className, slots[i], i, bufferVar, offsetVar, wordVars[i]);
+            method.visitFieldInsn(Opcodes.PUTFIELD, type, fields[i].getName(), Type.getDescriptor(fields[i].getType()));
+        }
+    }
+
+    /**
+     * Writes instructions reading word of each group of bit field slots sharing the same bytes into local variable
+     *
+     * @return index of local variable holding word of given slot, 0 for slots other than bit fields
+     */
+    private static int[] writeWordReads(MethodVisitor method, String className, Slot[] slots, int bufferVar, int offsetVar) {
+        final int[] wordVars = new int[slots.length];
+        int nextVar = FIRST_WORD_VAR;
+        for (int i = 0; i < slots.length; i++) {
+            if (!(slots[i] instanceof BitFieldSlot)) {
+                continue;
+            }
+            final BitFieldSlot slot = (BitFieldSlot) slots[i];
+            for (int j = 0; j < i && wordVars[i] == 0; j++) {
+                if (slots[j] instanceof BitFieldSlot && slot.sharesWord((BitFieldSlot) slots[j])) {
+                    wordVars[i] = wordVars[j];
+                }
+            }
+            if (wordVars[i] != 0) {
+                continue;
+            }
+            method.visitVarInsn(Opcodes.ALOAD, 0);
+            method.visitFieldInsn(Opcodes.GETFIELD, className, "mapper" + i, "L" + BIT_FIELD_MAPPER + ";");
+            method.visitVarInsn(Opcodes.ALOAD, bufferVar);
+            method.visitInsn(slot.isBigEndian() ? Opcodes.ICONST_1 : Opcodes.ICONST_0);
+            pushStartByte(method, slot.getStartByte(), offsetVar);
+            pushInt(method, slot.getSize());
+            method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BIT_FIELD_MAPPER, "readWord", "(Ljava/nio/ByteBuffer;ZII)J", false);
+            method.visitVarInsn(Opcodes.LSTORE, nextVar);
+            wordVars[i] = nextVar;
+            nextVar += 2;
+        }
+        return wordVars;
+    }
+
+    /**
+     * Writes instructions putting value of given slot, converted to slot's type, on the operand stack.
+     * Value of bit field slot is extracted from word stored in given local variable.
+     */
+    private static void writeSlotValue(MethodVisitor method, String className, Slot slot, int slotIdx, int bufferVar, int offsetVar, int wordVar) {
+        if (slot instanceof LazyValueSlot) {
+            writeLazyValue(method, className, (LazyValueSlot) slot, slotIdx, bufferVar, offsetVar);
+            return;
+        }
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        if (slot instanceof BitFieldSlot) {
+            method.visitFieldInsn(Opcodes.GETFIELD, className, "mapper" + slotIdx, "L" + BIT_FIELD_MAPPER + ";");
+            method.visitVarInsn(Opcodes.LLOAD, wordVar);
+            final Class<?> type = slot.getType();
+            if (type.isPrimitive()) {
+                final String typeName = type.getName();
+                final String extractName = "extract" + Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+                method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BIT_FIELD_MAPPER, extractName, "(J)" + Type.getDescriptor(type), false);
+                return;
+            }
+            method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BIT_FIELD_MAPPER, "extractValue", "(J)Ljava/lang/Object;", false);
+        } else if (slot instanceof ValueSlot) {
+            final ValueSlot valueSlot = (ValueSlot) slot;
+            final String mapperType = getFieldMapperType(valueSlot);
+            method.visitFieldInsn(Opcodes.GETFIELD, className, "mapper" + slotIdx, "L" + mapperType + ";");
+            method.visitVarInsn(Opcodes.ALOAD, bufferVar);
+            method.visitInsn(valueSlot.isBigEndian() ? Opcodes.ICONST_1 : Opcodes.ICONST_0);
+            pushStartByte(method, valueSlot.getStartByte(), offsetVar);
+            pushInt(method, valueSlot.getSize());
+            if (valueSlot.getPrimitiveMapper() != null) {
+                final String typeName = slot.getType().getName();
+                final String getterName = "get" + Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+                final String getterDescriptor = "(Ljava/nio/ByteBuffer;ZII)" + Type.getDescriptor(slot.getType());
+                method.visitMethodInsn(Opcodes.INVOKEINTERFACE, mapperType, getterName, getterDescriptor, true);
+                return;
+            }
+            method.visitMethodInsn(Opcodes.INVOKEINTERFACE, mapperType, "getValue", GET_VALUE_DESCRIPTOR, true);
+        } else {
+            final StructureSlot structureSlot = (StructureSlot) slot;
+            method.visitFieldInsn(Opcodes.GETFIELD, className, "mapper" + slotIdx, STRUCTURE_MAPPER_DESCRIPTOR);
+            method.visitVarInsn(Opcodes.ALOAD, bufferVar);
+            method.visitVarInsn(Opcodes.ALOAD, 0);
+            method.visitFieldInsn(Opcodes.GETFIELD, className, "type" + slotIdx, CLASS_DESCRIPTOR);
+            pushStartByte(method, structureSlot.getStartByte(), offsetVar);
+            pushInt(method, structureSlot.getSize());
+            method.visitMethodInsn(Opcodes.INVOKEINTERFACE, STRUCTURE_MAPPER, "getValue", GET_STRUCTURE_DESCRIPTOR, true);
+        }
+        writeConversion(method, slot.getType());
+    }
+
+    /**
+     * Writes instructions putting new {@link Lazy} referencing value bytes of given slot on the operand stack
+     */
+    private static void writeLazyValue(MethodVisitor method, String className, LazyValueSlot slot, int slotIdx, int bufferVar, int offsetVar) {
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitFieldInsn(Opcodes.GETFIELD, className, "mapper" + slotIdx, "L" + FIELD_MAPPER + ";");
+        method.visitVarInsn(Opcodes.ALOAD, bufferVar);
+        method.visitInsn(slot.isBigEndian() ? Opcodes.ICONST_1 : Opcodes.ICONST_0);
+        pushStartByte(method, slot.getStartByte(), offsetVar);
+        pushInt(method, slot.getSize());
+        method.visitMethodInsn(Opcodes.INVOKESTATIC, LAZY_VALUES, "create", CREATE_LAZY_DESCRIPTOR, false);
+    }
+
+    /**
+     * Returns internal name of mapper type used by given slot: {@link BitFieldMapper} for bit fields,
+     * {@link PrimitiveFieldMapper} if slot's value is obtained without boxing, {@link FieldMapper} otherwise
+     */
+    private static String getFieldMapperType(ValueSlot slot) {
+        if (slot instanceof BitFieldSlot) {
+            return BIT_FIELD_MAPPER;
+        }
+        return slot.getPrimitiveMapper() != null ? PRIMITIVE_FIELD_MAPPER : FIELD_MAPPER;
+    }
+
+    /**
+     * Writes instructions converting {@link Object} on top of the operand stack into given type
+     */
+    static void writeConversion(MethodVisitor method, Class<?> type) {
+        if (type == boolean.class) {
+            method.visitTypeInsn(Opcodes.CHECKCAST, "java/lang/Boolean");
+            method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/Boolean", "booleanValue", "()Z", false);
+        } else if (type == char.class) {
+            method.visitTypeInsn(Opcodes.CHECKCAST, "java/lang/Character");
+            method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/Character", "charValue", "()C", false);
+        } else if (type.isPrimitive()) {
+            final String descriptor = Type.getDescriptor(type);
+            method.visitTypeInsn(Opcodes.CHECKCAST, "java/lang/Number");
+            method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/Number", type.getName() + "Value", "()" + descriptor, false);
+        } else if (type != Object.class) {
+            method.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+        }
+    }
+
+    /**
+     * Pushes start byte of value, moved by record offset stored in given local variable, if any
+     */
+    private static void pushStartByte(MethodVisitor method, int startByte, int offsetVar) {
+        pushInt(method, startByte);
+        if (offsetVar != NO_OFFSET_VAR) {
+            method.visitVarInsn(Opcodes.ILOAD, offsetVar);
+            method.visitInsn(Opcodes.IADD);
+        }
+    }
+
+    static void pushInt(MethodVisitor method, int value) {
+        if (value >= -1 && value <= 5) {
+            method.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            method.visitIntInsn(Opcodes.BIPUSH, value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            method.visitIntInsn(Opcodes.SIPUSH, value);
+        } else {
+            method.visitLdcInsn(value);
+        }
+    }
+
+    /**
+     * Class loader defining generated mappers and flyweights. Each generated class gets its own loader,
+     * so it may be unloaded together with mapped class. Classes not visible to mapped class' loader are resolved using
+     * loader of this library.
+     */
+    static final class GeneratedClassLoader extends ClassLoader {
+
+        GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            return ClassMapper.class.getClassLoader().loadClass(name);
+        }
+
+        Class<?> define(String name, byte[] bytecode) {
+            return defineClass(name, bytecode, 0, bytecode.length);
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * Finds class mappers generated at compile time by {@code bytemapper-processor}. Generated mapper of class
+ * {@code com.example.Outer$Inner} is named {@code com.example.Outer$InnerByteMapper}, implements
+ * {@link ClassMapper} of that class and has public, no-argument constructor. Classes of matching name, which
+ * do not implement ClassMapper of given class, are ignored.
+ */
+final class CompileTimeMapperLocator {
+
+    /**
+     * Suffix appended to mapped class name to create name of generated mapper class
+     */
+    private static final String CLASS_NAME_SUFFIX = "ByteMapper";
+
+    private CompileTimeMapperLocator() {
+        //utility class
+    }
+
+    /**
+     * Returns mapper generated at compile time for given class
+     *
+     * @param type mapped class
+     * @param <T>  type of mapped class
+     * @return instance of generated mapper, or null if no mapper was generated
+     */
+    static <T> ClassMapper<T> find(Class<T> type) {
+        final ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+        final String mapperClassName = type.getName() + CLASS_NAME_SUFFIX;
+        try {
+            final Class<?> mapperClass = Class.forName(mapperClassName, true, classLoader);
+            if (!isMapperOf(mapperClass, type)) {
+                return null;
+            }
+            @SuppressWarnings("unchecked") //safe, mapper class is validated to implement ClassMapper<T>
+            final ClassMapper<T> mapper = (ClassMapper<T>) mapperClass.getConstructor().newInstance();
+            return mapper;
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            final String message = String.format("Unable to instantiate generated mapper %s.", mapperClassName);
+            throw new ClassMappingException(message, e);
+        }
+    }
+
+    /**
+     * Returns true if given class directly implements {@link ClassMapper} of given type, as generated mappers do
+     */
+    private static boolean isMapperOf(Class<?> mapperClass, Class<?> type) {
+        for (Type mapperInterface : mapperClass.getGenericInterfaces()) {
+            if (mapperInterface instanceof ParameterizedType
+                    && ((ParameterizedType) mapperInterface).getRawType() == ClassMapper.class
+                    && ((ParameterizedType) mapperInterface).getActualTypeArguments()[0] == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,196 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.annotations.Discriminator;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Maps records of {@link Discriminator} annotated type into subclass selected by record's tag. Mappers of all
+ * subclasses are resolved when this mapper is created, and are stored in array indexed by tag, reduced by
+ * the lowest declared tag, so each record is dispatched by a single array access.
+ *
+ * @param <T> discriminated base type
+ */
+final class DiscriminatedMapper<T> implements ClassMapper<T> {
+
+    /**
+     * Discriminated base type
+     */
+    private final Class<T> type;
+
+    /**
+     * Zero-inclusive index of tag's first byte
+     */
+    private final int startByte;
+
+    /**
+     * Number of tag's bytes, either 1 or 2
+     */
+    private final int size;
+
+    /**
+     * True for big-endian tags, false otherwise
+     */
+    private final boolean isBigEndian;
+
+    /**
+     * Lowest declared tag, which is mapped by first mapper
+     */
+    private final int lowestTag;
+
+    /**
+     * Mappers of subclasses by tag reduced by {@link #lowestTag}, null for tags which are not declared
+     */
+    private final ClassMapper<? extends T>[] mappers;
+
+    private DiscriminatedMapper(Class<T> type, Discriminator discriminator, int lowestTag, ClassMapper<? extends T>[] mappers) {
+        this.type = type;
+        this.startByte = discriminator.startByte();
+        this.size = discriminator.size();
+        this.isBigEndian = discriminator.bigEndian();
+        this.lowestTag = lowestTag;
+        this.mappers = mappers;
+    }
+
+    /**
+     * Creates mapper of given discriminated type, resolving mappers of all its subclasses
+     *
+     * @param type           discriminated base type
+     * @param discriminator  annotation of the base type
+     * @param mapperProvider returns mapper of each subclass
+     * @param <T>            discriminated base type
+     * @return new mapper of discriminated type
+     */
+    static <T> DiscriminatedMapper<T> create(Class<T> type, Discriminator discriminator, Function<Class<?>, ClassMapper<?>> mapperProvider) {
+        checkDeclaration(type, discriminator);
+        int lowestTag = Integer.MAX_VALUE;
+        int highestTag = Integer.MIN_VALUE;
+        for (Discriminator.Subtype subtype : discriminator.subtypes()) {
+            lowestTag = Math.min(lowestTag, subtype.tag());
+            highestTag = Math.max(highestTag, subtype.tag());
+        }
+        @SuppressWarnings("unchecked") //safe, only mappers of subclasses are stored
+        final ClassMapper<? extends T>[] mappers = new ClassMapper[highestTag - lowestTag + 1];
+        final Class<?>[] subclasses = new Class<?>[mappers.length];
+        for (Discriminator.Subtype subtype : discriminator.subtypes()) {
+            final int index = subtype.tag() - lowestTag;
+            if (subclasses[index] != null) {
+                final String message = String.format(
+                        "Tag %d of %s is declared by both %s and %s.",
+                        subtype.tag(), type.getSimpleName(), subclasses[index].getSimpleName(), subtype.type().getSimpleName()
+                );
+                throw new ClassMappingException(message);
+            }
+            subclasses[index] = subtype.type();
+            @SuppressWarnings("unchecked") //safe, subtype is validated to be subclass of discriminated type
+            final ClassMapper<? extends T> mapper = (ClassMapper<? extends T>) mapperProvider.apply(subtype.type());
+            mappers[index] = mapper;
+        }
+        return new DiscriminatedMapper<>(type, discriminator, lowestTag, mappers);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T map(ByteBuffer buffer) {
+        return map(buffer, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Record is mapped by mapper of subclass selected by its tag.
+     */
+    @Override
+    public T map(ByteBuffer buffer, int offset) {
+        BufferBounds.checkOffset(offset);
+        return getMapper(buffer, offset).map(buffer, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Each record is mapped by mapper of subclass selected by its own tag, so records of different subclasses
+     * may be mixed.
+     */
+    @Override
+    public void mapAll(ByteBuffer buffer, int offset, int recordSize, int count, Consumer<? super T> consumer) {
+        BufferBounds.checkRecords(buffer.limit(), offset, recordSize, count);
+        BufferBounds.checkEndByte(startByte + size, recordSize);
+        for (int i = 0; i < count; i++) {
+            final int recordOffset = offset + i * recordSize;
+            getMapper(buffer, recordOffset).mapAll(buffer, recordOffset, recordSize, 1, consumer);
+        }
+    }
+
+    /**
+     * Returns mapper of subclass selected by tag of record starting at given offset, throws if tag is not declared
+     */
+    private ClassMapper<? extends T> getMapper(ByteBuffer buffer, int offset) {
+        final int tagIndex = offset + startByte;
+        BufferBounds.checkEndByte(tagIndex + size, buffer.limit());
+        final int tag;
+        if (size == Byte.BYTES) {
+            tag = buffer.get(tagIndex) & 0xFF;
+        } else if (isBigEndian) {
+            tag = (buffer.get(tagIndex) & 0xFF) << Byte.SIZE | buffer.get(tagIndex + 1) & 0xFF;
+        } else {
+            tag = (buffer.get(tagIndex + 1) & 0xFF) << Byte.SIZE | buffer.get(tagIndex) & 0xFF;
+        }
+        final int index = tag - lowestTag;
+        if (index < 0 || index >= mappers.length || mappers[index] == null) {
+            final String message = String.format(
+                    "Tag %d of %s is not declared by its discriminator.",
+                    tag, type.getSimpleName()
+            );
+            throw new ClassMappingException(message);
+        }
+        return mappers[index];
+    }
+
+    /**
+     * Checks if tag fits in declared bytes and each subtype is a subclass of discriminated type
+     */
+    private static void checkDeclaration(Class<?> type, Discriminator discriminator) {
+        if (discriminator.startByte() < 0) {
+            final String message = String.format(
+                    "Byte index must be positive! (%d was provided)",
+                    discriminator.startByte()
+            );
+            throw new ClassMappingException(message);
+        }
+        if (discriminator.size() != Byte.BYTES && discriminator.size() != Short.BYTES) {
+            final String message = String.format(
+                    "Discriminator of %s must have 1 or 2 bytes, but %d was provided.",
+                    type.getSimpleName(), discriminator.size()
+            );
+            throw new ClassMappingException(message);
+        }
+        if (discriminator.subtypes().length == 0) {
+            final String message = String.format(
+                    "Discriminator of %s must declare at least one subtype.",
+                    type.getSimpleName()
+            );
+            throw new ClassMappingException(message);
+        }
+        final int highestTag = (1 << discriminator.size() * Byte.SIZE) - 1;
+        for (Discriminator.Subtype subtype : discriminator.subtypes()) {
+            if (subtype.type() == type || !type.isAssignableFrom(subtype.type())) {
+                final String message = String.format(
+                        "Subtype %s of %s must be its subclass.",
+                        subtype.type().getSimpleName(), type.getSimpleName()
+                );
+                throw new ClassMappingException(message);
+            }
+            if (subtype.tag() < 0 || subtype.tag() > highestTag) {
+                final String message = String.format(
+                        "Tag %d of %s does not fit in %d bytes of its discriminator.",
+                        subtype.tag(), subtype.type().getSimpleName(), discriminator.size()
+                );
+                throw new ClassMappingException(message);
+            }
+        }
+    }
+
+}
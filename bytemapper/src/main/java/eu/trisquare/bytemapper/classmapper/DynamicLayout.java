@@ -0,0 +1,288 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resolves positions of slots which start after other slots, or which length is read from mapped record.
+ * Positions of these slots are resolved in a single forward pass over the record, in order in which each slot
+ * comes after slots it depends on, while slots of constant position are left to the plan. Order and references
+ * are resolved once per class.
+ */
+final class DynamicLayout {
+
+    /**
+     * Slots of the plan, in order of annotated fields or constructor parameters
+     */
+    private final Slot[] slots;
+
+    /**
+     * Names of slots' fields or parameters
+     */
+    private final String[] names;
+
+    /**
+     * Index of slot after which given slot starts, or -1 if it starts at constant index
+     */
+    private final int[] anchors;
+
+    /**
+     * Index of value slot holding length of given slot, or -1 if its length is constant
+     */
+    private final int[] lengthSlots;
+
+    /**
+     * Position of given slot's bounds within bounds array, or -1 if slot has constant position
+     */
+    private final int[] boundsIndexes;
+
+    /**
+     * Indexes of slots which position is resolved from mapped record, in order of their resolution
+     */
+    private final int[] order;
+
+    private DynamicLayout(Slot[] slots, String[] names, int[] anchors, int[] lengthSlots) {
+        this.slots = slots;
+        this.names = names;
+        this.anchors = anchors;
+        this.lengthSlots = lengthSlots;
+        this.order = resolveOrder();
+        this.boundsIndexes = new int[slots.length];
+        Arrays.fill(boundsIndexes, -1);
+        for (int i = 0; i < order.length; i++) {
+            boundsIndexes[order[i]] = i;
+        }
+    }
+
+    /**
+     * Creates layout of given slots, or returns null if all of them start at constant index and all values
+     * have constant length, so they may be mapped without layout
+     *
+     * @param names of fields or parameters, in order of slots
+     * @param slots of the plan
+     * @return layout of slots or null if it is not required
+     */
+    static DynamicLayout create(List<String> names, List<Slot> slots) {
+        boolean dynamic = false;
+        final int[] anchors = new int[slots.size()];
+        final int[] lengthSlots = new int[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            final Slot slot = slots.get(i);
+            anchors[i] = getAnchor(names, slot, names.get(i));
+            lengthSlots[i] = getLengthSlot(names, slots, slot, names.get(i));
+            //structure arrays at constant index read their count by themselves
+            dynamic |= anchors[i] >= 0 || lengthSlots[i] >= 0 && !(slot instanceof StructureArraySlot);
+        }
+        if (!dynamic) {
+            return null;
+        }
+        return new DynamicLayout(slots.toArray(new Slot[0]), names.toArray(new String[0]), anchors, lengthSlots);
+    }
+
+    /**
+     * Returns true if position of given slot is resolved by this layout, false if it has constant position
+     *
+     * @param slotIdx index of slot
+     * @return true if slot's position is resolved from mapped record
+     */
+    boolean isResolved(int slotIdx) {
+        return boundsIndexes[slotIdx] >= 0;
+    }
+
+    /**
+     * Creates array holding bounds of resolved slots, which may be reused for each record mapped by the same thread
+     *
+     * @return new bounds array
+     */
+    int[] createBounds() {
+        return new int[2 * order.length];
+    }
+
+    /**
+     * Resolves positions of slots of record starting at given offset, which are not constant. Position of each
+     * slot is validated against record's limit before it is used to resolve positions of following slots, so
+     * no slot exceeds its record, even if record is followed by other records within the buffer.
+     *
+     * @param buffer used as a data source
+     * @param offset index of mapped record's first byte
+     * @param limit  exclusive index of mapped record's last byte within buffer
+     * @param bounds created by {@link #createBounds()}, assigned with index of each resolved slot's first byte
+     *               within buffer, followed by its size
+     */
+    void resolve(ByteBuffer buffer, int offset, int limit, int[] bounds) {
+        for (int i = 0; i < order.length; i++) {
+            final int slotIdx = order[i];
+            final Slot slot = slots[slotIdx];
+            final int anchor = anchors[slotIdx];
+            final long startByte = (anchor < 0 ? offset : (long) getStartByte(anchor, offset, bounds) + getSize(anchor, bounds))
+                    + slot.getStartByte();
+            final long size = lengthSlots[slotIdx] < 0
+                    ? slot.getLength()
+                    : (long) slot.getLengthUnit() * readLength(buffer, offset, slotIdx, bounds);
+            if (startByte + size > limit) {
+                final String message = String.format(
+                        "Last byte index of %s should not exceed buffer limit of %d bytes, but %d was calculated",
+                        names[slotIdx], limit - offset, startByte + size - offset
+                );
+                throw new ClassMappingException(message);
+            }
+            bounds[2 * i] = (int) startByte;
+            bounds[2 * i + 1] = (int) size;
+        }
+    }
+
+    /**
+     * Reads values of resolved slots
+     *
+     * @param buffer used as a data source
+     * @param bounds resolved by {@link #resolve(ByteBuffer, int, int, int[])}
+     * @param values assigned with values of resolved slots, in order of slots
+     */
+    void read(ByteBuffer buffer, int[] bounds, Object[] values) {
+        for (int i = 0; i < order.length; i++) {
+            values[order[i]] = slots[order[i]].readAt(buffer, bounds[2 * i], bounds[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Assigns fields of given instance with values of resolved slots
+     *
+     * @param pojoAccessor used to assign values
+     * @param fields       assigned with slots' values, in order of slots
+     * @param instance     that contains given fields
+     * @param buffer       used as a data source
+     * @param bounds       resolved by {@link #resolve(ByteBuffer, int, int, int[])}
+     */
+    void assign(POJOAccessor pojoAccessor, Field[] fields, Object instance, ByteBuffer buffer, int[] bounds) {
+        for (int i = 0; i < order.length; i++) {
+            slots[order[i]].assignAt(pojoAccessor, fields[order[i]], instance, buffer, bounds[2 * i], bounds[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Returns index of given slot's first byte within buffer, either constant or already resolved
+     */
+    private int getStartByte(int slotIdx, int offset, int[] bounds) {
+        final int boundsIdx = boundsIndexes[slotIdx];
+        return boundsIdx < 0 ? offset + slots[slotIdx].getStartByte() : bounds[2 * boundsIdx];
+    }
+
+    /**
+     * Returns number of given slot's bytes, either constant or already resolved
+     */
+    private int getSize(int slotIdx, int[] bounds) {
+        final int boundsIdx = boundsIndexes[slotIdx];
+        return boundsIdx < 0 ? slots[slotIdx].getLength() : bounds[2 * boundsIdx + 1];
+    }
+
+    /**
+     * Reads length of given slot from its length slot, which is either constant or already resolved
+     */
+    private int readLength(ByteBuffer buffer, int offset, int slotIdx, int[] bounds) {
+        final int lengthIdx = lengthSlots[slotIdx];
+        final int length = ((ValueSlot) slots[lengthIdx]).readIntAt(
+                buffer, getStartByte(lengthIdx, offset, bounds), getSize(lengthIdx, bounds)
+        );
+        if (length < 0) {
+            final String message = String.format(
+                    "Length of %s must not be negative, but %d was read.",
+                    names[slotIdx], length
+            );
+            throw new ClassMappingException(message);
+        }
+        return length;
+    }
+
+    /**
+     * Returns indexes of slots which position is resolved from mapped record, ordered so each slot follows
+     * its anchor and length slot, throws if position of any slot depends on itself
+     */
+    private int[] resolveOrder() {
+        final List<Integer> ordered = new ArrayList<>();
+        final boolean[] visited = new boolean[slots.length];
+        final boolean[] visiting = new boolean[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            visit(i, visited, visiting, ordered);
+        }
+        final int[] result = new int[ordered.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ordered.get(i);
+        }
+        return result;
+    }
+
+    private void visit(int slotIdx, boolean[] visited, boolean[] visiting, List<Integer> ordered) {
+        if (visited[slotIdx]) {
+            return;
+        }
+        if (visiting[slotIdx]) {
+            final String message = String.format(
+                    "Position of %s depends on itself.",
+                    names[slotIdx]
+            );
+            throw new ClassMappingException(message);
+        }
+        visiting[slotIdx] = true;
+        if (anchors[slotIdx] >= 0) {
+            visit(anchors[slotIdx], visited, visiting, ordered);
+        }
+        if (lengthSlots[slotIdx] >= 0) {
+            visit(lengthSlots[slotIdx], visited, visiting, ordered);
+        }
+        visiting[slotIdx] = false;
+        visited[slotIdx] = true;
+        if (anchors[slotIdx] >= 0 || lengthSlots[slotIdx] >= 0) {
+            ordered.add(slotIdx);
+        }
+    }
+
+    /**
+     * Returns index of slot after which given slot starts, or -1 if it starts at constant index
+     */
+    private static int getAnchor(List<String> names, Slot slot, String name) {
+        final String after = slot.getAfter();
+        if (after.isEmpty()) {
+            return -1;
+        }
+        final int anchor = names.indexOf(after);
+        if (anchor < 0) {
+            final String message = String.format(
+                    "Unable to find field %s, which %s is positioned after.",
+                    after, name
+            );
+            throw new ClassMappingException(message);
+        }
+        return anchor;
+    }
+
+    /**
+     * Returns index of value slot holding length of given slot, or -1 if its length is constant
+     */
+    private static int getLengthSlot(List<String> names, List<Slot> slots, Slot slot, String name) {
+        final String lengthField = slot.getLengthField();
+        if (lengthField.isEmpty()) {
+            return -1;
+        }
+        final int lengthIdx = names.indexOf(lengthField);
+        if (lengthIdx < 0) {
+            final String message = String.format(
+                    "Unable to find length field %s of %s.",
+                    lengthField, name
+            );
+            throw new ClassMappingException(message);
+        }
+        final Slot lengthSlot = slots.get(lengthIdx);
+        if (!(lengthSlot instanceof ValueSlot) || lengthSlot instanceof LazyValueSlot || !ValueSlot.isCountType(lengthSlot.getType())) {
+            final String message = String.format(
+                    "Length field %s of %s must be an int, short or byte value.",
+                    lengthField, name
+            );
+            throw new ClassMappingException(message);
+        }
+        return lengthIdx;
+    }
+
+}
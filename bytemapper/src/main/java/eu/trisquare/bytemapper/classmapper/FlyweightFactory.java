@@ -0,0 +1,57 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.Flyweight;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Creates instances of generated flyweight class
+ *
+ * @param <T> type of flyweight interface
+ */
+final class FlyweightFactory<T extends Flyweight> {
+
+    /**
+     * Flyweight interface
+     */
+    private final Class<T> type;
+
+    /**
+     * Constructor of generated class, accepting dependencies array
+     */
+    private final Constructor<?> constructor;
+
+    /**
+     * Objects passed to each created instance
+     */
+    private final Object[] dependencies;
+
+    /**
+     * Minimal number of bytes of record wrapped by flyweight
+     */
+    private final int requiredLimit;
+
+    FlyweightFactory(Class<T> type, Constructor<?> constructor, Object[] dependencies, int requiredLimit) {
+        this.type = type;
+        this.constructor = constructor;
+        this.dependencies = dependencies;
+        this.requiredLimit = requiredLimit;
+    }
+
+    /**
+     * Creates new, not wrapped flyweight
+     */
+    T create() {
+        try {
+            return type.cast(constructor.newInstance((Object) dependencies));
+        } catch (ReflectiveOperationException e) {
+            final String message = String.format("Unable to create flyweight of %s.", type.getSimpleName());
+            throw new ClassMappingException(message, e);
+        }
+    }
+
+    int getRequiredLimit() {
+        return requiredLimit;
+    }
+
+}
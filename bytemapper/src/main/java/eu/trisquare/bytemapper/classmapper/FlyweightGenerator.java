@@ -0,0 +1,365 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.Flyweight;
+import eu.trisquare.bytemapper.annotations.Interned;
+import eu.trisquare.bytemapper.annotations.Structure;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapperProvider;
+import eu.trisquare.bytemapper.fieldmapper.PrimitiveFieldMapper;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Generates bytecode of {@link Flyweight} implementations. Generated class holds wrapped buffer and offset,
+ * and each getter reads its value using field mapper resolved once per interface, so getters may be inlined.
+ * Flyweights of inner structures are created together with outer flyweight and re-wrapped by its
+ * {@link Flyweight#wrap(ByteBuffer, int)}.
+ */
+final class FlyweightGenerator {
+
+    /**
+     * Suffix appended to flyweight interface name to create name of generated class
+     */
+    private static final String CLASS_NAME_SUFFIX = "$$Flyweight";
+
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String BYTE_BUFFER_DESCRIPTOR = Type.getDescriptor(ByteBuffer.class);
+    private static final String BUFFER_BOUNDS = Type.getInternalName(BufferBounds.class);
+    private static final String SUPPLIER = Type.getInternalName(Supplier.class);
+    private static final String FIELD_MAPPER = Type.getInternalName(FieldMapper.class);
+    private static final String PRIMITIVE_FIELD_MAPPER = Type.getInternalName(PrimitiveFieldMapper.class);
+    private static final String GET_VALUE_DESCRIPTOR = "(Ljava/nio/ByteBuffer;ZII)Ljava/lang/Object;";
+    private static final String WRAP_DESCRIPTOR = "(Ljava/nio/ByteBuffer;I)V";
+
+    private FlyweightGenerator() {
+        //utility class
+    }
+
+    /**
+     * Generates flyweight class for given interface
+     *
+     * @param type                flyweight interface
+     * @param fieldMapperProvider provides mappers of values returned by getters
+     * @param nestedFactories     provides factories of flyweights returned by structure getters
+     * @param <T>                 type of flyweight interface
+     * @return factory of generated class instances
+     */
+    static <T extends Flyweight> FlyweightFactory<T> generate(
+            Class<T> type,
+            FieldMapperProvider fieldMapperProvider,
+            Function<Class<?>, FlyweightFactory<?>> nestedFactories
+    ) {
+        checkType(type);
+        final List<Member> members = new ArrayList<>();
+        int requiredLimit = 0;
+        for (Method method : getGetters(type)) {
+            final Member member = createMember(type, method, fieldMapperProvider, nestedFactories);
+            requiredLimit = Math.max(requiredLimit, member.endByte);
+            members.add(member);
+        }
+        final String className = type.getName() + CLASS_NAME_SUFFIX;
+        final byte[] bytecode = createBytecode(type, className.replace('.', '/'), members, requiredLimit);
+        final Class<?> flyweightClass = new ClassMapperGenerator.GeneratedClassLoader(type.getClassLoader())
+                .define(className, bytecode);
+        final Object[] dependencies = new Object[members.size()];
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencies[i] = members.get(i).dependency;
+        }
+        try {
+            return new FlyweightFactory<>(type, flyweightClass.getConstructor(Object[].class), dependencies, requiredLimit);
+        } catch (NoSuchMethodException e) {
+            final String message = String.format("Unable to generate flyweight of %s.", type.getSimpleName());
+            throw new ClassMappingException(message, e);
+        }
+    }
+
+    /**
+     * Checks if generated class is able to implement given type
+     */
+    private static void checkType(Class<?> type) {
+        if (!type.isInterface() || !Flyweight.class.isAssignableFrom(type) || !ClassMapperGenerator.isPublic(type)
+                || type.getClassLoader() == null) {
+            final String message = String.format(
+                    "Flyweight %s must be a public interface extending Flyweight.",
+                    type.getSimpleName()
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+    /**
+     * Returns abstract methods implemented by generated class, in order of names
+     */
+    private static List<Method> getGetters(Class<?> type) {
+        final List<Method> getters = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (method.getDeclaringClass() != Flyweight.class && !method.isDefault()
+                    && !Modifier.isStatic(method.getModifiers())) {
+                getters.add(method);
+            }
+        }
+        getters.sort(Comparator.comparing(Method::getName));
+        return getters;
+    }
+
+    private static Member createMember(
+            Class<?> type,
+            Method method,
+            FieldMapperProvider fieldMapperProvider,
+            Function<Class<?>, FlyweightFactory<?>> nestedFactories
+    ) {
+        final Class<?> returnType = method.getReturnType();
+        final Value valueAnnotation = method.getAnnotation(Value.class);
+        final Structure structureAnnotation = method.getAnnotation(Structure.class);
+        if (method.getParameterCount() != 0 || returnType == void.class
+                || valueAnnotation == null && structureAnnotation == null) {
+            final String message = String.format(
+                    "Method %s of %s must be a getter annotated with @Value or @Structure.",
+                    method.getName(), type.getSimpleName()
+            );
+            throw new ClassMappingException(message);
+        }
+        if (valueAnnotation != null ? !valueAnnotation.after().isEmpty() || !valueAnnotation.lengthField().isEmpty()
+                : !structureAnnotation.after().isEmpty()) {
+            final String message = String.format(
+                    "Getter %s of %s must have constant position and size.",
+                    method.getName(), type.getSimpleName()
+            );
+            throw new ClassMappingException(message);
+        }
+        if (valueAnnotation != null) {
+            final ValueSlot slot = new ValueSlot(
+                    returnType,
+                    ValueCodecs.getMapper(fieldMapperProvider, returnType, method, method.getName()),
+                    valueAnnotation
+            );
+            if (!ClassMapperGenerator.isPublic(returnType)) {
+                final String message = String.format(
+                        "Method %s of %s must return public type.",
+                        method.getName(), type.getSimpleName()
+                );
+                throw new ClassMappingException(message);
+            }
+            final Object mapper = slot.getPrimitiveMapper() != null ? slot.getPrimitiveMapper() : slot.getFieldMapper();
+            return new Member(method, slot, null, mapper, slot.getEndByte());
+        }
+        if (method.isAnnotationPresent(Interned.class)) {
+            final String message = String.format(
+                    "Structure getter %s of %s must not be interned, as it returns flyweight wrapping current record.",
+                    method.getName(), type.getSimpleName()
+            );
+            throw new ClassMappingException(message);
+        }
+        if (StructureArraySlot.isStructureArray(returnType)) {
+            final String message = String.format(
+                    "Structure getter %s of %s must return flyweight, as structure arrays are not supported by flyweights.",
+                    method.getName(), type.getSimpleName()
+            );
+            throw new ClassMappingException(message);
+        }
+        final FlyweightFactory<?> nestedFactory = nestedFactories.apply(returnType);
+        //nested flyweight is validated against its own bounds, which have to fit within the structure
+        BufferBounds.checkEndByte(nestedFactory.getRequiredLimit(), structureAnnotation.size());
+        final Supplier<Flyweight> supplier = nestedFactory::create;
+        final int endByte = structureAnnotation.startByte() + structureAnnotation.size();
+        return new Member(method, null, structureAnnotation, supplier, endByte);
+    }
+
+    private static byte[] createBytecode(Class<?> type, String className, List<Member> members, int requiredLimit) {
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        writer.visit(
+                Opcodes.V1_8,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+                className,
+                null,
+                OBJECT,
+                new String[]{Type.getInternalName(type)}
+        );
+        writer.visitField(Opcodes.ACC_PRIVATE, "buffer", BYTE_BUFFER_DESCRIPTOR, null, null).visitEnd();
+        writer.visitField(Opcodes.ACC_PRIVATE, "offset", "I", null, null).visitEnd();
+        for (int i = 0; i < members.size(); i++) {
+            writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, "member" + i, members.get(i).getDescriptor(), null, null).visitEnd();
+        }
+        writeConstructor(writer, className, members);
+        writeWrapMethod(writer, className, members, requiredLimit);
+        for (int i = 0; i < members.size(); i++) {
+            writeGetter(writer, className, members.get(i), i);
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    /**
+     * Writes constructor assigning mappers and creating nested flyweights using suppliers from dependencies array
+     */
+    private static void writeConstructor(ClassWriter writer, String className, List<Member> members) {
+        final MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V", null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        for (int i = 0; i < members.size(); i++) {
+            final Member member = members.get(i);
+            method.visitVarInsn(Opcodes.ALOAD, 0);
+            method.visitVarInsn(Opcodes.ALOAD, 1);
+            ClassMapperGenerator.pushInt(method, i);
+            method.visitInsn(Opcodes.AALOAD);
+            if (member.isStructure()) {
+                method.visitTypeInsn(Opcodes.CHECKCAST, SUPPLIER);
+                method.visitMethodInsn(Opcodes.INVOKEINTERFACE, SUPPLIER, "get", "()Ljava/lang/Object;", true);
+            }
+            method.visitTypeInsn(Opcodes.CHECKCAST, member.getInternalName());
+            method.visitFieldInsn(Opcodes.PUTFIELD, className, "member" + i, member.getDescriptor());
+        }
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    /**
+     * Writes {@link Flyweight#wrap(ByteBuffer, int)} implementation, validating bounds and re-wrapping
+     * flyweights of inner structures
+     */
+    private static void writeWrapMethod(ClassWriter writer, String className, List<Member> members, int requiredLimit) {
+        final MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "wrap", WRAP_DESCRIPTOR, null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ILOAD, 2);
+        method.visitMethodInsn(Opcodes.INVOKESTATIC, BUFFER_BOUNDS, "checkOffset", "(I)V", false);
+        if (requiredLimit > 0) {
+            final Label inBounds = new Label();
+            method.visitVarInsn(Opcodes.ALOAD, 1);
+            method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/nio/Buffer", "limit", "()I", false);
+            method.visitVarInsn(Opcodes.ILOAD, 2);
+            method.visitInsn(Opcodes.ISUB);
+            method.visitInsn(Opcodes.DUP);
+            ClassMapperGenerator.pushInt(method, requiredLimit);
+            method.visitJumpInsn(Opcodes.IF_ICMPGE, inBounds);
+            method.visitInsn(Opcodes.DUP);
+            method.visitMethodInsn(Opcodes.INVOKESTATIC, BUFFER_BOUNDS, "checkBufferLimit", "(I)V", false);
+            ClassMapperGenerator.pushInt(method, requiredLimit);
+            method.visitInsn(Opcodes.SWAP);
+            method.visitMethodInsn(Opcodes.INVOKESTATIC, BUFFER_BOUNDS, "checkEndByte", "(II)V", false);
+            method.visitInsn(Opcodes.ICONST_0);
+            method.visitLabel(inBounds);
+            method.visitInsn(Opcodes.POP);
+        }
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitVarInsn(Opcodes.ALOAD, 1);
+        method.visitFieldInsn(Opcodes.PUTFIELD, className, "buffer", BYTE_BUFFER_DESCRIPTOR);
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitVarInsn(Opcodes.ILOAD, 2);
+        method.visitFieldInsn(Opcodes.PUTFIELD, className, "offset", "I");
+        for (int i = 0; i < members.size(); i++) {
+            final Member member = members.get(i);
+            if (member.isStructure()) {
+                method.visitVarInsn(Opcodes.ALOAD, 0);
+                method.visitFieldInsn(Opcodes.GETFIELD, className, "member" + i, member.getDescriptor());
+                method.visitVarInsn(Opcodes.ALOAD, 1);
+                ClassMapperGenerator.pushInt(method, member.structureAnnotation.startByte());
+                method.visitVarInsn(Opcodes.ILOAD, 2);
+                method.visitInsn(Opcodes.IADD);
+                method.visitMethodInsn(Opcodes.INVOKEINTERFACE, member.getInternalName(), "wrap", WRAP_DESCRIPTOR, true);
+            }
+        }
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    /**
+     * Writes getter returning value read from wrapped buffer, or flyweight of inner structure
+     */
+    private static void writeGetter(ClassWriter writer, String className, Member member, int memberIdx) {
+        final Type returnType = Type.getType(member.method.getReturnType());
+        final MethodVisitor method = writer.visitMethod(
+                Opcodes.ACC_PUBLIC,
+                member.method.getName(),
+                Type.getMethodDescriptor(returnType),
+                null,
+                null
+        );
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitFieldInsn(Opcodes.GETFIELD, className, "member" + memberIdx, member.getDescriptor());
+        if (!member.isStructure()) {
+            final ValueSlot slot = member.valueSlot;
+            method.visitVarInsn(Opcodes.ALOAD, 0);
+            method.visitFieldInsn(Opcodes.GETFIELD, className, "buffer", BYTE_BUFFER_DESCRIPTOR);
+            method.visitInsn(slot.isBigEndian() ? Opcodes.ICONST_1 : Opcodes.ICONST_0);
+            ClassMapperGenerator.pushInt(method, slot.getStartByte());
+            method.visitVarInsn(Opcodes.ALOAD, 0);
+            method.visitFieldInsn(Opcodes.GETFIELD, className, "offset", "I");
+            method.visitInsn(Opcodes.IADD);
+            ClassMapperGenerator.pushInt(method, slot.getSize());
+            if (slot.getPrimitiveMapper() != null) {
+                final String typeName = slot.getType().getName();
+                final String getterName = "get" + Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+                final String getterDescriptor = "(Ljava/nio/ByteBuffer;ZII)" + returnType.getDescriptor();
+                method.visitMethodInsn(Opcodes.INVOKEINTERFACE, PRIMITIVE_FIELD_MAPPER, getterName, getterDescriptor, true);
+            } else {
+                method.visitMethodInsn(Opcodes.INVOKEINTERFACE, FIELD_MAPPER, "getValue", GET_VALUE_DESCRIPTOR, true);
+                ClassMapperGenerator.writeConversion(method, slot.getType());
+            }
+        }
+        method.visitInsn(returnType.getOpcode(Opcodes.IRETURN));
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    /**
+     * Getter implemented by generated class, with dependency passed to generated constructor:
+     * field mapper for value getters and supplier of nested flyweight for structure getters
+     */
+    private static final class Member {
+
+        private final Method method;
+
+        private final ValueSlot valueSlot;
+
+        private final Structure structureAnnotation;
+
+        private final Object dependency;
+
+        private final int endByte;
+
+        Member(Method method, ValueSlot valueSlot, Structure structureAnnotation, Object dependency, int endByte) {
+            this.method = method;
+            this.valueSlot = valueSlot;
+            this.structureAnnotation = structureAnnotation;
+            this.dependency = dependency;
+            this.endByte = endByte;
+        }
+
+        boolean isStructure() {
+            return structureAnnotation != null;
+        }
+
+        /**
+         * Returns internal name of generated class field type
+         */
+        String getInternalName() {
+            if (isStructure()) {
+                return Type.getInternalName(method.getReturnType());
+            }
+            return valueSlot.getPrimitiveMapper() != null ? PRIMITIVE_FIELD_MAPPER : FIELD_MAPPER;
+        }
+
+        String getDescriptor() {
+            return "L" + getInternalName() + ";";
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.fieldmapper.InternCache;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Validates buffer bounds using {@link MappingPlan} and then delegates mapping to generated mapper
+ *
+ * @param <T> type of mapped class
+ */
+final class GeneratedClassMapper<T> implements ClassMapper<T> {
+
+    /**
+     * Plan used to generate mapper
+     */
+    private final MappingPlan<T> plan;
+
+    /**
+     * Generated mapper, performing no validation on its own
+     */
+    private final ClassMapper<T> generated;
+
+    GeneratedClassMapper(MappingPlan<T> plan, ClassMapper<T> generated) {
+        this.plan = plan;
+        this.generated = generated;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T map(ByteBuffer buffer) {
+        return map(buffer, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T map(ByteBuffer buffer, int offset) {
+        BufferBounds.checkOffset(offset);
+        plan.checkBounds(buffer.limit() - offset);
+        return generated.map(buffer, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Bounds of all records are validated once, before first record is mapped.
+     */
+    @Override
+    public void mapAll(ByteBuffer buffer, int offset, int recordSize, int count, Consumer<? super T> consumer) {
+        BufferBounds.checkRecords(buffer.limit(), offset, recordSize, count);
+        plan.checkBounds(recordSize);
+        for (int i = 0; i < count; i++) {
+            consumer.accept(generated.map(buffer, offset + i * recordSize));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T mapInto(T target, ByteBuffer buffer) {
+        if (plan.isConstructorBased()) {
+            return plan.mapInto(target, buffer);
+        }
+        plan.checkBounds(buffer.limit());
+        return generated.mapInto(target, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, InternCache<?>> getInternCaches() {
+        return plan.getInternCaches();
+    }
+
+}
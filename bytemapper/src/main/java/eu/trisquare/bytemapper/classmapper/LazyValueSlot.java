@@ -0,0 +1,53 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.Lazy;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapper;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+/**
+ * Slot mapping {@link Lazy} field or parameter: instead of decoding value, it creates Lazy referencing value bytes
+ */
+class LazyValueSlot extends ValueSlot {
+
+    /**
+     * Creates slot for given mapper of Lazy's value type
+     */
+    LazyValueSlot(FieldMapper valueMapper, Value valueAnnotation) {
+        super(Lazy.class, valueMapper, valueAnnotation);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Value bytes are neither decoded nor copied.
+     */
+    @Override
+    Object readAt(ByteBuffer buffer, int valueStartByte, int valueSize) {
+        return LazyValues.create(getFieldMapper(), buffer, isBigEndian(), valueStartByte, valueSize);
+    }
+
+    /**
+     * Returns value type declared by given {@code Lazy<T>} type, throws if it is not declared
+     *
+     * @param genericType of annotated field or parameter
+     * @param name        of annotated field or parameter
+     * @return value type of Lazy
+     */
+    static Class<?> getValueType(Type genericType, String name) {
+        if (genericType instanceof ParameterizedType) {
+            final Type valueType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (valueType instanceof Class) {
+                return (Class<?>) valueType;
+            }
+        }
+        final String message = String.format(
+                "Lazy value %s must declare its value type, i.e. Lazy<String>.",
+                name
+        );
+        throw new ClassMappingException(message);
+    }
+
+}
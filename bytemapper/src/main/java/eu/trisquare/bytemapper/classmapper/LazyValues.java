@@ -0,0 +1,61 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.Lazy;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+
+/**
+ * Creates not loaded {@link Lazy} values for class mappers, including ones generated at compile time.
+ * Lazy keeps its buffer referencing constructor package-private, so it is invoked through a handle resolved once.
+ */
+public final class LazyValues {
+
+    /**
+     * Handle of Lazy's constructor referencing value bytes
+     */
+    private static final MethodHandle CONSTRUCTOR = unreflectConstructor();
+
+    private LazyValues() {
+        //utility class
+    }
+
+    /**
+     * Creates Lazy decoding value from given buffer on first access
+     *
+     * @param fieldMapper mapper of value's type
+     * @param buffer      containing value bytes, referenced until value is decoded
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   absolute index of value's first byte
+     * @param size        number of value bytes
+     * @param <T>         type of value
+     * @return not loaded Lazy
+     */
+    @SuppressWarnings("unchecked") //safe, mapper is resolved for declared value type
+    public static <T> Lazy<T> create(FieldMapper fieldMapper, ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        try {
+            return (Lazy<T>) CONSTRUCTOR.invokeExact(fieldMapper, buffer, isBigEndian, startByte, size);
+        } catch (Throwable t) {
+            throw new ClassMappingException("Lazy value cannot be created.", t);
+        }
+    }
+
+    /**
+     * Returns handle of Lazy's constructor. Constructor is made accessible, so it must not be shared.
+     */
+    private static MethodHandle unreflectConstructor() {
+        try {
+            final Constructor<?> constructor = Lazy.class.getDeclaredConstructor(
+                    FieldMapper.class, ByteBuffer.class, boolean.class, int.class, int.class
+            );
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (Exception e) {
+            throw new IllegalStateException("Lazy constructor cannot be accessed.", e);
+        }
+    }
+
+}
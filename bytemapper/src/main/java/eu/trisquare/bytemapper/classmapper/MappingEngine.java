@@ -0,0 +1,28 @@
+package eu.trisquare.bytemapper.classmapper;
+
+/**
+ * Determines how {@link StandardByteMapper} maps bytes into instances of given class.
+ */
+public enum MappingEngine {
+
+    /**
+     * Instantiates classes and assigns their fields using {@link POJOAccessor}. Works with every
+     * supported class, including private and nested ones.
+     */
+    REFLECTION,
+
+    /**
+     * Generates dedicated mapper class for each mapped class at its first use. Generated code invokes
+     * constructor and assigns fields directly, without reflection nor arguments arrays, so JIT is able
+     * to inline whole mapping. Generation is possible only if mapped class, its used constructor and
+     * annotated fields as well as their types are public, and all values have constant position and size,
+     * so class has no structure arrays. Otherwise, {@link #REFLECTION} is used as a fallback.
+     * <p>
+     * {@link POJOAccessor} is still used to find annotated constructor and fields, but generated mappers
+     * bypass it for instantiation and fields assignment.
+     * <p>
+     * Requires ASM, which is an optional dependency of this library, so it has to be declared by the application.
+     */
+    BYTECODE_GENERATION
+
+}
@@ -0,0 +1,356 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.fieldmapper.InternCache;
+import eu.trisquare.bytemapper.fieldmapper.InterningMapper;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, pre-resolved description of how to map bytes into instance of a single class.
+ * Plan is built once per class, so the mapping itself performs no annotation lookups
+ * nor mapper resolution.
+ *
+ * @param <T> type of mapped class
+ */
+final class MappingPlan<T> implements ClassMapper<T> {
+
+    /**
+     * Mapped class
+     */
+    private final Class<T> type;
+
+    /**
+     * Accessor used to instantiate class and assign its fields
+     */
+    private final POJOAccessor pojoAccessor;
+
+    /**
+     * Fields assigned with slots' values, or null if class is instantiated using annotated constructor
+     */
+    private final Field[] fields;
+
+    /**
+     * Slots in order of annotated fields or constructor parameters
+     */
+    private final Slot[] slots;
+
+    /**
+     * Layout of slots positioned after other slots or with length read from mapped record, null if all
+     * slots start at constant index and have constant length
+     */
+    private final DynamicLayout layout;
+
+    /**
+     * Indexes of slots which are not positioned by {@link #layout}, mapped at their constant position
+     */
+    private final int[] constantSlots;
+
+    /**
+     * Order of slots of constant position in which bit fields of the same word share a single read, null if
+     * no bit fields share their word
+     */
+    private final BitWordGroups bitWords;
+
+    /**
+     * Exclusive indexes of last bytes of value and structure slots of constant position, used for buffer
+     * bounds validation
+     */
+    private final int[] endBytes;
+
+    /**
+     * Minimal buffer limit which passes bounds validation of all slots of constant position
+     */
+    private final int requiredLimit;
+
+    /**
+     * Caches of interned slots, by name of their field or parameter
+     */
+    private final Map<String, InternCache<?>> internCaches;
+
+    private MappingPlan(Class<T> type, POJOAccessor pojoAccessor, Field[] fields, List<String> names, List<Slot> slots) {
+        this.type = type;
+        this.pojoAccessor = pojoAccessor;
+        this.fields = fields;
+        this.slots = slots.toArray(new Slot[0]);
+
+        this.endBytes = getEndBytes(slots);
+        this.requiredLimit = Arrays.stream(endBytes).reduce(1, Math::max);
+        this.layout = DynamicLayout.create(names, slots);
+        this.constantSlots = getConstantSlots(layout, slots.size());
+        this.bitWords = BitWordGroups.create(slots, constantSlots);
+
+        final Map<String, InternCache<?>> caches = new LinkedHashMap<>();
+        for (int i = 0; i < slots.size(); i++) {
+            final InternCache<?> cache = getInternCache(slots.get(i));
+            if (cache != null) {
+                caches.put(names.get(i), cache);
+            }
+        }
+        this.internCaches = Collections.unmodifiableMap(caches);
+    }
+
+    /**
+     * Creates plan for class instantiated by constructor annotated with
+     * {@link eu.trisquare.bytemapper.annotations.ByteMapperConstructor}
+     *
+     * @param type         mapped class
+     * @param pojoAccessor   used to instantiate class
+     * @param parameterNames names of constructor parameters
+     * @param slots          one for each constructor parameter
+     * @param <T>            type of mapped class
+     * @return new mapping plan
+     */
+    static <T> MappingPlan<T> forAnnotatedConstructor(Class<T> type, POJOAccessor pojoAccessor, List<String> parameterNames, List<Slot> slots) {
+        return new MappingPlan<>(type, pojoAccessor, null, parameterNames, slots);
+    }
+
+    /**
+     * Creates plan for class instantiated by default constructor and assigned by annotated fields
+     *
+     * @param type         mapped class
+     * @param pojoAccessor used to instantiate class and assign its fields
+     * @param fields       annotated fields
+     * @param slots        one for each annotated field
+     * @param <T>          type of mapped class
+     * @return new mapping plan
+     */
+    static <T> MappingPlan<T> forAnnotatedFields(Class<T> type, POJOAccessor pojoAccessor, List<Field> fields, List<Slot> slots) {
+        final List<String> names = new ArrayList<>();
+        for (Field field : fields) {
+            names.add(field.getName());
+        }
+        return new MappingPlan<>(type, pojoAccessor, fields.toArray(new Field[0]), names, slots);
+    }
+
+    /**
+     * Returns exclusive indexes of last bytes of value and structure slots of constant position. Structure arrays
+     * validate their elements against the end of each record when mapped.
+     */
+    private static int[] getEndBytes(List<Slot> slots) {
+        final List<Integer> endBytes = new ArrayList<>();
+        for (Slot slot : slots) {
+            if (slot instanceof ValueSlot && ((ValueSlot) slot).isConstant()) {
+                endBytes.add(((ValueSlot) slot).getEndByte());
+            } else if (slot instanceof StructureSlot && slot.getAfter().isEmpty()) {
+                endBytes.add(slot.getStartByte() + ((StructureSlot) slot).getSize());
+            }
+        }
+        return endBytes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns indexes of slots which position is not resolved by given layout, which may be null
+     */
+    private static int[] getConstantSlots(DynamicLayout layout, int slotCount) {
+        final List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < slotCount; i++) {
+            if (layout == null || !layout.isResolved(i)) {
+                indexes.add(i);
+            }
+        }
+        return indexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns cache of given slot's mapper, or null if its values are not interned
+     */
+    private static InternCache<?> getInternCache(Slot slot) {
+        final Object mapper;
+        if (slot instanceof ValueSlot) {
+            mapper = ((ValueSlot) slot).getFieldMapper();
+        } else if (slot instanceof StructureSlot) {
+            mapper = ((StructureSlot) slot).getStructureMapper();
+        } else {
+            mapper = null;
+        }
+        return mapper instanceof InterningMapper ? ((InterningMapper) mapper).getInternCache() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T map(ByteBuffer buffer) {
+        return map(buffer, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T map(ByteBuffer buffer, int offset) {
+        BufferBounds.checkOffset(offset);
+        if (fields == null) {
+            checkBounds(buffer.limit() - offset);
+            return mapRecord(buffer, offset, buffer.limit(), createBounds());
+        }
+        final T instance = pojoAccessor.getInstanceUsingDefaultConstructor(type);
+        checkBounds(buffer.limit() - offset);
+        assignFields(instance, buffer, offset, buffer.limit(), createBounds());
+        return instance;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Bounds of all records are validated once, before first record is mapped. Positions resolved from each
+     * record are validated against the end of that record.
+     */
+    @Override
+    public void mapAll(ByteBuffer buffer, int offset, int recordSize, int count, Consumer<? super T> consumer) {
+        BufferBounds.checkRecords(buffer.limit(), offset, recordSize, count);
+        checkBounds(recordSize);
+        final int[] bounds = createBounds();
+        for (int i = 0; i < count; i++) {
+            final int recordOffset = offset + i * recordSize;
+            consumer.accept(mapRecord(buffer, recordOffset, recordOffset + recordSize, bounds));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T mapInto(T target, ByteBuffer buffer) {
+        if (fields == null) {
+            return ClassMapper.super.mapInto(target, buffer);
+        }
+        checkBounds(buffer.limit());
+        assignFields(target, buffer, 0, buffer.limit(), createBounds());
+        return target;
+    }
+
+    /**
+     * Creates array holding positions resolved by {@link #layout}, reused for consecutive records, or returns
+     * null if plan has no layout
+     */
+    private int[] createBounds() {
+        return layout == null ? null : layout.createBounds();
+    }
+
+    /**
+     * Creates new instance from record starting at given offset, without bounds validation of slots
+     * of constant position. Positions of remaining slots are resolved and validated against given limit first.
+     */
+    private T mapRecord(ByteBuffer buffer, int offset, int limit, int[] bounds) {
+        if (fields == null) {
+            if (layout != null) {
+                layout.resolve(buffer, offset, limit, bounds);
+                final Object[] arguments = readConstantSlots(buffer, offset, limit);
+                layout.read(buffer, bounds, arguments);
+                return pojoAccessor.getInstanceUsingAnnotatedConstructor(type, Arrays.asList(arguments));
+            }
+            if (bitWords != null) {
+                return pojoAccessor.getInstanceUsingAnnotatedConstructor(type, Arrays.asList(bitWords.read(slots, buffer, offset, limit)));
+            }
+            final List<Object> arguments = new ArrayList<>(slots.length);
+            for (Slot slot : slots) {
+                arguments.add(slot.read(buffer, offset, limit));
+            }
+            return pojoAccessor.getInstanceUsingAnnotatedConstructor(type, arguments);
+        }
+        final T instance = pojoAccessor.getInstanceUsingDefaultConstructor(type);
+        assignFields(instance, buffer, offset, limit, bounds);
+        return instance;
+    }
+
+    /**
+     * Reads values of slots of constant position, leaving values of slots positioned by {@link #layout} empty
+     */
+    private Object[] readConstantSlots(ByteBuffer buffer, int offset, int limit) {
+        if (bitWords != null) {
+            return bitWords.read(slots, buffer, offset, limit);
+        }
+        final Object[] values = new Object[slots.length];
+        for (int slotIdx : constantSlots) {
+            values[slotIdx] = slots[slotIdx].read(buffer, offset, limit);
+        }
+        return values;
+    }
+
+    /**
+     * Assigns fields of given instance with values of record starting at given offset, without bounds validation
+     * of slots of constant position. Positions of remaining slots are resolved and validated against given
+     * limit first.
+     */
+    private void assignFields(T instance, ByteBuffer buffer, int offset, int limit, int[] bounds) {
+        if (layout != null) {
+            layout.resolve(buffer, offset, limit, bounds);
+        }
+        if (bitWords != null) {
+            bitWords.assign(slots, pojoAccessor, fields, instance, buffer, offset, limit);
+        } else {
+            for (int slotIdx : constantSlots) {
+                slots[slotIdx].assign(pojoAccessor, fields[slotIdx], instance, buffer, offset, limit);
+            }
+        }
+        if (layout != null) {
+            layout.assign(pojoAccessor, fields, instance, buffer, bounds);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, InternCache<?>> getInternCaches() {
+        return internCaches;
+    }
+
+    Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns true if class is instantiated using annotated constructor, false if default
+     * constructor and annotated fields are used.
+     */
+    boolean isConstructorBased() {
+        return fields == null;
+    }
+
+    /**
+     * Returns true if position of any slot is resolved from mapped record
+     */
+    boolean hasDynamicLayout() {
+        return layout != null;
+    }
+
+    /**
+     * Returns annotated fields, in order of slots
+     */
+    Field[] getFields() {
+        return fields.clone();
+    }
+
+    /**
+     * Returns slots in order of annotated fields or constructor parameters
+     */
+    Slot[] getSlots() {
+        return slots.clone();
+    }
+
+    /**
+     * Checks if all value and structure slots of constant position fit within buffer limit. Detailed, per-slot validation is
+     * performed only if buffer is too short, to provide message for the first failing slot.
+     *
+     * @param bufferLimit limit of mapped buffer, reduced by offset of mapped record
+     */
+    void checkBounds(int bufferLimit) {
+        if (bufferLimit >= requiredLimit) {
+            return;
+        }
+        BufferBounds.checkBufferLimit(bufferLimit);
+        for (int endByte : endBytes) {
+            BufferBounds.checkEndByte(endByte, bufferLimit);
+        }
+    }
+
+}
@@ -0,0 +1,492 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link POJOAccessor} which resolves {@link MethodHandle} for each constructor and field once and caches it.
+ * Accessibility of reflective objects is changed only during resolution, on private copies, so accessor
+ * is safe to use by multiple threads mapping the same class. Primitive values are assigned and read without boxing.
+ */
+public class MethodHandlePOJOAccessor extends StandardPOJOAccessor {
+
+    private static final MethodType DEFAULT_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private static final MethodType ANNOTATED_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Handles resolved for each class. {@link ClassValue} is used, so handles do not prevent classes from being unloaded.
+     */
+    private final ClassValue<ClassHandles> classHandles = new ClassValue<ClassHandles>() {
+        @Override
+        protected ClassHandles computeValue(Class<?> type) {
+            return new ClassHandles();
+        }
+    };
+
+    public MethodHandlePOJOAccessor() {
+        //empty
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T getInstanceUsingDefaultConstructor(Class<T> clazz) {
+        final ClassHandles handles = classHandles.get(clazz);
+        MethodHandle constructor = handles.defaultConstructor;
+        if (constructor == null) {
+            constructor = unreflectConstructor(getDefaultConstructor(clazz)).asType(DEFAULT_CONSTRUCTOR_TYPE);
+            handles.defaultConstructor = constructor;
+        }
+        final Object instance;
+        try {
+            instance = constructor.invokeExact();
+        } catch (Throwable t) {
+            throw new ClassMappingException("Class cannot be instantiated.", t);
+        }
+        return clazz.cast(instance);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T getInstanceUsingAnnotatedConstructor(Class<T> clazz, List<Object> arguments) {
+        final ClassHandles handles = classHandles.get(clazz);
+        MethodHandle constructor = handles.annotatedConstructor;
+        if (constructor == null) {
+            final Constructor<T> annotatedConstructor = getAnnotatedConstructor(clazz);
+            constructor = unreflectConstructor(annotatedConstructor)
+                    .asSpreader(Object[].class, annotatedConstructor.getParameterCount())
+                    .asType(ANNOTATED_CONSTRUCTOR_TYPE);
+            handles.annotatedConstructor = constructor;
+        }
+        final Object instance;
+        try {
+            instance = constructor.invokeExact(arguments.toArray());
+        } catch (Throwable t) {
+            throw new ClassMappingException("Class cannot be instantiated.", t);
+        }
+        return clazz.cast(instance);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assignValue(Field field, Object instance, Object value) {
+        final FieldSetter setter = getSetter(field);
+        try {
+            setter.generic.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw assignmentFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assignBoolean(Field field, Object instance, boolean value) {
+        final FieldSetter setter = getSetter(field);
+        if (setter.type != boolean.class) {
+            assignValue(field, instance, value);
+            return;
+        }
+        try {
+            setter.exact.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw assignmentFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assignByte(Field field, Object instance, byte value) {
+        final FieldSetter setter = getSetter(field);
+        if (setter.type != byte.class) {
+            assignValue(field, instance, value);
+            return;
+        }
+        try {
+            setter.exact.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw assignmentFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assignShort(Field field, Object instance, short value) {
+        final FieldSetter setter = getSetter(field);
+        if (setter.type != short.class) {
+            assignValue(field, instance, value);
+            return;
+        }
+        try {
+            setter.exact.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw assignmentFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assignInt(Field field, Object instance, int value) {
+        final FieldSetter setter = getSetter(field);
+        if (setter.type != int.class) {
+            assignValue(field, instance, value);
+            return;
+        }
+        try {
+            setter.exact.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw assignmentFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assignLong(Field field, Object instance, long value) {
+        final FieldSetter setter = getSetter(field);
+        if (setter.type != long.class) {
+            assignValue(field, instance, value);
+            return;
+        }
+        try {
+            setter.exact.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw assignmentFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assignFloat(Field field, Object instance, float value) {
+        final FieldSetter setter = getSetter(field);
+        if (setter.type != float.class) {
+            assignValue(field, instance, value);
+            return;
+        }
+        try {
+            setter.exact.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw assignmentFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assignDouble(Field field, Object instance, double value) {
+        final FieldSetter setter = getSetter(field);
+        if (setter.type != double.class) {
+            assignValue(field, instance, value);
+            return;
+        }
+        try {
+            setter.exact.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw assignmentFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getValue(Field field, Object instance) {
+        final FieldGetter getter = getGetter(field);
+        try {
+            return getter.generic.invokeExact(instance);
+        } catch (Throwable t) {
+            throw readFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getBoolean(Field field, Object instance) {
+        final FieldGetter getter = getGetter(field);
+        if (getter.type != boolean.class) {
+            return super.getBoolean(field, instance);
+        }
+        try {
+            return (boolean) getter.exact.invokeExact(instance);
+        } catch (Throwable t) {
+            throw readFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte getByte(Field field, Object instance) {
+        final FieldGetter getter = getGetter(field);
+        if (getter.type != byte.class) {
+            return super.getByte(field, instance);
+        }
+        try {
+            return (byte) getter.exact.invokeExact(instance);
+        } catch (Throwable t) {
+            throw readFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public short getShort(Field field, Object instance) {
+        final FieldGetter getter = getGetter(field);
+        if (getter.type != short.class) {
+            return super.getShort(field, instance);
+        }
+        try {
+            return (short) getter.exact.invokeExact(instance);
+        } catch (Throwable t) {
+            throw readFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getInt(Field field, Object instance) {
+        final FieldGetter getter = getGetter(field);
+        if (getter.type != int.class) {
+            return super.getInt(field, instance);
+        }
+        try {
+            return (int) getter.exact.invokeExact(instance);
+        } catch (Throwable t) {
+            throw readFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLong(Field field, Object instance) {
+        final FieldGetter getter = getGetter(field);
+        if (getter.type != long.class) {
+            return super.getLong(field, instance);
+        }
+        try {
+            return (long) getter.exact.invokeExact(instance);
+        } catch (Throwable t) {
+            throw readFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getFloat(Field field, Object instance) {
+        final FieldGetter getter = getGetter(field);
+        if (getter.type != float.class) {
+            return super.getFloat(field, instance);
+        }
+        try {
+            return (float) getter.exact.invokeExact(instance);
+        } catch (Throwable t) {
+            throw readFailure(field, t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDouble(Field field, Object instance) {
+        final FieldGetter getter = getGetter(field);
+        if (getter.type != double.class) {
+            return super.getDouble(field, instance);
+        }
+        try {
+            return (double) getter.exact.invokeExact(instance);
+        } catch (Throwable t) {
+            throw readFailure(field, t);
+        }
+    }
+
+    /**
+     * Returns cached setter of given field, resolving it on first use
+     */
+    private FieldSetter getSetter(Field field) {
+        final ConcurrentMap<String, FieldSetter> setters = classHandles.get(field.getDeclaringClass()).setters;
+        FieldSetter setter = setters.get(field.getName());
+        if (setter == null) {
+            checkMappedField(field);
+            setter = new FieldSetter(field.getType(), unreflectSetter(field));
+            setters.putIfAbsent(field.getName(), setter);
+        }
+        return setter;
+    }
+
+    /**
+     * Returns cached getter of given field, resolving it on first use
+     */
+    private FieldGetter getGetter(Field field) {
+        final ConcurrentMap<String, FieldGetter> getters = classHandles.get(field.getDeclaringClass()).getters;
+        FieldGetter getter = getters.get(field.getName());
+        if (getter == null) {
+            getter = new FieldGetter(field.getType(), unreflectGetter(field));
+            getters.putIfAbsent(field.getName(), getter);
+        }
+        return getter;
+    }
+
+    /**
+     * Returns handle of given constructor. Constructor is made accessible, so it must not be shared.
+     */
+    private static MethodHandle unreflectConstructor(Constructor<?> constructor) {
+        try {
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (Exception e) {
+            throw new ClassMappingException("Class cannot be instantiated.", e);
+        }
+    }
+
+    /**
+     * Returns setter handle of given field. Field's private copy is made accessible, so given field is left untouched.
+     */
+    private static MethodHandle unreflectSetter(Field field) {
+        try {
+            final Field copy = field.getDeclaringClass().getDeclaredField(field.getName());
+            copy.setAccessible(true);
+            return MethodHandles.lookup().unreflectSetter(copy);
+        } catch (Exception e) {
+            throw assignmentFailure(field, e);
+        }
+    }
+
+    /**
+     * Returns getter handle of given instance field. Field's private copy is made accessible, so given field is left untouched.
+     */
+    private static MethodHandle unreflectGetter(Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            throw readFailure(field, null);
+        }
+        try {
+            final Field copy = field.getDeclaringClass().getDeclaredField(field.getName());
+            copy.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(copy);
+        } catch (Exception e) {
+            throw readFailure(field, e);
+        }
+    }
+
+    private static ClassMappingException readFailure(Field field, Throwable cause) {
+        final String msg = String.format("Unable to get value of field %s.", field.getName());
+        return new ClassMappingException(msg, cause);
+    }
+
+    private static ClassMappingException assignmentFailure(Field field, Throwable cause) {
+        final String msg = String.format("Unable to set value for field %s.", field.getName());
+        return new ClassMappingException(msg, cause);
+    }
+
+    /**
+     * Handles resolved for a single class. Handles are resolved lazily, concurrent resolution
+     * of the same handle is harmless, as every thread resolves an equivalent one.
+     */
+    private static final class ClassHandles {
+
+        private final ConcurrentMap<String, FieldSetter> setters = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<String, FieldGetter> getters = new ConcurrentHashMap<>();
+
+        private volatile MethodHandle defaultConstructor;
+
+        private volatile MethodHandle annotatedConstructor;
+
+    }
+
+    /**
+     * Setter handles of a single field
+     */
+    private static final class FieldSetter {
+
+        /**
+         * Declared type of field
+         */
+        private final Class<?> type;
+
+        /**
+         * Setter accepting boxed values, of {@link #SETTER_TYPE} type
+         */
+        private final MethodHandle generic;
+
+        /**
+         * Setter accepting values of field's declared type
+         */
+        private final MethodHandle exact;
+
+        private FieldSetter(Class<?> type, MethodHandle setter) {
+            this.type = type;
+            this.generic = setter.asType(SETTER_TYPE);
+            this.exact = setter.asType(MethodType.methodType(void.class, Object.class, type));
+        }
+
+    }
+
+    /**
+     * Getter handles of a single field
+     */
+    private static final class FieldGetter {
+
+        /**
+         * Declared type of field
+         */
+        private final Class<?> type;
+
+        /**
+         * Getter returning boxed values, of {@link #GETTER_TYPE} type
+         */
+        private final MethodHandle generic;
+
+        /**
+         * Getter returning values of field's declared type
+         */
+        private final MethodHandle exact;
+
+        private FieldGetter(Class<?> type, MethodHandle getter) {
+            this.type = type;
+            this.generic = getter.asType(GETTER_TYPE);
+            this.exact = getter.asType(MethodType.methodType(type, Object.class));
+        }
+
+    }
+
+}
@@ -0,0 +1,251 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.annotations.ByteMapperConstructor;
+import eu.trisquare.bytemapper.annotations.Value;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.List;
+
+public interface POJOAccessor {
+
+    /**
+     * Checks if given class has exactly one public constructor annotated with {@link ByteMapperConstructor}
+     *
+     * @param clazz to check for presence of annotated constructor
+     * @return true if exactly one public, annotated constructor is present, false if no public annotated constructor is found
+     */
+    boolean hasAnnotatedConstructor(Class<?> clazz);
+
+    /**
+     * Returns new instance of given class using constructor annotated with {@link ByteMapperConstructor}
+     *
+     * @param clazz     class to instantiate
+     * @param arguments passed to constructor as parameters
+     * @param <T>       type of instantiated class
+     * @return new instance of given class
+     */
+    <T> T getInstanceUsingAnnotatedConstructor(Class<T> clazz, List<Object> arguments);
+
+    /**
+     * Returns list of parameters of constructor annotated with {@link ByteMapperConstructor}
+     *
+     * @param clazz with annotated constructor
+     * @return list of annotated constructor parameters
+     */
+    List<Parameter> getAnnotatedConstructorParams(Class<?> clazz);
+
+    /**
+     * Returns new instance of given class using default (non-parametrized) constructor1
+     *
+     * @param clazz class to instantiate
+     * @param <T>   type of instantiated class
+     * @return new instance of given class
+     */
+    <T> T getInstanceUsingDefaultConstructor(Class<T> clazz);
+
+    /**
+     * Returns list of class fields annotated with {@link Value}
+     *
+     * @param clazz to look into for annotated fields
+     * @return list of annotated fiels
+     */
+    List<Field> getValueAnnotatedFields(Class<?> clazz);
+
+    /**
+     * Sets value into instance's field
+     *
+     * @param field    to assign value with
+     * @param instance that contains given field
+     * @param value    to assign
+     */
+    void assignValue(Field field, Object instance, Object value);
+
+    /**
+     * Sets boolean value into instance's field. Default implementation boxes value and delegates to
+     * {@link #assignValue(Field, Object, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to assign value with
+     * @param instance that contains given field
+     * @param value    to assign
+     */
+    default void assignBoolean(Field field, Object instance, boolean value) {
+        assignValue(field, instance, value);
+    }
+
+    /**
+     * Sets byte value into instance's field. Default implementation boxes value and delegates to
+     * {@link #assignValue(Field, Object, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to assign value with
+     * @param instance that contains given field
+     * @param value    to assign
+     */
+    default void assignByte(Field field, Object instance, byte value) {
+        assignValue(field, instance, value);
+    }
+
+    /**
+     * Sets short value into instance's field. Default implementation boxes value and delegates to
+     * {@link #assignValue(Field, Object, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to assign value with
+     * @param instance that contains given field
+     * @param value    to assign
+     */
+    default void assignShort(Field field, Object instance, short value) {
+        assignValue(field, instance, value);
+    }
+
+    /**
+     * Sets int value into instance's field. Default implementation boxes value and delegates to
+     * {@link #assignValue(Field, Object, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to assign value with
+     * @param instance that contains given field
+     * @param value    to assign
+     */
+    default void assignInt(Field field, Object instance, int value) {
+        assignValue(field, instance, value);
+    }
+
+    /**
+     * Sets long value into instance's field. Default implementation boxes value and delegates to
+     * {@link #assignValue(Field, Object, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to assign value with
+     * @param instance that contains given field
+     * @param value    to assign
+     */
+    default void assignLong(Field field, Object instance, long value) {
+        assignValue(field, instance, value);
+    }
+
+    /**
+     * Sets float value into instance's field. Default implementation boxes value and delegates to
+     * {@link #assignValue(Field, Object, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to assign value with
+     * @param instance that contains given field
+     * @param value    to assign
+     */
+    default void assignFloat(Field field, Object instance, float value) {
+        assignValue(field, instance, value);
+    }
+
+    /**
+     * Sets double value into instance's field. Default implementation boxes value and delegates to
+     * {@link #assignValue(Field, Object, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to assign value with
+     * @param instance that contains given field
+     * @param value    to assign
+     */
+    default void assignDouble(Field field, Object instance, double value) {
+        assignValue(field, instance, value);
+    }
+
+    /**
+     * Returns value of instance's field. Default implementation reads value using reflection, on field's
+     * private copy made accessible, so given field is left untouched.
+     *
+     * @param field    to get value of
+     * @param instance that contains given field
+     * @return value of field, boxed if field is of primitive type
+     */
+    default Object getValue(Field field, Object instance) {
+        try {
+            final Field copy = field.getDeclaringClass().getDeclaredField(field.getName());
+            copy.setAccessible(true);
+            return copy.get(instance);
+        } catch (Exception e) {
+            final String msg = String.format("Unable to get value of field %s.", field.getName());
+            throw new ClassMappingException(msg, e);
+        }
+    }
+
+    /**
+     * Returns boolean value of instance's field. Default implementation unboxes value returned by
+     * {@link #getValue(Field, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to get value of
+     * @param instance that contains given field
+     * @return value of field
+     */
+    default boolean getBoolean(Field field, Object instance) {
+        return (Boolean) getValue(field, instance);
+    }
+
+    /**
+     * Returns byte value of instance's field. Default implementation unboxes value returned by
+     * {@link #getValue(Field, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to get value of
+     * @param instance that contains given field
+     * @return value of field
+     */
+    default byte getByte(Field field, Object instance) {
+        return ((Number) getValue(field, instance)).byteValue();
+    }
+
+    /**
+     * Returns short value of instance's field. Default implementation unboxes value returned by
+     * {@link #getValue(Field, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to get value of
+     * @param instance that contains given field
+     * @return value of field
+     */
+    default short getShort(Field field, Object instance) {
+        return ((Number) getValue(field, instance)).shortValue();
+    }
+
+    /**
+     * Returns int value of instance's field. Default implementation unboxes value returned by
+     * {@link #getValue(Field, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to get value of
+     * @param instance that contains given field
+     * @return value of field
+     */
+    default int getInt(Field field, Object instance) {
+        return ((Number) getValue(field, instance)).intValue();
+    }
+
+    /**
+     * Returns long value of instance's field. Default implementation unboxes value returned by
+     * {@link #getValue(Field, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to get value of
+     * @param instance that contains given field
+     * @return value of field
+     */
+    default long getLong(Field field, Object instance) {
+        return ((Number) getValue(field, instance)).longValue();
+    }
+
+    /**
+     * Returns float value of instance's field. Default implementation unboxes value returned by
+     * {@link #getValue(Field, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to get value of
+     * @param instance that contains given field
+     * @return value of field
+     */
+    default float getFloat(Field field, Object instance) {
+        return ((Number) getValue(field, instance)).floatValue();
+    }
+
+    /**
+     * Returns double value of instance's field. Default implementation unboxes value returned by
+     * {@link #getValue(Field, Object)}, implementations may override it to avoid boxing.
+     *
+     * @param field    to get value of
+     * @param instance that contains given field
+     * @return value of field
+     */
+    default double getDouble(Field field, Object instance) {
+        return ((Number) getValue(field, instance)).doubleValue();
+    }
+
+}
@@ -0,0 +1,97 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import java.nio.ByteBuffer;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator mapping back-to-back records of fixed size. Splits are made on record boundaries,
+ * by halving range of remaining records, so each split is sized exactly. All splits share single
+ * buffer, which is safe as records are read using absolute indexes only.
+ */
+class RecordSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * Mapper used to map each record
+     */
+    private final ClassMapper<T> classMapper;
+
+    /**
+     * Buffer containing records
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Index of first byte of record with index 0
+     */
+    private final int offset;
+
+    /**
+     * Number of bytes of each record
+     */
+    private final int recordSize;
+
+    /**
+     * Exclusive index of last record covered by this spliterator
+     */
+    private final int end;
+
+    /**
+     * Index of next record to map
+     */
+    private int index;
+
+    /**
+     * Creates spliterator covering records with indexes from {@code index} inclusive to {@code end} exclusive
+     */
+    RecordSpliterator(ClassMapper<T> classMapper, ByteBuffer buffer, int offset, int recordSize, int index, int end) {
+        this.classMapper = classMapper;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.recordSize = recordSize;
+        this.index = index;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index >= end) {
+            return false;
+        }
+        final int recordOffset = offset + index * recordSize;
+        index++;
+        classMapper.mapAll(buffer, recordOffset, recordSize, 1, action);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        final int first = index;
+        if (first < end) {
+            index = end;
+            classMapper.mapAll(buffer, offset + first * recordSize, recordSize, end - first, action);
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final int first = index;
+        final int middle = (first + end) >>> 1;
+        if (first >= middle) {
+            return null;
+        }
+        index = middle;
+        return new RecordSpliterator<>(classMapper, buffer, offset, recordSize, first, middle);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+
+}
@@ -0,0 +1,107 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Single, pre-resolved step of a {@link MappingPlan}: produces value for one annotated field
+ * or constructor parameter.
+ */
+abstract class Slot {
+
+    /**
+     * Declared type of field or parameter assigned with slot's value
+     */
+    private final Class<?> type;
+
+    Slot(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns declared type of field or parameter assigned with slot's value
+     */
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Reads value of this slot from given buffer
+     *
+     * @param buffer used as a data source
+     * @param offset index of mapped record's first byte
+     * @param limit  exclusive index of mapped record's last byte within buffer, which slots of size read
+     *               from the record must not exceed
+     * @return mapped value
+     */
+    abstract Object read(ByteBuffer buffer, int offset, int limit);
+
+    /**
+     * Reads value of this slot located at given position, resolved by {@link DynamicLayout}
+     *
+     * @param buffer    used as a data source
+     * @param startByte index of slot's first byte within buffer
+     * @param size      number of slot's bytes
+     * @return mapped value
+     */
+    abstract Object readAt(ByteBuffer buffer, int startByte, int size);
+
+    /**
+     * Reads value of this slot from given buffer and assigns it to instance's field
+     *
+     * @param pojoAccessor used to assign value
+     * @param field        assigned with slot's value
+     * @param instance     that contains given field
+     * @param buffer       used as a data source
+     * @param offset       index of mapped record's first byte
+     * @param limit        exclusive index of mapped record's last byte within buffer
+     */
+    void assign(POJOAccessor pojoAccessor, Field field, Object instance, ByteBuffer buffer, int offset, int limit) {
+        pojoAccessor.assignValue(field, instance, read(buffer, offset, limit));
+    }
+
+    /**
+     * Reads value of this slot located at given position, resolved by {@link DynamicLayout}, and assigns it
+     * to instance's field
+     *
+     * @param pojoAccessor used to assign value
+     * @param field        assigned with slot's value
+     * @param instance     that contains given field
+     * @param buffer       used as a data source
+     * @param startByte    index of slot's first byte within buffer
+     * @param size         number of slot's bytes
+     */
+    void assignAt(POJOAccessor pojoAccessor, Field field, Object instance, ByteBuffer buffer, int startByte, int size) {
+        pojoAccessor.assignValue(field, instance, readAt(buffer, startByte, size));
+    }
+
+    /**
+     * Returns index of slot's first byte, relative to record's first byte or to the end of field
+     * returned by {@link #getAfter()}
+     */
+    abstract int getStartByte();
+
+    /**
+     * Returns name of field or parameter after which slot starts, or empty string if it starts at constant index
+     */
+    abstract String getAfter();
+
+    /**
+     * Returns number of slot's bytes, if it is constant
+     */
+    abstract int getLength();
+
+    /**
+     * Returns name of field or parameter holding number of slot's length units, or empty string if
+     * slot's length is constant
+     */
+    abstract String getLengthField();
+
+    /**
+     * Returns number of bytes of each unit of length read from {@link #getLengthField()}
+     */
+    int getLengthUnit() {
+        return 1;
+    }
+
+}
@@ -0,0 +1,91 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.FieldPatcher;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Patcher writing values using {@link ValueWriteSlot} of patched field
+ */
+class SlotFieldPatcher implements FieldPatcher {
+
+    /**
+     * Slot of patched field
+     */
+    private final ValueWriteSlot slot;
+
+    /**
+     * Index of slot's record first byte, relative to patched record, non-zero for fields of inner structures
+     */
+    private final int slotOffset;
+
+    /**
+     * Exclusive index of field's last byte, relative to patched record
+     */
+    private final int endByte;
+
+    SlotFieldPatcher(ValueWriteSlot slot, int slotOffset) {
+        this.slot = slot;
+        this.slotOffset = slotOffset;
+        this.endByte = slotOffset + slot.getEndByte();
+    }
+
+    @Override
+    public int getEndByte() {
+        return endByte;
+    }
+
+    @Override
+    public void putValue(ByteBuffer buffer, int offset, Object value) {
+        slot.writeValue(buffer, getSlotOffset(buffer, offset), value);
+    }
+
+    @Override
+    public void putBoolean(ByteBuffer buffer, int offset, boolean value) {
+        slot.writeBoolean(buffer, getSlotOffset(buffer, offset), value);
+    }
+
+    @Override
+    public void putByte(ByteBuffer buffer, int offset, byte value) {
+        slot.writeByte(buffer, getSlotOffset(buffer, offset), value);
+    }
+
+    @Override
+    public void putShort(ByteBuffer buffer, int offset, short value) {
+        slot.writeShort(buffer, getSlotOffset(buffer, offset), value);
+    }
+
+    @Override
+    public void putInt(ByteBuffer buffer, int offset, int value) {
+        slot.writeInt(buffer, getSlotOffset(buffer, offset), value);
+    }
+
+    @Override
+    public void putLong(ByteBuffer buffer, int offset, long value) {
+        slot.writeLong(buffer, getSlotOffset(buffer, offset), value);
+    }
+
+    @Override
+    public void putFloat(ByteBuffer buffer, int offset, float value) {
+        slot.writeFloat(buffer, getSlotOffset(buffer, offset), value);
+    }
+
+    @Override
+    public void putDouble(ByteBuffer buffer, int offset, double value) {
+        slot.writeDouble(buffer, getSlotOffset(buffer, offset), value);
+    }
+
+    /**
+     * Validates bounds of patched field and returns offset of slot's record
+     */
+    private int getSlotOffset(ByteBuffer buffer, int offset) {
+        BufferBounds.checkOffset(offset);
+        final int bufferLimit = buffer.limit() - offset;
+        if (bufferLimit < endByte) {
+            BufferBounds.checkBufferLimit(bufferLimit);
+            BufferBounds.checkEndByte(endByte, bufferLimit);
+        }
+        return offset + slotOffset;
+    }
+
+}
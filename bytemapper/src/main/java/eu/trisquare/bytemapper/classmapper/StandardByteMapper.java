@@ -0,0 +1,357 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.Flyweight;
+import eu.trisquare.bytemapper.Lazy;
+import eu.trisquare.bytemapper.annotations.Discriminator;
+import eu.trisquare.bytemapper.annotations.Structure;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.fieldmapper.BitFieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapperProvider;
+import eu.trisquare.bytemapper.fieldmapper.InternCache;
+import eu.trisquare.bytemapper.fieldmapper.StandardFieldMapperProvider;
+import eu.trisquare.bytemapper.fieldmapper.StandardStructureMapperProvider;
+import eu.trisquare.bytemapper.fieldmapper.StructureMapper;
+import eu.trisquare.bytemapper.fieldmapper.StructureMapperProvider;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * Default ByteMapper implementation
+ */
+public class StandardByteMapper implements ByteMapper {
+
+    /**
+     * Field mapper provider instance
+     */
+    private final FieldMapperProvider fieldMapperProvider;
+
+    /**
+     * Structure mapper provider instance
+     */
+    private final StructureMapperProvider structureMapperProvider;
+
+
+    /**
+     * POJOAccessor instance
+     */
+    private final POJOAccessor pojoAccessor;
+
+    /**
+     * Engine used to create class mappers
+     */
+    private final MappingEngine mappingEngine;
+
+    /**
+     * True if mappers generated at compile time should be used when available
+     */
+    private final boolean useCompileTimeMappers;
+
+    /**
+     * Class mappers, computed once per mapped class. {@link ClassValue} is used, so mappers
+     * do not prevent mapped classes from being unloaded.
+     */
+    private final ClassValue<ClassMapper<?>> classMappers = new ClassValue<ClassMapper<?>>() {
+        @Override
+        protected ClassMapper<?> computeValue(Class<?> type) {
+            return createClassMapper(type);
+        }
+    };
+
+    /**
+     * Factories of generated flyweights, computed once per flyweight interface
+     */
+    private final ClassValue<FlyweightFactory<?>> flyweightFactories = new ClassValue<FlyweightFactory<?>>() {
+        @Override
+        protected FlyweightFactory<?> computeValue(Class<?> type) {
+            return createFlyweightFactory(type);
+        }
+    };
+
+    public StandardByteMapper(
+            FieldMapperProvider fieldMapperProvider,
+            StructureMapperProvider structureMapperProvider,
+            POJOAccessor pojoAccessor
+    ) {
+        this(fieldMapperProvider, structureMapperProvider, pojoAccessor, MappingEngine.REFLECTION);
+    }
+
+    /**
+     * Creates mapper using mappers generated at compile time only if given providers and accessor are
+     * the standard ones, as generated mappers always use standard conversions and assign fields directly
+     */
+    public StandardByteMapper(
+            FieldMapperProvider fieldMapperProvider,
+            StructureMapperProvider structureMapperProvider,
+            POJOAccessor pojoAccessor,
+            MappingEngine mappingEngine
+    ) {
+        this(fieldMapperProvider, structureMapperProvider, pojoAccessor, mappingEngine,
+                isStandardConfiguration(fieldMapperProvider, structureMapperProvider, pojoAccessor));
+    }
+
+    /**
+     * Creates mapper which uses mappers generated at compile time, if requested, regardless of given
+     * providers and accessor
+     */
+    public StandardByteMapper(
+            FieldMapperProvider fieldMapperProvider,
+            StructureMapperProvider structureMapperProvider,
+            POJOAccessor pojoAccessor,
+            MappingEngine mappingEngine,
+            boolean useCompileTimeMappers
+    ) {
+        this.fieldMapperProvider = fieldMapperProvider;
+        this.structureMapperProvider = structureMapperProvider;
+        this.pojoAccessor = pojoAccessor;
+        this.mappingEngine = mappingEngine;
+        this.useCompileTimeMappers = useCompileTimeMappers;
+        if (mappingEngine == MappingEngine.BYTECODE_GENERATION) {
+            BytecodeSupport.checkAvailable("Bytecode generation engine");
+        }
+    }
+
+    @Override
+    public <T> T mapValues(Class<T> clazz, ByteBuffer byteBuffer) {
+        @SuppressWarnings("unchecked") //safe, mapper is always computed for given class
+        final ClassMapper<T> classMapper = (ClassMapper<T>) classMappers.get(clazz);
+        return classMapper.map(byteBuffer);
+    }
+
+    @Override
+    public <T> T mapValues(Class<T> clazz, ByteBuffer byteBuffer, int offset) {
+        @SuppressWarnings("unchecked") //safe, mapper is always computed for given class
+        final ClassMapper<T> classMapper = (ClassMapper<T>) classMappers.get(clazz);
+        return classMapper.map(byteBuffer, offset);
+    }
+
+    @Override
+    public <T> T mapInto(T target, ByteBuffer byteBuffer) {
+        @SuppressWarnings("unchecked") //safe, mapper is always computed for target's class
+        final ClassMapper<T> classMapper = (ClassMapper<T>) classMappers.get(target.getClass());
+        return classMapper.mapInto(target, byteBuffer);
+    }
+
+    @Override
+    public <T> T[] mapAll(Class<T> clazz, ByteBuffer byteBuffer, int recordSize) {
+        return mapAll(clazz, byteBuffer, 0, recordSize, BufferBounds.getRecordsCount(byteBuffer.limit(), recordSize));
+    }
+
+    @Override
+    public <T> T[] mapAll(Class<T> clazz, ByteBuffer byteBuffer, int offset, int recordSize, int count) {
+        BufferBounds.checkRecords(byteBuffer.limit(), offset, recordSize, count);
+        @SuppressWarnings("unchecked") //safe, array is created for given class
+        final T[] records = (T[]) Array.newInstance(clazz, count);
+        final ArrayFiller<T> filler = new ArrayFiller<>(records);
+        mapAll(clazz, byteBuffer, offset, recordSize, count, filler);
+        return records;
+    }
+
+    @Override
+    public <T> void mapAll(Class<T> clazz, ByteBuffer byteBuffer, int offset, int recordSize, int count, Consumer<? super T> consumer) {
+        @SuppressWarnings("unchecked") //safe, mapper is always computed for given class
+        final ClassMapper<T> classMapper = (ClassMapper<T>) classMappers.get(clazz);
+        classMapper.mapAll(byteBuffer, offset, recordSize, count, consumer);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> clazz, ByteBuffer byteBuffer, int recordSize) {
+        return stream(clazz, byteBuffer, 0, recordSize, BufferBounds.getRecordsCount(byteBuffer.limit(), recordSize));
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> clazz, ByteBuffer byteBuffer, int offset, int recordSize, int count) {
+        BufferBounds.checkRecords(byteBuffer.limit(), offset, recordSize, count);
+        @SuppressWarnings("unchecked") //safe, mapper is always computed for given class
+        final ClassMapper<T> classMapper = (ClassMapper<T>) classMappers.get(clazz);
+        final RecordSpliterator<T> spliterator = new RecordSpliterator<>(
+                classMapper, byteBuffer.duplicate(), offset, recordSize, 0, count
+        );
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    @Override
+    public <T extends Flyweight> T flyweight(Class<T> clazz) {
+        @SuppressWarnings("unchecked") //safe, factory is always computed for given interface
+        final FlyweightFactory<T> factory = (FlyweightFactory<T>) flyweightFactories.get(clazz);
+        return factory.create();
+    }
+
+    @Override
+    public Map<String, InternCache<?>> getInternCaches(Class<?> clazz) {
+        return classMappers.get(clazz).getInternCaches();
+    }
+
+    /**
+     * Returns true if given providers and accessor are instances of the standard implementations, so classes
+     * are mapped the same way by mappers generated at compile time
+     */
+    private static boolean isStandardConfiguration(
+            FieldMapperProvider fieldMapperProvider,
+            StructureMapperProvider structureMapperProvider,
+            POJOAccessor pojoAccessor
+    ) {
+        return fieldMapperProvider.getClass() == StandardFieldMapperProvider.class
+                && structureMapperProvider.getClass() == StandardStructureMapperProvider.class
+                && (pojoAccessor.getClass() == MethodHandlePOJOAccessor.class || pojoAccessor.getClass() == StandardPOJOAccessor.class);
+    }
+
+    /**
+     * Creates mapper for given class. Classes annotated with {@link Discriminator} are dispatched to mappers
+     * of their subclasses. Otherwise, mapper generated at compile time is preferred, if available, and selected
+     * mapping engine is used as a fallback.
+     */
+    private <T> ClassMapper<T> createClassMapper(Class<T> clazz) {
+        final Discriminator discriminator = clazz.getAnnotation(Discriminator.class);
+        if (discriminator != null) {
+            return DiscriminatedMapper.create(clazz, discriminator, classMappers::get);
+        }
+        if (useCompileTimeMappers) {
+            final ClassMapper<T> compileTimeMapper = CompileTimeMapperLocator.find(clazz);
+            if (compileTimeMapper != null) {
+                return compileTimeMapper;
+            }
+        }
+        final MappingPlan<T> plan = createPlan(clazz);
+        if (mappingEngine == MappingEngine.BYTECODE_GENERATION) {
+            return ClassMapperGenerator.generate(plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Generates flyweight of given interface, which must extend {@link Flyweight}
+     */
+    private FlyweightFactory<?> createFlyweightFactory(Class<?> type) {
+        if (!Flyweight.class.isAssignableFrom(type)) {
+            final String message = String.format(
+                    "Flyweight %s must be a public interface extending Flyweight.",
+                    type.getSimpleName()
+            );
+            throw new ClassMappingException(message);
+        }
+        BytecodeSupport.checkAvailable("Flyweight generation");
+        return FlyweightGenerator.generate(type.asSubclass(Flyweight.class), fieldMapperProvider, flyweightFactories::get);
+    }
+
+    /**
+     * Creates mapping plan for given class, resolving its annotated constructor or fields
+     * and mappers for each of them.
+     */
+    private <T> MappingPlan<T> createPlan(Class<T> clazz) {
+        if (pojoAccessor.hasAnnotatedConstructor(clazz)) {
+            final List<String> names = new ArrayList<>();
+            final List<Slot> slots = new ArrayList<>();
+            for (Parameter parameter : pojoAccessor.getAnnotatedConstructorParams(clazz)) {
+                names.add(parameter.getName());
+                slots.add(createParameterSlot(parameter));
+            }
+            resolveCountSlots(names, slots);
+            return MappingPlan.forAnnotatedConstructor(clazz, pojoAccessor, names, slots);
+        }
+        final List<Field> annotatedFields = pojoAccessor.getValueAnnotatedFields(clazz);
+        final List<String> names = new ArrayList<>();
+        final List<Slot> slots = new ArrayList<>();
+        for (Field field : annotatedFields) {
+            names.add(field.getName());
+            slots.add(createFieldSlot(field));
+        }
+        resolveCountSlots(names, slots);
+        return MappingPlan.forAnnotatedFields(clazz, pojoAccessor, annotatedFields, slots);
+    }
+
+    private Slot createFieldSlot(Field field) {
+        final Class<?> fieldType = field.getType();
+        final Value valueAnnotation = field.getAnnotation(Value.class);
+        final Structure structureAnnotation = field.getAnnotation(Structure.class);
+        if (valueAnnotation != null && fieldType == Lazy.class) {
+            return createLazySlot(LazyValueSlot.getValueType(field.getGenericType(), field.getName()), valueAnnotation, field, field.getName());
+        } else if (valueAnnotation != null) {
+            return createSlot(fieldType, valueAnnotation, field, field.getName());
+        } else {
+            return createSlot(fieldType, field.getGenericType(), structureAnnotation, field, field.getName());
+        }
+    }
+
+    private Slot createParameterSlot(Parameter parameter) {
+        final Class<?> parameterType = parameter.getType();
+        final Value valueAnnotation = parameter.getDeclaredAnnotation(Value.class);
+        final Structure structureAnnotation = parameter.getDeclaredAnnotation(Structure.class);
+        if (valueAnnotation != null && parameterType == Lazy.class) {
+            return createLazySlot(LazyValueSlot.getValueType(parameter.getParameterizedType(), parameter.getName()), valueAnnotation, parameter, parameter.getName());
+        } else if (valueAnnotation != null) {
+            return createSlot(parameterType, valueAnnotation, parameter, parameter.getName());
+        } else if (structureAnnotation != null) {
+            return createSlot(parameterType, parameter.getParameterizedType(), structureAnnotation, parameter, parameter.getName());
+        } else {
+            throw new IllegalArgumentException("Not annotated parameter in annotated constructor.");
+        }
+    }
+
+    private Slot createSlot(Class<?> dataType, Type genericType, Structure structureAnnotation, AnnotatedElement element, String name) {
+        if (StructureArraySlot.isStructureArray(dataType)) {
+            final Class<?> elementType = StructureArraySlot.getElementType(dataType, genericType, name);
+            return new StructureArraySlot(dataType, elementType, classMappers::get, structureAnnotation, element, name);
+        }
+        StructureArraySlot.checkNotCounted(structureAnnotation, name);
+        final StructureMapper mapper = ValueCodecs.getStructureMapper(structureMapperProvider, dataType, element);
+        return new StructureSlot(dataType, mapper, structureAnnotation);
+    }
+
+    private Slot createLazySlot(Class<?> valueType, Value valueAnnotation, AnnotatedElement element, String name) {
+        return new LazyValueSlot(ValueCodecs.getMapper(fieldMapperProvider, valueType, element, name), valueAnnotation);
+    }
+
+    private Slot createSlot(Class<?> dataType, Value valueAnnotation, AnnotatedElement element, String name) {
+        final FieldMapper fieldMapper = ValueCodecs.getMapper(fieldMapperProvider, dataType, element, name);
+        if (fieldMapper instanceof BitFieldMapper) {
+            return new BitFieldSlot(dataType, (BitFieldMapper) fieldMapper, valueAnnotation);
+        }
+        return new ValueSlot(dataType, fieldMapper, valueAnnotation);
+    }
+
+    /**
+     * Links structure arrays with slots holding their number of elements
+     */
+    private static void resolveCountSlots(List<String> names, List<Slot> slots) {
+        for (Slot slot : slots) {
+            if (slot instanceof StructureArraySlot) {
+                ((StructureArraySlot) slot).resolveCountSlot(names, slots);
+            }
+        }
+    }
+
+    /**
+     * Stores consumed instances in consecutive elements of array
+     */
+    static final class ArrayFiller<T> implements Consumer<T> {
+
+        private final T[] array;
+
+        private int index;
+
+        ArrayFiller(T[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public void accept(T element) {
+            array[index++] = element;
+        }
+
+    }
+
+}
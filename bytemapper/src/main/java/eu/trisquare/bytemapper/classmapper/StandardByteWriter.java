@@ -0,0 +1,192 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.ByteWriter;
+import eu.trisquare.bytemapper.FieldPatcher;
+import eu.trisquare.bytemapper.Lazy;
+import eu.trisquare.bytemapper.annotations.Structure;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.fieldmapper.FieldWriter;
+import eu.trisquare.bytemapper.fieldmapper.FieldWriterProvider;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+
+/**
+ * Default ByteWriter implementation
+ */
+public class StandardByteWriter implements ByteWriter {
+
+    /**
+     * Field writer provider instance
+     */
+    private final FieldWriterProvider fieldWriterProvider;
+
+    /**
+     * POJOAccessor instance
+     */
+    private final POJOAccessor pojoAccessor;
+
+    /**
+     * Writing plans, computed once per written class. {@link ClassValue} is used, so plans
+     * do not prevent written classes from being unloaded.
+     */
+    private final ClassValue<WritingPlan<?>> writingPlans = new ClassValue<WritingPlan<?>>() {
+        @Override
+        protected WritingPlan<?> computeValue(Class<?> type) {
+            return createPlan(type);
+        }
+    };
+
+    public StandardByteWriter(FieldWriterProvider fieldWriterProvider, POJOAccessor pojoAccessor) {
+        this.fieldWriterProvider = fieldWriterProvider;
+        this.pojoAccessor = pojoAccessor;
+    }
+
+    @Override
+    public <T> void writeValues(T object, ByteBuffer byteBuffer) {
+        writeValues(object, byteBuffer, 0);
+    }
+
+    @Override
+    public <T> void writeValues(T object, ByteBuffer byteBuffer, int offset) {
+        @SuppressWarnings("unchecked") //safe, plan is always computed for object's class
+        final WritingPlan<T> plan = (WritingPlan<T>) writingPlans.get(object.getClass());
+        plan.write(object, byteBuffer, offset);
+    }
+
+    @Override
+    public <T> void writeAll(Class<T> clazz, T[] objects, ByteBuffer byteBuffer, int offset, int recordSize) {
+        getPlan(clazz).writeAll(objects, byteBuffer, offset, recordSize);
+    }
+
+    @Override
+    public <T> void writeAll(Class<T> clazz, Collection<? extends T> objects, ByteBuffer byteBuffer, int offset, int recordSize) {
+        getPlan(clazz).writeAll(objects, byteBuffer, offset, recordSize);
+    }
+
+    @Override
+    public FieldPatcher getPatcher(Class<?> clazz, String fieldPath) {
+        final String[] names = fieldPath.split("\\.", -1);
+        Class<?> structureClass = clazz;
+        int slotOffset = 0;
+        int structureSize = -1;
+        for (int i = 0; i < names.length - 1; i++) {
+            final Field field = getAnnotatedField(structureClass, names[i]);
+            final Structure structureAnnotation = field.getAnnotation(Structure.class);
+            if (structureAnnotation == null) {
+                final String message = String.format(
+                        "Field %s of %s is not annotated with @Structure.",
+                        field.getName(), structureClass.getSimpleName()
+                );
+                throw new ClassMappingException(message);
+            }
+            slotOffset += structureAnnotation.startByte();
+            structureSize = structureAnnotation.size();
+            structureClass = field.getType();
+        }
+        final Field field = getAnnotatedField(structureClass, names[names.length - 1]);
+        final WriteSlot slot = createSlot(field);
+        if (!(slot instanceof ValueWriteSlot)) {
+            final String message = String.format(
+                    "Field %s of %s is not annotated with @Value.",
+                    field.getName(), structureClass.getSimpleName()
+            );
+            throw new ClassMappingException(message);
+        }
+        if (structureSize >= 0) {
+            //same validation as performed when whole structure is written
+            BufferBounds.checkEndByte(slot.getEndByte(), structureSize);
+        }
+        return new SlotFieldPatcher((ValueWriteSlot) slot, slotOffset);
+    }
+
+    private <T> WritingPlan<T> getPlan(Class<T> clazz) {
+        @SuppressWarnings("unchecked") //safe, plan is always computed for given class
+        final WritingPlan<T> plan = (WritingPlan<T>) writingPlans.get(clazz);
+        return plan;
+    }
+
+    /**
+     * Creates writing plan for given class, resolving its annotated fields and writers for each of them.
+     */
+    private WritingPlan<?> createPlan(Class<?> clazz) {
+        if (pojoAccessor.hasAnnotatedConstructor(clazz)) {
+            final String message = String.format(
+                    "Unable to write instance of %s. Only classes with annotated fields may be written.",
+                    clazz.getSimpleName()
+            );
+            throw new ClassMappingException(message);
+        }
+        final List<WriteSlot> slots = new ArrayList<>();
+        for (Field field : pojoAccessor.getValueAnnotatedFields(clazz)) {
+            slots.add(createSlot(field));
+        }
+        return new WritingPlan<>(pojoAccessor, slots);
+    }
+
+    /**
+     * Returns annotated field of given name, throws if class has no such field
+     */
+    private Field getAnnotatedField(Class<?> clazz, String name) {
+        for (Field field : pojoAccessor.getValueAnnotatedFields(clazz)) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        final String message = String.format(
+                "Unable to find annotated field %s in %s.",
+                name, clazz.getSimpleName()
+        );
+        throw new ClassMappingException(message);
+    }
+
+    private WriteSlot createSlot(Field field) {
+        final Value valueAnnotation = field.getAnnotation(Value.class);
+        final Structure structureAnnotation = field.getAnnotation(Structure.class);
+        if (valueAnnotation != null ? !valueAnnotation.after().isEmpty() || !valueAnnotation.lengthField().isEmpty()
+                : !structureAnnotation.after().isEmpty()) {
+            final String message = String.format(
+                    "Unable to write field %s, as its position or size is read from mapped data.",
+                    field.getName()
+            );
+            throw new ClassMappingException(message);
+        }
+        if (valueAnnotation != null) {
+            final Class<?> valueType = field.getType() == Lazy.class
+                    ? LazyValueSlot.getValueType(field.getGenericType(), field.getName())
+                    : field.getType();
+            final FieldWriter fieldWriter = ValueCodecs.getWriter(fieldWriterProvider, valueType, field, field.getName());
+            return new ValueWriteSlot(field, fieldWriter, valueAnnotation);
+        }
+        if (StructureArraySlot.isStructureArray(field.getType())) {
+            final Class<?> elementType = StructureArraySlot.getElementType(field.getType(), field.getGenericType(), field.getName());
+            final Field countField = getCountField(field, structureAnnotation.countField());
+            return new StructureArrayWriteSlot(field, elementType, writingPlans::get, structureAnnotation, countField);
+        }
+        return new StructureWriteSlot(field, writingPlans::get, structureAnnotation);
+    }
+
+    /**
+     * Returns field holding number of elements of given structure array, or null if number of elements is fixed.
+     * Throws if it is not an int, short or byte value, same as when structure array is mapped.
+     */
+    private Field getCountField(Field field, String countFieldName) {
+        if (countFieldName.isEmpty()) {
+            return null;
+        }
+        final Field countField = getAnnotatedField(field.getDeclaringClass(), countFieldName);
+        if (countField.getAnnotation(Value.class) == null || !ValueSlot.isCountType(countField.getType())) {
+            final String message = String.format(
+                    "Count field %s of structure array %s must be an int, short or byte value.",
+                    countFieldName, field.getName()
+            );
+            throw new ClassMappingException(message);
+        }
+        return countField;
+    }
+
+}
@@ -51,23 +51,30 @@ public class StandardPOJOAccessor implements POJOAccessor {
      */
     @Override
     public void assignValue(Field field, Object instance, Object value) {
-        if (Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
-            final String message = String.format(
-                    "Unable to set value for field: %s. Mapped field must not be static nor final.",
-                    field.getName()
-            );
-            throw new ClassMappingException(message);
-        }
+        checkMappedField(field);
         try {
             field.setAccessible(true);
             field.set(instance, value);
-            field.setAccessible(false);
         } catch (Exception e) {
             final String msg = String.format("Unable to set value for field %s.", field.getName());
             throw new ClassMappingException(msg, e);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getValue(Field field, Object instance) {
+        try {
+            field.setAccessible(true);
+            return field.get(instance);
+        } catch (Exception e) {
+            final String msg = String.format("Unable to get value of field %s.", field.getName());
+            throw new ClassMappingException(msg, e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -101,7 +108,23 @@ public class StandardPOJOAccessor implements POJOAccessor {
                 .collect(Collectors.toList());
     }
 
-    private <T> Constructor<T> getAnnotatedConstructor(Class<T> objectClass) {
+    /**
+     * Checks if value may be assigned to given field
+     */
+    static void checkMappedField(Field field) {
+        if (Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+            final String message = String.format(
+                    "Unable to set value for field: %s. Mapped field must not be static nor final.",
+                    field.getName()
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+    /**
+     * Returns constructor annotated with {@link ByteMapperConstructor}
+     */
+    <T> Constructor<T> getAnnotatedConstructor(Class<T> objectClass) {
         final List<Constructor<?>> annotatedConstructors = Arrays
                 .stream(objectClass.getDeclaredConstructors())
                 .filter(constructor -> constructor.isAnnotationPresent(ByteMapperConstructor.class))
@@ -117,7 +140,7 @@ public class StandardPOJOAccessor implements POJOAccessor {
     /**
      * Returns default constructor of given class
      */
-    private <T> Constructor<T> getDefaultConstructor(Class<T> clazz) {
+    <T> Constructor<T> getDefaultConstructor(Class<T> clazz) {
         if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
             final String message = String.format(
                     "Provided class must not be interface nor abstract class: %s",
@@ -143,7 +166,6 @@ public class StandardPOJOAccessor implements POJOAccessor {
         try {
             constructor.setAccessible(true);
             instance = constructor.newInstance(args);
-            constructor.setAccessible(false);
         } catch (Exception e) {
             throw new ClassMappingException("Class cannot be instantiated.", e);
         }
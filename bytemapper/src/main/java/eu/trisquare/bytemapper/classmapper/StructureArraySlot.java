@@ -0,0 +1,264 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.annotations.Interned;
+import eu.trisquare.bytemapper.annotations.Structure;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Slot mapping {@link Structure} annotated array or List: back-to-back elements of fixed size, each of them
+ * mapped by class mapper of element type. Elements are mapped directly from source buffer, without slicing it.
+ */
+class StructureArraySlot extends Slot {
+
+    /**
+     * Type of array elements
+     */
+    private final Class<?> elementType;
+
+    /**
+     * Returns class mapper of given element type. Mapper is resolved on each read, so mappers
+     * of classes containing each other are not resolved recursively.
+     */
+    private final Function<Class<?>, ClassMapper<?>> mapperProvider;
+
+    /**
+     * Name of annotated field or parameter
+     */
+    private final String name;
+
+    /**
+     * Zero-inclusive index of first element's first byte
+     */
+    private final int startByte;
+
+    /**
+     * Number of bytes of each element
+     */
+    private final int size;
+
+    /**
+     * Fixed number of elements, used if there is no count slot
+     */
+    private final int count;
+
+    /**
+     * Name of field holding number of elements, empty if number of elements is fixed
+     */
+    private final String countField;
+
+    /**
+     * Name of field after which first element starts, empty if it starts at constant index
+     */
+    private final String after;
+
+    /**
+     * Slot holding number of elements, resolved once all slots of the plan are created
+     */
+    private ValueSlot countSlot;
+
+    StructureArraySlot(Class<?> type, Class<?> elementType, Function<Class<?>, ClassMapper<?>> mapperProvider,
+                       Structure structureAnnotation, AnnotatedElement element, String name) {
+        super(type);
+        this.elementType = elementType;
+        this.mapperProvider = mapperProvider;
+        this.name = name;
+        this.startByte = structureAnnotation.startByte();
+        this.size = structureAnnotation.size();
+        this.count = structureAnnotation.count();
+        this.countField = structureAnnotation.countField();
+        this.after = structureAnnotation.after();
+        checkDeclaration(element);
+    }
+
+    /**
+     * Returns true if given type of {@link Structure} annotated element is mapped as structure array
+     */
+    static boolean isStructureArray(Class<?> type) {
+        return type.isArray() || type == List.class;
+    }
+
+    /**
+     * Returns element type of given array or {@code List<T>} type, throws if it is not declared
+     *
+     * @param type        of annotated field or parameter
+     * @param genericType of annotated field or parameter
+     * @param name        of annotated field or parameter
+     * @return type of structure array's elements
+     */
+    static Class<?> getElementType(Class<?> type, Type genericType, String name) {
+        if (type.isArray()) {
+            return type.getComponentType();
+        }
+        if (genericType instanceof ParameterizedType) {
+            final Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (elementType instanceof Class) {
+                return (Class<?>) elementType;
+            }
+        }
+        final String message = String.format(
+                "Structure array %s must declare its element type, i.e. List<Item>.",
+                name
+        );
+        throw new ClassMappingException(message);
+    }
+
+    /**
+     * Checks if {@link Structure} annotation declares neither count nor count field. Used
+     * for structures which are not mapped as structure arrays.
+     *
+     * @param structureAnnotation of structure
+     * @param name                of annotated field or parameter
+     */
+    static void checkNotCounted(Structure structureAnnotation, String name) {
+        if (structureAnnotation.count() != 0 || !structureAnnotation.countField().isEmpty()) {
+            final String message = String.format(
+                    "Only structure arrays may declare count, but %s is neither an array nor a List.",
+                    name
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+    /**
+     * Resolves slot holding number of elements among all slots of the plan, if number of elements is not fixed
+     *
+     * @param names of fields or parameters, in order of slots
+     * @param slots of the plan
+     */
+    void resolveCountSlot(List<String> names, List<Slot> slots) {
+        if (countField.isEmpty()) {
+            return;
+        }
+        final int countIdx = names.indexOf(countField);
+        if (countIdx < 0) {
+            final String message = String.format(
+                    "Unable to find count field %s of structure array %s.",
+                    countField, name
+            );
+            throw new ClassMappingException(message);
+        }
+        final Slot slot = slots.get(countIdx);
+        if (!(slot instanceof ValueSlot) || slot instanceof LazyValueSlot || !ValueSlot.isCountType(slot.getType())) {
+            final String message = String.format(
+                    "Count field %s of structure array %s must be an int, short or byte value.",
+                    countField, name
+            );
+            throw new ClassMappingException(message);
+        }
+        this.countSlot = (ValueSlot) slot;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Bounds of all elements are validated once, before first element is mapped, so elements do not exceed
+     * their record even if it is followed by other records within the buffer.
+     */
+    @Override
+    Object read(ByteBuffer buffer, int offset, int limit) {
+        final int elementCount = countSlot == null ? count : countSlot.readInt(buffer, offset);
+        BufferBounds.checkRecords(limit - offset, startByte, size, elementCount);
+        return readElements(buffer, offset + startByte, elementCount);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Number of elements is given size divided by size of each element, which bounds are already validated.
+     */
+    @Override
+    Object readAt(ByteBuffer buffer, int elementsStartByte, int elementsSize) {
+        return readElements(buffer, elementsStartByte, elementsSize / size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int getStartByte() {
+        return startByte;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    String getAfter() {
+        return after;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int getLength() {
+        return size * count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Length of structure array is held by its count field.
+     */
+    @Override
+    String getLengthField() {
+        return countField;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Each unit of length is a single element.
+     */
+    @Override
+    int getLengthUnit() {
+        return size;
+    }
+
+    private Object readElements(ByteBuffer buffer, int elementsOffset, int elementCount) {
+        @SuppressWarnings("unchecked") //safe, mapper is always computed for given class
+        final ClassMapper<Object> mapper = (ClassMapper<Object>) mapperProvider.apply(elementType);
+        final Object[] elements = (Object[]) Array.newInstance(elementType, elementCount);
+        mapper.mapAll(buffer, elementsOffset, size, elementCount, new StandardByteMapper.ArrayFiller<>(elements));
+        return getType() == List.class ? Arrays.asList(elements) : elements;
+    }
+
+    /**
+     * Checks if annotation declares exactly one source of elements count and elements are structures
+     */
+    private void checkDeclaration(AnnotatedElement element) {
+        if (elementType.isPrimitive()) {
+            final String message = String.format(
+                    "Structure array %s must contain structures, but %s was provided.",
+                    name, elementType.getSimpleName()
+            );
+            throw new ClassMappingException(message);
+        }
+        if (countField.isEmpty() == (count < 1)) {
+            final String message = String.format(
+                    "Structure array %s must declare either positive count or countField.",
+                    name
+            );
+            throw new ClassMappingException(message);
+        }
+        if (size < 1) {
+            final String message = String.format(
+                    "Size should be bigger than 0, but %d was provided",
+                    size
+            );
+            throw new ClassMappingException(message);
+        }
+        if (element.isAnnotationPresent(Interned.class)) {
+            final String message = String.format(
+                    "Structure array %s must not be interned, as arrays are mutable.",
+                    name
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+}
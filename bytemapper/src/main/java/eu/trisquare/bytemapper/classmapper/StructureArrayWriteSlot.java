@@ -0,0 +1,116 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.annotations.Structure;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Slot writing {@link Structure} annotated array or List as back-to-back elements of fixed size,
+ * counterpart of {@link StructureArraySlot}
+ */
+class StructureArrayWriteSlot extends WriteSlot {
+
+    /**
+     * Type of array elements
+     */
+    private final Class<?> elementType;
+
+    /**
+     * Returns writing plan of given element class. Plan is resolved on each write, so plans
+     * of classes containing each other are not resolved recursively.
+     */
+    private final Function<Class<?>, WritingPlan<?>> planProvider;
+
+    /**
+     * Zero-inclusive index of first element's first byte
+     */
+    private final int startByte;
+
+    /**
+     * Number of bytes of each element
+     */
+    private final int size;
+
+    /**
+     * Fixed number of elements, or 0 if it is held by other field
+     */
+    private final int count;
+
+    /**
+     * Field holding number of elements, or null if number of elements is fixed
+     */
+    private final Field countField;
+
+    StructureArrayWriteSlot(
+            Field field,
+            Class<?> elementType,
+            Function<Class<?>, WritingPlan<?>> planProvider,
+            Structure structureAnnotation,
+            Field countField
+    ) {
+        super(field);
+        this.countField = countField;
+        this.elementType = elementType;
+        this.planProvider = planProvider;
+        this.startByte = structureAnnotation.startByte();
+        this.size = structureAnnotation.size();
+        this.count = structureAnnotation.countField().isEmpty() ? structureAnnotation.count() : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * If number of elements is not fixed, bounds of elements are validated when they are written.
+     */
+    @Override
+    int getEndByte() {
+        return startByte + size * count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Each element is written as a record of slot's size, so its values must not exceed it. Elements must not
+     * exceed written record, and their number must match fixed count or value of count field, so they are
+     * mapped back the same way.
+     */
+    @Override
+    void write(POJOAccessor pojoAccessor, Object instance, ByteBuffer buffer, int offset, int limit) {
+        final Object value = getNonNullValue(pojoAccessor, instance);
+        final Collection<?> elements = value instanceof Collection ? (Collection<?>) value : Arrays.asList((Object[]) value);
+        if (count > 0 && elements.size() != count) {
+            final String message = String.format(
+                    "Structure array %s must have %d elements, but %d were provided.",
+                    getField().getName(), count, elements.size()
+            );
+            throw new ClassMappingException(message);
+        }
+        if (countField != null) {
+            checkCount(((Number) pojoAccessor.getValue(countField, instance)).intValue(), elements.size());
+        }
+        BufferBounds.checkRecords(limit - offset, startByte, size, elements.size());
+        final WritingPlan<?> plan = planProvider.apply(elementType);
+        plan.checkBounds(size);
+        int elementOffset = offset + startByte;
+        for (Object element : elements) {
+            plan.writeRecord(checkNotNull(element), buffer, elementOffset, elementOffset + size);
+            elementOffset += size;
+        }
+    }
+
+    /**
+     * Checks if value of count field matches number of written elements
+     */
+    private void checkCount(int countValue, int elementsCount) {
+        if (countValue != elementsCount) {
+            final String message = String.format(
+                    "Structure array %s must have %d elements, as held by its count field %s, but %d were provided.",
+                    getField().getName(), countValue, countField.getName(), elementsCount
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+}
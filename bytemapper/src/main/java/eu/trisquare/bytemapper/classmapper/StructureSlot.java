@@ -0,0 +1,97 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.annotations.Structure;
+import eu.trisquare.bytemapper.fieldmapper.StructureMapper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Slot mapping single {@link Structure} annotated field or parameter with already resolved {@link StructureMapper}
+ */
+class StructureSlot extends Slot {
+
+    /**
+     * Mapper resolved for slot's structure type
+     */
+    private final StructureMapper structureMapper;
+
+    /**
+     * Zero-inclusive index of structure's first byte
+     */
+    private final int startByte;
+
+    /**
+     * Number of bytes used to obtain structure
+     */
+    private final int size;
+
+    /**
+     * Name of field after which structure starts, empty if it starts at constant index
+     */
+    private final String after;
+
+    StructureSlot(Class<?> type, StructureMapper structureMapper, Structure structureAnnotation) {
+        super(type);
+        this.structureMapper = structureMapper;
+        this.startByte = structureAnnotation.startByte();
+        this.size = structureAnnotation.size();
+        this.after = structureAnnotation.after();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Object read(ByteBuffer buffer, int offset, int limit) {
+        return readAt(buffer, offset + startByte, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Object readAt(ByteBuffer buffer, int structureStartByte, int structureSize) {
+        return structureMapper.getValue(buffer, getType(), structureStartByte, structureSize);
+    }
+
+    StructureMapper getStructureMapper() {
+        return structureMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int getStartByte() {
+        return startByte;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    String getAfter() {
+        return after;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int getLength() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    String getLengthField() {
+        return "";
+    }
+
+}
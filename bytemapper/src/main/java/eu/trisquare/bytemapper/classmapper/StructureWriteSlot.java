@@ -0,0 +1,58 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.annotations.Structure;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+/**
+ * Slot writing single {@link Structure} annotated field using plan of structure's class
+ */
+class StructureWriteSlot extends WriteSlot {
+
+    /**
+     * Returns writing plan of given structure class. Plan is resolved on each write, so plans
+     * of classes containing each other are not resolved recursively.
+     */
+    private final Function<Class<?>, WritingPlan<?>> planProvider;
+
+    /**
+     * Zero-inclusive index of structure's first byte
+     */
+    private final int startByte;
+
+    /**
+     * Number of bytes used to write structure
+     */
+    private final int size;
+
+    StructureWriteSlot(Field field, Function<Class<?>, WritingPlan<?>> planProvider, Structure structureAnnotation) {
+        super(field);
+        this.planProvider = planProvider;
+        this.startByte = structureAnnotation.startByte();
+        this.size = structureAnnotation.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int getEndByte() {
+        return startByte + size;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Structure is written as a record of slot's size, so its values must not exceed it.
+     */
+    @Override
+    void write(POJOAccessor pojoAccessor, Object instance, ByteBuffer buffer, int offset, int limit) {
+        final Object structure = getNonNullValue(pojoAccessor, instance);
+        final WritingPlan<?> plan = planProvider.apply(getField().getType());
+        plan.checkBounds(size);
+        final int structureOffset = offset + startByte;
+        plan.writeRecord(structure, buffer, structureOffset, structureOffset + size);
+    }
+
+}
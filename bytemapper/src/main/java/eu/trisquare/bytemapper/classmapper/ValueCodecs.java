@@ -0,0 +1,189 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.annotations.Bits;
+import eu.trisquare.bytemapper.annotations.Interned;
+import eu.trisquare.bytemapper.annotations.Text;
+import eu.trisquare.bytemapper.annotations.Unsigned;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.fieldmapper.BitFieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapperProvider;
+import eu.trisquare.bytemapper.fieldmapper.FieldWriter;
+import eu.trisquare.bytemapper.fieldmapper.FieldWriterProvider;
+import eu.trisquare.bytemapper.fieldmapper.InterningFieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.InterningStructureMapper;
+import eu.trisquare.bytemapper.fieldmapper.StructureMapper;
+import eu.trisquare.bytemapper.fieldmapper.StructureMapperProvider;
+import eu.trisquare.bytemapper.fieldmapper.TextFieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.TextFieldWriter;
+import eu.trisquare.bytemapper.fieldmapper.UnsignedFieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.UnsignedFieldWriter;
+
+import java.lang.reflect.AnnotatedElement;
+import java.nio.Buffer;
+
+/**
+ * Resolves mappers and writers of {@link eu.trisquare.bytemapper.annotations.Value} and
+ * {@link eu.trisquare.bytemapper.annotations.Structure} annotated fields, parameters and getters. Elements
+ * configured by additional annotations, such as {@link Text}, {@link Unsigned}, {@link Bits} or {@link Interned}, get their own instances,
+ * others use ones provided for their type.
+ */
+final class ValueCodecs {
+
+    private ValueCodecs() {
+        //utility class
+    }
+
+    /**
+     * Returns mapper of given element's values
+     *
+     * @param provider  of mappers for elements without additional annotations
+     * @param valueType type of mapped values, which is value type of Lazy elements
+     * @param element   annotated field, parameter or getter
+     * @param name      of annotated element
+     * @return mapper of element's values
+     */
+    static FieldMapper getMapper(FieldMapperProvider provider, Class<?> valueType, AnnotatedElement element, String name) {
+        final Text text = getText(valueType, element, name);
+        final Bits bits = getBits(valueType, element, name);
+        final FieldMapper mapper;
+        if (bits != null) {
+            final int wordSize = element.getAnnotation(Value.class).size();
+            mapper = new BitFieldMapper(valueType, wordSize, bits.offset(), bits.width(), bits.numbering());
+        } else if (text != null) {
+            mapper = new TextFieldMapper(text.charset(), text.padding(), text.terminated(), text.internCapacity());
+        } else if (isUnsigned(valueType, element, name)) {
+            mapper = new UnsignedFieldMapper(valueType);
+        } else {
+            mapper = provider.getMapper(valueType);
+        }
+        final Interned interned = element.getAnnotation(Interned.class);
+        if (interned != null) {
+            if (valueType.isPrimitive() || valueType.isArray() || Buffer.class.isAssignableFrom(valueType)) {
+                final String message = String.format(
+                        "Interned value %s must be of immutable reference type, but %s was provided.",
+                        name, valueType.getSimpleName()
+                );
+                throw new ClassMappingException(message);
+            }
+            if (text != null && text.internCapacity() > 0) {
+                final String message = String.format(
+                        "Interned value %s must not declare intern capacity of its @Text annotation.",
+                        name
+                );
+                throw new ClassMappingException(message);
+            }
+            return new InterningFieldMapper(mapper, interned.capacity());
+        }
+        return mapper;
+    }
+
+    /**
+     * Returns mapper of given element's structures
+     *
+     * @param provider      of mappers for elements without additional annotations
+     * @param structureType type of mapped structures
+     * @param element       annotated field or parameter
+     * @return mapper of element's structures
+     */
+    static StructureMapper getStructureMapper(StructureMapperProvider provider, Class<?> structureType, AnnotatedElement element) {
+        final StructureMapper mapper = provider.getStructureMapper(structureType);
+        final Interned interned = element.getAnnotation(Interned.class);
+        return interned != null ? new InterningStructureMapper(mapper, interned.capacity()) : mapper;
+    }
+
+    /**
+     * Returns writer of given element's values
+     *
+     * @param provider  of writers for elements without additional annotations
+     * @param valueType type of written values, which is value type of Lazy elements
+     * @param element   annotated field
+     * @param name      of annotated element
+     * @return writer of element's values
+     */
+    static FieldWriter getWriter(FieldWriterProvider provider, Class<?> valueType, AnnotatedElement element, String name) {
+        if (element.isAnnotationPresent(Bits.class)) {
+            final String message = String.format(
+                    "Unable to write bit field %s, as its bytes are shared with other bit fields.",
+                    name
+            );
+            throw new ClassMappingException(message);
+        }
+        final Text text = getText(valueType, element, name);
+        if (text != null) {
+            return new TextFieldWriter(text.charset(), text.padding(), text.terminated());
+        }
+        if (isUnsigned(valueType, element, name)) {
+            return new UnsignedFieldWriter();
+        }
+        return provider.getWriter(valueType);
+    }
+
+    /**
+     * Checks if given element is annotated with {@link Unsigned}. Throws if annotated element is not able
+     * to hold unsigned values.
+     */
+    private static boolean isUnsigned(Class<?> valueType, AnnotatedElement element, String name) {
+        if (!element.isAnnotationPresent(Unsigned.class)) {
+            return false;
+        }
+        if (!UnsignedFieldMapper.isSupported(valueType)) {
+            final String message = String.format(
+                    "Unsigned value %s must be of type long or assignable from BigInteger.",
+                    name
+            );
+            throw new ClassMappingException(message);
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@link Bits} annotation of given element, or null if it is not annotated. Throws if annotated
+     * element is not able to hold bits of given width, or if its bits exceed constant-size word of up to eight bytes.
+     */
+    private static Bits getBits(Class<?> valueType, AnnotatedElement element, String name) {
+        final Bits bits = element.getAnnotation(Bits.class);
+        if (bits == null) {
+            return null;
+        }
+        final Value value = element.getAnnotation(Value.class);
+        final String message;
+        if (!BitFieldMapper.isSupported(valueType)) {
+            message = String.format("Bit field %s must be of boolean, byte, short, int or long type.", name);
+        } else if (!value.lengthField().isEmpty() || value.size() > Long.BYTES) {
+            message = String.format("Bit field %s must be read from constant-size word of up to %d bytes.", name, Long.BYTES);
+        } else if (bits.offset() < 0 || bits.width() < 1) {
+            message = String.format(
+                    "Bit field %s must have non-negative offset and positive width, but %d and %d were provided.",
+                    name, bits.offset(), bits.width()
+            );
+        } else if (bits.width() > BitFieldMapper.getMaximumWidth(valueType)) {
+            message = String.format("Bit field %s of %d bits does not fit in %s.", name, bits.width(), valueType.getSimpleName());
+        } else if (bits.offset() + bits.width() > value.size() * Byte.SIZE) {
+            message = String.format(
+                    "Bits %d to %d of %s exceed %d bits of its word.",
+                    bits.offset(), bits.offset() + bits.width(), name, value.size() * Byte.SIZE
+            );
+        } else {
+            return bits;
+        }
+        throw new ClassMappingException(message);
+    }
+
+    /**
+     * Returns {@link Text} annotation of given element, or null if it is not annotated. Throws if annotated
+     * element is not able to hold String values.
+     */
+    private static Text getText(Class<?> valueType, AnnotatedElement element, String name) {
+        final Text text = element.getAnnotation(Text.class);
+        if (text != null && !valueType.isAssignableFrom(String.class)) {
+            final String message = String.format(
+                    "Text value %s must be of type assignable from String.",
+                    name
+            );
+            throw new ClassMappingException(message);
+        }
+        return text;
+    }
+
+}
@@ -0,0 +1,258 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapper;
+import eu.trisquare.bytemapper.fieldmapper.PrimitiveFieldMapper;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Slot mapping single {@link Value} annotated field or parameter with already resolved {@link FieldMapper}
+ */
+class ValueSlot extends Slot {
+
+    /**
+     * Mapper resolved for slot's data type
+     */
+    private final FieldMapper fieldMapper;
+
+    /**
+     * Same as {@link #fieldMapper}, if it provides unboxed values of slot's primitive type, null otherwise
+     */
+    private final PrimitiveFieldMapper primitiveMapper;
+
+    /**
+     * Zero-inclusive index of value's first byte
+     */
+    private final int startByte;
+
+    /**
+     * Number of bytes used to obtain value
+     */
+    private final int size;
+
+    /**
+     * True for big-endian values, false otherwise
+     */
+    private final boolean isBigEndian;
+
+    /**
+     * Name of field after which value starts, empty if it starts at constant index
+     */
+    private final String after;
+
+    /**
+     * Name of field holding number of value's bytes, empty if value has constant size
+     */
+    private final String lengthField;
+
+    /**
+     * Creates slot for given mapper and annotation, validating annotation's static properties
+     */
+    ValueSlot(Class<?> type, FieldMapper fieldMapper, Value valueAnnotation) {
+        super(type);
+        this.fieldMapper = fieldMapper;
+        this.primitiveMapper = getPrimitiveMapper(type, fieldMapper);
+        this.startByte = valueAnnotation.startByte();
+        this.size = valueAnnotation.size();
+        this.isBigEndian = valueAnnotation.bigEndian();
+        this.after = valueAnnotation.after();
+        this.lengthField = valueAnnotation.lengthField();
+        checkStartByte();
+        checkSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Object read(ByteBuffer buffer, int offset, int limit) {
+        return readAt(buffer, offset + startByte, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Object readAt(ByteBuffer buffer, int valueStartByte, int valueSize) {
+        return fieldMapper.getValue(
+                buffer,
+                isBigEndian,
+                valueStartByte,
+                valueSize
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * Values of primitive type are assigned without boxing, if supported by slot's mapper.
+     */
+    @Override
+    void assign(POJOAccessor pojoAccessor, Field field, Object instance, ByteBuffer buffer, int offset, int limit) {
+        assignAt(pojoAccessor, field, instance, buffer, offset + startByte, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Values of primitive type are assigned without boxing, if supported by slot's mapper.
+     */
+    @Override
+    void assignAt(POJOAccessor pojoAccessor, Field field, Object instance, ByteBuffer buffer, int valueStartByte, int valueSize) {
+        final Class<?> type = getType();
+        if (primitiveMapper == null) {
+            pojoAccessor.assignValue(field, instance, readAt(buffer, valueStartByte, valueSize));
+        } else if (type == int.class) {
+            pojoAccessor.assignInt(field, instance, primitiveMapper.getInt(buffer, isBigEndian, valueStartByte, valueSize));
+        } else if (type == long.class) {
+            pojoAccessor.assignLong(field, instance, primitiveMapper.getLong(buffer, isBigEndian, valueStartByte, valueSize));
+        } else if (type == short.class) {
+            pojoAccessor.assignShort(field, instance, primitiveMapper.getShort(buffer, isBigEndian, valueStartByte, valueSize));
+        } else if (type == byte.class) {
+            pojoAccessor.assignByte(field, instance, primitiveMapper.getByte(buffer, isBigEndian, valueStartByte, valueSize));
+        } else if (type == double.class) {
+            pojoAccessor.assignDouble(field, instance, primitiveMapper.getDouble(buffer, isBigEndian, valueStartByte, valueSize));
+        } else if (type == float.class) {
+            pojoAccessor.assignFloat(field, instance, primitiveMapper.getFloat(buffer, isBigEndian, valueStartByte, valueSize));
+        } else {
+            pojoAccessor.assignBoolean(field, instance, primitiveMapper.getBoolean(buffer, isBigEndian, valueStartByte, valueSize));
+        }
+    }
+
+    /**
+     * Reads int, short or byte value of this slot as an int. Values of primitive type are read without boxing,
+     * if supported by slot's mapper.
+     *
+     * @param buffer used as a data source
+     * @param offset index of mapped record's first byte
+     * @return mapped value
+     */
+    int readInt(ByteBuffer buffer, int offset) {
+        return readIntAt(buffer, offset + startByte, size);
+    }
+
+    /**
+     * Reads int, short or byte value of this slot located at given position as an int, same as {@link #readInt(ByteBuffer, int)}
+     */
+    int readIntAt(ByteBuffer buffer, int valueStartByte, int valueSize) {
+        final Class<?> type = getType();
+        if (primitiveMapper == null) {
+            return ((Number) readAt(buffer, valueStartByte, valueSize)).intValue();
+        } else if (type == int.class) {
+            return primitiveMapper.getInt(buffer, isBigEndian, valueStartByte, valueSize);
+        } else if (type == short.class) {
+            return primitiveMapper.getShort(buffer, isBigEndian, valueStartByte, valueSize);
+        } else {
+            return primitiveMapper.getByte(buffer, isBigEndian, valueStartByte, valueSize);
+        }
+    }
+
+    /**
+     * Returns true if values of given type may hold number of bytes or elements, which
+     * is the case for int, short, byte and their wrappers
+     */
+    static boolean isCountType(Class<?> type) {
+        return type == int.class || type == short.class || type == byte.class
+                || type == Integer.class || type == Short.class || type == Byte.class;
+    }
+
+    FieldMapper getFieldMapper() {
+        return fieldMapper;
+    }
+
+    /**
+     * Returns mapper providing unboxed values of slot's primitive type, or null if values have to be boxed
+     */
+    PrimitiveFieldMapper getPrimitiveMapper() {
+        return primitiveMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int getStartByte() {
+        return startByte;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    String getAfter() {
+        return after;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int getLength() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    String getLengthField() {
+        return lengthField;
+    }
+
+    /**
+     * Returns true if slot starts at constant index and has constant size
+     */
+    boolean isConstant() {
+        return after.isEmpty() && lengthField.isEmpty();
+    }
+
+    boolean isBigEndian() {
+        return isBigEndian;
+    }
+
+    /**
+     * Returns exclusive index of value's last byte
+     */
+    int getEndByte() {
+        return startByte + size;
+    }
+
+    private static PrimitiveFieldMapper getPrimitiveMapper(Class<?> type, FieldMapper fieldMapper) {
+        if (fieldMapper instanceof PrimitiveFieldMapper && type != char.class
+                && ((PrimitiveFieldMapper) fieldMapper).getPrimitiveType() == type) {
+            return (PrimitiveFieldMapper) fieldMapper;
+        }
+        return null;
+    }
+
+    /**
+     * Checks if start byte index is bigger than zero
+     */
+    private void checkStartByte() {
+        if (startByte < 0) {
+            final String message = String.format(
+                    "Byte index must be positive! (%d was provided)",
+                    startByte
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+    /**
+     * Checks if size is bigger than zero
+     */
+    private void checkSize() {
+        if (size < 1) {
+            final String message = String.format(
+                    "Size should be bigger than 0, but %d was provided",
+                    size
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.Lazy;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.fieldmapper.FieldWriter;
+import eu.trisquare.bytemapper.fieldmapper.PrimitiveFieldWriter;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Slot writing single {@link Value} annotated field with already resolved {@link FieldWriter}
+ */
+class ValueWriteSlot extends WriteSlot {
+
+    /**
+     * Writer resolved for field's data type
+     */
+    private final FieldWriter fieldWriter;
+
+    /**
+     * Same as {@link #fieldWriter}, if it writes unboxed values of field's primitive type, null otherwise
+     */
+    private final PrimitiveFieldWriter primitiveWriter;
+
+    /**
+     * Zero-inclusive index of value's first byte
+     */
+    private final int startByte;
+
+    /**
+     * Number of bytes used to write value
+     */
+    private final int size;
+
+    /**
+     * True for big-endian values, false otherwise
+     */
+    private final boolean isBigEndian;
+
+    /**
+     * Creates slot for given writer and field's annotation, validating annotation's static properties
+     */
+    ValueWriteSlot(Field field, FieldWriter fieldWriter, Value valueAnnotation) {
+        super(field);
+        this.fieldWriter = fieldWriter;
+        this.primitiveWriter = getPrimitiveWriter(field.getType(), fieldWriter);
+        this.startByte = valueAnnotation.startByte();
+        this.size = valueAnnotation.size();
+        this.isBigEndian = valueAnnotation.bigEndian();
+        checkStartByte();
+        checkSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int getEndByte() {
+        return startByte + size;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Values of primitive type are written without boxing, if supported by slot's writer.
+     */
+    @Override
+    void write(POJOAccessor pojoAccessor, Object instance, ByteBuffer buffer, int offset, int limit) {
+        final Field field = getField();
+        final Class<?> type = field.getType();
+        if (primitiveWriter == null) {
+            writeValue(buffer, offset, getNonNullValue(pojoAccessor, instance));
+        } else if (type == int.class) {
+            writeInt(buffer, offset, pojoAccessor.getInt(field, instance));
+        } else if (type == long.class) {
+            writeLong(buffer, offset, pojoAccessor.getLong(field, instance));
+        } else if (type == short.class) {
+            writeShort(buffer, offset, pojoAccessor.getShort(field, instance));
+        } else if (type == byte.class) {
+            writeByte(buffer, offset, pojoAccessor.getByte(field, instance));
+        } else if (type == double.class) {
+            writeDouble(buffer, offset, pojoAccessor.getDouble(field, instance));
+        } else if (type == float.class) {
+            writeFloat(buffer, offset, pojoAccessor.getFloat(field, instance));
+        } else {
+            writeBoolean(buffer, offset, pojoAccessor.getBoolean(field, instance));
+        }
+    }
+
+    /**
+     * Writes given value into slot's bytes of record starting at given offset. Values of {@link Lazy} fields
+     * are obtained before writing.
+     */
+    void writeValue(ByteBuffer buffer, int offset, Object value) {
+        final Object written = value instanceof Lazy ? ((Lazy<?>) value).get() : value;
+        fieldWriter.putValue(buffer, isBigEndian, offset + startByte, size, checkNotNull(written));
+    }
+
+    /**
+     * Writes given value without boxing if slot's writer supports boolean values, boxed otherwise
+     */
+    void writeBoolean(ByteBuffer buffer, int offset, boolean value) {
+        if (isPrimitive(boolean.class)) {
+            primitiveWriter.putBoolean(buffer, isBigEndian, offset + startByte, size, value);
+        } else {
+            writeValue(buffer, offset, value);
+        }
+    }
+
+    /**
+     * Writes given value without boxing if slot's writer supports byte values, boxed otherwise
+     */
+    void writeByte(ByteBuffer buffer, int offset, byte value) {
+        if (isPrimitive(byte.class)) {
+            primitiveWriter.putByte(buffer, isBigEndian, offset + startByte, size, value);
+        } else {
+            writeValue(buffer, offset, value);
+        }
+    }
+
+    /**
+     * Writes given value without boxing if slot's writer supports short values, boxed otherwise
+     */
+    void writeShort(ByteBuffer buffer, int offset, short value) {
+        if (isPrimitive(short.class)) {
+            primitiveWriter.putShort(buffer, isBigEndian, offset + startByte, size, value);
+        } else {
+            writeValue(buffer, offset, value);
+        }
+    }
+
+    /**
+     * Writes given value without boxing if slot's writer supports int values, boxed otherwise
+     */
+    void writeInt(ByteBuffer buffer, int offset, int value) {
+        if (isPrimitive(int.class)) {
+            primitiveWriter.putInt(buffer, isBigEndian, offset + startByte, size, value);
+        } else {
+            writeValue(buffer, offset, value);
+        }
+    }
+
+    /**
+     * Writes given value without boxing if slot's writer supports long values, boxed otherwise
+     */
+    void writeLong(ByteBuffer buffer, int offset, long value) {
+        if (isPrimitive(long.class)) {
+            primitiveWriter.putLong(buffer, isBigEndian, offset + startByte, size, value);
+        } else {
+            writeValue(buffer, offset, value);
+        }
+    }
+
+    /**
+     * Writes given value without boxing if slot's writer supports float values, boxed otherwise
+     */
+    void writeFloat(ByteBuffer buffer, int offset, float value) {
+        if (isPrimitive(float.class)) {
+            primitiveWriter.putFloat(buffer, isBigEndian, offset + startByte, size, value);
+        } else {
+            writeValue(buffer, offset, value);
+        }
+    }
+
+    /**
+     * Writes given value without boxing if slot's writer supports double values, boxed otherwise
+     */
+    void writeDouble(ByteBuffer buffer, int offset, double value) {
+        if (isPrimitive(double.class)) {
+            primitiveWriter.putDouble(buffer, isBigEndian, offset + startByte, size, value);
+        } else {
+            writeValue(buffer, offset, value);
+        }
+    }
+
+    private boolean isPrimitive(Class<?> type) {
+        return primitiveWriter != null && primitiveWriter.getPrimitiveType() == type;
+    }
+
+    private static PrimitiveFieldWriter getPrimitiveWriter(Class<?> type, FieldWriter fieldWriter) {
+        if (fieldWriter instanceof PrimitiveFieldWriter && type != char.class
+                && ((PrimitiveFieldWriter) fieldWriter).getPrimitiveType() == type) {
+            return (PrimitiveFieldWriter) fieldWriter;
+        }
+        return null;
+    }
+
+    /**
+     * Checks if start byte index is bigger than zero
+     */
+    private void checkStartByte() {
+        if (startByte < 0) {
+            final String message = String.format(
+                    "Byte index must be positive! (%d was provided)",
+                    startByte
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+    /**
+     * Checks if size is bigger than zero
+     */
+    private void checkSize() {
+        if (size < 1) {
+            final String message = String.format(
+                    "Size should be bigger than 0, but %d was provided",
+                    size
+            );
+            throw new ClassMappingException(message);
+        }
+    }
+
+}
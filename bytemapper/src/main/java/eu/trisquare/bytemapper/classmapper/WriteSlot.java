@@ -0,0 +1,59 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Single, pre-resolved step of a {@link WritingPlan}: writes value of one annotated field.
+ */
+abstract class WriteSlot {
+
+    /**
+     * Annotated field which value is written
+     */
+    private final Field field;
+
+    WriteSlot(Field field) {
+        this.field = field;
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns exclusive index of slot's last byte
+     */
+    abstract int getEndByte();
+
+    /**
+     * Reads value of instance's field and writes it into given buffer
+     *
+     * @param pojoAccessor used to read field value
+     * @param instance     that contains slot's field
+     * @param buffer       used as a data destination
+     * @param offset       index of written record's first byte
+     * @param limit        exclusive index of written record's last byte within buffer, which slots of size
+     *                     determined by written instance must not exceed
+     */
+    abstract void write(POJOAccessor pojoAccessor, Object instance, ByteBuffer buffer, int offset, int limit);
+
+    /**
+     * Returns value of instance's field, throws if it is null
+     */
+    Object getNonNullValue(POJOAccessor pojoAccessor, Object instance) {
+        return checkNotNull(pojoAccessor.getValue(field, instance));
+    }
+
+    /**
+     * Returns given value of slot's field, throws if it is null
+     */
+    Object checkNotNull(Object value) {
+        if (value == null) {
+            final String message = String.format("Unable to write null value of field %s.", field.getName());
+            throw new ClassMappingException(message);
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,112 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable, pre-resolved description of how to write instance of a single class into bytes,
+ * counterpart of {@link MappingPlan}. Plan is built once per class, so the writing itself
+ * performs no annotation lookups nor writer resolution.
+ *
+ * @param <T> type of written class
+ */
+final class WritingPlan<T> {
+
+    /**
+     * Accessor used to read fields
+     */
+    private final POJOAccessor pojoAccessor;
+
+    /**
+     * Slots in order of annotated fields
+     */
+    private final WriteSlot[] slots;
+
+    /**
+     * Minimal buffer limit which passes bounds validation of all slots
+     */
+    private final int requiredLimit;
+
+    WritingPlan(POJOAccessor pojoAccessor, List<WriteSlot> slots) {
+        this.pojoAccessor = pojoAccessor;
+        this.slots = slots.toArray(new WriteSlot[0]);
+        int limit = 0;
+        for (WriteSlot slot : slots) {
+            limit = Math.max(limit, Math.max(1, slot.getEndByte()));
+        }
+        this.requiredLimit = limit;
+    }
+
+    /**
+     * Writes values of given instance as record starting at given offset
+     *
+     * @param instance to write
+     * @param buffer   used as a data destination
+     * @param offset   index of record's first byte
+     */
+    void write(T instance, ByteBuffer buffer, int offset) {
+        BufferBounds.checkOffset(offset);
+        checkBounds(buffer.limit() - offset);
+        writeRecord(instance, buffer, offset, buffer.limit());
+    }
+
+    /**
+     * Writes given instances as back-to-back records of fixed size. Bounds of all records are validated once,
+     * before first record is written. Structure arrays of variable number of elements are validated against
+     * the end of each record.
+     *
+     * @param instances  to write, in order of records
+     * @param buffer     used as a data destination
+     * @param offset     index of first record's first byte
+     * @param recordSize number of bytes of each record
+     */
+    void writeAll(T[] instances, ByteBuffer buffer, int offset, int recordSize) {
+        BufferBounds.checkRecords(buffer.limit(), offset, recordSize, instances.length);
+        checkBounds(recordSize);
+        for (int i = 0; i < instances.length; i++) {
+            final int recordOffset = offset + i * recordSize;
+            writeRecord(instances[i], buffer, recordOffset, recordOffset + recordSize);
+        }
+    }
+
+    /**
+     * Writes given instances as back-to-back records of fixed size, same as {@link #writeAll(Object[], ByteBuffer, int, int)}
+     */
+    void writeAll(Collection<? extends T> instances, ByteBuffer buffer, int offset, int recordSize) {
+        BufferBounds.checkRecords(buffer.limit(), offset, recordSize, instances.size());
+        checkBounds(recordSize);
+        int recordOffset = offset;
+        for (T instance : instances) {
+            writeRecord(instance, buffer, recordOffset, recordOffset + recordSize);
+            recordOffset += recordSize;
+        }
+    }
+
+    /**
+     * Writes values of given instance as record starting at given offset, without bounds validation of slots
+     * of constant size. Slots of size determined by written instance are validated against given limit.
+     */
+    void writeRecord(Object instance, ByteBuffer buffer, int offset, int limit) {
+        for (WriteSlot slot : slots) {
+            slot.write(pojoAccessor, instance, buffer, offset, limit);
+        }
+    }
+
+    /**
+     * Checks if all slots fit within buffer limit. Detailed, per-slot validation is
+     * performed only if buffer is too short, to provide message for the first failing slot.
+     *
+     * @param bufferLimit limit of written buffer, reduced by offset of written record
+     */
+    void checkBounds(int bufferLimit) {
+        if (bufferLimit >= requiredLimit) {
+            return;
+        }
+        BufferBounds.checkBufferLimit(bufferLimit);
+        for (WriteSlot slot : slots) {
+            BufferBounds.checkEndByte(slot.getEndByte(), bufferLimit);
+        }
+    }
+
+}
@@ -0,0 +1,242 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.annotations.Bits;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Mapper of bit fields configured by {@link Bits} annotation. Value is obtained by a single read of the
+ * containing word, followed by shift and mask. Word may be read once by {@link #readWord(ByteBuffer, boolean, int, int)}
+ * and shared by all bit fields of the same bytes, each extracting its bits using one of the extract methods.
+ */
+public final class BitFieldMapper implements PrimitiveFieldMapper {
+
+    /**
+     * Maps ByteBuffer to particular type
+     */
+    private static final TypeMapper typeMapper = new StandardTypeMapper();
+
+    /**
+     * Primitive type of mapped values, also for values declared with wrapper type
+     */
+    private final Class<?> primitiveType;
+
+    /**
+     * Number of bits by which word is shifted right, so field's bits become the least significant ones
+     */
+    private final int shift;
+
+    /**
+     * Mask of field's bits, after they are shifted
+     */
+    private final long mask;
+
+    /**
+     * Creates mapper of bit fields of given type
+     *
+     * @param type      of mapped values, boolean, byte, short, int, long or their wrapper
+     * @param wordSize  number of bytes of the word containing field's bits
+     * @param offset    index of field's first bit within the word
+     * @param width     number of field's bits
+     * @param numbering order in which bits of the word are counted
+     */
+    public BitFieldMapper(Class<?> type, int wordSize, int offset, int width, Bits.Numbering numbering) {
+        if (!isSupported(type)) {
+            final String message = String.format(
+                    "Bit field must be of boolean, byte, short, int or long type, but %s was provided",
+                    type.getSimpleName()
+            );
+            throw new FieldMappingException(message);
+        }
+        this.primitiveType = ClassUtils.wrapperToPrimitive(type) != null ? ClassUtils.wrapperToPrimitive(type) : type;
+        this.shift = numbering == Bits.Numbering.MSB_FIRST ? wordSize * Byte.SIZE - offset - width : offset;
+        this.mask = width == Long.SIZE ? -1L : (1L << width) - 1;
+    }
+
+    /**
+     * Checks if bit fields may be mapped into given type
+     *
+     * @param type of mapped values
+     * @return true if type is boolean, byte, short, int, long or their wrapper
+     */
+    public static boolean isSupported(Class<?> type) {
+        return type == boolean.class || type == byte.class || type == short.class || type == int.class || type == long.class
+                || type == Boolean.class || type == Byte.class || type == Short.class || type == Integer.class || type == Long.class;
+    }
+
+    /**
+     * Returns number of bits of values of given type, which is 1 for boolean values
+     *
+     * @param type of mapped values, supported by bit field mapper
+     * @return maximal width of bit field of given type
+     */
+    public static int getMaximumWidth(Class<?> type) {
+        final Class<?> primitiveType = ClassUtils.wrapperToPrimitive(type) != null ? ClassUtils.wrapperToPrimitive(type) : type;
+        if (primitiveType == boolean.class) {
+            return 1;
+        } else if (primitiveType == byte.class) {
+            return Byte.SIZE;
+        } else if (primitiveType == short.class) {
+            return Short.SIZE;
+        } else if (primitiveType == int.class) {
+            return Integer.SIZE;
+        }
+        return Long.SIZE;
+    }
+
+    /**
+     * Reads word containing field's bits as unsigned value, so it may be shared by bit fields of the same bytes
+     *
+     * @param buffer      used as a data source
+     * @param isBigEndian which is true for big-endian words and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of the word
+     * @param size        number of bytes of the word, up to eight
+     * @return bits of the word
+     */
+    public long readWord(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (size > Long.BYTES) {
+            final String message = String.format(
+                    "Bit field must be read from word of up to %d bytes, but %d bytes were requested.",
+                    Long.BYTES,
+                    size
+            );
+            throw new FieldMappingException(message);
+        }
+        return typeMapper.toUnsignedLong(buffer, isBigEndian, startByte, size);
+    }
+
+    /**
+     * Returns field's bits of given word as long value
+     *
+     * @param word read by {@link #readWord(ByteBuffer, boolean, int, int)}
+     * @return zero-extended field's bits
+     */
+    public long extractLong(long word) {
+        return word >>> shift & mask;
+    }
+
+    /**
+     * Returns field's bits of given word as int value
+     *
+     * @param word read by {@link #readWord(ByteBuffer, boolean, int, int)}
+     * @return zero-extended field's bits
+     */
+    public int extractInt(long word) {
+        return (int) extractLong(word);
+    }
+
+    /**
+     * Returns field's bits of given word as short value
+     *
+     * @param word read by {@link #readWord(ByteBuffer, boolean, int, int)}
+     * @return zero-extended field's bits
+     */
+    public short extractShort(long word) {
+        return (short) extractLong(word);
+    }
+
+    /**
+     * Returns field's bits of given word as byte value
+     *
+     * @param word read by {@link #readWord(ByteBuffer, boolean, int, int)}
+     * @return zero-extended field's bits
+     */
+    public byte extractByte(long word) {
+        return (byte) extractLong(word);
+    }
+
+    /**
+     * Returns field's bit of given word as boolean value
+     *
+     * @param word read by {@link #readWord(ByteBuffer, boolean, int, int)}
+     * @return true if field's bit is set
+     */
+    public boolean extractBoolean(long word) {
+        return extractLong(word) != 0;
+    }
+
+    /**
+     * Returns field's bits of given word boxed into wrapper of mapper's primitive type
+     *
+     * @param word read by {@link #readWord(ByteBuffer, boolean, int, int)}
+     * @return boxed field's bits
+     */
+    public Object extractValue(long word) {
+        if (primitiveType == int.class) {
+            return extractInt(word);
+        } else if (primitiveType == long.class) {
+            return extractLong(word);
+        } else if (primitiveType == short.class) {
+            return extractShort(word);
+        } else if (primitiveType == byte.class) {
+            return extractByte(word);
+        }
+        return extractBoolean(word);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEligible(Class<?> type) {
+        return ClassUtils.isAssignable(type, primitiveType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getPrimitiveType() {
+        return primitiveType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getValue(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        return extractValue(readWord(buffer, isBigEndian, startByte, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getBoolean(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        return extractBoolean(readWord(buffer, isBigEndian, startByte, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte getByte(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        return extractByte(readWord(buffer, isBigEndian, startByte, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public short getShort(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        return extractShort(readWord(buffer, isBigEndian, startByte, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getInt(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        return extractInt(readWord(buffer, isBigEndian, startByte, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        return extractLong(readWord(buffer, isBigEndian, startByte, size));
+    }
+
+}
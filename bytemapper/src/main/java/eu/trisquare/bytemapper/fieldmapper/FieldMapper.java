@@ -19,6 +19,8 @@ public interface FieldMapper {
     /**
      * Performs conversion of given n- bytes, starting from provided index into
      * actual Object instance. Object sub-type depends of mapper implementation.
+     * Given buffer is shared by all mapped values, so it should be accessed using absolute
+     * indexes only, without modifying its position, limit nor byte order.
      *
      * @param buffer      used as a data source
      * @param isBigEndian which is true for big-endian values and false for little-endian
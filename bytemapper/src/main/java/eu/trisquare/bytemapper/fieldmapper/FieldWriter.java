@@ -0,0 +1,32 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interface for writers encoding Object instances into ByteBuffer, counterpart of {@link FieldMapper}
+ */
+public interface FieldWriter {
+
+    /**
+     * Checks if given {@link eu.trisquare.bytemapper.fieldmapper.FieldWriter} supports
+     * given data type.
+     *
+     * @param type of written values
+     * @return true if values of given type may be written by this writer
+     */
+    boolean isEligible(Class<?> type);
+
+    /**
+     * Performs conversion of given value into n- bytes, starting from provided index.
+     * Given buffer is shared by all written values, so it should be accessed using absolute
+     * indexes only, without modifying its position, limit nor byte order.
+     *
+     * @param buffer      used as a data destination
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of written value
+     * @param size        determines last byte of written value
+     * @param value       to write, never null
+     */
+    void putValue(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, Object value);
+
+}
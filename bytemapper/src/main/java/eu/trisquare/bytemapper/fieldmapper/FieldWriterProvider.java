@@ -0,0 +1,13 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+public interface FieldWriterProvider {
+
+    /**
+     * Returns first eligible writer for given field type.
+     *
+     * @param clazz of field which value is written
+     * @return FieldWriter eligible for given data type
+     */
+    FieldWriter getWriter(Class<?> clazz);
+
+}
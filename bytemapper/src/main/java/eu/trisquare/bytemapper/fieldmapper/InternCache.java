@@ -0,0 +1,226 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of decoded values, keyed by their raw bytes. Bytes are hashed and compared directly in source
+ * buffer, so lookup does not allocate. Each key is stored in one of few slots of a set selected by its hash.
+ * When all slots of the set are taken, entry which was not used since clock hand of the set passed it is evicted.
+ * Cache may be shared between threads, concurrent updates may only cause some values to be decoded again.
+ *
+ * @param <T> type of cached values
+ */
+public final class InternCache<T> {
+
+    /**
+     * Maximum number of slots in each set
+     */
+    private static final int WAYS = 8;
+
+    /**
+     * Slots of cached entries, grouped in consecutive sets of {@link #ways} slots
+     */
+    private final AtomicReferenceArray<Entry<T>> entries;
+
+    /**
+     * Clock hand of each set, pointing at slot which is checked first for eviction
+     */
+    private final int[] hands;
+
+    /**
+     * Number of sets
+     */
+    private final int sets;
+
+    /**
+     * Number of slots in each set
+     */
+    private final int ways;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates cache with given maximum number of entries. Capacity bigger than 8 is rounded up to the next multiple of 8.
+     *
+     * @param capacity maximum number of entries, must be bigger than 0
+     */
+    public InternCache(int capacity) {
+        if (capacity < 1) {
+            final String message = String.format(
+                    "Intern capacity must be bigger than 0, but %d was provided",
+                    capacity
+            );
+            throw new FieldMappingException(message);
+        }
+        this.ways = Math.min(WAYS, capacity);
+        this.sets = (capacity + ways - 1) / ways;
+        this.entries = new AtomicReferenceArray<>(sets * ways);
+        this.hands = new int[sets];
+    }
+
+    /**
+     * Returns cached value of given bytes, or null if it is not cached. Byte number {@code n} of the key is
+     * obtained from index {@code from + n * step} of the buffer, so key may be read in reversed order.
+     *
+     * @param buffer source of key bytes
+     * @param from   index of first key byte
+     * @param step   1 if key is stored in buffer order, -1 if it is reversed
+     * @param length number of key bytes
+     * @return cached value or null
+     */
+    T get(ByteBuffer buffer, int from, int step, int length) {
+        final int hash = hash(buffer, from, step, length);
+        final int first = getSet(hash) * ways;
+        for (int slot = first; slot < first + ways; slot++) {
+            final Entry<T> entry = entries.get(slot);
+            if (entry != null && entry.hash == hash && entry.matches(buffer, from, step, length)) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                hits.increment();
+                return entry.value;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches value of given bytes, evicting one of values stored in the same set if it is full.
+     * Bytes are addressed in the same way as in {@link #get(ByteBuffer, int, int, int)}.
+     */
+    void put(ByteBuffer buffer, int from, int step, int length, T value) {
+        final byte[] key = new byte[length];
+        for (int n = 0; n < length; n++) {
+            key[n] = buffer.get(from + n * step);
+        }
+        final int hash = hash(buffer, from, step, length);
+        final int set = getSet(hash);
+        final int hand = hands[set];
+        //after single turn all entries have been unreferenced, unless they were used meanwhile
+        for (int n = 0; n < 2 * ways; n++) {
+            final int way = (hand + n) % ways;
+            final Entry<T> entry = entries.get(set * ways + way);
+            if (entry == null || !entry.referenced || n == 2 * ways - 1) {
+                if (entry != null) {
+                    evictions.increment();
+                }
+                entries.set(set * ways + way, new Entry<>(hash, key, value));
+                hands[set] = (way + 1) % ways;
+                return;
+            }
+            entry.referenced = false;
+        }
+    }
+
+    /**
+     * Returns maximum number of cached values
+     *
+     * @return capacity of the cache
+     */
+    public int getCapacity() {
+        return entries.length();
+    }
+
+    /**
+     * Returns current number of cached values
+     *
+     * @return number of cached values
+     */
+    public int getSize() {
+        int size = 0;
+        for (int slot = 0; slot < entries.length(); slot++) {
+            if (entries.get(slot) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns number of lookups which returned cached value
+     *
+     * @return number of hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns number of lookups of values which were not cached, so they had to be decoded
+     *
+     * @return number of misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns number of values removed from cache to make room for other values
+     *
+     * @return number of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Maps hash uniformly into index of a set, using its higher bits
+     */
+    private int getSet(int hash) {
+        return (int) (((hash & 0xFFFFFFFFL) * sets) >>> 32);
+    }
+
+    private static int hash(ByteBuffer buffer, int from, int step, int length) {
+        int hash = 1;
+        for (int n = 0; n < length; n++) {
+            hash = 31 * hash + buffer.get(from + n * step);
+        }
+        //mixes all bits, as higher ones select the set
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Cache entry with immutable key and value, so it is safely published by {@link AtomicReferenceArray}
+     */
+    private static final class Entry<T> {
+
+        private final int hash;
+
+        private final byte[] key;
+
+        private final T value;
+
+        /**
+         * True if entry has been used since clock hand passed it
+         */
+        private volatile boolean referenced;
+
+        Entry(int hash, byte[] key, T value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        boolean matches(ByteBuffer buffer, int from, int step, int length) {
+            if (key.length != length) {
+                return false;
+            }
+            for (int n = 0; n < length; n++) {
+                if (key[n] != buffer.get(from + n * step)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
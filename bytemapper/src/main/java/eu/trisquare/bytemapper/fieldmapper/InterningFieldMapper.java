@@ -0,0 +1,70 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Mapper remembering values decoded by other mapper, so repeated values are returned without decoding.
+ * Values are keyed by their bytes in big-endian order, which is the same for values of both endiannesses.
+ * Decoded values are shared, so they must be immutable.
+ */
+public final class InterningFieldMapper implements FieldMapper, InterningMapper {
+
+    /**
+     * Mapper decoding values which are not cached
+     */
+    private final FieldMapper mapper;
+
+    /**
+     * Cache of decoded values
+     */
+    private final InternCache<Object> cache;
+
+    /**
+     * Creates mapper remembering up to {@code capacity} values decoded by given mapper
+     *
+     * @param mapper   decoding values which are not cached
+     * @param capacity maximum number of remembered values, must be bigger than 0
+     */
+    public InterningFieldMapper(FieldMapper mapper, int capacity) {
+        this.mapper = mapper;
+        this.cache = new InternCache<>(capacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InternCache<Object> getInternCache() {
+        return cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEligible(Class<?> type) {
+        return mapper.isEligible(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getValue(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (startByte < 0 || size < 0 || startByte > buffer.limit() - size) {
+            throw new IndexOutOfBoundsException();
+        }
+        final int from = isBigEndian ? startByte : startByte + size - 1;
+        final int step = isBigEndian ? 1 : -1;
+        final Object cached = cache.get(buffer, from, step, size);
+        if (cached != null) {
+            return cached;
+        }
+        final Object value = mapper.getValue(buffer, isBigEndian, startByte, size);
+        if (value != null) {
+            cache.put(buffer, from, step, size, value);
+        }
+        return value;
+    }
+
+}
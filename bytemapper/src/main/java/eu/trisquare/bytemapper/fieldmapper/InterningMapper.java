@@ -0,0 +1,15 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+/**
+ * Interface of field and structure mappers which remember decoded values in {@link InternCache}
+ */
+public interface InterningMapper {
+
+    /**
+     * Returns cache of values remembered by this mapper
+     *
+     * @return cache of decoded values
+     */
+    InternCache<?> getInternCache();
+
+}
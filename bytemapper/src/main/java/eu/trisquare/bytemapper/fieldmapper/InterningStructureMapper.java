@@ -0,0 +1,59 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Mapper remembering structures mapped by other mapper, so repeated structures are returned without mapping.
+ * Structures are keyed by all their bytes. Mapped instances are shared, so they must not be modified.
+ */
+public final class InterningStructureMapper implements StructureMapper, InterningMapper {
+
+    /**
+     * Mapper of structures which are not cached
+     */
+    private final StructureMapper mapper;
+
+    /**
+     * Cache of mapped structures
+     */
+    private final InternCache<Object> cache;
+
+    /**
+     * Creates mapper remembering up to {@code capacity} structures mapped by given mapper
+     *
+     * @param mapper   of structures which are not cached
+     * @param capacity maximum number of remembered structures, must be bigger than 0
+     */
+    public InterningStructureMapper(StructureMapper mapper, int capacity) {
+        this.mapper = mapper;
+        this.cache = new InternCache<>(capacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InternCache<Object> getInternCache() {
+        return cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T getValue(ByteBuffer buffer, Class<T> structureType, int startByte, int size) {
+        if (startByte < 0 || size < 0 || startByte > buffer.limit() - size) {
+            throw new IndexOutOfBoundsException();
+        }
+        final Object cached = cache.get(buffer, startByte, 1, size);
+        if (structureType.isInstance(cached)) {
+            return structureType.cast(cached);
+        }
+        final T value = mapper.getValue(buffer, structureType, startByte, size);
+        if (value != null) {
+            cache.put(buffer, startByte, 1, size, value);
+        }
+        return value;
+    }
+
+}
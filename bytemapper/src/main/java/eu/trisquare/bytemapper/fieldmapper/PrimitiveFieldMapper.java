@@ -0,0 +1,111 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Extension of {@link FieldMapper} returning values of single primitive type without boxing.
+ * Mapping engine calls only the getter matching {@link #getPrimitiveType()}, and only for
+ * fields or parameters declared with exactly this type. Remaining getters are not supported
+ * by default. Values of other types are still obtained using {@link #getValue(ByteBuffer, boolean, int, int)}.
+ */
+public interface PrimitiveFieldMapper extends FieldMapper {
+
+    /**
+     * Returns primitive type of values returned by this mapper, i.e. {@code int.class}
+     *
+     * @return primitive type of mapped values
+     */
+    Class<?> getPrimitiveType();
+
+    /**
+     * Performs conversion of given n- bytes, starting from provided index into boolean value.
+     *
+     * @param buffer      used as a data source
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of mapped value
+     * @param size        determines last byte of parsed value
+     * @return mapped value
+     */
+    default boolean getBoolean(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        throw PrimitiveValueFieldMapper.unsupportedType(getPrimitiveType(), boolean.class);
+    }
+
+    /**
+     * Performs conversion of given n- bytes, starting from provided index into byte value.
+     *
+     * @param buffer      used as a data source
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of mapped value
+     * @param size        determines last byte of parsed value
+     * @return mapped value
+     */
+    default byte getByte(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        throw PrimitiveValueFieldMapper.unsupportedType(getPrimitiveType(), byte.class);
+    }
+
+    /**
+     * Performs conversion of given n- bytes, starting from provided index into short value.
+     *
+     * @param buffer      used as a data source
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of mapped value
+     * @param size        determines last byte of parsed value
+     * @return mapped value
+     */
+    default short getShort(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        throw PrimitiveValueFieldMapper.unsupportedType(getPrimitiveType(), short.class);
+    }
+
+    /**
+     * Performs conversion of given n- bytes, starting from provided index into int value.
+     *
+     * @param buffer      used as a data source
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of mapped value
+     * @param size        determines last byte of parsed value
+     * @return mapped value
+     */
+    default int getInt(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        throw PrimitiveValueFieldMapper.unsupportedType(getPrimitiveType(), int.class);
+    }
+
+    /**
+     * Performs conversion of given n- bytes, starting from provided index into long value.
+     *
+     * @param buffer      used as a data source
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of mapped value
+     * @param size        determines last byte of parsed value
+     * @return mapped value
+     */
+    default long getLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        throw PrimitiveValueFieldMapper.unsupportedType(getPrimitiveType(), long.class);
+    }
+
+    /**
+     * Performs conversion of given n- bytes, starting from provided index into float value.
+     *
+     * @param buffer      used as a data source
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of mapped value
+     * @param size        determines last byte of parsed value
+     * @return mapped value
+     */
+    default float getFloat(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        throw PrimitiveValueFieldMapper.unsupportedType(getPrimitiveType(), float.class);
+    }
+
+    /**
+     * Performs conversion of given n- bytes, starting from provided index into double value.
+     *
+     * @param buffer      used as a data source
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of mapped value
+     * @param size        determines last byte of parsed value
+     * @return mapped value
+     */
+    default double getDouble(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        throw PrimitiveValueFieldMapper.unsupportedType(getPrimitiveType(), double.class);
+    }
+
+}
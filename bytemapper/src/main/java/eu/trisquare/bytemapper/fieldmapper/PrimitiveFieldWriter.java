@@ -0,0 +1,110 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Extension of {@link FieldWriter} writing values of single primitive type without boxing.
+ * Writing engine calls only the method matching {@link #getPrimitiveType()}, and only for
+ * fields declared with exactly this type. Remaining methods are not supported by default.
+ */
+public interface PrimitiveFieldWriter extends FieldWriter {
+
+    /**
+     * Returns primitive type of values written by this writer, i.e. {@code int.class}
+     *
+     * @return primitive type of written values
+     */
+    Class<?> getPrimitiveType();
+
+    /**
+     * Performs conversion of given boolean value into n- bytes, starting from provided index.
+     *
+     * @param buffer      used as a data destination
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of written value
+     * @param size        determines last byte of written value
+     * @param value       to write
+     */
+    default void putBoolean(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, boolean value) {
+        throw PrimitiveValueFieldWriter.unsupportedType(getPrimitiveType(), boolean.class);
+    }
+
+    /**
+     * Performs conversion of given byte value into n- bytes, starting from provided index.
+     *
+     * @param buffer      used as a data destination
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of written value
+     * @param size        determines last byte of written value
+     * @param value       to write
+     */
+    default void putByte(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, byte value) {
+        throw PrimitiveValueFieldWriter.unsupportedType(getPrimitiveType(), byte.class);
+    }
+
+    /**
+     * Performs conversion of given short value into n- bytes, starting from provided index.
+     *
+     * @param buffer      used as a data destination
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of written value
+     * @param size        determines last byte of written value
+     * @param value       to write
+     */
+    default void putShort(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, short value) {
+        throw PrimitiveValueFieldWriter.unsupportedType(getPrimitiveType(), short.class);
+    }
+
+    /**
+     * Performs conversion of given int value into n- bytes, starting from provided index.
+     *
+     * @param buffer      used as a data destination
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of written value
+     * @param size        determines last byte of written value
+     * @param value       to write
+     */
+    default void putInt(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, int value) {
+        throw PrimitiveValueFieldWriter.unsupportedType(getPrimitiveType(), int.class);
+    }
+
+    /**
+     * Performs conversion of given long value into n- bytes, starting from provided index.
+     *
+     * @param buffer      used as a data destination
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of written value
+     * @param size        determines last byte of written value
+     * @param value       to write
+     */
+    default void putLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, long value) {
+        throw PrimitiveValueFieldWriter.unsupportedType(getPrimitiveType(), long.class);
+    }
+
+    /**
+     * Performs conversion of given float value into n- bytes, starting from provided index.
+     *
+     * @param buffer      used as a data destination
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of written value
+     * @param size        determines last byte of written value
+     * @param value       to write
+     */
+    default void putFloat(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, float value) {
+        throw PrimitiveValueFieldWriter.unsupportedType(getPrimitiveType(), float.class);
+    }
+
+    /**
+     * Performs conversion of given double value into n- bytes, starting from provided index.
+     *
+     * @param buffer      used as a data destination
+     * @param isBigEndian which is true for big-endian values and false for little-endian
+     * @param startByte   is zero-inclusive index of first byte of written value
+     * @param size        determines last byte of written value
+     * @param value       to write
+     */
+    default void putDouble(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, double value) {
+        throw PrimitiveValueFieldWriter.unsupportedType(getPrimitiveType(), double.class);
+    }
+
+}
@@ -0,0 +1,133 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Default mapper for primitive data types, providing values both boxed and as primitives
+ */
+class PrimitiveValueFieldMapper extends SingleValueFieldMapper implements PrimitiveFieldMapper {
+
+    /**
+     * Holds primitive type of mapped values
+     */
+    private final Class<?> primitiveType;
+
+    /**
+     * Used to obtain primitive values
+     */
+    private final TypeMapper typeMapper;
+
+    /**
+     * Creates PrimitiveValueFieldMapper for given arguments
+     */
+    PrimitiveValueFieldMapper(
+            TypeMapper typeMapper,
+            ByteBufferMapper endiannessAwareMapper,
+            int maxSupportedSize,
+            Class<?> primitiveType
+    ) {
+        super(endiannessAwareMapper, maxSupportedSize, primitiveType);
+        this.primitiveType = primitiveType;
+        this.typeMapper = typeMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getPrimitiveType() {
+        return primitiveType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getBoolean(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        checkPrimitiveType(boolean.class);
+        checkSize(size);
+        return typeMapper.toBoolean(buffer, isBigEndian, startByte, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte getByte(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        checkPrimitiveType(byte.class);
+        checkSize(size);
+        return typeMapper.toByte(buffer, isBigEndian, startByte, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public short getShort(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        checkPrimitiveType(short.class);
+        checkSize(size);
+        return typeMapper.toShort(buffer, isBigEndian, startByte, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getInt(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        checkPrimitiveType(int.class);
+        checkSize(size);
+        return typeMapper.toInt(buffer, isBigEndian, startByte, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        checkPrimitiveType(long.class);
+        checkSize(size);
+        return typeMapper.toLong(buffer, isBigEndian, startByte, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getFloat(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        checkPrimitiveType(float.class);
+        checkSize(size);
+        return typeMapper.toFloat(buffer, isBigEndian, startByte, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDouble(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        checkPrimitiveType(double.class);
+        checkSize(size);
+        return typeMapper.toDouble(buffer, isBigEndian, startByte, size);
+    }
+
+    /**
+     * Checks if requested type is the one supported by this mapper
+     */
+    private void checkPrimitiveType(Class<?> requestedType) {
+        if (primitiveType != requestedType) {
+            throw unsupportedType(primitiveType, requestedType);
+        }
+    }
+
+    /**
+     * Returns exception thrown when value of given type is requested from mapper of other primitive type
+     */
+    static UnsupportedOperationException unsupportedType(Class<?> primitiveType, Class<?> requestedType) {
+        final String message = String.format(
+                "Mapper of %s values does not support %s values.",
+                primitiveType.getName(),
+                requestedType.getName()
+        );
+        return new UnsupportedOperationException(message);
+    }
+
+}
@@ -0,0 +1,133 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Default writer for primitive data types, writing values both boxed and as primitives
+ */
+class PrimitiveValueFieldWriter extends SingleValueFieldWriter implements PrimitiveFieldWriter {
+
+    /**
+     * Holds primitive type of written values
+     */
+    private final Class<?> primitiveType;
+
+    /**
+     * Used to write primitive values
+     */
+    private final TypeWriter typeWriter;
+
+    /**
+     * Creates PrimitiveValueFieldWriter for given arguments
+     */
+    PrimitiveValueFieldWriter(
+            TypeWriter typeWriter,
+            ByteBufferWriter endiannessAwareWriter,
+            int maxSupportedSize,
+            Class<?> primitiveType
+    ) {
+        super(endiannessAwareWriter, maxSupportedSize, primitiveType);
+        this.primitiveType = primitiveType;
+        this.typeWriter = typeWriter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getPrimitiveType() {
+        return primitiveType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putBoolean(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, boolean value) {
+        checkPrimitiveType(boolean.class);
+        checkSize(size);
+        typeWriter.putBoolean(buffer, isBigEndian, startByte, size, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putByte(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, byte value) {
+        checkPrimitiveType(byte.class);
+        checkSize(size);
+        typeWriter.putByte(buffer, isBigEndian, startByte, size, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putShort(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, short value) {
+        checkPrimitiveType(short.class);
+        checkSize(size);
+        typeWriter.putShort(buffer, isBigEndian, startByte, size, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putInt(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, int value) {
+        checkPrimitiveType(int.class);
+        checkSize(size);
+        typeWriter.putInt(buffer, isBigEndian, startByte, size, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, long value) {
+        checkPrimitiveType(long.class);
+        checkSize(size);
+        typeWriter.putLong(buffer, isBigEndian, startByte, size, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putFloat(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, float value) {
+        checkPrimitiveType(float.class);
+        checkSize(size);
+        typeWriter.putFloat(buffer, isBigEndian, startByte, size, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putDouble(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, double value) {
+        checkPrimitiveType(double.class);
+        checkSize(size);
+        typeWriter.putDouble(buffer, isBigEndian, startByte, size, value);
+    }
+
+    /**
+     * Checks if requested type is the one supported by this writer
+     */
+    private void checkPrimitiveType(Class<?> requestedType) {
+        if (primitiveType != requestedType) {
+            throw unsupportedType(primitiveType, requestedType);
+        }
+    }
+
+    /**
+     * Returns exception thrown when value of given type is written by writer of other primitive type
+     */
+    static UnsupportedOperationException unsupportedType(Class<?> primitiveType, Class<?> requestedType) {
+        final String message = String.format(
+                "Writer of %s values does not support %s values.",
+                primitiveType.getName(),
+                requestedType.getName()
+        );
+        return new UnsupportedOperationException(message);
+    }
+
+}
@@ -0,0 +1,86 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Default writer for all single-value data types, i.e. numbers
+ */
+class SingleValueFieldWriter implements FieldWriter {
+
+    /**
+     * Holds maximum allowed size of processed data type, i.e. 8 bytes for long
+     */
+    protected final int maximumSupportedSize;
+
+    /**
+     * Holds accepted data type.
+     */
+    private final Class<?> acceptedType;
+
+    /**
+     * Writer implementation
+     */
+    private final ByteBufferWriter endiannessAwareWriter;
+
+    /**
+     * Creates SingleValueFieldWriter for given arguments
+     */
+    SingleValueFieldWriter(
+            ByteBufferWriter endiannessAwareWriter,
+            int maxSupportedSize,
+            Class<?> acceptedType
+    ) {
+        this.maximumSupportedSize = maxSupportedSize;
+        this.acceptedType = acceptedType;
+        this.endiannessAwareWriter = endiannessAwareWriter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEligible(Class<?> type) {
+        return ClassUtils.isAssignable(type, acceptedType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putValue(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, Object value) {
+        checkSize(size);
+        endiannessAwareWriter.write(buffer, isBigEndian, startByte, size, value);
+    }
+
+    /**
+     * Checks if given amount of bytes is valid for written data type
+     *
+     * @param requestedSize is amount of bytes to write value into
+     */
+    protected void checkSize(int requestedSize) {
+        if (requestedSize > maximumSupportedSize) {
+            final String message = String.format(
+                    "For type %s maximum allowed size is %d, but requested writing of %d bytes. Would you like to use different data type?",
+                    acceptedType.getSimpleName(),
+                    maximumSupportedSize,
+                    requestedSize
+            );
+            throw new FieldMappingException(message);
+        }
+    }
+
+    /**
+     * Interface for writers performing conversion from specific Object instance to provided ByteBuffer's data range
+     */
+    @FunctionalInterface
+    interface ByteBufferWriter {
+        /**
+         * Converts Object instance into selected ByteBuffer's data range
+         */
+        void write(ByteBuffer destination, boolean isBigEndian, int startByte, int size, Object value);
+    }
+
+}
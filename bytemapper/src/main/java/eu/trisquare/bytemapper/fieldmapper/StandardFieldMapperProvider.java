@@ -2,7 +2,9 @@ package eu.trisquare.bytemapper.fieldmapper;
 
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,14 +43,16 @@ public class StandardFieldMapperProvider implements FieldMapperProvider {
         ));
 
         /* Default mapper for types assignable from double class */
-        mappers.add(new SingleValueFieldMapper(
+        mappers.add(new PrimitiveValueFieldMapper(
+                typeMapper,
                 typeMapper::toDouble,
                 Double.BYTES,
                 double.class
         ));
 
         /* Default mapper for types assignable from float class */
-        mappers.add(new SingleValueFieldMapper(
+        mappers.add(new PrimitiveValueFieldMapper(
+                typeMapper,
                 typeMapper::toFloat,
                 Float.BYTES,
                 float.class
@@ -69,39 +73,100 @@ public class StandardFieldMapperProvider implements FieldMapperProvider {
         ));
 
         /* Default mapper for types assignable from long class (i.e. long, Long, Number and Object) */
-        mappers.add(new SingleValueFieldMapper(
+        mappers.add(new PrimitiveValueFieldMapper(
+                typeMapper,
                 typeMapper::toLong,
                 Long.BYTES,
                 long.class
         ));
 
         /* Default mapper for types assignable from int class (i.e. int, Integer, Number and Object) */
-        mappers.add(new SingleValueFieldMapper(
+        mappers.add(new PrimitiveValueFieldMapper(
+                typeMapper,
                 typeMapper::toInt,
                 Integer.BYTES,
                 int.class
         ));
 
         /* Default mapper for types assignable from short class (i.e. short, Short, Number and Object) */
-        mappers.add(new SingleValueFieldMapper(
+        mappers.add(new PrimitiveValueFieldMapper(
+                typeMapper,
                 typeMapper::toShort,
                 Short.BYTES,
                 short.class
         ));
 
         /* Default mapper for types assignable from byte class (i.e. byte, Byte, Number and Object) */
-        mappers.add(new SingleValueFieldMapper(
+        mappers.add(new PrimitiveValueFieldMapper(
+                typeMapper,
                 typeMapper::toByte,
                 Byte.BYTES,
                 byte.class
         ));
 
         /* Default mapper for types assignable from boolean class (i.e. boolean, Boolean and Object) */
-        mappers.add(new SingleValueFieldMapper(
+        mappers.add(new PrimitiveValueFieldMapper(
+                typeMapper,
                 typeMapper::toBoolean,
                 Integer.MAX_VALUE,
                 boolean.class
         ));
+
+        /* Default mapper for short[] fields, decoded in bulk */
+        mappers.add(new SingleValueFieldMapper(
+                typeMapper::toShortArray,
+                Integer.MAX_VALUE,
+                short[].class
+        ));
+
+        /* Default mapper for int[] fields, decoded in bulk */
+        mappers.add(new SingleValueFieldMapper(
+                typeMapper::toIntArray,
+                Integer.MAX_VALUE,
+                int[].class
+        ));
+
+        /* Default mapper for long[] fields, decoded in bulk */
+        mappers.add(new SingleValueFieldMapper(
+                typeMapper::toLongArray,
+                Integer.MAX_VALUE,
+                long[].class
+        ));
+
+        /* Default mapper for float[] fields, decoded in bulk */
+        mappers.add(new SingleValueFieldMapper(
+                typeMapper::toFloatArray,
+                Integer.MAX_VALUE,
+                float[].class
+        ));
+
+        /* Default mapper for double[] fields, decoded in bulk */
+        mappers.add(new SingleValueFieldMapper(
+                typeMapper::toDoubleArray,
+                Integer.MAX_VALUE,
+                double[].class
+        ));
+
+        /* Default mapper for boolean[] fields, holding bits of scoped bytes */
+        mappers.add(new SingleValueFieldMapper(
+                typeMapper::toBooleanArray,
+                Integer.MAX_VALUE / Byte.SIZE,
+                boolean[].class
+        ));
+
+        /* Default mapper for BitSet fields, holding bits of scoped bytes */
+        mappers.add(new SingleValueFieldMapper(
+                typeMapper::toBitSet,
+                Integer.MAX_VALUE / Byte.SIZE,
+                BitSet.class
+        ));
+
+        /* Default mapper for ByteBuffer fields, returning read-only view of source data instead of its copy */
+        mappers.add(new SingleValueFieldMapper(
+                typeMapper::toByteBuffer,
+                Integer.MAX_VALUE,
+                ByteBuffer.class
+        ));
     }
 
     /**
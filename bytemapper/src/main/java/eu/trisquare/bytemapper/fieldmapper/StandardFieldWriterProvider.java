@@ -0,0 +1,210 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Provides FieldWriter eligible for current processed field
+ */
+public class StandardFieldWriterProvider implements FieldWriterProvider {
+
+    /**
+     * List of known writers stored in importance order. Narrowest types come first, as values of
+     * primitive types are also accepted by writers of wider primitive types.
+     */
+    private static final List<FieldWriter> writers;
+
+    /**
+     * Writes specific types into ByteBuffer
+     */
+    private static final TypeWriter typeWriter = new StandardTypeWriter();
+
+    static {
+
+        writers = new ArrayList<>();
+
+        /* Default writer for types assignable to boolean class (i.e. boolean and Boolean) */
+        writers.add(new PrimitiveValueFieldWriter(
+                typeWriter,
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putBoolean(buffer, isBigEndian, startByte, size, (Boolean) value),
+                Integer.MAX_VALUE,
+                boolean.class
+        ));
+
+        /* Default writer for types assignable to byte class (i.e. byte and Byte) */
+        writers.add(new PrimitiveValueFieldWriter(
+                typeWriter,
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putByte(buffer, isBigEndian, startByte, size, ((Number) value).byteValue()),
+                Byte.BYTES,
+                byte.class
+        ));
+
+        /* Default writer for types assignable to short class (i.e. short, Short, byte and Byte) */
+        writers.add(new PrimitiveValueFieldWriter(
+                typeWriter,
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putShort(buffer, isBigEndian, startByte, size, ((Number) value).shortValue()),
+                Short.BYTES,
+                short.class
+        ));
+
+        /* Default writer for types assignable to int class (i.e. int, Integer and narrower primitives) */
+        writers.add(new PrimitiveValueFieldWriter(
+                typeWriter,
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putInt(buffer, isBigEndian, startByte, size, ((Number) value).intValue()),
+                Integer.BYTES,
+                int.class
+        ));
+
+        /* Default writer for types assignable to long class (i.e. long, Long and narrower primitives) */
+        writers.add(new PrimitiveValueFieldWriter(
+                typeWriter,
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putLong(buffer, isBigEndian, startByte, size, ((Number) value).longValue()),
+                Long.BYTES,
+                long.class
+        ));
+
+        /* Default writer for types assignable to float class (i.e. float and Float) */
+        writers.add(new PrimitiveValueFieldWriter(
+                typeWriter,
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putFloat(buffer, isBigEndian, startByte, size, ((Number) value).floatValue()),
+                Float.BYTES,
+                float.class
+        ));
+
+        /* Default writer for types assignable to double class (i.e. double and Double) */
+        writers.add(new PrimitiveValueFieldWriter(
+                typeWriter,
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putDouble(buffer, isBigEndian, startByte, size, ((Number) value).doubleValue()),
+                Double.BYTES,
+                double.class
+        ));
+
+        /* Default writer for byte[] class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putByteArray(buffer, isBigEndian, startByte, size, (byte[]) value),
+                Integer.MAX_VALUE,
+                byte[].class
+        ));
+
+        /* Default writer for Byte[] class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putByteObjectArray(buffer, isBigEndian, startByte, size, (Byte[]) value),
+                Integer.MAX_VALUE,
+                Byte[].class
+        ));
+
+        /* Default writer for BigInteger class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putBigInteger(buffer, isBigEndian, startByte, size, (BigInteger) value),
+                Integer.MAX_VALUE,
+                BigInteger.class
+        ));
+
+        /* Default writer for String class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putString(buffer, isBigEndian, startByte, size, (String) value),
+                Integer.MAX_VALUE,
+                String.class
+        ));
+
+        /* Default writer for short[] class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putShortArray(buffer, isBigEndian, startByte, size, (short[]) value),
+                Integer.MAX_VALUE,
+                short[].class
+        ));
+
+        /* Default writer for int[] class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putIntArray(buffer, isBigEndian, startByte, size, (int[]) value),
+                Integer.MAX_VALUE,
+                int[].class
+        ));
+
+        /* Default writer for long[] class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putLongArray(buffer, isBigEndian, startByte, size, (long[]) value),
+                Integer.MAX_VALUE,
+                long[].class
+        ));
+
+        /* Default writer for float[] class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putFloatArray(buffer, isBigEndian, startByte, size, (float[]) value),
+                Integer.MAX_VALUE,
+                float[].class
+        ));
+
+        /* Default writer for double[] class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putDoubleArray(buffer, isBigEndian, startByte, size, (double[]) value),
+                Integer.MAX_VALUE,
+                double[].class
+        ));
+
+        /* Default writer for boolean[] class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putBooleanArray(buffer, isBigEndian, startByte, size, (boolean[]) value),
+                Integer.MAX_VALUE / Byte.SIZE,
+                boolean[].class
+        ));
+
+        /* Default writer for BitSet class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putBitSet(buffer, isBigEndian, startByte, size, (BitSet) value),
+                Integer.MAX_VALUE / Byte.SIZE,
+                BitSet.class
+        ));
+
+        /* Default writer for ByteBuffer class */
+        writers.add(new SingleValueFieldWriter(
+                (buffer, isBigEndian, startByte, size, value) ->
+                        typeWriter.putByteBuffer(buffer, isBigEndian, startByte, size, (ByteBuffer) value),
+                Integer.MAX_VALUE,
+                ByteBuffer.class
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FieldWriter getWriter(Class<?> clazz) {
+        final Optional<FieldWriter> oWriter = writers.stream()
+                .filter(writer -> writer.isEligible(clazz))
+                .findFirst();
+
+        if (!oWriter.isPresent()) {
+            final String message = String.format(
+                    "No writer has been found for class: %s",
+                    clazz.getName()
+            );
+            throw new FieldMappingException(message);
+        }
+        return oWriter.get();
+    }
+
+}
@@ -0,0 +1,33 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.annotations.Interned;
+
+public class StandardStructureMapperProvider implements StructureMapperProvider {
+
+    /**
+     * Mapper for structures
+     */
+    public static final StructureMapper structureMapper = new StandardTypeMapper()::toStructure;
+
+    /**
+     * Mappers of classes annotated with {@link Interned}, each of them remembering structures in its own cache
+     */
+    private final ClassValue<StructureMapper> internedMappers = new ClassValue<StructureMapper>() {
+        @Override
+        protected StructureMapper computeValue(Class<?> type) {
+            final Interned interned = type.getAnnotation(Interned.class);
+            return interned == null ? structureMapper : new InterningStructureMapper(structureMapper, interned.capacity());
+        }
+    };
+
+    /**
+     * {@inheritDoc}
+     * Structures of classes annotated with {@link Interned} are remembered in a single cache per class,
+     * owned by this provider, so instances of other providers do not share it.
+     */
+    @Override
+    public StructureMapper getStructureMapper(Class<?> clazz) {
+        return clazz == null ? structureMapper : internedMappers.get(clazz);
+    }
+
+}
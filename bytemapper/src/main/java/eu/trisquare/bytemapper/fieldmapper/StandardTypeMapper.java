@@ -0,0 +1,430 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import org.apache.commons.lang3.ArrayUtils;
+
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * Helper class for ByteBuffer to specific Object conversion
+ */
+class StandardTypeMapper implements TypeMapper {
+    /**
+     * Creates StandardTypeMapper instance
+     */
+    StandardTypeMapper() {
+        //empty
+    }
+
+    /**
+     * {@inheritDoc}
+     * Bytes are checked eight at a time and scanning stops at the first word holding non-zero byte.
+     * Bytes which do not form full word are checked by last word, overlapping already checked bytes.
+     */
+    @Override
+    public boolean toBoolean(
+            ByteBuffer buffer,
+            @SuppressWarnings("unused") boolean isBigEndian,
+            int startByte,
+            int size
+    ) {
+        checkIndex(buffer, startByte, size);
+        final int endByte = startByte + size;
+        if (size < Long.BYTES) {
+            return isAnyByteSet(buffer, startByte, endByte);
+        }
+        for (int i = startByte; i < endByte - Long.BYTES; i += Long.BYTES) {
+            if (buffer.getLong(i) != 0) {
+                return true;
+            }
+        }
+        return buffer.getLong(endByte - Long.BYTES) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Bits are decoded from words of eight bytes, visiting set bits only.
+     */
+    @Override
+    public boolean[] toBooleanArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        checkIndex(buffer, startByte, size);
+        final boolean[] bits = new boolean[size * Byte.SIZE];
+        for (int word = 0; word * Long.BYTES < size; word++) {
+            long value = readBitWord(buffer, isBigEndian, startByte, size, word);
+            while (value != 0) {
+                bits[word * Long.SIZE + Long.numberOfTrailingZeros(value)] = true;
+                value &= value - 1;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet toBitSet(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        checkIndex(buffer, startByte, size);
+        final long[] words = new long[(size + Long.BYTES - 1) / Long.BYTES];
+        for (int word = 0; word < words.length; word++) {
+            words[word] = readBitWord(buffer, isBigEndian, startByte, size, word);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte toByte(
+            ByteBuffer buffer,
+            boolean isBigEndian,
+            int startByte,
+            int size
+    ) {
+        return buffer.get(startByte);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public short toShort(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (size == Short.BYTES) {
+            final short value = buffer.getShort(startByte);
+            return isInBufferOrder(buffer, isBigEndian) ? value : Short.reverseBytes(value);
+        }
+        final short value = (short) readBigEndian(buffer, startByte, size);
+        return isBigEndian ? value : Short.reverseBytes(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int toInt(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (size == Integer.BYTES) {
+            final int value = buffer.getInt(startByte);
+            return isInBufferOrder(buffer, isBigEndian) ? value : Integer.reverseBytes(value);
+        }
+        final int value = (int) readBigEndian(buffer, startByte, size);
+        return isBigEndian ? value : Integer.reverseBytes(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long toLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (size == Long.BYTES) {
+            final long value = buffer.getLong(startByte);
+            return isInBufferOrder(buffer, isBigEndian) ? value : Long.reverseBytes(value);
+        }
+        final long value = readBigEndian(buffer, startByte, size);
+        return isBigEndian ? value : Long.reverseBytes(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double toDouble(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        return Double.longBitsToDouble(toLong(buffer, isBigEndian, startByte, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float toFloat(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        return Float.intBitsToFloat(toInt(buffer, isBigEndian, startByte, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigInteger toBigInteger(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (size > 0 && size <= Long.BYTES) {
+            //sign-extends value, which needs no temporary array and is cached by BigInteger for small values
+            final int shift = Long.SIZE - size * Byte.SIZE;
+            return BigInteger.valueOf(toUnsignedLong(buffer, isBigEndian, startByte, size) << shift >> shift);
+        }
+        final byte[] bytes = readBytes(buffer, isBigEndian, startByte, size);
+        return new BigInteger(bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long toUnsignedLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (size == Long.BYTES) {
+            return toLong(buffer, isBigEndian, startByte, size);
+        }
+        checkIndex(buffer, startByte, size);
+        final long value = readBigEndian(buffer, startByte, size);
+        return isBigEndian ? value : Long.reverseBytes(value) >>> (Long.SIZE - size * Byte.SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigInteger toUnsignedBigInteger(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (size > 0 && size <= Long.BYTES) {
+            final long value = toUnsignedLong(buffer, isBigEndian, startByte, size);
+            return value >= 0 ? BigInteger.valueOf(value) : BigInteger.valueOf(value & Long.MAX_VALUE).setBit(Long.SIZE - 1);
+        }
+        final byte[] bytes = readBytes(buffer, isBigEndian, startByte, size);
+        return new BigInteger(1, bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (isBigEndian && buffer.hasArray()) {
+            checkIndex(buffer, startByte, size);
+            return new String(buffer.array(), buffer.arrayOffset() + startByte, size, StandardCharsets.UTF_8);
+        }
+        final byte[] bytes = readBytes(buffer, isBigEndian, startByte, size);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] toByteArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        return readBytes(buffer, isBigEndian, startByte, size);
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Byte[] toByteObjectArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        final byte[] bytes = readBytes(buffer, isBigEndian, startByte, size);
+        return ArrayUtils.toObject(bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public short[] toShortArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        final short[] values = new short[getElementCount(short.class, Short.BYTES, size)];
+        view(buffer, isBigEndian, startByte, size).asShortBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toIntArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        final int[] values = new int[getElementCount(int.class, Integer.BYTES, size)];
+        view(buffer, isBigEndian, startByte, size).asIntBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] toLongArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        final long[] values = new long[getElementCount(long.class, Long.BYTES, size)];
+        view(buffer, isBigEndian, startByte, size).asLongBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float[] toFloatArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        final float[] values = new float[getElementCount(float.class, Float.BYTES, size)];
+        view(buffer, isBigEndian, startByte, size).asFloatBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double[] toDoubleArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        final double[] values = new double[getElementCount(double.class, Double.BYTES, size)];
+        view(buffer, isBigEndian, startByte, size).asDoubleBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer toByteBuffer(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        return slice(buffer.asReadOnlyBuffer(), startByte, size)
+                .order(isBigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T toStructure(ByteBuffer buffer, Class<T> structureType, int startByte, int size) {
+        return DefaultByteMapperHolder.INSTANCE.mapValues(structureType, slice(buffer.duplicate(), startByte, size));
+    }
+
+    /**
+     * Gets {@code size} bytes from {@code source}, starting from {@code startByte} and ending on
+     * {@code startByte+size} as a primitive bytes array. If {@code isBigEndian} flag is set to
+     * {@code false}, returned array will have opposite order than in source. Bytes are copied in bulk,
+     * directly from backing array if it is accessible, and reversed afterwards for little-endian data.
+     *
+     * @param source      to obtain data from
+     * @param isBigEndian determines data traversal direction
+     * @param startByte   position (0-inclusive index) of first byte to copy
+     * @param size        number of bytes to copy
+     * @return {@code size} bytes copied form {@code source} as a primitive bytes array in direct or opposite direction
+     */
+    private byte[] readBytes(ByteBuffer source, boolean isBigEndian, int startByte, int size) {
+        checkIndex(source, startByte, size);
+        final byte[] bytes = new byte[size];
+        if (source.hasArray()) {
+            System.arraycopy(source.array(), source.arrayOffset() + startByte, bytes, 0, size);
+        } else {
+            slice(source.duplicate(), startByte, size).get(bytes);
+        }
+        if (!isBigEndian) {
+            ArrayUtils.reverse(bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns {@code size} bytes of {@code source} starting from {@code startByte} as a new buffer sharing
+     * its content, with requested byte order, so values may be read in bulk through view buffers
+     */
+    private ByteBuffer view(ByteBuffer source, boolean isBigEndian, int startByte, int size) {
+        return slice(source.duplicate(), startByte, size).order(isBigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns number of array elements of given width held by {@code size} bytes. Throws if size is not
+     * a multiple of element width.
+     */
+    private int getElementCount(Class<?> elementType, int elementSize, int size) {
+        if (size % elementSize != 0) {
+            final String message = String.format(
+                    "Size of %s array must be multiple of %d bytes, but %d was provided",
+                    elementType.getSimpleName(), elementSize, size
+            );
+            throw new FieldMappingException(message);
+        }
+        return size / elementSize;
+    }
+
+    /**
+     * Narrows given {@code view} of source buffer to {@code size} bytes starting from {@code startByte}
+     * and returns them as a new buffer sharing content with source, with big-endian order. Limit and
+     * position of {@code view} are modified, so it must not be the source buffer itself.
+     *
+     * @param view      duplicate of source buffer
+     * @param startByte position (0-inclusive index) of first byte of returned buffer
+     * @param size      number of bytes in returned buffer
+     * @return buffer sharing {@code size} bytes of source content
+     */
+    private ByteBuffer slice(ByteBuffer view, int startByte, int size) {
+        checkIndex(view, startByte, size);
+        /* Casted to Buffer, as covariant overrides of limit and position are not available in Java 8 */
+        ((Buffer) view).limit(startByte + size).position(startByte);
+        return view.slice();
+    }
+
+    /**
+     * Checks if {@code size} bytes starting from {@code startByte} are within limit of {@code source},
+     * so bulk operations fail in the same way as reads of single bytes
+     */
+    private void checkIndex(ByteBuffer source, int startByte, int size) {
+        if (startByte < 0 || size < 0 || startByte > source.limit() - size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+
+    /**
+     * Reads {@code size} bytes from {@code source}, starting from {@code startByte}, as unsigned big-endian
+     * value. Bytes are read by absolute index, so neither position nor order of {@code source} is used.
+     * Value of little-endian data of given type width is obtained by reversing bytes of returned value,
+     * which places bytes of partial-width values on MSB side, as if they were zero-padded on LSB side.
+     *
+     * @param source    to read data from
+     * @param startByte position (0-inclusive index) of first byte to read
+     * @param size      number of bytes to read, must not exceed 8
+     * @return value of read bytes, zero-padded on MSB side
+     */
+    private long readBigEndian(ByteBuffer source, int startByte, int size) {
+        long value = 0;
+        for (int n = 0; n < size; n++) {
+            value = (value << Byte.SIZE) | (source.get(startByte + n) & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Checks if any of less than eight bytes between {@code startByte} and {@code endByte} is non-zero,
+     * reading them with as few reads as possible
+     */
+    private boolean isAnyByteSet(ByteBuffer source, int startByte, int endByte) {
+        int i = startByte;
+        if (endByte - i >= Integer.BYTES) {
+            if (source.getInt(i) != 0) {
+                return true;
+            }
+            i += Integer.BYTES;
+        }
+        if (endByte - i >= Short.BYTES) {
+            if (source.getShort(i) != 0) {
+                return true;
+            }
+            i += Short.BYTES;
+        }
+        return i < endByte && source.get(i) != 0;
+    }
+
+    /**
+     * Reads n-th group of 64 bits of unsigned value of {@code size} bytes starting from {@code startByte},
+     * counting from its least significant bit. Last group is zero-extended if it is narrower than eight bytes.
+     */
+    private long readBitWord(ByteBuffer source, boolean isBigEndian, int startByte, int size, int word) {
+        final int offset = word * Long.BYTES;
+        final int length = Math.min(Long.BYTES, size - offset);
+        final int from = isBigEndian ? startByte + size - offset - length : startByte + offset;
+        return toUnsignedLong(source, isBigEndian, from, length);
+    }
+
+    /**
+     * Checks if full-width value read using {@code source} byte order has requested endianness
+     */
+    private boolean isInBufferOrder(ByteBuffer source, boolean isBigEndian) {
+        return (source.order() == ByteOrder.BIG_ENDIAN) == isBigEndian;
+    }
+
+    /**
+     * Lazily initialized ByteMapper used for structures. It is shared, so mapping plans of
+     * structure classes are computed only once.
+     */
+    private static final class DefaultByteMapperHolder {
+        private static final ByteMapper INSTANCE = new ByteMapperBuilder().build();
+    }
+
+}
@@ -0,0 +1,375 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * Helper class for specific Object to ByteBuffer conversion
+ */
+class StandardTypeWriter implements TypeWriter {
+
+    /**
+     * Creates StandardTypeWriter instance
+     */
+    StandardTypeWriter() {
+        //empty
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putBoolean(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, boolean value) {
+        for (int i = startByte; i < startByte + size; i++) {
+            buffer.put(i, (byte) 0x00);
+        }
+        if (value) {
+            buffer.put(isBigEndian ? startByte + size - 1 : startByte, (byte) 0x01);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putByte(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, byte value) {
+        buffer.put(startByte, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putShort(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, short value) {
+        if (size == Short.BYTES) {
+            buffer.putShort(startByte, isInBufferOrder(buffer, isBigEndian) ? value : Short.reverseBytes(value));
+            return;
+        }
+        final short bigEndianValue = isBigEndian ? value : Short.reverseBytes(value);
+        writeBigEndian(buffer, startByte, size, bigEndianValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putInt(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, int value) {
+        if (size == Integer.BYTES) {
+            buffer.putInt(startByte, isInBufferOrder(buffer, isBigEndian) ? value : Integer.reverseBytes(value));
+            return;
+        }
+        final int bigEndianValue = isBigEndian ? value : Integer.reverseBytes(value);
+        writeBigEndian(buffer, startByte, size, bigEndianValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, long value) {
+        if (size == Long.BYTES) {
+            buffer.putLong(startByte, isInBufferOrder(buffer, isBigEndian) ? value : Long.reverseBytes(value));
+            return;
+        }
+        final long bigEndianValue = isBigEndian ? value : Long.reverseBytes(value);
+        writeBigEndian(buffer, startByte, size, bigEndianValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putFloat(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, float value) {
+        putInt(buffer, isBigEndian, startByte, size, Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putDouble(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, double value) {
+        putLong(buffer, isBigEndian, startByte, size, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putBigInteger(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, BigInteger value) {
+        final byte[] bytes = value.toByteArray();
+        checkLength(bytes.length, size);
+        final byte padding = value.signum() < 0 ? (byte) 0xFF : (byte) 0x00;
+        final int paddingLength = size - bytes.length;
+        for (int n = 0; n < size; n++) {
+            final byte element = n < paddingLength ? padding : bytes[n - paddingLength];
+            buffer.put(getIndex(isBigEndian, startByte, size, n), element);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putUnsignedLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, long value) {
+        if (size < Long.BYTES && value >>> (size * Byte.SIZE) != 0) {
+            checkLength((Long.SIZE - Long.numberOfLeadingZeros(value) + Byte.SIZE - 1) / Byte.SIZE, size);
+        }
+        if (isBigEndian || size == Long.BYTES) {
+            putLong(buffer, isBigEndian, startByte, size, value);
+            return;
+        }
+        for (int n = 0; n < size; n++) {
+            buffer.put(startByte + n, (byte) (value >>> (n * Byte.SIZE)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putUnsignedBigInteger(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, BigInteger value) {
+        if (value.signum() < 0) {
+            final String message = String.format(
+                    "Unsigned value must not be negative, but %s was provided",
+                    value
+            );
+            throw new FieldMappingException(message);
+        }
+        final byte[] bytes = value.toByteArray();
+        //skips sign byte, which is added to values with the most significant bit set
+        final int signLength = bytes.length > 1 && bytes[0] == 0x00 ? 1 : 0;
+        final int length = bytes.length - signLength;
+        checkLength(length, size);
+        for (int n = 0; n < size; n++) {
+            final int index = n - (size - length);
+            buffer.put(getIndex(isBigEndian, startByte, size, n), index < 0 ? 0x00 : bytes[signLength + index]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putString(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, String value) {
+        writeBytes(buffer, isBigEndian, startByte, size, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putByteArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, byte[] value) {
+        writeBytes(buffer, isBigEndian, startByte, size, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putByteObjectArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, Byte[] value) {
+        writeBytes(buffer, isBigEndian, startByte, size, ArrayUtils.toPrimitive(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putByteBuffer(
+            ByteBuffer buffer,
+            @SuppressWarnings("unused") boolean isBigEndian,
+            int startByte,
+            int size,
+            ByteBuffer value
+    ) {
+        checkLength(value.remaining(), size);
+        final ByteBuffer destination = view(buffer, true, startByte, size);
+        destination.put(value.duplicate());
+        clearFrom(destination, destination.position());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putShortArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, short[] value) {
+        checkLength(value.length * Short.BYTES, size);
+        final ByteBuffer destination = view(buffer, isBigEndian, startByte, size);
+        destination.asShortBuffer().put(value);
+        clearFrom(destination, value.length * Short.BYTES);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putIntArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, int[] value) {
+        checkLength(value.length * Integer.BYTES, size);
+        final ByteBuffer destination = view(buffer, isBigEndian, startByte, size);
+        destination.asIntBuffer().put(value);
+        clearFrom(destination, value.length * Integer.BYTES);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putLongArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, long[] value) {
+        checkLength(value.length * Long.BYTES, size);
+        final ByteBuffer destination = view(buffer, isBigEndian, startByte, size);
+        destination.asLongBuffer().put(value);
+        clearFrom(destination, value.length * Long.BYTES);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putFloatArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, float[] value) {
+        checkLength(value.length * Float.BYTES, size);
+        final ByteBuffer destination = view(buffer, isBigEndian, startByte, size);
+        destination.asFloatBuffer().put(value);
+        clearFrom(destination, value.length * Float.BYTES);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putDoubleArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, double[] value) {
+        checkLength(value.length * Double.BYTES, size);
+        final ByteBuffer destination = view(buffer, isBigEndian, startByte, size);
+        destination.asDoubleBuffer().put(value);
+        clearFrom(destination, value.length * Double.BYTES);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putBooleanArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, boolean[] value) {
+        checkBitLength(value.length, size);
+        final long[] words = new long[(size + Long.BYTES - 1) / Long.BYTES];
+        for (int n = 0; n < value.length; n++) {
+            if (value[n]) {
+                words[n / Long.SIZE] |= 1L << n;
+            }
+        }
+        writeBitWords(buffer, isBigEndian, startByte, size, words);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putBitSet(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, BitSet value) {
+        checkBitLength(value.length(), size);
+        writeBitWords(buffer, isBigEndian, startByte, size, value.toLongArray());
+    }
+
+    /**
+     * Writes groups of 64 bits as unsigned value of {@code size} bytes, inverse of reading bits in
+     * {@link StandardTypeMapper}. Bytes not covered by given words are cleared.
+     */
+    private void writeBitWords(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, long[] words) {
+        if (startByte < 0 || startByte > buffer.limit() - size) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int word = 0; word * Long.BYTES < size; word++) {
+            final int offset = word * Long.BYTES;
+            final int length = Math.min(Long.BYTES, size - offset);
+            final int from = isBigEndian ? startByte + size - offset - length : startByte + offset;
+            putUnsignedLong(buffer, isBigEndian, from, length, word < words.length ? words[word] : 0);
+        }
+    }
+
+    /**
+     * Returns {@code size} bytes of {@code destination} starting from {@code startByte} as a new buffer sharing
+     * its content, with requested byte order, so values may be written in bulk through view buffers
+     */
+    private ByteBuffer view(ByteBuffer destination, boolean isBigEndian, int startByte, int size) {
+        if (startByte < 0 || startByte > destination.limit() - size) {
+            throw new IndexOutOfBoundsException();
+        }
+        final ByteBuffer view = destination.duplicate();
+        /* Casted to Buffer, as covariant overrides of limit and position are not available in Java 8 */
+        ((Buffer) view).limit(startByte + size).position(startByte);
+        return view.slice().order(isBigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Clears bytes of {@code view} from given index up to its limit
+     */
+    private void clearFrom(ByteBuffer view, int index) {
+        for (int i = index; i < view.limit(); i++) {
+            view.put(i, (byte) 0x00);
+        }
+    }
+
+    /**
+     * Writes given bytes followed by zero padding, in direct or opposite direction
+     */
+    private void writeBytes(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, byte[] bytes) {
+        checkLength(bytes.length, size);
+        for (int n = 0; n < size; n++) {
+            final byte element = n < bytes.length ? bytes[n] : 0x00;
+            buffer.put(getIndex(isBigEndian, startByte, size, n), element);
+        }
+    }
+
+    /**
+     * Writes {@code size} least significant bytes of given value as big-endian value, inverse of reading
+     * partial-width value in {@link StandardTypeMapper}.
+     */
+    private void writeBigEndian(ByteBuffer destination, int startByte, int size, long value) {
+        for (int n = 0; n < size; n++) {
+            destination.put(startByte + n, (byte) (value >>> ((size - n - 1) * Byte.SIZE)));
+        }
+    }
+
+    /**
+     * Returns index of n-th written byte, traversing buffer in direct or opposite direction
+     */
+    private int getIndex(boolean isBigEndian, int startByte, int size, int n) {
+        return startByte + (isBigEndian ? n : (size - n - 1));
+    }
+
+    /**
+     * Checks if full-width value written using {@code destination} byte order has requested endianness
+     */
+    private boolean isInBufferOrder(ByteBuffer destination, boolean isBigEndian) {
+        return (destination.order() == ByteOrder.BIG_ENDIAN) == isBigEndian;
+    }
+
+    /**
+     * Checks if given number of bits fits within given size
+     */
+    private void checkBitLength(int bits, int size) {
+        if (bits > (long) size * Byte.SIZE) {
+            final String message = String.format(
+                    "Value of %d bits does not fit in %d bytes.",
+                    bits, size
+            );
+            throw new FieldMappingException(message);
+        }
+    }
+
+    /**
+     * Checks if variable-length value fits within given size
+     */
+    private void checkLength(int length, int size) {
+        if (length > size) {
+            final String message = String.format(
+                    "Value of %d bytes does not fit in %d bytes.",
+                    length, size
+            );
+            throw new FieldMappingException(message);
+        }
+    }
+
+}
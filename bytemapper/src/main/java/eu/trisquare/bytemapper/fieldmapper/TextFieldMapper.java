@@ -0,0 +1,143 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.annotations.Text;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Mapper of String values configured by {@link Text} annotation. Padding and terminator are found directly
+ * in source buffer, and value is decoded from its backing array when it is accessible, so no temporary copy
+ * of value bytes is created.
+ */
+public final class TextFieldMapper implements FieldMapper, InterningMapper {
+
+    /**
+     * Charset, padding and termination of mapped values
+     */
+    private final TextFormat format;
+
+    /**
+     * Cache of decoded values, null if values are not cached
+     */
+    private final InternCache<String> cache;
+
+    /**
+     * Creates mapper of text values with given properties, same as properties of {@link Text} annotation
+     *
+     * @param charsetName    name of values' charset
+     * @param padding        of fixed-width values
+     * @param terminated     true if values are NUL-terminated
+     * @param internCapacity maximum number of remembered values, 0 if values should not be remembered
+     */
+    public TextFieldMapper(String charsetName, Text.Padding padding, boolean terminated, int internCapacity) {
+        if (internCapacity < 0) {
+            final String message = String.format(
+                    "Intern capacity must not be negative, but %d was provided",
+                    internCapacity
+            );
+            throw new FieldMappingException(message);
+        }
+        this.format = new TextFormat(charsetName, padding, terminated);
+        this.cache = internCapacity > 0 ? new InternCache<>(internCapacity) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Returns null if values are not remembered.
+     */
+    @Override
+    public InternCache<String> getInternCache() {
+        return cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEligible(Class<?> type) {
+        return ClassUtils.isAssignable(String.class, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getValue(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (startByte < 0 || size < 0 || startByte > buffer.limit() - size) {
+            throw new IndexOutOfBoundsException();
+        }
+        final boolean isReversed = format.isReversed(isBigEndian);
+        final int from = isReversed ? startByte + size - 1 : startByte;
+        final int step = isReversed ? -1 : 1;
+        final int length = getLength(buffer, isBigEndian, from, step, size);
+        if (cache == null) {
+            return decode(buffer, isBigEndian, from, step, length);
+        }
+        final String cached = cache.get(buffer, from, step, length);
+        if (cached != null) {
+            return cached;
+        }
+        final String value = decode(buffer, isBigEndian, from, step, length);
+        cache.put(buffer, from, step, length, value);
+        return value;
+    }
+
+    /**
+     * Returns number of value bytes, preceding terminator and trailing padding
+     */
+    private int getLength(ByteBuffer buffer, boolean isBigEndian, int from, int step, int size) {
+        int length = size;
+        final byte[] terminator = format.getTerminator(isBigEndian);
+        if (terminator != null) {
+            for (int n = 0; n + terminator.length <= size; n += terminator.length) {
+                if (isCharacter(buffer, from + n * step, step, terminator)) {
+                    length = n;
+                    break;
+                }
+            }
+        }
+        final byte[] padding = format.getPadding(isBigEndian);
+        if (padding != null) {
+            while (length >= padding.length && isCharacter(buffer, from + (length - padding.length) * step, step, padding)) {
+                length -= padding.length;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Decodes {@code length} bytes, directly from backing array of the buffer if it is accessible and bytes are not reversed
+     */
+    private String decode(ByteBuffer buffer, boolean isBigEndian, int from, int step, int length) {
+        if (step > 0 && buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + from, length, format.getCharset(isBigEndian));
+        }
+        final byte[] bytes = new byte[length];
+        if (step > 0) {
+            final ByteBuffer view = buffer.duplicate();
+            /* Casted to Buffer, as covariant overrides of limit and position are not available in Java 8 */
+            ((Buffer) view).limit(from + length).position(from);
+            view.get(bytes);
+        } else {
+            for (int n = 0; n < length; n++) {
+                bytes[n] = buffer.get(from - n);
+            }
+        }
+        return new String(bytes, format.getCharset(isBigEndian));
+    }
+
+    /**
+     * Checks if bytes at given index are the same as bytes of given encoded character
+     */
+    private static boolean isCharacter(ByteBuffer buffer, int index, int step, byte[] character) {
+        for (int n = 0; n < character.length; n++) {
+            if (buffer.get(index + n * step) != character[n]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
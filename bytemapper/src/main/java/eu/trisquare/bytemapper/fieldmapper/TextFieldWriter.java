@@ -0,0 +1,85 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.annotations.Text;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writer of String values configured by {@link Text} annotation, counterpart of {@link TextFieldMapper}
+ */
+public final class TextFieldWriter implements FieldWriter {
+
+    /**
+     * Charset, padding and termination of written values
+     */
+    private final TextFormat format;
+
+    /**
+     * Creates writer of text values with given properties, same as properties of {@link Text} annotation
+     *
+     * @param charsetName name of values' charset
+     * @param padding     of fixed-width values
+     * @param terminated  true if values are NUL-terminated
+     */
+    public TextFieldWriter(String charsetName, Text.Padding padding, boolean terminated) {
+        this.format = new TextFormat(charsetName, padding, terminated);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEligible(Class<?> type) {
+        return ClassUtils.isAssignable(type, String.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Value is followed by terminator, if there is room for it, and unused bytes are filled with padding
+     * characters. Bytes which do not fit whole padding character are set to zero.
+     */
+    @Override
+    public void putValue(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, Object value) {
+        final byte[] bytes = value.toString().getBytes(format.getCharset(isBigEndian));
+        if (bytes.length > size) {
+            final String message = String.format(
+                    "Value of %d bytes does not fit in %d bytes.",
+                    bytes.length, size
+            );
+            throw new FieldMappingException(message);
+        }
+        final boolean isReversed = format.isReversed(isBigEndian);
+        final int from = isReversed ? startByte + size - 1 : startByte;
+        final int step = isReversed ? -1 : 1;
+        int length = put(buffer, from, step, 0, size, bytes);
+        final byte[] terminator = format.getTerminator(isBigEndian);
+        if (terminator != null) {
+            length = put(buffer, from, step, length, size, terminator);
+        }
+        final byte[] padding = format.getPadding(isBigEndian);
+        if (padding != null) {
+            while (length + padding.length <= size) {
+                length = put(buffer, from, step, length, size, padding);
+            }
+        }
+        for (int n = length; n < size; n++) {
+            buffer.put(from + n * step, (byte) 0x00);
+        }
+    }
+
+    /**
+     * Writes given bytes after {@code length} already written bytes if all of them fit in {@code size} bytes,
+     * returns total number of written bytes
+     */
+    private static int put(ByteBuffer buffer, int from, int step, int length, int size, byte[] bytes) {
+        if (length + bytes.length > size) {
+            return length;
+        }
+        for (int n = 0; n < bytes.length; n++) {
+            buffer.put(from + (length + n) * step, bytes[n]);
+        }
+        return length + bytes.length;
+    }
+
+}
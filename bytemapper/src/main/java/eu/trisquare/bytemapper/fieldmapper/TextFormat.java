@@ -0,0 +1,106 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.annotations.Text;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Charset, padding and termination of text values, shared by {@link TextFieldMapper} and {@link TextFieldWriter}
+ */
+final class TextFormat {
+
+    /**
+     * Charset of big-endian values
+     */
+    private final Charset bigEndianCharset;
+
+    /**
+     * Charset of little-endian values, different from {@link #bigEndianCharset} for UTF-16 only
+     */
+    private final Charset littleEndianCharset;
+
+    /**
+     * True if bytes of little-endian values are reversed
+     */
+    private final boolean reversible;
+
+    /**
+     * Encoded padding character of big-endian values, or null if values are not padded
+     */
+    private final byte[] bigEndianPadding;
+
+    /**
+     * Encoded padding character of little-endian values, or null if values are not padded
+     */
+    private final byte[] littleEndianPadding;
+
+    /**
+     * Encoded NUL character of big-endian values, or null if values are not terminated
+     */
+    private final byte[] bigEndianTerminator;
+
+    /**
+     * Encoded NUL character of little-endian values, or null if values are not terminated
+     */
+    private final byte[] littleEndianTerminator;
+
+    /**
+     * Creates format for given charset name, throws if charset is not supported
+     */
+    TextFormat(String charsetName, Text.Padding padding, boolean terminated) {
+        final Charset charset = getCharset(charsetName);
+        if (charset.equals(StandardCharsets.UTF_16)) {
+            this.bigEndianCharset = StandardCharsets.UTF_16BE;
+            this.littleEndianCharset = StandardCharsets.UTF_16LE;
+            this.reversible = false;
+        } else {
+            this.bigEndianCharset = charset;
+            this.littleEndianCharset = charset;
+            this.reversible = true;
+        }
+        final String paddingCharacter = padding == Text.Padding.SPACE ? " " : "\0";
+        this.bigEndianPadding = padding == Text.Padding.NONE ? null : paddingCharacter.getBytes(bigEndianCharset);
+        this.littleEndianPadding = padding == Text.Padding.NONE ? null : paddingCharacter.getBytes(littleEndianCharset);
+        this.bigEndianTerminator = terminated ? "\0".getBytes(bigEndianCharset) : null;
+        this.littleEndianTerminator = terminated ? "\0".getBytes(littleEndianCharset) : null;
+    }
+
+    Charset getCharset(boolean isBigEndian) {
+        return isBigEndian ? bigEndianCharset : littleEndianCharset;
+    }
+
+    /**
+     * Checks if bytes of value with given endianness are stored in reversed order
+     */
+    boolean isReversed(boolean isBigEndian) {
+        return reversible && !isBigEndian;
+    }
+
+    /**
+     * Returns encoded padding character, or null if values are not padded
+     */
+    byte[] getPadding(boolean isBigEndian) {
+        return isBigEndian ? bigEndianPadding : littleEndianPadding;
+    }
+
+    /**
+     * Returns encoded NUL character, or null if values are not terminated
+     */
+    byte[] getTerminator(boolean isBigEndian) {
+        return isBigEndian ? bigEndianTerminator : littleEndianTerminator;
+    }
+
+    private static Charset getCharset(String charsetName) {
+        try {
+            return Charset.forName(charsetName);
+        } catch (IllegalArgumentException e) {
+            final String message = String.format(
+                    "Unsupported charset: %s",
+                    charsetName
+            );
+            throw new FieldMappingException(message);
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package eu.trisquare.bytemapper.fieldmapper;
 
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.BitSet;
 
 /**
  * Methods used to convert ByteBuffer content into objects' instances
@@ -112,6 +113,32 @@ interface TypeMapper {
      */
     BigInteger toBigInteger(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
 
+    /**
+     * Returns {@code size} bytes from {@code buffer} starting at {@code startByte} as unsigned value, zero-extended
+     * to eight bytes. Value of eight bytes is returned as is, so it should be handled by unsigned operations,
+     * i.e. {@link Long#compareUnsigned(long, long)}.
+     *
+     * @param buffer      source of data to get data from
+     * @param isBigEndian determines data endianness. If set to {@code false}, bytes will be reversed before conversion
+     * @param startByte   position (0-inclusive index) of first scoped byte
+     * @param size        must be bigger than 0 and not exceed 8
+     * @return unsigned long constructed from {@code buffer} content limited by {@code startByte} and {@code startByte+size}
+     */
+    long toUnsignedLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
+
+    /**
+     * Returns {@code size} bytes from {@code buffer} starting at {@code startByte} converted to
+     * non-negative {@link BigInteger} instance. If {@code isBigEndian} is set to false, bytes will be
+     * obtained in reverse order: from {@code startByte+size} to {@code startByte}.
+     *
+     * @param buffer      source of data to get data from
+     * @param isBigEndian determines data endianness. If set to {@code false}, bytes will be reversed before conversion
+     * @param startByte   position (0-inclusive index) of first scoped byte
+     * @param size        must be bigger than 0 and not exceed {@link Integer#MAX_VALUE}
+     * @return non-negative BigInteger constructed form {@code buffer} content limited by {@code startByte} and {@code startByte+size}
+     */
+    BigInteger toUnsignedBigInteger(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
+
     /**
      * Returns {@code size} bytes from {@code buffer} converted to String, using {@code UTF-8} character encoding.
      * If {@code isBigEndian} is set to false, bytes will be obtained in reverse order: from {@code startByte+size}
@@ -155,6 +182,111 @@ interface TypeMapper {
      */
     Byte[] toByteObjectArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
 
+    /**
+     * Gets {@code size} bytes from {@code source}, starting from {@code startByte} and ending on
+     * {@code startByte+size} as array of {@code size/Short.BYTES} short values. Elements are kept in source order,
+     * {@code isBigEndian} determines byte order of each element. Values are copied in bulk through view buffer.
+     *
+     * @param buffer      source of data to get data from
+     * @param isBigEndian determines endianness of each element
+     * @param startByte   position (0-inclusive index) of first scoped byte
+     * @param size        amount of bytes to copy from {@code buffer}, must be multiple of {@code Short.BYTES}
+     * @return array of short values decoded from {@code buffer} content limited by {@code startByte} and {@code startByte+size}
+     */
+    short[] toShortArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
+
+    /**
+     * Gets {@code size} bytes from {@code source}, starting from {@code startByte} and ending on
+     * {@code startByte+size} as array of {@code size/Integer.BYTES} int values. Elements are kept in source order,
+     * {@code isBigEndian} determines byte order of each element. Values are copied in bulk through view buffer.
+     *
+     * @param buffer      source of data to get data from
+     * @param isBigEndian determines endianness of each element
+     * @param startByte   position (0-inclusive index) of first scoped byte
+     * @param size        amount of bytes to copy from {@code buffer}, must be multiple of {@code Integer.BYTES}
+     * @return array of int values decoded from {@code buffer} content limited by {@code startByte} and {@code startByte+size}
+     */
+    int[] toIntArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
+
+    /**
+     * Gets {@code size} bytes from {@code source}, starting from {@code startByte} and ending on
+     * {@code startByte+size} as array of {@code size/Long.BYTES} long values. Elements are kept in source order,
+     * {@code isBigEndian} determines byte order of each element. Values are copied in bulk through view buffer.
+     *
+     * @param buffer      source of data to get data from
+     * @param isBigEndian determines endianness of each element
+     * @param startByte   position (0-inclusive index) of first scoped byte
+     * @param size        amount of bytes to copy from {@code buffer}, must be multiple of {@code Long.BYTES}
+     * @return array of long values decoded from {@code buffer} content limited by {@code startByte} and {@code startByte+size}
+     */
+    long[] toLongArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
+
+    /**
+     * Gets {@code size} bytes from {@code source}, starting from {@code startByte} and ending on
+     * {@code startByte+size} as array of {@code size/Float.BYTES} float values. Elements are kept in source order,
+     * {@code isBigEndian} determines byte order of each element. Values are copied in bulk through view buffer.
+     *
+     * @param buffer      source of data to get data from
+     * @param isBigEndian determines endianness of each element
+     * @param startByte   position (0-inclusive index) of first scoped byte
+     * @param size        amount of bytes to copy from {@code buffer}, must be multiple of {@code Float.BYTES}
+     * @return array of float values decoded from {@code buffer} content limited by {@code startByte} and {@code startByte+size}
+     */
+    float[] toFloatArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
+
+    /**
+     * Gets {@code size} bytes from {@code source}, starting from {@code startByte} and ending on
+     * {@code startByte+size} as array of {@code size/Double.BYTES} double values. Elements are kept in source order,
+     * {@code isBigEndian} determines byte order of each element. Values are copied in bulk through view buffer.
+     *
+     * @param buffer      source of data to get data from
+     * @param isBigEndian determines endianness of each element
+     * @param startByte   position (0-inclusive index) of first scoped byte
+     * @param size        amount of bytes to copy from {@code buffer}, must be multiple of {@code Double.BYTES}
+     * @return array of double values decoded from {@code buffer} content limited by {@code startByte} and {@code startByte+size}
+     */
+    double[] toDoubleArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
+
+    /**
+     * Gets bits of {@code size} bytes from {@code source}, starting from {@code startByte} and ending on
+     * {@code startByte+size}, as array of {@code size*8} flags. Element {@code n} is bit {@code n} of unsigned
+     * value of scoped bytes, counting from its least significant bit, so for big-endian data first element
+     * is the lowest bit of last byte, and for little-endian data it is the lowest bit of first byte.
+     *
+     * @param buffer      source of data to get data from
+     * @param isBigEndian determines data endianness, and so order of bits
+     * @param startByte   position (0-inclusive index) of first scoped byte
+     * @param size        number of scoped bytes, must not exceed {@code Integer.MAX_VALUE/8}
+     * @return array of {@code size*8} flags, true for each set bit
+     */
+    boolean[] toBooleanArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
+
+    /**
+     * Gets bits of {@code size} bytes from {@code source} as BitSet, which bit {@code n} is set if element
+     * {@code n} of {@link #toBooleanArray(ByteBuffer, boolean, int, int)} result is true.
+     *
+     * @param buffer      source of data to get data from
+     * @param isBigEndian determines data endianness, and so order of bits
+     * @param startByte   position (0-inclusive index) of first scoped byte
+     * @param size        number of scoped bytes
+     * @return BitSet of bits set in scoped bytes
+     */
+    BitSet toBitSet(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
+
+    /**
+     * Gets {@code size} bytes from {@code source}, starting from {@code startByte} and ending on
+     * {@code startByte+size} as a read-only buffer sharing content with {@code buffer}, so no data is copied.
+     * Bytes are never reversed, instead order of returned buffer is set according to {@code isBigEndian}.
+     * Returned buffer is valid as long as content of {@code buffer} is not changed.
+     *
+     * @param buffer      source of data to get data from
+     * @param isBigEndian determines order of returned buffer
+     * @param startByte   position (0-inclusive index) of first scoped byte
+     * @param size        amount of bytes visible in returned buffer
+     * @return read-only view of {@code buffer} content limited by {@code startByte} and {@code startByte+size}
+     */
+    ByteBuffer toByteBuffer(ByteBuffer buffer, boolean isBigEndian, int startByte, int size);
+
 
     /**
      * Gets {@code size} bytes from {@code source}, starting from {@code startByte} and ending on
@@ -0,0 +1,263 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * Methods used to convert objects' instances into ByteBuffer content, inverse of {@link TypeMapper}
+ */
+interface TypeWriter {
+
+    /**
+     * Writes boolean value into {@code size} bytes, starting from {@code startByte}. All bytes are zeroed,
+     * then least significant byte is set to 1 if value is true.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian determines which byte is least significant one
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write
+     */
+    void putBoolean(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, boolean value);
+
+    /**
+     * Writes single byte at {@code startByte} position.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian does not affect method outcome
+     * @param startByte   position (0-inclusive index) of written byte
+     * @param size        does not affect method outcome
+     * @param value       to write
+     */
+    void putByte(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, byte value);
+
+    /**
+     * Writes {@code size} bytes of short value, starting from {@code startByte}, so it is obtained back
+     * by {@link TypeMapper#toShort(ByteBuffer, boolean, int, int)}. Bytes exceeding size are dropped,
+     * the most significant ones for big-endian and the least significant ones for little-endian values.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian true for big-endian and false for little-endian value
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes, must not exceed 2
+     * @param value       to write
+     */
+    void putShort(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, short value);
+
+    /**
+     * Writes {@code size} bytes of int value, starting from {@code startByte}, so it is obtained back
+     * by {@link TypeMapper#toInt(ByteBuffer, boolean, int, int)}. Bytes exceeding size are dropped,
+     * the most significant ones for big-endian and the least significant ones for little-endian values.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian true for big-endian and false for little-endian value
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes, must not exceed 4
+     * @param value       to write
+     */
+    void putInt(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, int value);
+
+    /**
+     * Writes {@code size} bytes of long value, starting from {@code startByte}, so it is obtained back
+     * by {@link TypeMapper#toLong(ByteBuffer, boolean, int, int)}. Bytes exceeding size are dropped,
+     * the most significant ones for big-endian and the least significant ones for little-endian values.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian true for big-endian and false for little-endian value
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes, must not exceed 8
+     * @param value       to write
+     */
+    void putLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, long value);
+
+    /**
+     * Writes bits of float value, same as {@link #putInt(ByteBuffer, boolean, int, int, int)}
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian true for big-endian and false for little-endian value
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes, must not exceed 4
+     * @param value       to write
+     */
+    void putFloat(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, float value);
+
+    /**
+     * Writes bits of double value, same as {@link #putLong(ByteBuffer, boolean, int, int, long)}
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian true for big-endian and false for little-endian value
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes, must not exceed 8
+     * @param value       to write
+     */
+    void putDouble(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, double value);
+
+    /**
+     * Writes two's complement representation of value, sign-extended to {@code size} bytes.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian true for big-endian and false for little-endian value
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which representation must fit in {@code size} bytes
+     */
+    void putBigInteger(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, BigInteger value);
+
+    /**
+     * Writes UTF-8 bytes of value, followed by zero bytes if value is shorter than {@code size}.
+     * Bytes are written in reversed order for little-endian values.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian false if bytes should be written in reversed order
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which UTF-8 representation must fit in {@code size} bytes
+     */
+    void putString(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, String value);
+
+    /**
+     * Writes bytes of value, followed by zero bytes if value is shorter than {@code size}.
+     * Bytes are written in reversed order for little-endian values.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian false if bytes should be written in reversed order
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which must not be longer than {@code size}
+     */
+    void putByteArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, byte[] value);
+
+    /**
+     * Writes bytes of value, same as {@link #putByteArray(ByteBuffer, boolean, int, int, byte[])}
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian false if bytes should be written in reversed order
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which must not be longer than {@code size} nor contain null elements
+     */
+    void putByteObjectArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, Byte[] value);
+
+    /**
+     * Writes elements of value in bulk, inverse of {@link TypeMapper#toShortArray(ByteBuffer, boolean, int, int)}.
+     * Bytes not covered by value are cleared.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian determines endianness of each element
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which elements must fit in {@code size} bytes
+     */
+    void putShortArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, short[] value);
+
+    /**
+     * Writes elements of value in bulk, inverse of {@link TypeMapper#toIntArray(ByteBuffer, boolean, int, int)}.
+     * Bytes not covered by value are cleared.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian determines endianness of each element
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which elements must fit in {@code size} bytes
+     */
+    void putIntArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, int[] value);
+
+    /**
+     * Writes elements of value in bulk, inverse of {@link TypeMapper#toLongArray(ByteBuffer, boolean, int, int)}.
+     * Bytes not covered by value are cleared.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian determines endianness of each element
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which elements must fit in {@code size} bytes
+     */
+    void putLongArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, long[] value);
+
+    /**
+     * Writes elements of value in bulk, inverse of {@link TypeMapper#toFloatArray(ByteBuffer, boolean, int, int)}.
+     * Bytes not covered by value are cleared.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian determines endianness of each element
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which elements must fit in {@code size} bytes
+     */
+    void putFloatArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, float[] value);
+
+    /**
+     * Writes elements of value in bulk, inverse of {@link TypeMapper#toDoubleArray(ByteBuffer, boolean, int, int)}.
+     * Bytes not covered by value are cleared.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian determines endianness of each element
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which elements must fit in {@code size} bytes
+     */
+    void putDoubleArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, double[] value);
+
+    /**
+     * Writes flags of value as bits, inverse of {@link TypeMapper#toBooleanArray(ByteBuffer, boolean, int, int)}.
+     * Bits not covered by value are cleared.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian determines data endianness, and so order of bits
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which must not have more than {@code size*8} elements
+     */
+    void putBooleanArray(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, boolean[] value);
+
+    /**
+     * Writes bits of value, inverse of {@link TypeMapper#toBitSet(ByteBuffer, boolean, int, int)}.
+     * Bits not set in value are cleared.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian determines data endianness, and so order of bits
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which must not have bits set above {@code size*8-1}
+     */
+    void putBitSet(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, BitSet value);
+
+    /**
+     * Writes remaining bytes of value, followed by zero bytes if value is shorter than {@code size}.
+     * Bytes are never reversed, as {@link TypeMapper#toByteBuffer(ByteBuffer, boolean, int, int)}
+     * expresses endianness through order of returned buffer. Position of value is not changed.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian ignored, as bytes are copied as they are
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, which remaining bytes must fit in {@code size} bytes
+     */
+    void putByteBuffer(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, ByteBuffer value);
+
+    /**
+     * Writes {@code size} bytes of unsigned long value, starting from {@code startByte}, so it is obtained back
+     * by {@link TypeMapper#toUnsignedLong(ByteBuffer, boolean, int, int)}. Value must fit in {@code size} bytes.
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian true for big-endian and false for little-endian value
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes, must not exceed 8
+     * @param value       to write, treated as unsigned
+     */
+    void putUnsignedLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, long value);
+
+    /**
+     * Writes non-negative value, zero-extended to {@code size} bytes, so it is obtained back by
+     * {@link TypeMapper#toUnsignedBigInteger(ByteBuffer, boolean, int, int)}
+     *
+     * @param buffer      destination of data
+     * @param isBigEndian true for big-endian and false for little-endian value
+     * @param startByte   position (0-inclusive index) of first written byte
+     * @param size        number of written bytes
+     * @param value       to write, must not be negative
+     */
+    void putUnsignedBigInteger(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, BigInteger value);
+
+}
@@ -0,0 +1,95 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.annotations.Unsigned;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * Mapper of unsigned values configured by {@link Unsigned} annotation. Long values are provided without boxing,
+ * BigInteger values of up to eight bytes are created without temporary copy of their bytes.
+ */
+public final class UnsignedFieldMapper implements PrimitiveFieldMapper {
+
+    /**
+     * Maps ByteBuffer to particular type
+     */
+    private static final TypeMapper typeMapper = new StandardTypeMapper();
+
+    /**
+     * True if values are returned as BigInteger, false if they are returned as Long
+     */
+    private final boolean bigInteger;
+
+    /**
+     * Creates mapper of unsigned values of given type
+     *
+     * @param type of mapped values, long, Long or type assignable from BigInteger
+     */
+    public UnsignedFieldMapper(Class<?> type) {
+        if (!isSupported(type)) {
+            final String message = String.format(
+                    "Unsigned value must be of type long or assignable from BigInteger, but %s was provided",
+                    type.getSimpleName()
+            );
+            throw new FieldMappingException(message);
+        }
+        this.bigInteger = ClassUtils.isAssignable(BigInteger.class, type);
+    }
+
+    /**
+     * Checks if unsigned values may be mapped into given type
+     *
+     * @param type of mapped values
+     * @return true if type is long, Long or assignable from BigInteger
+     */
+    public static boolean isSupported(Class<?> type) {
+        return type == long.class || type == Long.class || ClassUtils.isAssignable(BigInteger.class, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEligible(Class<?> type) {
+        return isSupported(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getPrimitiveType() {
+        return long.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getValue(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (bigInteger) {
+            return typeMapper.toUnsignedBigInteger(buffer, isBigEndian, startByte, size);
+        }
+        return getLong(buffer, isBigEndian, startByte, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+        if (size > Long.BYTES) {
+            final String message = String.format(
+                    "For type %s maximum allowed size is %d, but requested parsing of %d bytes. Would you like to use different data type?",
+                    long.class.getSimpleName(),
+                    Long.BYTES,
+                    size
+            );
+            throw new FieldMappingException(message);
+        }
+        return typeMapper.toUnsignedLong(buffer, isBigEndian, startByte, size);
+    }
+
+}
@@ -0,0 +1,64 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.annotations.Unsigned;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * Writer of unsigned values configured by {@link Unsigned} annotation, counterpart of {@link UnsignedFieldMapper}
+ */
+public final class UnsignedFieldWriter implements PrimitiveFieldWriter {
+
+    /**
+     * Converts values into ByteBuffer content
+     */
+    private static final TypeWriter typeWriter = new StandardTypeWriter();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEligible(Class<?> type) {
+        return UnsignedFieldMapper.isSupported(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getPrimitiveType() {
+        return long.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     * BigInteger values must not be negative, values of other types are written as unsigned long.
+     */
+    @Override
+    public void putValue(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, Object value) {
+        if (value instanceof BigInteger) {
+            typeWriter.putUnsignedBigInteger(buffer, isBigEndian, startByte, size, (BigInteger) value);
+        } else {
+            putLong(buffer, isBigEndian, startByte, size, ((Number) value).longValue());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putLong(ByteBuffer buffer, boolean isBigEndian, int startByte, int size, long value) {
+        if (size > Long.BYTES) {
+            final String message = String.format(
+                    "For type %s maximum allowed size is %d, but requested writing of %d bytes. Would you like to use different data type?",
+                    long.class.getSimpleName(),
+                    Long.BYTES,
+                    size
+            );
+            throw new FieldMappingException(message);
+        }
+        typeWriter.putUnsignedLong(buffer, isBigEndian, startByte, size, value);
+    }
+
+}
@@ -1,9 +1,10 @@
 package eu.trisquare.bytemapper.impl;
 
 import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.classmapper.MappingEngine;
+import eu.trisquare.bytemapper.classmapper.MethodHandlePOJOAccessor;
 import eu.trisquare.bytemapper.classmapper.POJOAccessor;
 import eu.trisquare.bytemapper.classmapper.StandardByteMapper;
-import eu.trisquare.bytemapper.classmapper.StandardPOJOAccessor;
 import eu.trisquare.bytemapper.fieldmapper.FieldMapperProvider;
 import eu.trisquare.bytemapper.fieldmapper.StandardFieldMapperProvider;
 import eu.trisquare.bytemapper.fieldmapper.StandardStructureMapperProvider;
@@ -30,10 +31,23 @@ public class ByteMapperBuilder {
      */
     private POJOAccessor pojoAccessor;
 
+    /**
+     * Used to select how classes are instantiated and assigned with mapped values.
+     */
+    private MappingEngine mappingEngine;
+
+    /**
+     * Determines if mappers generated at compile time by bytemapper-processor should be used, null if they
+     * are used only with standard providers and accessor.
+     */
+    private Boolean useCompileTimeMappers;
+
     public ByteMapperBuilder() {
         this.fieldMapperProvider = new StandardFieldMapperProvider();
         this.structureMapperProvider = new StandardStructureMapperProvider();
-        this.pojoAccessor = new StandardPOJOAccessor();
+        this.pojoAccessor = new MethodHandlePOJOAccessor();
+        this.mappingEngine = MappingEngine.REFLECTION;
+        this.useCompileTimeMappers = null;
     }
 
     public ByteMapperBuilder withFieldMapperProvider(FieldMapperProvider fieldMapperProvider) {
@@ -51,13 +65,36 @@ public class ByteMapperBuilder {
         return this;
     }
 
+    public ByteMapperBuilder withMappingEngine(MappingEngine mappingEngine) {
+        this.mappingEngine = mappingEngine;
+        return this;
+    }
+
+    /**
+     * Enables or disables usage of mappers generated at compile time by bytemapper-processor.
+     * By default, generated mappers are used if available, unless custom field mapper provider,
+     * structure mapper provider or POJO accessor is set, as generated mappers always use standard
+     * type conversions and assign fields directly. Enabling them explicitly applies them along
+     * with custom providers, which are then used only for classes without generated mappers.
+     *
+     * @param useCompileTimeMappers true if generated mappers should be used
+     * @return this builder
+     */
+    public ByteMapperBuilder withCompileTimeMappers(boolean useCompileTimeMappers) {
+        this.useCompileTimeMappers = useCompileTimeMappers;
+        return this;
+    }
+
     /**
      * Creates new instance of ByteMapper using previously provided implementations and parameters.
      *
      * @return new instance of {@link ByteMapper} implementation
      */
     public ByteMapper build() {
-        return new StandardByteMapper(fieldMapperProvider, structureMapperProvider, pojoAccessor);
+        if (useCompileTimeMappers == null) {
+            return new StandardByteMapper(fieldMapperProvider, structureMapperProvider, pojoAccessor, mappingEngine);
+        }
+        return new StandardByteMapper(fieldMapperProvider, structureMapperProvider, pojoAccessor, mappingEngine, useCompileTimeMappers);
     }
 
 }
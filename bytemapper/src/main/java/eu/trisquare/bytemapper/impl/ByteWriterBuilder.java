@@ -0,0 +1,50 @@
+package eu.trisquare.bytemapper.impl;
+
+import eu.trisquare.bytemapper.ByteWriter;
+import eu.trisquare.bytemapper.classmapper.MethodHandlePOJOAccessor;
+import eu.trisquare.bytemapper.classmapper.POJOAccessor;
+import eu.trisquare.bytemapper.classmapper.StandardByteWriter;
+import eu.trisquare.bytemapper.fieldmapper.FieldWriterProvider;
+import eu.trisquare.bytemapper.fieldmapper.StandardFieldWriterProvider;
+
+/**
+ * Creates and parametrizes ByteWriter implementation.
+ * Use this for behavior customisation if needed.
+ */
+public class ByteWriterBuilder {
+
+    /**
+     * Used to obtain object-to-bytes {@link eu.trisquare.bytemapper.fieldmapper.FieldWriter} instance.
+     */
+    private FieldWriterProvider fieldWriterProvider;
+
+    /**
+     * Used to read values of written classes' fields.
+     */
+    private POJOAccessor pojoAccessor;
+
+    public ByteWriterBuilder() {
+        this.fieldWriterProvider = new StandardFieldWriterProvider();
+        this.pojoAccessor = new MethodHandlePOJOAccessor();
+    }
+
+    public ByteWriterBuilder withFieldWriterProvider(FieldWriterProvider fieldWriterProvider) {
+        this.fieldWriterProvider = fieldWriterProvider;
+        return this;
+    }
+
+    public ByteWriterBuilder withPOJOAccessor(POJOAccessor pojoAccessor) {
+        this.pojoAccessor = pojoAccessor;
+        return this;
+    }
+
+    /**
+     * Creates new instance of ByteWriter using previously provided implementations.
+     *
+     * @return new instance of {@link ByteWriter} implementation
+     */
+    public ByteWriter build() {
+        return new StandardByteWriter(fieldWriterProvider, pojoAccessor);
+    }
+
+}
@@ -0,0 +1,55 @@
+package eu.trisquare.bytemapper.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Framing of records terminated with delimiter
+ */
+class DelimiterFraming implements Framing {
+
+    private final byte[] delimiter;
+
+    DelimiterFraming(byte[] delimiter) {
+        if (delimiter.length == 0) {
+            throw new IllegalArgumentException("Delimiter must not be empty.");
+        }
+        this.delimiter = Arrays.copyOf(delimiter, delimiter.length);
+    }
+
+    @Override
+    public int recordLength(ByteBuffer buffer, int start, int available) {
+        return recordLength(buffer, start, available, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Search resumes from the first byte which may start a delimiter not fully received on previous call.
+     */
+    @Override
+    public int recordLength(ByteBuffer buffer, int start, int available, int scanned) {
+        final int lastCandidate = start + available - delimiter.length;
+        final byte first = delimiter[0];
+        for (int idx = start + Math.max(0, scanned - delimiter.length + 1); idx <= lastCandidate; idx++) {
+            if (buffer.get(idx) == first && isDelimiterAt(buffer, idx)) {
+                return idx - start;
+            }
+        }
+        return MORE_BYTES_REQUIRED;
+    }
+
+    @Override
+    public int trailerLength() {
+        return delimiter.length;
+    }
+
+    private boolean isDelimiterAt(ByteBuffer buffer, int index) {
+        for (int i = 1; i < delimiter.length; i++) {
+            if (buffer.get(index + i) != delimiter[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,25 @@
+package eu.trisquare.bytemapper.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Framing of records having fixed length
+ */
+class FixedLengthFraming implements Framing {
+
+    private final int recordSize;
+
+    FixedLengthFraming(int recordSize) {
+        if (recordSize <= 0) {
+            final String message = String.format("Record size should be bigger than 0, but %d was provided", recordSize);
+            throw new IllegalArgumentException(message);
+        }
+        this.recordSize = recordSize;
+    }
+
+    @Override
+    public int recordLength(ByteBuffer buffer, int start, int available) {
+        return recordSize;
+    }
+
+}
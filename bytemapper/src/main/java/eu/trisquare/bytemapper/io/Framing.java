@@ -0,0 +1,107 @@
+package eu.trisquare.bytemapper.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Determines boundaries of records arriving in a stream of bytes, used by {@link RecordStreamDecoder}.
+ * Implementations must read buffer using absolute indexes only.
+ */
+public interface Framing {
+
+    /**
+     * Value returned by {@link #recordLength(ByteBuffer, int, int)} when more bytes have to be read
+     * before record length may be determined
+     */
+    int MORE_BYTES_REQUIRED = -1;
+
+    /**
+     * Returns length of record starting at given index, or {@link #MORE_BYTES_REQUIRED} if available bytes
+     * are not enough to determine it. Returned length may exceed number of available bytes, in which case
+     * the decoder reads more bytes before the record is mapped.
+     *
+     * @param buffer    containing received bytes
+     * @param start     index of record's first byte
+     * @param available number of received bytes, starting from {@code start}
+     * @return length of record in bytes, excluding trailer, or {@link #MORE_BYTES_REQUIRED}
+     * @throws IOException if received bytes do not form a valid frame
+     */
+    int recordLength(ByteBuffer buffer, int start, int available) throws IOException;
+
+    /**
+     * Returns length of record starting at given index, same as {@link #recordLength(ByteBuffer, int, int)},
+     * knowing that first {@code scanned} bytes of the record were already available when previous call for
+     * the same record returned {@link #MORE_BYTES_REQUIRED}. Framings searching for the end of record may resume
+     * their search, so records received in many small chunks are not scanned from their start each time.
+     *
+     * @param buffer    containing received bytes
+     * @param start     index of record's first byte
+     * @param available number of received bytes, starting from {@code start}
+     * @param scanned   number of bytes available on previous call for the same record, 0 on first call
+     * @return length of record in bytes, excluding trailer, or {@link #MORE_BYTES_REQUIRED}
+     * @throws IOException if received bytes do not form a valid frame
+     */
+    default int recordLength(ByteBuffer buffer, int start, int available, int scanned) throws IOException {
+        return recordLength(buffer, start, available);
+    }
+
+    /**
+     * Returns number of bytes following each record, which are skipped instead of being mapped, i.e. delimiter
+     *
+     * @return number of trailing bytes of each frame
+     */
+    default int trailerLength() {
+        return 0;
+    }
+
+    /**
+     * Creates framing of records having fixed length
+     *
+     * @param recordSize number of bytes of each record
+     * @return new framing instance
+     */
+    static Framing fixedLength(int recordSize) {
+        return new FixedLengthFraming(recordSize);
+    }
+
+    /**
+     * Creates framing of records containing their own length, stored as unsigned integer field of given offset
+     * and size. Field value is the number of bytes following the length field, so record length is equal to
+     * {@code fieldOffset + fieldSize + value}.
+     *
+     * @param fieldOffset index of length field's first byte, relative to record start
+     * @param fieldSize   number of bytes of length field, from 1 to 4
+     * @param bigEndian   true for big-endian length field and false for little-endian
+     * @return new framing instance
+     */
+    static Framing lengthField(int fieldOffset, int fieldSize, boolean bigEndian) {
+        return lengthField(fieldOffset, fieldSize, bigEndian, 0);
+    }
+
+    /**
+     * Creates framing of records containing their own length, stored as unsigned integer field of given offset
+     * and size. Record length is equal to {@code fieldOffset + fieldSize + value + lengthAdjustment}, so i.e.
+     * adjustment of {@code -(fieldOffset + fieldSize)} has to be used if field value is the whole record length.
+     *
+     * @param fieldOffset      index of length field's first byte, relative to record start
+     * @param fieldSize        number of bytes of length field, from 1 to 4
+     * @param bigEndian        true for big-endian length field and false for little-endian
+     * @param lengthAdjustment added to record length determined by field value
+     * @return new framing instance
+     */
+    static Framing lengthField(int fieldOffset, int fieldSize, boolean bigEndian, int lengthAdjustment) {
+        return new LengthFieldFraming(fieldOffset, fieldSize, bigEndian, lengthAdjustment);
+    }
+
+    /**
+     * Creates framing of records terminated with given delimiter. Delimiter is skipped, so it is not a part
+     * of mapped record.
+     *
+     * @param delimiter non-empty sequence of bytes following each record
+     * @return new framing instance
+     */
+    static Framing delimiter(byte... delimiter) {
+        return new DelimiterFraming(delimiter);
+    }
+
+}
@@ -0,0 +1,56 @@
+package eu.trisquare.bytemapper.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Framing of records containing their own length as unsigned integer field
+ */
+class LengthFieldFraming implements Framing {
+
+    private final int fieldOffset;
+
+    private final int fieldSize;
+
+    private final boolean bigEndian;
+
+    private final int lengthAdjustment;
+
+    LengthFieldFraming(int fieldOffset, int fieldSize, boolean bigEndian, int lengthAdjustment) {
+        if (fieldOffset < 0) {
+            final String message = String.format("Length field offset must not be negative, but %d was provided.", fieldOffset);
+            throw new IllegalArgumentException(message);
+        }
+        if (fieldSize < 1 || fieldSize > Integer.BYTES) {
+            final String message = String.format("Length field size should be between 1 and 4, but %d was provided.", fieldSize);
+            throw new IllegalArgumentException(message);
+        }
+        this.fieldOffset = fieldOffset;
+        this.fieldSize = fieldSize;
+        this.bigEndian = bigEndian;
+        this.lengthAdjustment = lengthAdjustment;
+    }
+
+    @Override
+    public int recordLength(ByteBuffer buffer, int start, int available) throws IOException {
+        final int headerLength = fieldOffset + fieldSize;
+        if (available < headerLength) {
+            return MORE_BYTES_REQUIRED;
+        }
+        long value = 0;
+        for (int i = 0; i < fieldSize; i++) {
+            final int shift = bigEndian ? (fieldSize - 1 - i) * Byte.SIZE : i * Byte.SIZE;
+            value |= (buffer.get(start + fieldOffset + i) & 0xFFL) << shift;
+        }
+        final long recordLength = headerLength + value + lengthAdjustment;
+        if (recordLength < headerLength || recordLength > Integer.MAX_VALUE) {
+            final String message = String.format(
+                    "Length field value of %d results in invalid record length of %d bytes.",
+                    value, recordLength
+            );
+            throw new IOException(message);
+        }
+        return (int) recordLength;
+    }
+
+}
@@ -0,0 +1,226 @@
+package eu.trisquare.bytemapper.io;
+
+import eu.trisquare.bytemapper.ByteMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Reads file of back-to-back records of fixed size, which may be bigger than maximum size of single
+ * {@link java.nio.ByteBuffer}. File is memory-mapped in windows, each containing whole number of records,
+ * so no record ever straddles two windows and each one is mapped directly from mapped buffer, without copying.
+ * Only one window is mapped at a time. Previous window is released before next one is mapped, but as there is
+ * no public API allowing to unmap it explicitly, its mapping remains until the window is garbage collected.
+ * Memory mapped at once is therefore bounded by window size only as long as released windows are collected,
+ * so memory-constrained processes should prefer smaller windows.
+ * <p>
+ * Reader is not thread-safe. Use {@link RecordFileReaderBuilder} to create instances.
+ *
+ * @param <T> type of mapped records
+ */
+public class RecordFileReader<T> implements Iterable<T>, Closeable {
+
+    /**
+     * Used to map each record
+     */
+    private final ByteMapper byteMapper;
+
+    /**
+     * Class of mapped records
+     */
+    private final Class<T> clazz;
+
+    /**
+     * Channel of mapped file
+     */
+    private final FileChannel channel;
+
+    /**
+     * Number of bytes preceding first record
+     */
+    private final long headerSize;
+
+    /**
+     * Number of bytes of each record
+     */
+    private final int recordSize;
+
+    /**
+     * Number of records in file
+     */
+    private final long recordsCount;
+
+    /**
+     * Number of records in each window, except the last one which may be shorter
+     */
+    private final int recordsPerWindow;
+
+    /**
+     * True if content of each window should be loaded into physical memory when it is mapped
+     */
+    private final boolean readAhead;
+
+    /**
+     * Currently mapped window, or null if none is mapped
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * Index of currently mapped window
+     */
+    private long windowIndex;
+
+    RecordFileReader(
+            ByteMapper byteMapper,
+            Class<T> clazz,
+            FileChannel channel,
+            long headerSize,
+            int recordSize,
+            long recordsCount,
+            int recordsPerWindow,
+            boolean readAhead
+    ) {
+        this.byteMapper = byteMapper;
+        this.clazz = clazz;
+        this.channel = channel;
+        this.headerSize = headerSize;
+        this.recordSize = recordSize;
+        this.recordsCount = recordsCount;
+        this.recordsPerWindow = recordsPerWindow;
+        this.readAhead = readAhead;
+        this.windowIndex = -1;
+    }
+
+    /**
+     * Returns number of records in file
+     *
+     * @return number of records
+     */
+    public long getRecordsCount() {
+        return recordsCount;
+    }
+
+    /**
+     * Maps record with given index into new instance. Window containing the record is mapped, if it is not
+     * the current one. Record is validated against record size, same as by {@link #forEach(Consumer)}.
+     *
+     * @param index of record, zero-based
+     * @return new instance created from record's content
+     * @throws IOException if window could not be mapped
+     */
+    public T get(long index) throws IOException {
+        if (index < 0 || index >= recordsCount) {
+            final String message = String.format(
+                    "Record index should be between 0 and %d, but %d was provided.",
+                    recordsCount - 1, index
+            );
+            throw new IndexOutOfBoundsException(message);
+        }
+        final MappedByteBuffer records = getWindow(index / recordsPerWindow);
+        final int recordIdx = (int) (index % recordsPerWindow);
+        return byteMapper.mapAll(clazz, records, recordIdx * recordSize, recordSize, 1)[0];
+    }
+
+    /**
+     * Maps all records in order of their indexes, mapping each window once.
+     *
+     * @param action receiving new instances
+     * @throws UncheckedIOException if any window could not be mapped
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        final long windowsCount = (recordsCount + recordsPerWindow - 1) / recordsPerWindow;
+        for (long idx = 0; idx < windowsCount; idx++) {
+            final MappedByteBuffer records = getWindowUnchecked(idx);
+            byteMapper.mapAll(clazz, records, 0, recordSize, records.limit() / recordSize, action);
+        }
+    }
+
+    /**
+     * Returns iterator over all records in order of their indexes. Iterator shares mapped window with
+     * this reader.
+     *
+     * @return iterator mapping records as they are requested
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private long index;
+
+            @Override
+            public boolean hasNext() {
+                return index < recordsCount;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final T record;
+                try {
+                    record = get(index);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                index++;
+                return record;
+            }
+        };
+    }
+
+    /**
+     * Releases current window and closes file channel
+     *
+     * @throws IOException if file channel could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        releaseWindow();
+        channel.close();
+    }
+
+    /**
+     * Returns window with given index, mapping it if it is not the current one
+     */
+    private MappedByteBuffer getWindow(long idx) throws IOException {
+        if (idx != windowIndex) {
+            releaseWindow();
+            final long firstRecord = idx * recordsPerWindow;
+            final long windowRecords = Math.min(recordsPerWindow, recordsCount - firstRecord);
+            final long position = headerSize + firstRecord * recordSize;
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, windowRecords * recordSize);
+            if (readAhead) {
+                mapped.load();
+            }
+            window = mapped;
+            windowIndex = idx;
+        }
+        return window;
+    }
+
+    private MappedByteBuffer getWindowUnchecked(long idx) {
+        try {
+            return getWindow(idx);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Drops reference to current window. Mapping is released when window is garbage collected, as there
+     * is no public API allowing to unmap it explicitly.
+     */
+    private void releaseWindow() {
+        window = null;
+        windowIndex = -1;
+    }
+
+}
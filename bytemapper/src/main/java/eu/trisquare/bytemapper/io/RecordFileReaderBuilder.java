@@ -0,0 +1,137 @@
+package eu.trisquare.bytemapper.io;
+
+import eu.trisquare.bytemapper.ByteMapper;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Creates and parametrizes {@link RecordFileReader} instances.
+ *
+ * @param <T> type of mapped records
+ */
+public class RecordFileReaderBuilder<T> {
+
+    /**
+     * Default maximum size of single mapped window, 256 MiB
+     */
+    static final int DEFAULT_WINDOW_SIZE = 256 * 1024 * 1024;
+
+    private final ByteMapper byteMapper;
+
+    private final Class<T> clazz;
+
+    private final int recordSize;
+
+    /**
+     * Number of bytes preceding first record
+     */
+    private long headerSize;
+
+    /**
+     * Maximum number of bytes of single mapped window
+     */
+    private int windowSize;
+
+    /**
+     * Determines if content of each window should be loaded into physical memory when it is mapped
+     */
+    private boolean readAhead;
+
+    /**
+     * Creates builder of readers mapping records of given class and size
+     *
+     * @param byteMapper used to map each record
+     * @param clazz      of mapped records, same as in {@link ByteMapper#mapValues(Class, java.nio.ByteBuffer)}
+     * @param recordSize number of bytes of each record
+     */
+    public RecordFileReaderBuilder(ByteMapper byteMapper, Class<T> clazz, int recordSize) {
+        if (recordSize <= 0) {
+            final String message = String.format("Record size should be bigger than 0, but %d was provided", recordSize);
+            throw new IllegalArgumentException(message);
+        }
+        this.byteMapper = byteMapper;
+        this.clazz = clazz;
+        this.recordSize = recordSize;
+        this.headerSize = 0;
+        this.windowSize = DEFAULT_WINDOW_SIZE;
+        this.readAhead = false;
+    }
+
+    /**
+     * Sets number of bytes preceding first record, which are skipped. By default, there is no header.
+     *
+     * @param headerSize number of skipped bytes
+     * @return this builder
+     */
+    public RecordFileReaderBuilder<T> withHeaderSize(long headerSize) {
+        if (headerSize < 0) {
+            final String message = String.format("Header size must not be negative, but %d was provided.", headerSize);
+            throw new IllegalArgumentException(message);
+        }
+        this.headerSize = headerSize;
+        return this;
+    }
+
+    /**
+     * Sets maximum number of bytes mapped at once. Each window contains whole number of records, so actual
+     * window size is rounded down to multiple of record size, but it is never smaller than single record.
+     * Smaller windows keep less memory mapped at once, bigger ones require less mapping calls.
+     * By default, windows of up to 256 MiB are used.
+     *
+     * @param windowSize maximum size of single window in bytes
+     * @return this builder
+     */
+    public RecordFileReaderBuilder<T> withWindowSize(int windowSize) {
+        if (windowSize <= 0) {
+            final String message = String.format("Window size should be bigger than 0, but %d was provided", windowSize);
+            throw new IllegalArgumentException(message);
+        }
+        this.windowSize = windowSize;
+        return this;
+    }
+
+    /**
+     * Enables or disables loading whole content of each window into physical memory as soon as it is mapped,
+     * using {@link java.nio.MappedByteBuffer#load()}. It is a hint, which usually speeds up sequential reads,
+     * but slows down random access to distant records. Disabled by default.
+     *
+     * @param readAhead true if windows should be loaded when mapped
+     * @return this builder
+     */
+    public RecordFileReaderBuilder<T> withReadAhead(boolean readAhead) {
+        this.readAhead = readAhead;
+        return this;
+    }
+
+    /**
+     * Opens file and creates reader of its records. File size, excluding header, must be a multiple of record size.
+     *
+     * @param path of file to read
+     * @return new reader, which has to be closed
+     * @throws IOException if file could not be opened or its size is invalid
+     */
+    public RecordFileReader<T> open(Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            final long recordsSize = channel.size() - headerSize;
+            if (recordsSize < 0 || recordsSize % recordSize != 0) {
+                final String message = String.format(
+                        "Size of %s excluding header of %d bytes should be a multiple of record size of %d bytes, but it is %d bytes.",
+                        path, headerSize, recordSize, recordsSize
+                );
+                throw new IOException(message);
+            }
+            final int recordsPerWindow = Math.max(1, windowSize / recordSize);
+            return new RecordFileReader<>(
+                    byteMapper, clazz, channel, headerSize, recordSize, recordsSize / recordSize, recordsPerWindow, readAhead
+            );
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+package eu.trisquare.bytemapper.io;
+
+import eu.trisquare.bytemapper.ByteMapper;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Decodes records arriving in a stream of bytes, which may be split into chunks of any size. Bytes are read
+ * into single reusable buffer, records are separated using {@link Framing} and mapped directly from that buffer,
+ * so whole stream is never buffered. Each record has to fit in the buffer. Channel must be a blocking one, as
+ * decoder waits for more bytes by reading them, so non-blocking channels are rejected.
+ * <p>
+ * Decoder is not thread-safe. Use {@link RecordStreamDecoderBuilder} to create instances.
+ *
+ * @param <T> type of mapped records
+ */
+public class RecordStreamDecoder<T> implements Closeable {
+
+    /**
+     * Used to map each record
+     */
+    private final ByteMapper byteMapper;
+
+    /**
+     * Class of mapped records
+     */
+    private final Class<T> clazz;
+
+    /**
+     * Determines boundaries of records
+     */
+    private final Framing framing;
+
+    /**
+     * Source of bytes
+     */
+    private final ReadableByteChannel channel;
+
+    /**
+     * Holds received bytes. Its position and limit are used only to read from channel and to bound mapped
+     * record, received bytes are tracked by {@link #start} and {@link #end}.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Index of next record's first byte
+     */
+    private int start;
+
+    /**
+     * Index following last received byte
+     */
+    private int end;
+
+    RecordStreamDecoder(ByteMapper byteMapper, Class<T> clazz, Framing framing, ReadableByteChannel channel, ByteBuffer buffer) {
+        this.byteMapper = byteMapper;
+        this.clazz = clazz;
+        this.framing = framing;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Maps next record into new instance, reading more bytes from channel if necessary
+     *
+     * @return new instance created from record's content, or null if stream has ended
+     * @throws IOException if bytes could not be read, do not form a valid record, record exceeds buffer capacity
+     *                     or channel returned no bytes, as non-blocking channels do
+     * @throws EOFException if stream has ended within record
+     */
+    public T read() throws IOException {
+        final int trailerLength = framing.trailerLength();
+        int recordLength = Framing.MORE_BYTES_REQUIRED;
+        int scanned = 0;
+        while (true) {
+            final int available = end - start;
+            if (recordLength == Framing.MORE_BYTES_REQUIRED) {
+                buffer.limit(end);
+                recordLength = framing.recordLength(buffer, start, available, scanned);
+                scanned = available;
+            }
+            if (recordLength != Framing.MORE_BYTES_REQUIRED) {
+                final long frameLength = (long) recordLength + trailerLength;
+                if (frameLength > buffer.capacity()) {
+                    final String message = String.format(
+                            "Frame of %d bytes exceeds read buffer capacity of %d bytes.",
+                            frameLength, buffer.capacity()
+                    );
+                    throw new IOException(message);
+                }
+                if (frameLength <= available) {
+                    return mapRecord(recordLength, trailerLength);
+                }
+            }
+            if (!fill()) {
+                if (available == 0) {
+                    return null;
+                }
+                final String message = String.format("Stream ended within record, %d bytes were left.", available);
+                throw new EOFException(message);
+            }
+        }
+    }
+
+    /**
+     * Closes channel
+     *
+     * @throws IOException if channel could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Maps record starting at {@link #start}. Start is moved to the next record first, so record which
+     * could not be mapped is skipped.
+     */
+    private T mapRecord(int recordLength, int trailerLength) {
+        final int recordStart = start;
+        start += recordLength + trailerLength;
+        if (start == end) {
+            start = 0;
+            end = 0;
+        }
+        buffer.limit(recordStart + recordLength);
+        return byteMapper.mapValues(clazz, buffer, recordStart);
+    }
+
+    /**
+     * Reads at least one byte from channel, compacting buffer if it is full
+     *
+     * @return false if stream has ended
+     */
+    private boolean fill() throws IOException {
+        if (end == buffer.capacity()) {
+            if (start == 0) {
+                final String message = String.format(
+                        "Frame exceeds read buffer capacity of %d bytes.",
+                        buffer.capacity()
+                );
+                throw new IOException(message);
+            }
+            buffer.limit(end);
+            buffer.position(start);
+            buffer.compact();
+            end -= start;
+            start = 0;
+        }
+        buffer.limit(buffer.capacity());
+        buffer.position(end);
+        final int read = channel.read(buffer);
+        if (read == 0) {
+            throw new IOException("Channel returned no bytes. Only blocking channels are supported.");
+        }
+        if (read < 0) {
+            return false;
+        }
+        end = buffer.position();
+        return true;
+    }
+
+}
@@ -0,0 +1,107 @@
+package eu.trisquare.bytemapper.io;
+
+import eu.trisquare.bytemapper.ByteMapper;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+
+/**
+ * Creates and parametrizes {@link RecordStreamDecoder} instances.
+ *
+ * @param <T> type of mapped records
+ */
+public class RecordStreamDecoderBuilder<T> {
+
+    /**
+     * Default size of read buffer, 64 KiB
+     */
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final ByteMapper byteMapper;
+
+    private final Class<T> clazz;
+
+    private final Framing framing;
+
+    /**
+     * Capacity of read buffer, which limits maximum frame size
+     */
+    private int bufferSize;
+
+    /**
+     * Determines if direct buffer should be allocated
+     */
+    private boolean directBuffer;
+
+    /**
+     * Creates builder of decoders mapping records of given class, separated using given framing
+     *
+     * @param byteMapper used to map each record
+     * @param clazz      of mapped records, same as in {@link ByteMapper#mapValues(Class, ByteBuffer)}
+     * @param framing    determining boundaries of records
+     */
+    public RecordStreamDecoderBuilder(ByteMapper byteMapper, Class<T> clazz, Framing framing) {
+        this.byteMapper = byteMapper;
+        this.clazz = clazz;
+        this.framing = framing;
+        this.bufferSize = DEFAULT_BUFFER_SIZE;
+        this.directBuffer = false;
+    }
+
+    /**
+     * Sets capacity of read buffer. Each frame, including its trailer, has to fit in the buffer.
+     * By default, buffer of 64 KiB is used.
+     *
+     * @param bufferSize capacity of read buffer in bytes
+     * @return this builder
+     */
+    public RecordStreamDecoderBuilder<T> withBufferSize(int bufferSize) {
+        if (bufferSize <= 0) {
+            final String message = String.format("Buffer size should be bigger than 0, but %d was provided", bufferSize);
+            throw new IllegalArgumentException(message);
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Enables or disables usage of direct read buffer, which avoids copying bytes read from native channels,
+     * i.e. sockets. Heap buffer is used by default.
+     *
+     * @param directBuffer true if direct buffer should be allocated
+     * @return this builder
+     */
+    public RecordStreamDecoderBuilder<T> withDirectBuffer(boolean directBuffer) {
+        this.directBuffer = directBuffer;
+        return this;
+    }
+
+    /**
+     * Creates decoder reading records from given channel
+     *
+     * @param channel source of bytes in blocking mode, closed when decoder is closed
+     * @return new decoder
+     * @throws IllegalArgumentException if channel is in non-blocking mode
+     */
+    public RecordStreamDecoder<T> open(ReadableByteChannel channel) {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalArgumentException("Channel must be in blocking mode.");
+        }
+        final ByteBuffer buffer = directBuffer ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+        return new RecordStreamDecoder<>(byteMapper, clazz, framing, channel, buffer);
+    }
+
+    /**
+     * Creates decoder reading records from given input stream
+     *
+     * @param inputStream source of bytes, closed when decoder is closed
+     * @return new decoder
+     */
+    public RecordStreamDecoder<T> open(InputStream inputStream) {
+        return open(Channels.newChannel(inputStream));
+    }
+
+}
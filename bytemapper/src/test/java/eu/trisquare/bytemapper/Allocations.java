@@ -0,0 +1,52 @@
+package eu.trisquare.bytemapper;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures heap memory allocated by current thread. Tests using it are skipped on JVMs
+ * which do not support thread allocation counters.
+ */
+public final class Allocations {
+
+    /**
+     * Number of calls performed before measurement, so measured code is already compiled
+     */
+    private static final int WARM_UP_ITERATIONS = 20_000;
+
+    private Allocations() {
+        //empty
+    }
+
+    /**
+     * Runs given task {@code iterations} times and returns number of bytes allocated meanwhile
+     * by current thread. Task is warmed-up before measurement.
+     *
+     * @param iterations number of measured task executions
+     * @param task       to measure
+     * @return number of bytes allocated by measured executions
+     */
+    public static long measure(int iterations, Runnable task) {
+        final com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            task.run();
+        }
+        final long threadId = Thread.currentThread().getId();
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean, "Allocation counters are not available");
+        final com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(sunThreadMXBean.isThreadAllocatedMemorySupported(), "Allocation counters are not supported");
+        sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return sunThreadMXBean;
+    }
+
+}
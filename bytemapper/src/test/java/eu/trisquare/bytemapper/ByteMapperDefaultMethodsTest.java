@@ -0,0 +1,62 @@
+package eu.trisquare.bytemapper;
+
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteMapperDefaultMethodsTest {
+
+    /**
+     * Implements only the mapping of whole buffer, as implementations predating remaining methods did
+     */
+    private final ByteMapper minimalMapper = new ByteMapper() {
+
+        private final ByteMapper delegate = new ByteMapperBuilder().build();
+
+        @Override
+        public <T> T mapValues(Class<T> clazz, ByteBuffer byteBuffer) {
+            return delegate.mapValues(clazz, byteBuffer);
+        }
+
+    };
+
+    private final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0, 1, 0, 2, 0, 3});
+
+    @Test
+    void recordsShouldBeMappedFromSlicesOfBuffer() {
+        assertEquals(256, minimalMapper.mapValues(Pair.class, buffer, 1).value);
+        assertArrayEquals(new int[]{1, 2, 3}, Arrays.stream(minimalMapper.mapAll(Pair.class, buffer, 2)).mapToInt(pair -> pair.value).toArray());
+        assertEquals(Arrays.asList(2, 3), minimalMapper.stream(Pair.class, buffer, 2, 2, 2).map(pair -> pair.value).collect(Collectors.toList()));
+        assertEquals(3, minimalMapper.stream(Pair.class, buffer, 2).count());
+    }
+
+    @Test
+    void recordsShouldBeValidatedAsSeparateBuffers() {
+        final Exception records = assertThrows(MappingException.class, () -> minimalMapper.mapAll(Pair.class, buffer, 4));
+        assertEquals("Buffer limit of 6 bytes is not a multiple of record size of 4 bytes.", records.getMessage());
+        final Exception record = assertThrows(MappingException.class, () -> minimalMapper.mapAll(Pair.class, buffer, 0, 1, 2));
+        assertEquals("Last byte index should not exceed buffer limit of 1 bytes, but 2 was calculated", record.getMessage());
+    }
+
+    @Test
+    void optionalFeaturesShouldBeUnsupportedByDefault() {
+        assertThrows(UnsupportedOperationException.class, () -> minimalMapper.mapInto(new Pair(), buffer));
+        assertThrows(UnsupportedOperationException.class, () -> minimalMapper.flyweight(Flyweight.class));
+        assertTrue(minimalMapper.getInternCaches(Pair.class).isEmpty());
+    }
+
+    public static class Pair {
+
+        @Value(startByte = 0, size = 2)
+        public int value;
+
+    }
+
+}
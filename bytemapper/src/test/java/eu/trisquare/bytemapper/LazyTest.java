@@ -0,0 +1,47 @@
+package eu.trisquare.bytemapper;
+
+import eu.trisquare.bytemapper.classmapper.LazyValues;
+import eu.trisquare.bytemapper.fieldmapper.StandardFieldMapperProvider;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyTest {
+
+    private final StandardFieldMapperProvider mapperProvider = new StandardFieldMapperProvider();
+
+    @Test
+    void valueShouldBeDecodedOnFirstAccessOnly() {
+        final ByteBuffer buffer = ByteBuffer.wrap("xabcx".getBytes());
+        final Lazy<String> lazy = new Lazy<>(mapperProvider.getMapper(String.class), buffer, true, 1, 3);
+        assertFalse(lazy.isLoaded());
+        assertEquals("Lazy[not loaded]", lazy.toString());
+
+        buffer.put(1, (byte) 'A');
+        assertEquals("Abc", lazy.get());
+        assertTrue(lazy.isLoaded());
+
+        buffer.put(1, (byte) 'B');
+        assertEquals("Abc", lazy.get());
+        assertSame(lazy.get(), lazy.get());
+        assertEquals("Abc", lazy.toString());
+    }
+
+    @Test
+    void ofShouldReturnLoadedValue() {
+        final Lazy<Integer> lazy = Lazy.of(7);
+        assertTrue(lazy.isLoaded());
+        assertEquals(7, lazy.get().intValue());
+        assertNull(Lazy.of(null).get());
+    }
+
+    @Test
+    void lazyValuesShouldCreateNotLoadedValues() {
+        final Lazy<String> lazy = LazyValues.create(mapperProvider.getMapper(String.class), ByteBuffer.wrap("xabcx".getBytes()), true, 1, 3);
+        assertFalse(lazy.isLoaded());
+        assertEquals("abc", lazy.get());
+    }
+
+}
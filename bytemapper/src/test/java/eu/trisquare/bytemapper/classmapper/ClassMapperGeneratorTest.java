@@ -0,0 +1,380 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.Lazy;
+import eu.trisquare.bytemapper.annotations.Bits;
+import eu.trisquare.bytemapper.annotations.ByteMapperConstructor;
+import eu.trisquare.bytemapper.annotations.Structure;
+import eu.trisquare.bytemapper.annotations.Text;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.fieldmapper.StandardFieldMapperProvider;
+import eu.trisquare.bytemapper.fieldmapper.StandardStructureMapperProvider;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import org.apache.commons.lang3.NotImplementedException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassMapperGeneratorTest {
+
+    private static final String TEST_STRING_VALUE = "1234";
+
+    /**
+     * Accessor which is able to find annotated members, but fails on any instantiation or assignment,
+     * so it allows to check if generated mapper was used.
+     */
+    private final POJOAccessor scanOnlyPOJOAccessor = new StandardPOJOAccessor() {
+        @Override
+        public <T> T getInstanceUsingAnnotatedConstructor(Class<T> clazz, List<Object> arguments) {
+            throw new NotImplementedException("reflection");
+        }
+
+        @Override
+        public <T> T getInstanceUsingDefaultConstructor(Class<T> clazz) {
+            throw new NotImplementedException("reflection");
+        }
+
+        @Override
+        public void assignValue(Field field, Object instance, Object value) {
+            throw new NotImplementedException("reflection");
+        }
+    };
+
+    private final ByteMapper generatingMapper = new StandardByteMapper(
+            new StandardFieldMapperProvider(),
+            new StandardStructureMapperProvider(),
+            scanOnlyPOJOAccessor,
+            MappingEngine.BYTECODE_GENERATION
+    );
+
+    private static ByteBuffer getBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocate(40);
+        buffer.put((byte) 0x01);                          //0
+        buffer.put(Byte.MIN_VALUE);                       //1
+        buffer.putShort(Short.MIN_VALUE);                 //2
+        buffer.putInt(Integer.MIN_VALUE);                 //4
+        buffer.putLong(Long.MIN_VALUE);                   //8
+        buffer.put(TEST_STRING_VALUE.getBytes());         //16
+        buffer.putLong(Long.MIN_VALUE);                   //20
+        buffer.putDouble(Double.MIN_VALUE);               //28
+        buffer.putFloat(Float.MIN_VALUE);                 //36
+        buffer.flip();
+        return buffer;
+    }
+
+    @Test
+    void bytecodeSupportShouldDetectOptionalAsmDependency() {
+        assertTrue(BytecodeSupport.isPresent("org.objectweb.asm.ClassWriter"));
+        assertFalse(BytecodeSupport.isPresent("org.objectweb.asm.NoSuchClass"));
+        assertDoesNotThrow(() -> BytecodeSupport.checkAvailable("Flyweight generation"));
+    }
+
+    @Test
+    void generatedMapperShouldAssignPublicFields() {
+        final PublicFieldsClass object = generatingMapper.mapValues(PublicFieldsClass.class, getBuffer());
+        assertTrue(object.booleanValue);
+        assertEquals(Byte.MIN_VALUE, object.byteValue);
+        assertEquals(Short.MIN_VALUE, object.shortValue);
+        assertEquals(Integer.MIN_VALUE, object.intValue);
+        assertEquals(Long.MIN_VALUE, object.longValue);
+        assertEquals(TEST_STRING_VALUE, object.stringValue);
+        assertEquals(BigInteger.valueOf(Long.MIN_VALUE), object.bigInteger);
+        assertEquals(Double.MIN_VALUE, object.doubleValue);
+        assertEquals(Float.MIN_VALUE, object.floatValue);
+    }
+
+    @Test
+    void generatedMapperShouldUsePublicAnnotatedConstructor() {
+        final PublicConstructorClass object = generatingMapper.mapValues(PublicConstructorClass.class, getBuffer());
+        assertTrue(object.booleanValue);
+        assertEquals(Short.MIN_VALUE, object.shortValue);
+        assertEquals(Long.MIN_VALUE, object.longValue);
+        assertEquals(TEST_STRING_VALUE, object.stringValue);
+        assertEquals(Float.MIN_VALUE, object.floatValue);
+    }
+
+    @Test
+    void generatedMapperShouldMapStructures() {
+        final ByteBuffer buffer = ByteBuffer.allocate(41);
+        buffer.put((byte) 0x7F);
+        buffer.put(getBuffer());
+        buffer.flip();
+        final PublicStructureClass object = generatingMapper.mapValues(PublicStructureClass.class, buffer);
+        assertEquals(Byte.MAX_VALUE, object.header);
+        assertEquals(Integer.MIN_VALUE, object.structure.intValue);
+        assertEquals(TEST_STRING_VALUE, object.structure.stringValue);
+    }
+
+    @Test
+    void generatedMapperShouldMapIntoExistingInstance() {
+        final PublicFieldsClass target = new PublicFieldsClass();
+        target.stringValue = "old";
+        final PublicFieldsClass object = generatingMapper.mapInto(target, getBuffer());
+        assertSame(target, object);
+        assertEquals(Integer.MIN_VALUE, object.intValue);
+        assertEquals(TEST_STRING_VALUE, object.stringValue);
+        assertEquals(Float.MIN_VALUE, object.floatValue);
+
+        final Exception e = assertThrows(
+                ClassMappingException.class,
+                () -> generatingMapper.mapInto(target, ByteBuffer.allocate(10))
+        );
+        assertEquals(
+                "Last byte index should not exceed buffer limit of 10 bytes, but 16 was calculated",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void generatedMapperShouldNotMapIntoConstructorBasedInstance() {
+        final PublicConstructorClass target = generatingMapper.mapValues(PublicConstructorClass.class, getBuffer());
+        final Exception e = assertThrows(
+                ClassMappingException.class,
+                () -> generatingMapper.mapInto(target, getBuffer())
+        );
+        assertEquals(
+                "Unable to map into existing instance of PublicConstructorClass. Only classes with annotated fields may be reused.",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void generatedMapperShouldValidateBufferBounds() {
+        final ByteBuffer buffer = ByteBuffer.allocate(10);
+        final Exception e = assertThrows(
+                ClassMappingException.class,
+                () -> generatingMapper.mapValues(PublicFieldsClass.class, buffer)
+        );
+        assertEquals(
+                "Last byte index should not exceed buffer limit of 10 bytes, but 16 was calculated",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void generatedMapperShouldMapAllRecordsAtOffsets() {
+        final ByteBuffer buffer = ByteBuffer.allocate(4 + 2 * 40);
+        buffer.putInt(0);
+        buffer.put(getBuffer());
+        buffer.put(getBuffer());
+        buffer.flip();
+        final PublicFieldsClass[] fields = generatingMapper.mapAll(PublicFieldsClass.class, buffer, 4, 40, 2);
+        final PublicConstructorClass[] constructors = generatingMapper.mapAll(PublicConstructorClass.class, buffer, 4, 40, 2);
+        for (int i = 0; i < 2; i++) {
+            assertTrue(fields[i].booleanValue);
+            assertEquals(Integer.MIN_VALUE, fields[i].intValue);
+            assertEquals(TEST_STRING_VALUE, fields[i].stringValue);
+            assertEquals(Float.MIN_VALUE, fields[i].floatValue);
+            assertTrue(constructors[i].booleanValue);
+            assertEquals(Long.MIN_VALUE, constructors[i].longValue);
+        }
+    }
+
+    @Test
+    void generatedMapperShouldCreateLazyValues() {
+        final ByteBuffer buffer = getBuffer();
+        final PublicLazyClass fields = generatingMapper.mapValues(PublicLazyClass.class, buffer);
+        final PublicLazyConstructorClass constructed = generatingMapper.mapValues(PublicLazyConstructorClass.class, buffer);
+        assertFalse(fields.stringValue.isLoaded());
+        assertEquals(Integer.MIN_VALUE, fields.intValue);
+        assertEquals(TEST_STRING_VALUE, fields.stringValue.get());
+        assertEquals(BigInteger.valueOf(Long.MIN_VALUE), fields.bigInteger.get());
+        assertEquals(TEST_STRING_VALUE, constructed.stringValue.get());
+    }
+
+    @Test
+    void generatedMapperShouldDecodeTextValues() {
+        final ByteBuffer buffer = ByteBuffer.wrap("ab\0\0IBM ".getBytes(StandardCharsets.US_ASCII));
+        final PublicTextClass fields = generatingMapper.mapValues(PublicTextClass.class, buffer);
+        assertEquals("ab", fields.code);
+        assertEquals("IBM", fields.symbol);
+    }
+
+    @Test
+    void generatedMapperShouldExtractBitFields() {
+        final PublicBitsClass fields = generatingMapper.mapValues(PublicBitsClass.class, getBuffer());
+        assertEquals(1, fields.version);
+        assertEquals(Boolean.TRUE, fields.flag);
+        assertEquals(0x8000, fields.length);
+        final PublicBitsConstructorClass constructed = generatingMapper.mapValues(PublicBitsConstructorClass.class, getBuffer());
+        assertEquals(1L, constructed.version);
+        assertEquals(Short.valueOf((short) 0x8000), constructed.length);
+    }
+
+    @Test
+    void generationShouldFallbackToReflectionForPrivateClass() {
+        final Exception e = assertThrows(
+                NotImplementedException.class,
+                () -> generatingMapper.mapValues(PrivateClass.class, getBuffer())
+        );
+        assertEquals("reflection", e.getMessage());
+
+        final PrivateClass object = new ByteMapperBuilder()
+                .withMappingEngine(MappingEngine.BYTECODE_GENERATION)
+                .build()
+                .mapValues(PrivateClass.class, getBuffer());
+        assertEquals(Integer.MIN_VALUE, object.intValue);
+    }
+
+    @Test
+    void generationShouldFallbackToReflectionForPrivateField() {
+        final Exception e = assertThrows(
+                NotImplementedException.class,
+                () -> generatingMapper.mapValues(PrivateFieldClass.class, getBuffer())
+        );
+        assertEquals("reflection", e.getMessage());
+    }
+
+    public static class PublicFieldsClass {
+
+        @Value(startByte = 0)
+        public boolean booleanValue;
+
+        @Value(startByte = 1)
+        public byte byteValue;
+
+        @Value(startByte = 2, size = 2)
+        public short shortValue;
+
+        @Value(startByte = 4, size = 4)
+        public int intValue;
+
+        @Value(startByte = 8, size = 8)
+        public long longValue;
+
+        @Value(startByte = 16, size = 4)
+        public String stringValue;
+
+        @Value(startByte = 20, size = 8)
+        public BigInteger bigInteger;
+
+        @Value(startByte = 28, size = 8)
+        public double doubleValue;
+
+        @Value(startByte = 36, size = 4)
+        public float floatValue;
+
+    }
+
+    public static class PublicConstructorClass {
+
+        private final boolean booleanValue;
+        private final short shortValue;
+        private final long longValue;
+        private final String stringValue;
+        private final float floatValue;
+
+        @ByteMapperConstructor
+        public PublicConstructorClass(
+                @Value(startByte = 0) boolean booleanValue,
+                @Value(startByte = 2, size = 2) short shortValue,
+                @Value(startByte = 8, size = 8) long longValue,
+                @Value(startByte = 16, size = 4) String stringValue,
+                @Value(startByte = 36, size = 4) float floatValue
+        ) {
+            this.booleanValue = booleanValue;
+            this.shortValue = shortValue;
+            this.longValue = longValue;
+            this.stringValue = stringValue;
+            this.floatValue = floatValue;
+        }
+    }
+
+    public static class PublicStructureClass {
+
+        @Value(startByte = 0)
+        public byte header;
+
+        @Structure(startByte = 1, size = 40)
+        public PublicFieldsClass structure;
+
+    }
+
+    public static class PublicTextClass {
+
+        @Value(startByte = 0, size = 4)
+        @Text(padding = Text.Padding.NUL)
+        public String code;
+
+        @Value(startByte = 4, size = 4)
+        @Text(charset = "US-ASCII", padding = Text.Padding.SPACE, internCapacity = 4)
+        public String symbol;
+
+    }
+
+    public static class PublicBitsClass {
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 0, width = 8)
+        public int version;
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 8, width = 1)
+        public Boolean flag;
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 0, width = 16, numbering = Bits.Numbering.LSB_FIRST)
+        public int length;
+
+    }
+
+    public static class PublicBitsConstructorClass {
+
+        public final long version;
+
+        public final Short length;
+
+        @ByteMapperConstructor
+        public PublicBitsConstructorClass(
+                @Value(startByte = 0, size = 4) @Bits(offset = 0, width = 8) long version,
+                @Value(startByte = 0, size = 4) @Bits(offset = 16, width = 16) Short length
+        ) {
+            this.version = version;
+            this.length = length;
+        }
+    }
+
+    public static class PublicLazyClass {
+
+        @Value(startByte = 4, size = 4)
+        public int intValue;
+
+        @Value(startByte = 16, size = 4)
+        public Lazy<String> stringValue;
+
+        @Value(startByte = 20, size = 8)
+        public Lazy<BigInteger> bigInteger;
+
+    }
+
+    public static class PublicLazyConstructorClass {
+
+        public final Lazy<String> stringValue;
+
+        @ByteMapperConstructor
+        public PublicLazyConstructorClass(@Value(startByte = 16, size = 4) Lazy<String> stringValue) {
+            this.stringValue = stringValue;
+        }
+    }
+
+    public static class PrivateFieldClass {
+
+        @Value(startByte = 4, size = 4)
+        private int intValue;
+
+    }
+
+    private static class PrivateClass {
+
+        @Value(startByte = 4, size = 4)
+        private int intValue;
+
+    }
+
+}
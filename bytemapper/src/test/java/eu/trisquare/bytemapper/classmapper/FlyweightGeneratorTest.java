@@ -0,0 +1,231 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.Allocations;
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.Flyweight;
+import eu.trisquare.bytemapper.annotations.Interned;
+import eu.trisquare.bytemapper.annotations.Structure;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlyweightGeneratorTest {
+
+    private static final int RECORD_SIZE = 24;
+
+    private final ByteMapper mapper = new ByteMapperBuilder().build();
+
+    private static ByteBuffer getBuffer(int records) {
+        final ByteBuffer buffer = ByteBuffer.allocate(records * RECORD_SIZE);
+        for (int i = 0; i < records; i++) {
+            buffer.putLong(i);                    //0
+            buffer.putInt(-i);                    //8
+            buffer.put((byte) 1);                 //12
+            buffer.put("ab".getBytes());          //13
+            buffer.putShort((short) (i * 2));     //15
+            buffer.putInt(Integer.reverseBytes(i));  //17
+            buffer.put(new byte[3]);              //21
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    @Test
+    void flyweightShouldReadValuesOfWrappedRecord() {
+        final Packet packet = mapper.flyweight(Packet.class);
+        final ByteBuffer buffer = getBuffer(3);
+        for (int i = 0; i < 3; i++) {
+            packet.wrap(buffer, i * RECORD_SIZE);
+            assertEquals(i, packet.getId());
+            assertEquals(-i, packet.getValue());
+            assertTrue(packet.isFlag());
+            assertEquals("ab", packet.getName());
+            assertEquals(BigInteger.valueOf(i * 2), packet.getBigValue());
+            assertEquals((short) (i * 2), packet.getHeader().getSequence());
+            assertEquals(i, packet.getHeader().getLittleEndian());
+        }
+    }
+
+    @Test
+    void flyweightShouldBeGeneratedClassInsteadOfProxy() {
+        final Packet packet = mapper.flyweight(Packet.class);
+        assertFalse(Proxy.isProxyClass(packet.getClass()));
+        assertEquals(Packet.class.getName() + "$$Flyweight", packet.getClass().getName());
+        assertNotSame(packet, mapper.flyweight(Packet.class));
+        assertSame(packet.getClass(), mapper.flyweight(Packet.class).getClass());
+    }
+
+    @Test
+    void flyweightShouldReadCurrentBufferContent() {
+        final Packet packet = mapper.flyweight(Packet.class);
+        final ByteBuffer buffer = getBuffer(1);
+        packet.wrap(buffer);
+        buffer.putLong(0, 42L);
+        assertEquals(42L, packet.getId());
+    }
+
+    @Test
+    void wrapShouldValidateBounds() {
+        final Packet packet = mapper.flyweight(Packet.class);
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> packet.wrap(getBuffer(1), 4)
+        );
+        assertEquals(
+                "Last byte index should not exceed buffer limit of 20 bytes, but 21 was calculated",
+                e.getMessage()
+        );
+        assertThrows(MappingException.class, () -> packet.wrap(getBuffer(1), -1));
+        assertThrows(MappingException.class, () -> packet.wrap(ByteBuffer.allocate(0)));
+    }
+
+    @Test
+    void wrappingAndReadingPrimitivesShouldNotAllocate() {
+        final Packet packet = mapper.flyweight(Packet.class);
+        final ByteBuffer buffer = getBuffer(4);
+        final long[] sum = new long[1];
+        final int iterations = 100_000;
+        final long allocated = Allocations.measure(iterations, () -> {
+            for (int i = 0; i < 4; i++) {
+                packet.wrap(buffer, i * RECORD_SIZE);
+                sum[0] += packet.getId() + packet.getValue() + packet.getHeader().getSequence();
+            }
+        });
+        assertTrue(allocated < iterations, "Reading flyweights allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void flyweightShouldThrowForClass() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.flyweight(NotInterface.class)
+        );
+        assertEquals("Flyweight NotInterface must be a public interface extending Flyweight.", e.getMessage());
+    }
+
+    @Test
+    void flyweightShouldThrowForNotAnnotatedMethod() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.flyweight(NotAnnotated.class)
+        );
+        assertEquals("Method getId of NotAnnotated must be a getter annotated with @Value or @Structure.", e.getMessage());
+    }
+
+    @Test
+    void flyweightShouldThrowWhenStructureIsTooSmall() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.flyweight(TooSmallStructure.class)
+        );
+        assertEquals(
+                "Last byte index should not exceed buffer limit of 2 bytes, but 6 was calculated",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void flyweightShouldReturnInternedValues() {
+        final InternedSymbol symbol = mapper.flyweight(InternedSymbol.class);
+        final ByteBuffer buffer = getBuffer(2);
+        symbol.wrap(buffer, 0);
+        final String first = symbol.getName();
+        symbol.wrap(buffer, RECORD_SIZE);
+        assertEquals("ab", symbol.getName());
+        assertSame(first, symbol.getName());
+    }
+
+    @Test
+    void flyweightShouldThrowForInternedStructure() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.flyweight(InternedStructure.class)
+        );
+        assertEquals(
+                "Structure getter getHeader of InternedStructure must not be interned, as it returns flyweight wrapping current record.",
+                e.getMessage()
+        );
+    }
+
+    public interface Packet extends Flyweight {
+
+        @Value(startByte = 0, size = 8)
+        long getId();
+
+        @Value(startByte = 8, size = 4)
+        int getValue();
+
+        @Value(startByte = 12)
+        boolean isFlag();
+
+        @Value(startByte = 13, size = 2)
+        String getName();
+
+        @Value(startByte = 15, size = 2)
+        BigInteger getBigValue();
+
+        @Structure(startByte = 15, size = 6)
+        Header getHeader();
+
+        default long getDoubleId() {
+            return getId() * 2;
+        }
+
+    }
+
+    public interface Header extends Flyweight {
+
+        @Value(startByte = 0, size = 2)
+        short getSequence();
+
+        @Value(startByte = 2, size = 4, bigEndian = false)
+        int getLittleEndian();
+
+    }
+
+    public interface NotAnnotated extends Flyweight {
+
+        long getId();
+
+    }
+
+    public interface TooSmallStructure extends Flyweight {
+
+        @Structure(startByte = 0, size = 2)
+        Header getHeader();
+
+    }
+
+    public interface InternedSymbol extends Flyweight {
+
+        @Value(startByte = 13, size = 2)
+        @Interned(capacity = 16)
+        String getName();
+
+    }
+
+    public interface InternedStructure extends Flyweight {
+
+        @Structure(startByte = 15, size = 6)
+        @Interned(capacity = 16)
+        Header getHeader();
+
+    }
+
+    public static class NotInterface implements Flyweight {
+
+        @Override
+        public void wrap(ByteBuffer buffer, int offset) {
+            //empty
+        }
+
+    }
+
+}
@@ -0,0 +1,211 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodHandlePOJOAccessorTest extends StandardPOJOAccessorTest {
+
+    private static final int THREADS = 8;
+
+    private static final int ITERATIONS = 10_000;
+
+    @Override
+    POJOAccessor createPOJOAccessor() {
+        return new MethodHandlePOJOAccessor();
+    }
+
+    @Test
+    void primitiveSettersShouldAssignFieldsOfMatchingType() throws Exception {
+        final POJOAccessor accessor = createPOJOAccessor();
+        final Primitives instance = new Primitives();
+        accessor.assignBoolean(Primitives.class.getDeclaredField("booleanValue"), instance, true);
+        accessor.assignByte(Primitives.class.getDeclaredField("byteValue"), instance, Byte.MIN_VALUE);
+        accessor.assignShort(Primitives.class.getDeclaredField("shortValue"), instance, Short.MIN_VALUE);
+        accessor.assignInt(Primitives.class.getDeclaredField("intValue"), instance, Integer.MIN_VALUE);
+        accessor.assignLong(Primitives.class.getDeclaredField("longValue"), instance, Long.MIN_VALUE);
+        accessor.assignFloat(Primitives.class.getDeclaredField("floatValue"), instance, Float.MIN_VALUE);
+        accessor.assignDouble(Primitives.class.getDeclaredField("doubleValue"), instance, Double.MIN_VALUE);
+
+        assertTrue(instance.booleanValue);
+        assertEquals(Byte.MIN_VALUE, instance.byteValue);
+        assertEquals(Short.MIN_VALUE, instance.shortValue);
+        assertEquals(Integer.MIN_VALUE, instance.intValue);
+        assertEquals(Long.MIN_VALUE, instance.longValue);
+        assertEquals(Float.MIN_VALUE, instance.floatValue);
+        assertEquals(Double.MIN_VALUE, instance.doubleValue);
+    }
+
+    @Test
+    void primitiveSettersShouldFallBackToBoxedAssignment() throws Exception {
+        final POJOAccessor accessor = createPOJOAccessor();
+        final Primitives instance = new Primitives();
+        accessor.assignInt(Primitives.class.getDeclaredField("boxedValue"), instance, 7);
+        accessor.assignByte(Primitives.class.getDeclaredField("longValue"), instance, (byte) 3);
+        assertEquals(Integer.valueOf(7), instance.boxedValue);
+        assertEquals(3L, instance.longValue);
+    }
+
+    @Test
+    void primitiveSettersShouldThrowForUnassignableType() throws Exception {
+        final POJOAccessor accessor = createPOJOAccessor();
+        final Field field = Primitives.class.getDeclaredField("intValue");
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> accessor.assignLong(field, new Primitives(), 1L)
+        );
+        assertEquals("Unable to set value for field intValue.", e.getMessage());
+    }
+
+    @Test
+    void primitiveGettersShouldReadFieldsOfMatchingType() throws Exception {
+        final POJOAccessor accessor = createPOJOAccessor();
+        final Primitives instance = new Primitives();
+        instance.booleanValue = true;
+        instance.byteValue = Byte.MIN_VALUE;
+        instance.shortValue = Short.MIN_VALUE;
+        instance.intValue = Integer.MIN_VALUE;
+        instance.longValue = Long.MIN_VALUE;
+        instance.floatValue = Float.MIN_VALUE;
+        instance.doubleValue = Double.MIN_VALUE;
+
+        assertTrue(accessor.getBoolean(Primitives.class.getDeclaredField("booleanValue"), instance));
+        assertEquals(Byte.MIN_VALUE, accessor.getByte(Primitives.class.getDeclaredField("byteValue"), instance));
+        assertEquals(Short.MIN_VALUE, accessor.getShort(Primitives.class.getDeclaredField("shortValue"), instance));
+        assertEquals(Integer.MIN_VALUE, accessor.getInt(Primitives.class.getDeclaredField("intValue"), instance));
+        assertEquals(Long.MIN_VALUE, accessor.getLong(Primitives.class.getDeclaredField("longValue"), instance));
+        assertEquals(Float.MIN_VALUE, accessor.getFloat(Primitives.class.getDeclaredField("floatValue"), instance));
+        assertEquals(Double.MIN_VALUE, accessor.getDouble(Primitives.class.getDeclaredField("doubleValue"), instance));
+    }
+
+    @Test
+    void primitiveGettersShouldFallBackToBoxedValue() throws Exception {
+        final POJOAccessor accessor = createPOJOAccessor();
+        final Primitives instance = new Primitives();
+        instance.boxedValue = 7;
+        assertEquals(7, accessor.getInt(Primitives.class.getDeclaredField("boxedValue"), instance));
+        assertEquals(7, accessor.getValue(Primitives.class.getDeclaredField("boxedValue"), instance));
+    }
+
+    @Test
+    void primitiveGettersShouldWidenValueOfOtherType() throws Exception {
+        final POJOAccessor accessor = createPOJOAccessor();
+        final Primitives instance = new Primitives();
+        instance.intValue = -3;
+        assertEquals(-3L, accessor.getLong(Primitives.class.getDeclaredField("intValue"), instance));
+    }
+
+    @Test
+    void assignValueShouldNotChangeAccessibilityOfGivenField() throws Exception {
+        final Field field = Primitives.class.getDeclaredField("intValue");
+        createPOJOAccessor().assignValue(field, new Primitives(), 1);
+        assertFalse(field.isAccessible());
+    }
+
+    @Test
+    void accessorShouldBeSafeWhenSharedFieldIsAssignedConcurrently() throws Exception {
+        final POJOAccessor accessor = createPOJOAccessor();
+        final Field field = Primitives.class.getDeclaredField("intValue");
+        final List<Integer> results = runConcurrently(threadIdx -> {
+            int sum = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                final Primitives instance = accessor.getInstanceUsingDefaultConstructor(Primitives.class);
+                accessor.assignInt(field, instance, threadIdx);
+                sum += instance.intValue;
+            }
+            return sum;
+        });
+        for (int threadIdx = 0; threadIdx < THREADS; threadIdx++) {
+            assertEquals(threadIdx * ITERATIONS, results.get(threadIdx).intValue());
+        }
+    }
+
+    @Test
+    void byteMapperShouldMapSameClassConcurrently() throws Exception {
+        final ByteMapper mapper = new ByteMapperBuilder().build();
+        final List<Integer> results = runConcurrently(threadIdx -> {
+            final ByteBuffer buffer = ByteBuffer.allocate(5);
+            buffer.putInt(threadIdx);
+            buffer.put((byte) threadIdx);
+            buffer.flip();
+            int mismatches = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                final Mapped mapped = mapper.mapValues(Mapped.class, buffer);
+                if (mapped.intValue != threadIdx || mapped.byteValue != threadIdx) {
+                    mismatches++;
+                }
+            }
+            return mismatches;
+        });
+        for (Integer mismatches : results) {
+            assertEquals(0, mismatches.intValue());
+        }
+    }
+
+    /**
+     * Runs given task in {@link #THREADS} threads started at the same time, returns results in order of thread index
+     */
+    private List<Integer> runConcurrently(ThreadTask task) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Integer>> futures = new ArrayList<>();
+            for (int threadIdx = 0; threadIdx < THREADS; threadIdx++) {
+                final int idx = threadIdx;
+                final Callable<Integer> callable = () -> {
+                    start.await();
+                    return task.run(idx);
+                };
+                futures.add(executor.submit(callable));
+            }
+            start.countDown();
+            final List<Integer> results = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface ThreadTask {
+        int run(int threadIdx);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Primitives {
+        private boolean booleanValue;
+        private byte byteValue;
+        private short shortValue;
+        private int intValue;
+        private long longValue;
+        private float floatValue;
+        private double doubleValue;
+        private Integer boxedValue;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Mapped {
+        @Value(startByte = 0, size = 4)
+        private int intValue;
+
+        @Value(startByte = 4)
+        private byte byteValue;
+    }
+
+}
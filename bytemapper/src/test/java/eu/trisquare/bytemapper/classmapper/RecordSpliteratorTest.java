@@ -0,0 +1,83 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordSpliteratorTest {
+
+    /**
+     * Maps each record into its first byte
+     */
+    private static final ClassMapper<Byte> FIRST_BYTE_MAPPER = buffer -> buffer.get(0);
+
+    private static ByteBuffer getBuffer(int count) {
+        final ByteBuffer buffer = ByteBuffer.allocate(1 + count * 2);
+        buffer.put((byte) -1);
+        for (int i = 0; i < count; i++) {
+            buffer.put((byte) i);
+            buffer.put((byte) -1);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static RecordSpliterator<Byte> getSpliterator(int count) {
+        return new RecordSpliterator<>(FIRST_BYTE_MAPPER, getBuffer(count), 1, 2, 0, count);
+    }
+
+    @Test
+    void spliteratorShouldMapRecordsInOrder() {
+        final RecordSpliterator<Byte> spliterator = getSpliterator(5);
+        final List<Byte> records = new ArrayList<>();
+        assertTrue(spliterator.tryAdvance(records::add));
+        assertEquals(4, spliterator.estimateSize());
+        spliterator.forEachRemaining(records::add);
+        assertEquals(0, spliterator.estimateSize());
+        assertFalse(spliterator.tryAdvance(records::add));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, records.get(i).intValue());
+        }
+    }
+
+    @Test
+    void splitShouldCoverFirstHalfOfRemainingRecords() {
+        final RecordSpliterator<Byte> spliterator = getSpliterator(5);
+        final Spliterator<Byte> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(2, prefix.estimateSize());
+        assertEquals(3, spliterator.estimateSize());
+        assertEquals(2, prefix.getExactSizeIfKnown());
+
+        final List<Byte> records = new ArrayList<>();
+        prefix.forEachRemaining(records::add);
+        spliterator.forEachRemaining(records::add);
+        assertEquals(5, records.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, records.get(i).intValue());
+        }
+    }
+
+    @Test
+    void splitShouldNotSplitSingleRecord() {
+        final RecordSpliterator<Byte> spliterator = getSpliterator(2);
+        assertNotNull(spliterator.trySplit());
+        assertNull(spliterator.trySplit());
+        assertEquals(1, spliterator.estimateSize());
+    }
+
+    @Test
+    void spliteratorShouldBeSizedAndOrdered() {
+        final RecordSpliterator<Byte> spliterator = getSpliterator(1);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+    }
+
+}
@@ -0,0 +1,1471 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.Allocations;
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.Lazy;
+import eu.trisquare.bytemapper.annotations.Bits;
+import eu.trisquare.bytemapper.annotations.ByteMapperConstructor;
+import eu.trisquare.bytemapper.annotations.Discriminator;
+import eu.trisquare.bytemapper.annotations.Interned;
+import eu.trisquare.bytemapper.annotations.Structure;
+import eu.trisquare.bytemapper.annotations.Text;
+import eu.trisquare.bytemapper.annotations.Unsigned;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.fieldmapper.FieldMapperProvider;
+import eu.trisquare.bytemapper.fieldmapper.InternCache;
+import eu.trisquare.bytemapper.fieldmapper.StandardFieldMapperProvider;
+import eu.trisquare.bytemapper.fieldmapper.StandardStructureMapperProvider;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.apache.commons.lang3.NotImplementedException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StandardByteMapperTest {
+
+    private final AtomicInteger mapperLookups = new AtomicInteger();
+
+    private final AtomicInteger classScans = new AtomicInteger();
+
+    private final FieldMapperProvider countingFieldMapperProvider = clazz -> {
+        mapperLookups.incrementAndGet();
+        return new StandardFieldMapperProvider().getMapper(clazz);
+    };
+
+    private final POJOAccessor countingPOJOAccessor = new StandardPOJOAccessor() {
+        @Override
+        public boolean hasAnnotatedConstructor(Class<?> objectClass) {
+            classScans.incrementAndGet();
+            return super.hasAnnotatedConstructor(objectClass);
+        }
+
+        @Override
+        public List<Parameter> getAnnotatedConstructorParams(Class<?> annotatedClass) {
+            classScans.incrementAndGet();
+            return super.getAnnotatedConstructorParams(annotatedClass);
+        }
+
+        @Override
+        public List<Field> getValueAnnotatedFields(Class<?> objectClass) {
+            classScans.incrementAndGet();
+            return super.getValueAnnotatedFields(objectClass);
+        }
+    };
+
+    private final ByteMapper mapper = new StandardByteMapper(
+            countingFieldMapperProvider,
+            new StandardStructureMapperProvider(),
+            countingPOJOAccessor
+    );
+
+    private static ByteBuffer getBuffer(int first, int second) {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putInt(first);
+        buffer.putInt(second);
+        buffer.flip();
+        return buffer;
+    }
+
+    @Test
+    void mapValuesShouldResolveAnnotatedFieldsOnlyOnce() {
+        for (int i = 0; i < 10; i++) {
+            final FieldsClass object = mapper.mapValues(FieldsClass.class, getBuffer(i, -i));
+            assertEquals(i, object.first);
+            assertEquals(-i, object.second);
+        }
+        assertEquals(2, mapperLookups.get());
+        assertEquals(2, classScans.get());
+    }
+
+    @Test
+    void mapValuesShouldResolveAnnotatedConstructorOnlyOnce() {
+        for (int i = 0; i < 10; i++) {
+            final ConstructorClass object = mapper.mapValues(ConstructorClass.class, getBuffer(i, -i));
+            assertEquals(i, object.first);
+            assertEquals(-i, object.second);
+        }
+        assertEquals(2, mapperLookups.get());
+        assertEquals(2, classScans.get());
+    }
+
+    @Test
+    void mapValuesShouldValidateBufferLimitOnEachCall() {
+        mapper.mapValues(FieldsClass.class, getBuffer(1, 2));
+        final ByteBuffer shortBuffer = ByteBuffer.allocate(6);
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(FieldsClass.class, shortBuffer)
+        );
+        assertEquals(
+                "Last byte index should not exceed buffer limit of 6 bytes, but 8 was calculated",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void mapValuesShouldAssignPrimitiveFieldsWithoutBoxing() {
+        final POJOAccessor primitiveOnlyPOJOAccessor = new MethodHandlePOJOAccessor() {
+            @Override
+            public void assignValue(Field field, Object instance, Object value) {
+                throw new NotImplementedException("boxing");
+            }
+        };
+        final ByteMapper primitiveMapper = new StandardByteMapper(
+                new StandardFieldMapperProvider(),
+                new StandardStructureMapperProvider(),
+                primitiveOnlyPOJOAccessor
+        );
+        final PrimitivesClass object = primitiveMapper.mapValues(PrimitivesClass.class, getPrimitivesBuffer());
+        assertPrimitives(object);
+    }
+
+    @Test
+    void mapValuesShouldNotBoxPrimitiveFields() {
+        final ByteMapper defaultMapper = new ByteMapperBuilder().build();
+        final ByteBuffer buffer = getPrimitivesBuffer();
+        assertPrimitives(defaultMapper.mapValues(PrimitivesClass.class, buffer));
+
+        final int iterations = 100_000;
+        final long allocated = Allocations.measure(iterations, () -> defaultMapper.mapValues(PrimitivesClass.class, buffer));
+        assertTrue(allocated / iterations <= 64, "Mapping allocated " + allocated / iterations + " bytes per instance");
+    }
+
+    @Test
+    void mapIntoShouldOverwriteFieldsOfGivenInstance() {
+        final FieldsClass target = new FieldsClass();
+        for (int i = 0; i < 10; i++) {
+            assertSame(target, mapper.mapInto(target, getBuffer(i, -i)));
+            assertEquals(i, target.first);
+            assertEquals(-i, target.second);
+        }
+        assertEquals(2, mapperLookups.get());
+        assertEquals(2, classScans.get());
+    }
+
+    @Test
+    void mapIntoShouldValidateBufferLimit() {
+        final FieldsClass target = mapper.mapValues(FieldsClass.class, getBuffer(1, 2));
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapInto(target, ByteBuffer.allocate(6))
+        );
+        assertEquals(
+                "Last byte index should not exceed buffer limit of 6 bytes, but 8 was calculated",
+                e.getMessage()
+        );
+        assertEquals(1, target.first);
+        assertEquals(2, target.second);
+    }
+
+    @Test
+    void mapIntoShouldThrowForConstructorBasedClass() {
+        final ConstructorClass target = mapper.mapValues(ConstructorClass.class, getBuffer(1, 2));
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapInto(target, getBuffer(3, 4))
+        );
+        assertEquals(
+                "Unable to map into existing instance of ConstructorClass. Only classes with annotated fields may be reused.",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void mapIntoShouldNotAllocateForPrimitiveFields() {
+        final ByteMapper defaultMapper = new ByteMapperBuilder().build();
+        final ByteBuffer buffer = getPrimitivesBuffer();
+        final PrimitivesClass target = new PrimitivesClass();
+        assertPrimitives(defaultMapper.mapInto(target, buffer));
+
+        final int iterations = 100_000;
+        final long allocated = Allocations.measure(iterations, () -> defaultMapper.mapInto(target, buffer));
+        assertTrue(allocated < iterations, "Mapping into existing instance allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void mapValuesShouldMapRecordAtOffset() {
+        final ByteBuffer buffer = getRecordsBuffer(3, 1);
+        final FieldsClass fields = mapper.mapValues(FieldsClass.class, buffer, 1 + 8);
+        final ConstructorClass constructor = mapper.mapValues(ConstructorClass.class, buffer, 1 + 16);
+        assertEquals(1, fields.first);
+        assertEquals(-1, fields.second);
+        assertEquals(2, constructor.first);
+        assertEquals(-2, constructor.second);
+
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(FieldsClass.class, buffer, 18)
+        );
+        assertEquals(
+                "Last byte index should not exceed buffer limit of 7 bytes, but 8 was calculated",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void mapAllShouldMapEachRecordOfBuffer() {
+        final ByteBuffer buffer = getRecordsBuffer(3, 0);
+        final FieldsClass[] fields = mapper.mapAll(FieldsClass.class, buffer, 8);
+        final ConstructorClass[] constructors = mapper.mapAll(ConstructorClass.class, buffer, 8);
+        assertEquals(3, fields.length);
+        assertEquals(3, constructors.length);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, fields[i].first);
+            assertEquals(-i, fields[i].second);
+            assertEquals(i, constructors[i].first);
+            assertEquals(-i, constructors[i].second);
+        }
+        assertEquals(0, buffer.position());
+        assertEquals(24, buffer.limit());
+    }
+
+    @Test
+    void mapAllShouldMapRecordsStartingAtOffset() {
+        final ByteBuffer buffer = getRecordsBuffer(4, 3);
+        final List<ConstructorClass> records = new ArrayList<>();
+        mapper.mapAll(ConstructorClass.class, buffer, 3 + 8, 8, 3, records::add);
+        assertEquals(3, records.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i + 1, records.get(i).first);
+            assertEquals(-(i + 1), records.get(i).second);
+        }
+    }
+
+    @Test
+    void mapAllShouldMapRecordsLargerThanStructure() {
+        final ByteBuffer buffer = ByteBuffer.allocate(20);
+        buffer.putInt(1).putInt(2).putShort((short) 0);
+        buffer.putInt(3).putInt(4).putShort((short) 0);
+        buffer.flip();
+        final FieldsClass[] records = mapper.mapAll(FieldsClass.class, buffer, 0, 10, 2);
+        assertEquals(3, records[1].first);
+        assertEquals(4, records[1].second);
+    }
+
+    @Test
+    void mapAllShouldResolveClassOnlyOnce() {
+        mapper.mapAll(FieldsClass.class, getRecordsBuffer(5, 0), 8);
+        assertEquals(2, mapperLookups.get());
+        assertEquals(2, classScans.get());
+    }
+
+    @Test
+    void mapAllShouldThrowWhenRecordIsSmallerThanStructure() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapAll(FieldsClass.class, getRecordsBuffer(2, 0), 4)
+        );
+        assertEquals(
+                "Last byte index should not exceed buffer limit of 4 bytes, but 8 was calculated",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void mapAllShouldThrowWhenRecordsExceedBufferLimit() {
+        final List<FieldsClass> records = new ArrayList<>();
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapAll(FieldsClass.class, getRecordsBuffer(2, 0), 4, 8, 2, records::add)
+        );
+        assertEquals(
+                "Last byte index of 2 records should not exceed buffer limit of 16 bytes, but 20 was calculated",
+                e.getMessage()
+        );
+        assertTrue(records.isEmpty());
+    }
+
+    @Test
+    void mapAllShouldThrowWhenBufferLimitIsNotMultipleOfRecordSize() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapAll(FieldsClass.class, getRecordsBuffer(2, 1), 8)
+        );
+        assertEquals(
+                "Buffer limit of 17 bytes is not a multiple of record size of 8 bytes.",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void mapAllShouldThrowForInvalidArguments() {
+        final ByteBuffer buffer = getRecordsBuffer(2, 0);
+        assertEquals(
+                "Offset must not be negative, but -1 was provided.",
+                assertThrows(MappingException.class, () -> mapper.mapAll(FieldsClass.class, buffer, -1, 8, 1)).getMessage()
+        );
+        assertEquals(
+                "Record size should be bigger than 0, but 0 was provided",
+                assertThrows(MappingException.class, () -> mapper.mapAll(FieldsClass.class, buffer, 0)).getMessage()
+        );
+        assertEquals(
+                "Records count must not be negative, but -1 was provided.",
+                assertThrows(MappingException.class, () -> mapper.mapAll(FieldsClass.class, buffer, 0, 8, -1)).getMessage()
+        );
+    }
+
+    @Test
+    void mapAllShouldMapEmptyBuffer() {
+        assertEquals(0, mapper.mapAll(FieldsClass.class, ByteBuffer.allocate(0), 8).length);
+    }
+
+    @Test
+    void mapAllShouldAllocateOnlyMappedInstances() {
+        final ByteMapper defaultMapper = new ByteMapperBuilder().build();
+        final int count = 100;
+        final ByteBuffer buffer = ByteBuffer.allocate(24 * count);
+        for (int i = 0; i < count; i++) {
+            buffer.put(getPrimitivesBuffer());
+        }
+        buffer.flip();
+        final PrimitivesClass[] last = new PrimitivesClass[1];
+        defaultMapper.mapAll(PrimitivesClass.class, buffer, 0, 24, count, record -> last[0] = record);
+        assertPrimitives(last[0]);
+
+        final int iterations = 1_000;
+        final long allocated = Allocations.measure(
+                iterations,
+                () -> defaultMapper.mapAll(PrimitivesClass.class, buffer, 0, 24, count, record -> last[0] = record)
+        );
+        final long perRecord = allocated / ((long) iterations * count);
+        assertTrue(perRecord <= 64, "Mapping of single record allocated " + perRecord + " bytes");
+    }
+
+    @Test
+    void streamShouldMapEachRecordOfBuffer() {
+        final ByteBuffer buffer = getRecordsBuffer(3, 0);
+        final List<FieldsClass> records = mapper.stream(FieldsClass.class, buffer, 8).collect(Collectors.toList());
+        assertEquals(3, records.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, records.get(i).first);
+            assertEquals(-i, records.get(i).second);
+        }
+        assertEquals(3, mapper.stream(ConstructorClass.class, buffer, 8).count());
+    }
+
+    @Test
+    void parallelStreamShouldMapRecordsInOrder() {
+        final int count = 10_000;
+        final ByteBuffer buffer = getRecordsBuffer(count + 1, 3);
+        final List<ConstructorClass> records = mapper
+                .stream(ConstructorClass.class, buffer, 3 + 8, 8, count)
+                .parallel()
+                .collect(Collectors.toList());
+        assertEquals(count, records.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i + 1, records.get(i).first);
+            assertEquals(-(i + 1), records.get(i).second);
+        }
+        final long sum = mapper.stream(FieldsClass.class, buffer, 3, 8, count + 1)
+                .parallel()
+                .mapToLong(record -> record.first)
+                .sum();
+        assertEquals((long) count * (count + 1) / 2, sum);
+    }
+
+    @Test
+    void streamShouldMapRecordsLazily() {
+        final ByteBuffer buffer = getRecordsBuffer(2, 0);
+        final Stream<FieldsClass> stream = mapper.stream(FieldsClass.class, buffer, 8);
+        buffer.putInt(8, 5);
+        assertEquals(5, stream.skip(1).findFirst().orElseThrow(IllegalStateException::new).first);
+    }
+
+    @Test
+    void streamShouldThrowForInvalidArguments() {
+        final ByteBuffer buffer = getRecordsBuffer(2, 1);
+        assertEquals(
+                "Buffer limit of 17 bytes is not a multiple of record size of 8 bytes.",
+                assertThrows(MappingException.class, () -> mapper.stream(FieldsClass.class, buffer, 8)).getMessage()
+        );
+        assertEquals(
+                "Last byte index of 3 records should not exceed buffer limit of 17 bytes, but 24 was calculated",
+                assertThrows(MappingException.class, () -> mapper.stream(FieldsClass.class, buffer, 0, 8, 3)).getMessage()
+        );
+    }
+
+    @Test
+    void streamShouldThrowOnConsumptionWhenRecordIsSmallerThanStructure() {
+        final Stream<FieldsClass> stream = mapper.stream(FieldsClass.class, getRecordsBuffer(2, 0), 4);
+        final Exception e = assertThrows(MappingException.class, () -> stream.collect(Collectors.toList()));
+        assertEquals(
+                "Last byte index should not exceed buffer limit of 4 bytes, but 8 was calculated",
+                e.getMessage()
+        );
+    }
+
+    /**
+     * Returns buffer with given number of records prefixed by given number of padding bytes.
+     * Each record consists of record index and its negation.
+     */
+    private static ByteBuffer getRecordsBuffer(int count, int padding) {
+        final ByteBuffer buffer = ByteBuffer.allocate(padding + count * 8);
+        buffer.position(padding);
+        for (int i = 0; i < count; i++) {
+            buffer.putInt(i);
+            buffer.putInt(-i);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static ByteBuffer getPrimitivesBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocate(24);
+        buffer.putLong(Long.MIN_VALUE);
+        buffer.putDouble(-0.5);
+        buffer.putInt(Integer.MAX_VALUE);
+        buffer.putShort(Short.MIN_VALUE);
+        buffer.put(Byte.MIN_VALUE);
+        buffer.put((byte) 1);
+        buffer.flip();
+        return buffer;
+    }
+
+    @Test
+    void lazyValuesShouldBeDecodedOnAccess() {
+        final ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.putInt(5);
+        buffer.put("abcdefgh".getBytes());
+        buffer.flip();
+        final LazyFieldsClass fields = mapper.mapValues(LazyFieldsClass.class, buffer);
+        assertEquals(5, fields.id);
+        assertFalse(fields.name.isLoaded());
+        assertEquals("abcd", fields.name.get());
+        assertArrayEquals(new byte[]{'h', 'g', 'f', 'e'}, fields.bytes.get());
+
+        final LazyConstructorClass constructed = mapper.mapValues(LazyConstructorClass.class, buffer, 4);
+        assertEquals("abcd", constructed.name.get());
+    }
+
+    @Test
+    void lazyValueShouldRequireDeclaredValueType() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(RawLazyClass.class, ByteBuffer.allocate(4))
+        );
+        assertEquals("Lazy value name must declare its value type, i.e. Lazy<String>.", e.getMessage());
+    }
+
+    @Test
+    void lazyValuesShouldAllocateLessThanDecodedValues() {
+        final ByteMapper defaultMapper = new ByteMapperBuilder().build();
+        final ByteBuffer buffer = ByteBuffer.allocate(68);
+        buffer.putInt(1);
+        buffer.put(new byte[64], 0, 64);
+        buffer.flip();
+        final int iterations = 10_000;
+        final long eager = Allocations.measure(iterations, () -> defaultMapper.mapValues(EagerFieldsClass.class, buffer));
+        final long lazy = Allocations.measure(iterations, () -> defaultMapper.mapValues(LazyFieldsClass.class, buffer));
+        assertTrue(lazy < eager, "Lazy mapping allocated " + lazy + " bytes, eager mapping " + eager + " bytes");
+    }
+
+    @Test
+    void textValuesShouldBeDecodedUsingTheirFormat() {
+        final ByteBuffer buffer = ByteBuffer.wrap("IBM   ab\0cd".getBytes(StandardCharsets.US_ASCII));
+        final TextFieldsClass fields = mapper.mapValues(TextFieldsClass.class, buffer);
+        assertEquals("IBM", fields.symbol);
+        assertEquals("ab", fields.code);
+        assertEquals("IBM", mapper.mapValues(TextConstructorClass.class, buffer).symbol);
+    }
+
+    @Test
+    void textValuesShouldBeInternedPerField() {
+        final ByteBuffer buffer = ByteBuffer.wrap("IBM   ab\0cd".getBytes(StandardCharsets.US_ASCII));
+        final TextFieldsClass first = mapper.mapValues(TextFieldsClass.class, buffer);
+        final TextFieldsClass second = mapper.mapValues(TextFieldsClass.class, buffer);
+        assertSame(first.symbol, second.symbol);
+        assertNotSame(first.code, second.code);
+    }
+
+    @Test
+    void textAnnotationShouldRequireStringType() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(InvalidTextClass.class, ByteBuffer.allocate(4))
+        );
+        assertEquals("Text value number must be of type assignable from String.", e.getMessage());
+    }
+
+    @Test
+    void internedValuesShouldBeSharedBetweenInstances() {
+        final ByteBuffer buffer = getBuffer(7, 42);
+        final InternedFieldsClass first = mapper.mapValues(InternedFieldsClass.class, buffer);
+        final InternedFieldsClass second = mapper.mapValues(InternedFieldsClass.class, buffer);
+        assertEquals(BigInteger.valueOf(7), first.code);
+        assertSame(first.code, second.code);
+        assertEquals(42, first.reference.id);
+        assertSame(first.reference, second.reference);
+        assertSame(first.sharedReference, mapper.mapValues(InternedConstructorClass.class, buffer).reference);
+        assertNotSame(first.code, mapper.mapValues(InternedFieldsClass.class, getBuffer(8, 42)).code);
+    }
+
+    @Test
+    void getInternCachesShouldReturnCachesOfInternedValues() {
+        final ByteBuffer buffer = getBuffer(7, 42);
+        mapper.mapValues(InternedFieldsClass.class, buffer);
+        mapper.mapValues(InternedFieldsClass.class, buffer);
+        final Map<String, InternCache<?>> caches = mapper.getInternCaches(InternedFieldsClass.class);
+        assertEquals(Arrays.asList("code", "reference", "sharedReference"), new ArrayList<>(caches.keySet()));
+        assertEquals(1, caches.get("code").getHitCount());
+        assertEquals(1, caches.get("code").getMissCount());
+        assertEquals(1, caches.get("code").getSize());
+        assertSame(caches.get("sharedReference"), mapper.getInternCaches(InternedConstructorClass.class).values().iterator().next());
+        assertEquals(Collections.emptyMap(), mapper.getInternCaches(FieldsClass.class));
+    }
+
+    @Test
+    void internedAnnotationShouldRequireImmutableReferenceType() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(InvalidInternedClass.class, ByteBuffer.allocate(4))
+        );
+        assertEquals("Interned value bytes must be of immutable reference type, but byte[] was provided.", e.getMessage());
+    }
+
+    @Test
+    void internedTextShouldNotDeclareItsOwnInternCapacity() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(DoublyInternedClass.class, ByteBuffer.allocate(4))
+        );
+        assertEquals("Interned value symbol must not declare intern capacity of its @Text annotation.", e.getMessage());
+    }
+
+    @Test
+    void unsignedAnnotationShouldRequireLongOrBigIntegerType() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(InvalidUnsignedClass.class, ByteBuffer.allocate(4))
+        );
+        assertEquals("Unsigned value value must be of type long or assignable from BigInteger.", e.getMessage());
+    }
+
+    @Test
+    void unsignedPrimitiveShouldBeMappedWithoutAllocation() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putLong(0, -1L);
+        final UnsignedClass target = new UnsignedClass();
+        assertEquals(-1L, mapper.mapInto(target, buffer).value);
+
+        final int iterations = 100_000;
+        final long allocated = Allocations.measure(iterations, () -> mapper.mapInto(target, buffer));
+        assertTrue(allocated < iterations, "Mapping into existing instance allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void classOfGeneratedMapperNameShouldBeIgnoredIfItMapsOtherType() {
+        final ByteMapper defaultMapper = new ByteMapperBuilder().build();
+        final StaleMapped mapped = defaultMapper.mapValues(StaleMapped.class, ByteBuffer.wrap(new byte[]{7}));
+        assertEquals(7, mapped.value);
+    }
+
+    @Test
+    void structureArraysShouldBeMappedWithFixedAndReadCount() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{3, 0, 1, 0, 2, 0, 3, 0, 4, 0, 5});
+        for (MappingEngine engine : MappingEngine.values()) {
+            final ByteMapper engineMapper = new ByteMapperBuilder().withMappingEngine(engine).build();
+            final OrderBookClass fields = engineMapper.mapValues(OrderBookClass.class, buffer);
+            assertEquals(2, fields.fixed.length);
+            assertEquals(1, fields.fixed[0].price);
+            assertEquals(2, fields.fixed[1].price);
+            assertEquals(Arrays.asList(3, 4, 5), fields.counted.stream().map(level -> level.price).collect(Collectors.toList()));
+
+            final OrderBookConstructorClass constructed = engineMapper.mapValues(OrderBookConstructorClass.class, buffer);
+            assertEquals(3, constructed.levels.length);
+            assertEquals(3, constructed.levels[2].price);
+        }
+    }
+
+    @Test
+    void structureArrayElementsShouldUseSingleClassMapper() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{3, 0, 1, 0, 2, 0, 3, 0, 4, 0, 5});
+        for (int i = 0; i < 10; i++) {
+            mapper.mapValues(OrderBookClass.class, buffer);
+        }
+        //order book and its level are scanned only once
+        assertEquals(4, classScans.get());
+        assertEquals(2, mapperLookups.get());
+    }
+
+    @Test
+    void structureArrayShouldValidateBoundsOfAllElements() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{4, 0, 1, 0, 2, 0, 3, 0, 4, 0, 5});
+        final Exception e = assertThrows(MappingException.class, () -> mapper.mapValues(OrderBookClass.class, buffer));
+        assertEquals(
+                "Last byte index of 4 records should not exceed buffer limit of 11 bytes, but 13 was calculated",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void structureArrayShouldNotExceedMappedRecord() {
+        final ByteBuffer buffer = ByteBuffer.allocate(22);
+        buffer.put(new byte[]{4, 0, 1, 0, 2, 0, 3, 0, 4, 0, 5}).put(new byte[]{0, 0, 6, 0, 7, 0, 0, 0, 0, 0, 0});
+        final Exception e = assertThrows(MappingException.class, () -> mapper.mapAll(OrderBookClass.class, buffer, 11));
+        assertEquals(
+                "Last byte index of 4 records should not exceed buffer limit of 11 bytes, but 13 was calculated",
+                e.getMessage()
+        );
+        buffer.put(0, (byte) 3);
+        final OrderBookClass[] books = mapper.mapAll(OrderBookClass.class, buffer, 11);
+        assertEquals(3, books[0].counted.size());
+        assertEquals(7, books[1].fixed[1].price);
+        assertTrue(books[1].counted.isEmpty());
+    }
+
+    @Test
+    void structureShouldNotExceedMappedRecord() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 7, 8, 9, 10});
+        for (MappingEngine engine : MappingEngine.values()) {
+            final ByteMapper engineMapper = new ByteMapperBuilder().withMappingEngine(engine).build();
+            final Exception records = assertThrows(MappingException.class, () -> engineMapper.mapAll(OuterRecord.class, buffer, 4));
+            assertEquals("Last byte index should not exceed buffer limit of 4 bytes, but 5 was calculated", records.getMessage());
+            final Exception stream = assertThrows(MappingException.class, () -> engineMapper.stream(OuterRecord.class, buffer, 4).collect(Collectors.toList()));
+            assertEquals(records.getMessage(), stream.getMessage());
+            assertEquals(7, engineMapper.mapValues(OuterRecord.class, buffer).inner.value);
+        }
+    }
+
+    @Test
+    void structureArrayShouldRequireCount() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(UncountedArrayClass.class, ByteBuffer.allocate(4))
+        );
+        assertEquals("Structure array levels must declare either positive count or countField.", e.getMessage());
+    }
+
+    @Test
+    void structureArrayCountFieldShouldBeIntegralValue() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(InvalidCountFieldClass.class, ByteBuffer.allocate(4))
+        );
+        assertEquals("Count field name of structure array levels must be an int, short or byte value.", e.getMessage());
+    }
+
+    @Test
+    void variableLayoutShouldBeResolvedFromMappedRecord() {
+        final ByteBuffer buffer = ByteBuffer.allocate(32);
+        buffer.put((byte) 7).put((byte) 3).put("abc".getBytes(StandardCharsets.US_ASCII)).putInt(-2)
+                .putShort((short) 5).put("hello".getBytes(StandardCharsets.US_ASCII)).put((byte) 2);
+        buffer.put((byte) 0).put((byte) 1).put((byte) 0).put((byte) 2).put((byte) 1);
+        for (MappingEngine engine : MappingEngine.values()) {
+            final ByteMapper engineMapper = new ByteMapperBuilder().withMappingEngine(engine).build();
+            final VariableMessage message = engineMapper.mapValues(VariableMessage.class, buffer);
+            assertEquals(7, message.type);
+            assertEquals("abc", message.name);
+            assertEquals(-2, message.price);
+            assertEquals("hello", message.note);
+            assertEquals(2, message.levels.size());
+            assertEquals(2, message.levels.get(1).price);
+            assertEquals(1, message.trailer);
+        }
+    }
+
+    @Test
+    void variableLayoutShouldBeResolvedForEachRecord() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.put((byte) 0).put((byte) 1).put((byte) 0).putInt(0).put((byte) 0);
+        buffer.put((byte) 0).put((byte) 3).put("xyz".getBytes(StandardCharsets.US_ASCII)).put((byte) 0);
+        final List<String> names = new ArrayList<>();
+        mapper.mapAll(ShortMessage.class, buffer, 0, 8, 2, message -> names.add(message.name + message.trailer));
+        assertEquals(Arrays.asList("\u00000", "xyz0"), names);
+    }
+
+    @Test
+    void variableLayoutShouldValidateResolvedBounds() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.put(1, (byte) 100);
+        final Exception e = assertThrows(MappingException.class, () -> mapper.mapValues(VariableMessage.class, buffer));
+        assertEquals("Last byte index of name should not exceed buffer limit of 8 bytes, but 102 was calculated", e.getMessage());
+    }
+
+    @Test
+    void variableLayoutShouldNotExceedMappedRecord() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{6, 1, 2, 3, 2, 9, 9, 0});
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.mapAll(LengthPrefixedRecord.class, buffer, 4)
+        );
+        assertEquals("Last byte index of payload should not exceed buffer limit of 4 bytes, but 7 was calculated", e.getMessage());
+        buffer.put(0, (byte) 3);
+        final LengthPrefixedRecord[] records = mapper.mapAll(LengthPrefixedRecord.class, buffer, 4);
+        assertArrayEquals(new byte[]{1, 2, 3}, records[0].payload);
+        assertArrayEquals(new byte[]{9, 9}, records[1].payload);
+    }
+
+    @Test
+    void variableLayoutShouldRejectInvalidReferences() {
+        final Exception missing = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(MissingAnchorClass.class, ByteBuffer.allocate(8))
+        );
+        assertEquals("Unable to find field header, which value is positioned after.", missing.getMessage());
+        final Exception cycle = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(CyclicLayoutClass.class, ByteBuffer.allocate(8))
+        );
+        assertEquals("Position of first depends on itself.", cycle.getMessage());
+        final Exception length = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(InvalidLengthFieldClass.class, ByteBuffer.allocate(8))
+        );
+        assertEquals("Length field length of name must be an int, short or byte value.", length.getMessage());
+    }
+
+    @Test
+    void bitFieldsShouldBeExtractedFromTheirWords() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x45, 0x2E, 0x4A, (byte) 0xBC, 0x06, 0x40, 7});
+        for (MappingEngine engine : MappingEngine.values()) {
+            final ByteMapper engineMapper = new ByteMapperBuilder().withMappingEngine(engine).build();
+            final PacketHeader header = engineMapper.mapValues(PacketHeader.class, buffer);
+            assertEquals(4, header.version);
+            assertEquals(5, header.headerLength);
+            assertEquals(11, header.dscp);
+            assertFalse(header.reserved);
+            assertEquals(Boolean.TRUE, header.dontFragment);
+            assertEquals(0xABC, header.length);
+            assertEquals(6, header.lowBits);
+            assertEquals(2L, header.highBits);
+            assertEquals(7, header.trailer);
+            final PacketHeaderConstructorClass constructed = engineMapper.mapValues(PacketHeaderConstructorClass.class, buffer);
+            assertEquals(4, constructed.version);
+            assertEquals(Integer.valueOf(5), constructed.headerLength);
+            assertEquals(0xABC, constructed.length);
+        }
+    }
+
+    @Test
+    void bitFieldsShouldBeMappedIntoExistingInstance() {
+        final PacketHeader header = new PacketHeader();
+        mapper.mapInto(header, ByteBuffer.wrap(new byte[]{0x60, 0, 0, 1, 0, 0, 0}));
+        assertEquals(6, header.version);
+        assertEquals(1, header.length);
+        assertEquals(Boolean.FALSE, header.dontFragment);
+    }
+
+    @Test
+    void bitFieldsShouldFollowVariableLengthValues() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{2, 'a', 'b', (byte) 0b1011_0000});
+        final FlagsAfterName flags = mapper.mapValues(FlagsAfterName.class, buffer);
+        assertEquals("ab", flags.name);
+        assertTrue(flags.active);
+        assertEquals(3, flags.priority);
+    }
+
+    @Test
+    void bitFieldsShouldShareTheirWordNextToVariableLengthValues() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) 0b1010_0010, 'a', 'b', 0, 0b0000_0001, 'c', 0, 0});
+        final List<NameAfterFlags> records = new ArrayList<>();
+        mapper.mapAll(NameAfterFlags.class, buffer, 0, 4, 2, records::add);
+        assertTrue(records.get(0).active);
+        assertEquals(2, records.get(0).nameLength);
+        assertEquals("ab", records.get(0).name);
+        assertFalse(records.get(1).active);
+        assertEquals(1, records.get(1).nameLength);
+        assertEquals("c", records.get(1).name);
+    }
+
+    @Test
+    void bitFieldsShouldRejectInvalidLayouts() {
+        final Exception type = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(InvalidBitsTypeClass.class, ByteBuffer.allocate(4))
+        );
+        assertEquals("Bit field value must be of boolean, byte, short, int or long type.", type.getMessage());
+        final Exception width = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(InvalidBitsWidthClass.class, ByteBuffer.allocate(4))
+        );
+        assertEquals("Bit field value of 9 bits does not fit in byte.", width.getMessage());
+        final Exception word = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(InvalidBitsWordClass.class, ByteBuffer.allocate(4))
+        );
+        assertEquals("Bits 4 to 9 of value exceed 8 bits of its word.", word.getMessage());
+    }
+
+    @Test
+    void discriminatedTypeShouldBeMappedIntoSubclassOfTag() {
+        final ByteBuffer buffer = ByteBuffer.allocate(26);
+        buffer.put((byte) 'A').putLong(7L).putInt(100);
+        buffer.put((byte) 'X').putLong(8L).putInt(0);
+        buffer.put(24, (byte) 1).put(25, (byte) 0);
+        for (MappingEngine engine : MappingEngine.values()) {
+            final ByteMapper engineMapper = new ByteMapperBuilder().withMappingEngine(engine).build();
+            final Message first = engineMapper.mapValues(Message.class, buffer);
+            assertEquals(AddOrder.class, first.getClass());
+            assertEquals(7L, first.getOrderId());
+            assertEquals(100, ((AddOrder) first).quantity);
+            final Message second = engineMapper.mapValues(Message.class, buffer, 13);
+            assertEquals(CancelOrder.class, second.getClass());
+            assertEquals(8L, second.getOrderId());
+            final Message[] all = engineMapper.mapAll(Message.class, buffer, 0, 13, 2);
+            assertEquals(Arrays.asList(AddOrder.class, CancelOrder.class), Stream.of(all).map(Object::getClass).collect(Collectors.toList()));
+            final WideTagMessage wide = engineMapper.mapValues(WideTagMessage.class, buffer, 24);
+            assertEquals(WideTagSubclass.class, wide.getClass());
+        }
+    }
+
+    @Test
+    void discriminatedTypeShouldBeMappedAsStructure() {
+        final ByteBuffer buffer = ByteBuffer.allocate(28);
+        buffer.put((byte) 2);
+        buffer.put((byte) 'X').putLong(3L).putInt(0);
+        buffer.put((byte) 'A').putLong(4L).putInt(5);
+        buffer.put((byte) 9);
+        final MessageBatch batch = mapper.mapValues(MessageBatch.class, buffer);
+        assertEquals(CancelOrder.class, batch.messages.get(0).getClass());
+        assertEquals(4L, batch.messages.get(1).getOrderId());
+        assertEquals(9, batch.trailer);
+    }
+
+    @Test
+    void discriminatedTypeShouldRejectUndeclaredTag() {
+        final ByteBuffer buffer = ByteBuffer.allocate(13);
+        buffer.put(0, (byte) 'B');
+        final Exception e = assertThrows(MappingException.class, () -> mapper.mapValues(Message.class, buffer));
+        assertEquals("Tag 66 of Message is not declared by its discriminator.", e.getMessage());
+    }
+
+    @Test
+    void discriminatedTypeShouldRejectInvalidDeclarations() {
+        final Exception duplicate = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(DuplicateTagMessage.class, ByteBuffer.allocate(13))
+        );
+        assertEquals("Tag 1 of DuplicateTagMessage is declared by both FirstDuplicate and SecondDuplicate.", duplicate.getMessage());
+        final Exception subclass = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(ForeignSubtypeMessage.class, ByteBuffer.allocate(13))
+        );
+        assertEquals("Subtype FieldsClass of ForeignSubtypeMessage must be its subclass.", subclass.getMessage());
+        final Exception tag = assertThrows(
+                MappingException.class,
+                () -> mapper.mapValues(OversizedTagMessage.class, ByteBuffer.allocate(13))
+        );
+        assertEquals("Tag 256 of OversizedTagSubclass does not fit in 1 bytes of its discriminator.", tag.getMessage());
+    }
+
+    private static void assertPrimitives(PrimitivesClass object) {
+        assertEquals(Long.MIN_VALUE, object.longValue);
+        assertEquals(-0.5, object.doubleValue);
+        assertEquals(Integer.MAX_VALUE, object.intValue);
+        assertEquals(Short.MIN_VALUE, object.shortValue);
+        assertEquals(Byte.MIN_VALUE, object.byteValue);
+        assertTrue(object.booleanValue);
+    }
+
+    @SuppressWarnings("unused")
+    private static class PrimitivesClass {
+
+        @Value(startByte = 0, size = 8)
+        private long longValue;
+
+        @Value(startByte = 8, size = 8)
+        private double doubleValue;
+
+        @Value(startByte = 16, size = 4)
+        private int intValue;
+
+        @Value(startByte = 20, size = 2)
+        private short shortValue;
+
+        @Value(startByte = 22)
+        private byte byteValue;
+
+        @Value(startByte = 23)
+        private boolean booleanValue;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class FieldsClass {
+
+        @Value(startByte = 0, size = 4)
+        private int first;
+
+        @Value(startByte = 4, size = 4)
+        private int second;
+
+    }
+
+    private static class ConstructorClass {
+
+        private final int first;
+
+        private final int second;
+
+        @ByteMapperConstructor
+        private ConstructorClass(
+                @Value(startByte = 0, size = 4) int first,
+                @Value(startByte = 4, size = 4) int second
+        ) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class LazyFieldsClass {
+
+        @Value(startByte = 0, size = 4)
+        private int id;
+
+        @Value(startByte = 4, size = 4)
+        private Lazy<String> name;
+
+        @Value(startByte = 8, size = 4, bigEndian = false)
+        private Lazy<byte[]> bytes;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class EagerFieldsClass {
+
+        @Value(startByte = 0, size = 4)
+        private int id;
+
+        @Value(startByte = 4, size = 32)
+        private String name;
+
+        @Value(startByte = 36, size = 32)
+        private byte[] bytes;
+
+    }
+
+    private static class LazyConstructorClass {
+
+        private final Lazy<String> name;
+
+        @ByteMapperConstructor
+        private LazyConstructorClass(@Value(startByte = 0, size = 4) Lazy<String> name) {
+            this.name = name;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class TextFieldsClass {
+
+        @Value(startByte = 0, size = 6)
+        @Text(charset = "US-ASCII", padding = Text.Padding.SPACE, internCapacity = 16)
+        private String symbol;
+
+        @Value(startByte = 6, size = 5)
+        @Text(charset = "US-ASCII", terminated = true)
+        private CharSequence code;
+
+    }
+
+    private static class TextConstructorClass {
+
+        private final String symbol;
+
+        @ByteMapperConstructor
+        private TextConstructorClass(@Value(startByte = 0, size = 6) @Text(padding = Text.Padding.SPACE) String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class InternedFieldsClass {
+
+        @Value(startByte = 0, size = 4)
+        @Interned(capacity = 16)
+        private BigInteger code;
+
+        @Structure(startByte = 4, size = 4)
+        @Interned(capacity = 16)
+        private ReferenceData reference;
+
+        @Structure(startByte = 4, size = 4)
+        private InternedReferenceData sharedReference;
+
+    }
+
+    private static class InternedConstructorClass {
+
+        private final InternedReferenceData reference;
+
+        @ByteMapperConstructor
+        private InternedConstructorClass(@Structure(startByte = 4, size = 4) InternedReferenceData reference) {
+            this.reference = reference;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class ReferenceData {
+
+        @Value(startByte = 0, size = 4)
+        private int id;
+
+    }
+
+    @Interned(capacity = 16)
+    private static class InternedReferenceData extends ReferenceData {
+    }
+
+    @SuppressWarnings("unused")
+    private static class InvalidInternedClass {
+
+        @Value(startByte = 0, size = 4)
+        @Interned(capacity = 16)
+        private byte[] bytes;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class DoublyInternedClass {
+
+        @Value(startByte = 0, size = 4)
+        @Text(internCapacity = 16)
+        @Interned(capacity = 16)
+        private String symbol;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class InvalidUnsignedClass {
+
+        @Value(startByte = 0, size = 4)
+        @Unsigned
+        private int value;
+
+    }
+
+    private static class UnsignedClass {
+
+        @Value(startByte = 0, size = 8)
+        @Unsigned
+        private long value;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class InvalidTextClass {
+
+        @Value(startByte = 0, size = 4)
+        @Text
+        private int number;
+
+    }
+
+    public static class StaleMapped {
+
+        @Value(startByte = 0)
+        public byte value;
+
+    }
+
+    /**
+     * Named as generated mapper of {@link StaleMapped}, but mapping other type
+     */
+    public static class StaleMappedByteMapper implements ClassMapper<PriceLevel> {
+
+        @Override
+        public PriceLevel map(ByteBuffer buffer) {
+            throw new IllegalStateException("mapper of other type should not be used");
+        }
+
+    }
+
+    public static class OrderBookClass {
+
+        @Value(startByte = 0)
+        public byte count;
+
+        @Structure(startByte = 1, size = 2, count = 2)
+        public PriceLevel[] fixed;
+
+        @Structure(startByte = 5, size = 2, countField = "count")
+        public List<PriceLevel> counted;
+
+    }
+
+    public static class OrderBookConstructorClass {
+
+        private final PriceLevel[] levels;
+
+        @ByteMapperConstructor
+        public OrderBookConstructorClass(@Structure(startByte = 1, size = 2, count = 3) PriceLevel[] levels) {
+            this.levels = levels;
+        }
+    }
+
+    public static class PriceLevel {
+
+        @Value(startByte = 0, size = 2)
+        public int price;
+
+    }
+
+    @SuppressWarnings("unused")
+    public static class OuterRecord {
+
+        @Value(startByte = 0, size = 1)
+        public byte value;
+
+        @Structure(startByte = 3, size = 2)
+        public InnerRecord inner;
+
+    }
+
+    public static class InnerRecord {
+
+        @Value(startByte = 1, size = 1)
+        public byte value;
+
+    }
+
+    private static class UncountedArrayClass {
+
+        @Structure(startByte = 0, size = 2)
+        private PriceLevel[] levels;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class InvalidCountFieldClass {
+
+        @Value(startByte = 0, size = 2)
+        private String name;
+
+        @Structure(startByte = 2, size = 2, countField = "name")
+        private PriceLevel[] levels;
+
+    }
+
+    public static class VariableMessage {
+
+        @Value(startByte = 0)
+        public byte type;
+
+        @Value(startByte = 1)
+        public byte nameLength;
+
+        @Value(startByte = 0, after = "nameLength", lengthField = "nameLength")
+        public String name;
+
+        @Value(startByte = 0, size = 4, after = "name")
+        public int price;
+
+        @Value(startByte = 0, size = 2, after = "price")
+        public short noteLength;
+
+        @Value(startByte = 0, after = "noteLength", lengthField = "noteLength")
+        public String note;
+
+        @Value(startByte = 0, after = "note")
+        public byte levelsCount;
+
+        @Structure(startByte = 0, size = 2, after = "levelsCount", countField = "levelsCount")
+        public List<PriceLevel> levels;
+
+        @Value(startByte = 0, after = "levels")
+        public byte trailer;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class ShortMessage {
+
+        @Value(startByte = 0, size = 2)
+        private short nameLength;
+
+        @Value(startByte = 0, after = "nameLength", lengthField = "nameLength")
+        private String name;
+
+        @Value(startByte = 0, after = "name")
+        private byte trailer;
+
+    }
+
+    private static class LengthPrefixedRecord {
+
+        @Value(startByte = 0)
+        private byte length;
+
+        @Value(startByte = 0, after = "length", lengthField = "length")
+        private byte[] payload;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class MissingAnchorClass {
+
+        @Value(startByte = 0, after = "header")
+        private byte value;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class CyclicLayoutClass {
+
+        @Value(startByte = 0, after = "second")
+        private byte first;
+
+        @Value(startByte = 0, after = "first")
+        private byte second;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class InvalidLengthFieldClass {
+
+        @Value(startByte = 0, size = 8)
+        private long length;
+
+        @Value(startByte = 8, lengthField = "length")
+        private String name;
+
+    }
+
+    @Discriminator(startByte = 0, subtypes = {
+            @Discriminator.Subtype(tag = 'A', type = AddOrder.class),
+            @Discriminator.Subtype(tag = 'X', type = CancelOrder.class)
+    })
+    public interface Message {
+
+        long getOrderId();
+
+    }
+
+    public static class AddOrder implements Message {
+
+        @Value(startByte = 1, size = 8)
+        public long orderId;
+
+        @Value(startByte = 9, size = 4)
+        public int quantity;
+
+        @Override
+        public long getOrderId() {
+            return orderId;
+        }
+
+    }
+
+    public static class CancelOrder implements Message {
+
+        @Value(startByte = 1, size = 8)
+        public long orderId;
+
+        @Override
+        public long getOrderId() {
+            return orderId;
+        }
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class MessageBatch {
+
+        @Value(startByte = 0)
+        private byte count;
+
+        @Structure(startByte = 1, size = 13, countField = "count")
+        private List<Message> messages;
+
+        @Value(startByte = 0, after = "messages")
+        private byte trailer;
+
+    }
+
+    @Discriminator(startByte = 0, size = 2, bigEndian = false, subtypes = {
+            @Discriminator.Subtype(tag = 1, type = WideTagSubclass.class)
+    })
+    public abstract static class WideTagMessage {
+    }
+
+    public static class WideTagSubclass extends WideTagMessage {
+
+        @Value(startByte = 0, size = 2, bigEndian = false)
+        public int tag;
+
+    }
+
+    @Discriminator(startByte = 0, subtypes = {
+            @Discriminator.Subtype(tag = 1, type = FirstDuplicate.class),
+            @Discriminator.Subtype(tag = 1, type = SecondDuplicate.class)
+    })
+    private abstract static class DuplicateTagMessage {
+    }
+
+    @SuppressWarnings("unused")
+    private static class FirstDuplicate extends DuplicateTagMessage {
+
+        @Value(startByte = 0)
+        private byte tag;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class SecondDuplicate extends DuplicateTagMessage {
+
+        @Value(startByte = 0)
+        private byte tag;
+
+    }
+
+    @Discriminator(startByte = 0, subtypes = @Discriminator.Subtype(tag = 256, type = OversizedTagSubclass.class))
+    private abstract static class OversizedTagMessage {
+    }
+
+    @SuppressWarnings("unused")
+    private static class OversizedTagSubclass extends OversizedTagMessage {
+
+        @Value(startByte = 0)
+        private byte tag;
+
+    }
+
+    @Discriminator(startByte = 0, subtypes = @Discriminator.Subtype(tag = 'A', type = FieldsClass.class))
+    private interface ForeignSubtypeMessage {
+    }
+
+    @SuppressWarnings({"unused", "rawtypes"})
+    private static class RawLazyClass {
+
+        @Value(startByte = 0, size = 4)
+        private Lazy name;
+
+    }
+
+    public static class PacketHeader {
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 0, width = 4)
+        public int version;
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 4, width = 4)
+        public byte headerLength;
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 8, width = 6)
+        public short dscp;
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 16, width = 1)
+        public boolean reserved;
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 17, width = 1)
+        public Boolean dontFragment;
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 20, width = 12)
+        public int length;
+
+        @Value(startByte = 4, size = 2, bigEndian = false)
+        @Bits(offset = 0, width = 3, numbering = Bits.Numbering.LSB_FIRST)
+        public int lowBits;
+
+        @Value(startByte = 6)
+        public byte trailer;
+
+        @Value(startByte = 4, size = 2, bigEndian = false)
+        @Bits(offset = 13, width = 3, numbering = Bits.Numbering.LSB_FIRST)
+        public long highBits;
+
+    }
+
+    public static class PacketHeaderConstructorClass {
+
+        private final int version;
+
+        private final Integer headerLength;
+
+        private final int length;
+
+        @ByteMapperConstructor
+        public PacketHeaderConstructorClass(
+                @Value(startByte = 0, size = 4) @Bits(offset = 0, width = 4) int version,
+                @Value(startByte = 0, size = 4) @Bits(offset = 4, width = 4) Integer headerLength,
+                @Value(startByte = 0, size = 4) @Bits(offset = 20, width = 12) int length
+        ) {
+            this.version = version;
+            this.headerLength = headerLength;
+            this.length = length;
+        }
+
+    }
+
+    private static class NameAfterFlags {
+
+        @Value(startByte = 0)
+        @Bits(offset = 0, width = 1)
+        private boolean active;
+
+        @Value(startByte = 0)
+        @Bits(offset = 4, width = 4)
+        private int nameLength;
+
+        @Value(startByte = 0, after = "nameLength", lengthField = "nameLength")
+        private String name;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class FlagsAfterName {
+
+        @Value(startByte = 0)
+        private byte nameLength;
+
+        @Value(startByte = 0, after = "nameLength", lengthField = "nameLength")
+        private String name;
+
+        @Value(startByte = 0, after = "name")
+        @Bits(offset = 0, width = 1)
+        private boolean active;
+
+        @Value(startByte = 0, after = "name")
+        @Bits(offset = 2, width = 2)
+        private int priority;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class InvalidBitsTypeClass {
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 0, width = 4)
+        private String value;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class InvalidBitsWidthClass {
+
+        @Value(startByte = 0, size = 4)
+        @Bits(offset = 0, width = 9)
+        private byte value;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class InvalidBitsWordClass {
+
+        @Value(startByte = 0)
+        @Bits(offset = 4, width = 5)
+        private int value;
+
+    }
+
+}
@@ -0,0 +1,495 @@
+package eu.trisquare.bytemapper.classmapper;
+
+import eu.trisquare.bytemapper.Allocations;
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.ByteWriter;
+import eu.trisquare.bytemapper.FieldPatcher;
+import eu.trisquare.bytemapper.Lazy;
+import eu.trisquare.bytemapper.annotations.Bits;
+import eu.trisquare.bytemapper.annotations.ByteMapperConstructor;
+import eu.trisquare.bytemapper.annotations.Structure;
+import eu.trisquare.bytemapper.annotations.Text;
+import eu.trisquare.bytemapper.annotations.Unsigned;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import eu.trisquare.bytemapper.impl.ByteWriterBuilder;
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StandardByteWriterTest {
+
+    private final ByteWriter writer = new ByteWriterBuilder().build();
+
+    private final ByteMapper mapper = new ByteMapperBuilder().build();
+
+    private static Record createRecord(int id) {
+        final Record record = new Record();
+        record.id = id;
+        record.flag = id % 2 == 0;
+        record.temperature = id * 0.5f;
+        record.counter = id * 1000;
+        record.name = "r" + id;
+        return record;
+    }
+
+    private static Inner createInner(int value) {
+        final Inner inner = new Inner();
+        inner.value = value;
+        return inner;
+    }
+
+    private static void assertRecordEquals(Record expected, Record actual) {
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.flag, actual.flag);
+        assertEquals(expected.temperature, actual.temperature);
+        assertEquals(expected.counter, actual.counter);
+        assertEquals(expected.name, actual.name.replace("\0", ""));
+    }
+
+    @Test
+    void writtenValuesShouldBeMappedBack() {
+        final Record record = createRecord(7);
+        final ByteBuffer buffer = ByteBuffer.allocate(Record.SIZE);
+        writer.writeValues(record, buffer);
+        assertRecordEquals(record, mapper.mapValues(Record.class, buffer));
+    }
+
+    @Test
+    void writeValuesShouldNotChangePositionNorUnannotatedBytes() {
+        final ByteBuffer buffer = ByteBuffer.allocate(Record.SIZE + 2);
+        buffer.put(0, (byte) 0x55);
+        buffer.position(1);
+        writer.writeValues(createRecord(1), buffer, 2);
+        assertEquals(1, buffer.position());
+        assertEquals(0x55, buffer.get(0));
+        assertEquals(0, buffer.get(1));
+        assertRecordEquals(createRecord(1), mapper.mapValues(Record.class, buffer, 2));
+    }
+
+    @Test
+    void partialWidthAndLittleEndianValuesShouldBeWritten() {
+        final Partial partial = new Partial();
+        partial.bigEndian = 0x11223344;
+        partial.littleEndian = 0x11223300;
+        final ByteBuffer buffer = ByteBuffer.allocate(6);
+        writer.writeValues(partial, buffer);
+        assertArrayEquals(new byte[]{0x22, 0x33, 0x44, 0x33, 0x22, 0x11}, buffer.array());
+    }
+
+    @Test
+    void nestedStructureShouldBeWritten() {
+        final Outer outer = new Outer();
+        outer.header = 3;
+        outer.inner = new Inner();
+        outer.inner.value = -2;
+        final ByteBuffer buffer = ByteBuffer.allocate(5);
+        writer.writeValues(outer, buffer);
+        assertArrayEquals(new byte[]{3, -1, -1, -1, -2}, buffer.array());
+
+        final Outer mapped = mapper.mapValues(Outer.class, buffer);
+        assertEquals(3, mapped.header);
+        assertEquals(-2, mapped.inner.value);
+    }
+
+    @Test
+    void writeAllShouldWriteBackToBackRecords() {
+        final Record[] records = {createRecord(1), createRecord(2), createRecord(3)};
+        final int recordSize = Record.SIZE + 1;
+        final ByteBuffer buffer = ByteBuffer.allocate(2 + records.length * recordSize);
+        writer.writeAll(Record.class, records, buffer, 2, recordSize);
+
+        final List<Record> collected = Arrays.asList(createRecord(4), createRecord(5));
+        final ByteBuffer collectionBuffer = ByteBuffer.allocate(collected.size() * recordSize);
+        writer.writeAll(Record.class, collected, collectionBuffer, 0, recordSize);
+
+        for (int i = 0; i < records.length; i++) {
+            assertRecordEquals(records[i], mapper.mapValues(Record.class, buffer, 2 + i * recordSize));
+        }
+        for (int i = 0; i < collected.size(); i++) {
+            assertRecordEquals(collected.get(i), mapper.mapValues(Record.class, collectionBuffer, i * recordSize));
+        }
+    }
+
+    @Test
+    void writeAllShouldValidateBoundsBeforeWriting() {
+        final Record[] records = {createRecord(1), createRecord(2)};
+        final ByteBuffer buffer = ByteBuffer.allocate(2 * Record.SIZE - 1);
+        assertThrows(
+                MappingException.class,
+                () -> writer.writeAll(Record.class, records, buffer, 0, Record.SIZE)
+        );
+        assertTrue(Arrays.equals(new byte[buffer.capacity()], buffer.array()));
+    }
+
+    @Test
+    void writeValuesShouldThrowWhenValueExceedsBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocate(Record.SIZE - 1);
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> writer.writeValues(createRecord(1), buffer)
+        );
+        assertTrue(e.getMessage().contains(String.valueOf(Record.SIZE - 1)), e.getMessage());
+        assertTrue(Arrays.equals(new byte[buffer.capacity()], buffer.array()));
+    }
+
+    @Test
+    void writeValuesShouldThrowForNullValue() {
+        final Record record = createRecord(1);
+        record.name = null;
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> writer.writeValues(record, ByteBuffer.allocate(Record.SIZE))
+        );
+        assertEquals("Unable to write null value of field name.", e.getMessage());
+    }
+
+    @Test
+    void writeValuesShouldThrowForConstructorBasedClass() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> writer.writeValues(new ConstructorClass(1), ByteBuffer.allocate(4))
+        );
+        assertEquals(
+                "Unable to write instance of ConstructorClass. Only classes with annotated fields may be written.",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void writingPrimitiveFieldsShouldNotAllocate() {
+        final Primitives primitives = new Primitives();
+        primitives.intValue = 1;
+        primitives.longValue = 2L;
+        final ByteBuffer buffer = ByteBuffer.allocate(12);
+        final int iterations = 100_000;
+        final long allocated = Allocations.measure(iterations, () -> writer.writeValues(primitives, buffer));
+        assertTrue(allocated < iterations, "Writing primitive fields allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void lazyValueShouldBeWrittenAndMappedBack() {
+        final LazyRecord record = new LazyRecord();
+        record.name = Lazy.of("abc");
+        final ByteBuffer buffer = ByteBuffer.allocate(3);
+        writer.writeValues(record, buffer);
+        assertEquals("abc", mapper.mapValues(LazyRecord.class, buffer).name.get());
+    }
+
+    @Test
+    void textValueShouldBeWrittenUsingItsFormat() {
+        final TextRecord record = new TextRecord();
+        record.symbol = "IBM";
+        final ByteBuffer buffer = ByteBuffer.allocate(6);
+        writer.writeValues(record, buffer);
+        assertEquals("IBM   ", new String(buffer.array(), StandardCharsets.US_ASCII));
+        assertEquals("IBM", mapper.mapValues(TextRecord.class, buffer).symbol);
+    }
+
+    @Test
+    void unsignedValuesShouldBeWrittenAndMappedBack() {
+        final UnsignedRecord record = new UnsignedRecord();
+        record.sequence = -1L;
+        record.length = 0xFFFFFFFFL;
+        record.volume = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.valueOf(2));
+        final ByteBuffer buffer = ByteBuffer.allocate(20);
+        writer.writeValues(record, buffer);
+        final UnsignedRecord mapped = mapper.mapValues(UnsignedRecord.class, buffer);
+        assertEquals(-1L, mapped.sequence);
+        assertEquals(0xFFFFFFFFL, mapped.length);
+        assertEquals(record.volume, mapped.volume);
+    }
+
+    @Test
+    void primitiveArraysShouldBeWrittenAndMappedBack() {
+        final SamplesRecord record = new SamplesRecord();
+        record.samples = new int[]{1, -1, 3, Integer.MIN_VALUE};
+        record.weights = new double[]{0.25, -8};
+        final ByteBuffer buffer = ByteBuffer.allocate(32);
+        writer.writeValues(record, buffer);
+        assertEquals(0x01000000, buffer.getInt(0));
+        final SamplesRecord mapped = mapper.mapValues(SamplesRecord.class, buffer);
+        assertArrayEquals(record.samples, mapped.samples);
+        assertArrayEquals(record.weights, mapped.weights);
+    }
+
+    @Test
+    void structureArraysShouldBeWrittenAndMappedBack() {
+        final BookRecord record = new BookRecord();
+        record.count = 3;
+        record.fixed = new Inner[]{createInner(1), createInner(2)};
+        record.counted = Arrays.asList(createInner(3), createInner(4), createInner(-5));
+        final ByteBuffer buffer = ByteBuffer.allocate(21);
+        writer.writeValues(record, buffer);
+        assertEquals(2, buffer.getInt(5));
+        final BookRecord mapped = mapper.mapValues(BookRecord.class, buffer);
+        assertEquals(2, mapped.fixed.length);
+        assertEquals(2, mapped.fixed[1].value);
+        assertEquals(3, mapped.counted.size());
+        assertEquals(-5, mapped.counted.get(2).value);
+    }
+
+    @Test
+    void structureArrayWithFixedCountShouldRequireMatchingLength() {
+        final BookRecord record = new BookRecord();
+        record.fixed = new Inner[]{createInner(1)};
+        record.counted = Collections.emptyList();
+        final Exception e = assertThrows(MappingException.class, () -> writer.writeValues(record, ByteBuffer.allocate(64)));
+        assertEquals("Structure array fixed must have 2 elements, but 1 were provided.", e.getMessage());
+    }
+
+    @Test
+    void structureArrayWithCountFieldShouldRequireMatchingLength() {
+        final BookRecord record = new BookRecord();
+        record.count = 2;
+        record.fixed = new Inner[]{createInner(1), createInner(2)};
+        record.counted = Collections.singletonList(createInner(3));
+        final Exception e = assertThrows(MappingException.class, () -> writer.writeValues(record, ByteBuffer.allocate(64)));
+        assertEquals("Structure array counted must have 2 elements, as held by its count field count, but 1 were provided.", e.getMessage());
+    }
+
+    @Test
+    void structureArrayShouldNotExceedWrittenRecord() {
+        final BookRecord first = new BookRecord();
+        first.count = 1;
+        first.fixed = new Inner[]{createInner(1), createInner(2)};
+        first.counted = Collections.singletonList(createInner(3));
+        final BookRecord second = new BookRecord();
+        second.fixed = first.fixed;
+        second.counted = Collections.emptyList();
+        final ByteBuffer buffer = ByteBuffer.allocate(26);
+        writer.writeAll(BookRecord.class, new BookRecord[]{first, second}, buffer, 0, 13);
+        assertEquals(3, mapper.mapAll(BookRecord.class, buffer, 13)[0].counted.get(0).value);
+
+        first.count = 2;
+        first.counted = Arrays.asList(createInner(3), createInner(4));
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> writer.writeAll(BookRecord.class, new BookRecord[]{first, second}, buffer, 0, 13)
+        );
+        assertEquals(
+                "Last byte index of 2 records should not exceed buffer limit of 13 bytes, but 17 was calculated",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void writeValuesShouldThrowForVariableLayout() {
+        final VariableRecord record = new VariableRecord();
+        record.name = "abc";
+        final Exception e = assertThrows(MappingException.class, () -> writer.writeValues(record, ByteBuffer.allocate(8)));
+        assertEquals("Unable to write field name, as its position or size is read from mapped data.", e.getMessage());
+    }
+
+    @Test
+    void writeValuesShouldThrowForBitFields() {
+        final Exception e = assertThrows(MappingException.class, () -> writer.writeValues(new FlagsRecord(), ByteBuffer.allocate(8)));
+        assertEquals("Unable to write bit field ready, as its bytes are shared with other bit fields.", e.getMessage());
+    }
+
+    @Test
+    void patcherShouldRewriteOnlyPatchedField() {
+        final ByteBuffer buffer = ByteBuffer.allocate(2 + Record.SIZE);
+        writer.writeValues(createRecord(3), buffer, 2);
+        final FieldPatcher patcher = writer.getPatcher(Record.class, "counter");
+        patcher.putLong(buffer, 2, 70_000L);
+        patcher.putInt(buffer, 2, 80_000);
+
+        final Record expected = createRecord(3);
+        expected.counter = 80_000;
+        assertRecordEquals(expected, mapper.mapValues(Record.class, buffer, 2));
+        assertEquals(12, patcher.getEndByte());
+    }
+
+    @Test
+    void patcherShouldWriteValuesOfReferenceTypes() {
+        final ByteBuffer buffer = ByteBuffer.allocate(Record.SIZE);
+        writer.writeValues(createRecord(3), buffer);
+        writer.getPatcher(Record.class, "name").putValue(buffer, 0, "xyz");
+        writer.getPatcher(Record.class, "flag").putBoolean(buffer, 0, true);
+        final Record mapped = mapper.mapValues(Record.class, buffer);
+        assertEquals("xyz", mapped.name);
+        assertTrue(mapped.flag);
+    }
+
+    @Test
+    void patcherShouldRewriteFieldOfInnerStructure() {
+        final ByteBuffer buffer = ByteBuffer.allocate(5);
+        writer.getPatcher(Outer.class, "inner.value").putInt(buffer, 0, -2);
+        assertArrayEquals(new byte[]{0, -1, -1, -1, -2}, buffer.array());
+    }
+
+    @Test
+    void patcherShouldThrowWhenFieldExceedsBuffer() {
+        final FieldPatcher patcher = writer.getPatcher(Record.class, "counter");
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> patcher.putInt(ByteBuffer.allocate(Record.SIZE), 4, 1)
+        );
+        assertEquals(
+                "Last byte index should not exceed buffer limit of 11 bytes, but 12 was calculated",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void getPatcherShouldThrowForUnknownOrStructureField() {
+        final Exception unknown = assertThrows(
+                MappingException.class,
+                () -> writer.getPatcher(Record.class, "missing")
+        );
+        assertEquals("Unable to find annotated field missing in Record.", unknown.getMessage());
+        final Exception structure = assertThrows(
+                MappingException.class,
+                () -> writer.getPatcher(Outer.class, "inner")
+        );
+        assertEquals("Field inner of Outer is not annotated with @Value.", structure.getMessage());
+        final Exception value = assertThrows(
+                MappingException.class,
+                () -> writer.getPatcher(Outer.class, "header.value")
+        );
+        assertEquals("Field header of Outer is not annotated with @Structure.", value.getMessage());
+    }
+
+    @Test
+    void patchingPrimitiveFieldShouldNotAllocate() {
+        final FieldPatcher patcher = writer.getPatcher(Primitives.class, "longValue");
+        final ByteBuffer buffer = ByteBuffer.allocate(12);
+        final int iterations = 100_000;
+        final long allocated = Allocations.measure(iterations, () -> patcher.putLong(buffer, 0, 5L));
+        assertTrue(allocated < iterations, "Patching primitive field allocated " + allocated + " bytes");
+    }
+
+    @SuppressWarnings("unused")
+    private static class Record {
+        private static final int SIZE = 15;
+
+        @Value(startByte = 0, size = 4)
+        private int id;
+
+        @Value(startByte = 4)
+        private boolean flag;
+
+        @Value(startByte = 5, size = 4, bigEndian = false)
+        private float temperature;
+
+        @Value(startByte = 9, size = 3)
+        private long counter;
+
+        @Value(startByte = 12, size = 3)
+        private String name;
+    }
+
+    private static class TextRecord {
+        @Value(startByte = 0, size = 6)
+        @Text(charset = "US-ASCII", padding = Text.Padding.SPACE)
+        private String symbol;
+    }
+
+    private static class UnsignedRecord {
+        @Value(startByte = 0, size = 8)
+        @Unsigned
+        private long sequence;
+
+        @Value(startByte = 8, size = 4, bigEndian = false)
+        @Unsigned
+        private long length;
+
+        @Value(startByte = 12, size = 8)
+        @Unsigned
+        private BigInteger volume;
+    }
+
+    private static class SamplesRecord {
+        @Value(startByte = 0, size = 16, bigEndian = false)
+        private int[] samples;
+
+        @Value(startByte = 16, size = 16)
+        private double[] weights;
+    }
+
+    @SuppressWarnings("unused")
+    private static class LazyRecord {
+        @Value(startByte = 0, size = 3)
+        private Lazy<String> name;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Partial {
+        @Value(startByte = 0, size = 3)
+        private int bigEndian;
+
+        @Value(startByte = 3, size = 3, bigEndian = false)
+        private int littleEndian;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Outer {
+        @Value(startByte = 0)
+        private byte header;
+
+        @Structure(startByte = 1, size = 4)
+        private Inner inner;
+    }
+
+    @SuppressWarnings("unused")
+    private static class VariableRecord {
+        @Value(startByte = 0)
+        private byte length;
+
+        @Value(startByte = 0, after = "length", lengthField = "length")
+        private String name;
+    }
+
+    @SuppressWarnings("unused")
+    private static class FlagsRecord {
+        @Value(startByte = 0)
+        @Bits(offset = 0, width = 1)
+        private boolean ready;
+    }
+
+    private static class BookRecord {
+        @Value(startByte = 0)
+        private byte count;
+
+        @Structure(startByte = 1, size = 4, count = 2)
+        private Inner[] fixed;
+
+        @Structure(startByte = 9, size = 4, countField = "count")
+        private List<Inner> counted;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Inner {
+        @Value(startByte = 0, size = 4)
+        private int value;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Primitives {
+        @Value(startByte = 0, size = 4)
+        private int intValue;
+
+        @Value(startByte = 4, size = 8)
+        private long longValue;
+    }
+
+    @SuppressWarnings("unused")
+    private static class ConstructorClass {
+        private final int value;
+
+        @ByteMapperConstructor
+        ConstructorClass(@Value(startByte = 0, size = 4) int value) {
+            this.value = value;
+        }
+    }
+
+}
@@ -19,7 +19,11 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class StandardPOJOAccessorTest {
 
-    private POJOAccessor pojoAccessor = new StandardPOJOAccessor();
+    private final POJOAccessor pojoAccessor = createPOJOAccessor();
+
+    POJOAccessor createPOJOAccessor() {
+        return new StandardPOJOAccessor();
+    }
 
     @ParameterizedTest
     @ValueSource(strings = {
@@ -0,0 +1,65 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InternCacheTest {
+
+    private static ByteBuffer getBuffer(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void cacheShouldReturnValueOfEqualBytes() {
+        final InternCache<String> cache = new InternCache<>(16);
+        assertNull(cache.get(getBuffer("_IBM_"), 1, 1, 3));
+        cache.put(getBuffer("_IBM_"), 1, 1, 3, "IBM");
+        assertEquals("IBM", cache.get(getBuffer("IBM"), 0, 1, 3));
+        assertEquals("IBM", cache.get(getBuffer("MBI"), 2, -1, 3));
+        assertNull(cache.get(getBuffer("IBMX"), 0, 1, 4));
+        assertNull(cache.get(getBuffer("IB"), 0, 1, 2));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    void cacheShouldNotExceedItsCapacity() {
+        final InternCache<String> cache = new InternCache<>(100);
+        assertEquals(104, cache.getCapacity());
+        for (int i = 0; i < 1000; i++) {
+            final String value = String.format("%04d", i);
+            cache.put(getBuffer(value), 0, 1, 4, value);
+        }
+        assertTrue(cache.getSize() <= 104);
+        assertEquals(1000 - cache.getSize(), cache.getEvictionCount());
+    }
+
+    @Test
+    void cacheShouldEvictValuesWhichWereNotUsedRecently() {
+        final InternCache<String> cache = new InternCache<>(4);
+        for (int i = 0; i < 4; i++) {
+            cache.put(getBuffer("A" + i), 0, 1, 2, "A" + i);
+        }
+        for (int i = 0; i < 4; i++) {
+            //hot value is used before each insertion, so it is never evicted
+            assertEquals("A0", cache.get(getBuffer("A0"), 0, 1, 2));
+            cache.put(getBuffer("B" + i), 0, 1, 2, "B" + i);
+        }
+        assertEquals(4, cache.getSize());
+        assertEquals(4, cache.getEvictionCount());
+        assertEquals("A0", cache.get(getBuffer("A0"), 0, 1, 2));
+    }
+
+    @Test
+    void cacheShouldRequirePositiveCapacity() {
+        final Exception e = assertThrows(MappingException.class, () -> new InternCache<>(0));
+        assertEquals("Intern capacity must be bigger than 0, but 0 was provided", e.getMessage());
+    }
+
+}
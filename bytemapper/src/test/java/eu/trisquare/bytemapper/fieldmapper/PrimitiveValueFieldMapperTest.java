@@ -0,0 +1,131 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveValueFieldMapperTest {
+
+    private final StandardFieldMapperProvider mapperProvider = new StandardFieldMapperProvider();
+
+    private static ByteBuffer getBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putLong(0x0102030405060708L);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int getWidth(Class<?> type) {
+        if (type == byte.class) {
+            return Byte.BYTES;
+        } else if (type == short.class) {
+            return Short.BYTES;
+        } else if (type == int.class || type == float.class) {
+            return Integer.BYTES;
+        }
+        return Long.BYTES;
+    }
+
+    private PrimitiveFieldMapper getMapper(Class<?> type) {
+        final FieldMapper mapper = mapperProvider.getMapper(type);
+        assertTrue(mapper instanceof PrimitiveFieldMapper);
+        final PrimitiveFieldMapper primitiveMapper = (PrimitiveFieldMapper) mapper;
+        assertEquals(type, primitiveMapper.getPrimitiveType());
+        return primitiveMapper;
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {boolean.class, byte.class, short.class, int.class, long.class, float.class, double.class})
+    void primitiveValueShouldBeEqualToBoxedValue(Class<?> type) {
+        final PrimitiveFieldMapper mapper = getMapper(type);
+        final ByteBuffer buffer = getBuffer();
+        final int size = getWidth(type);
+        for (boolean isBigEndian : new boolean[]{true, false}) {
+            final Object boxed = mapper.getValue(buffer, isBigEndian, 0, size);
+            final Object primitive;
+            if (type == boolean.class) {
+                primitive = mapper.getBoolean(buffer, isBigEndian, 0, size);
+            } else if (type == byte.class) {
+                primitive = mapper.getByte(buffer, isBigEndian, 0, size);
+            } else if (type == short.class) {
+                primitive = mapper.getShort(buffer, isBigEndian, 0, size);
+            } else if (type == int.class) {
+                primitive = mapper.getInt(buffer, isBigEndian, 0, size);
+            } else if (type == long.class) {
+                primitive = mapper.getLong(buffer, isBigEndian, 0, size);
+            } else if (type == float.class) {
+                primitive = mapper.getFloat(buffer, isBigEndian, 0, size);
+            } else {
+                primitive = mapper.getDouble(buffer, isBigEndian, 0, size);
+            }
+            assertEquals(boxed, primitive);
+        }
+    }
+
+    @Test
+    void primitiveValueShouldBeObtainedForPartialWidth() {
+        final PrimitiveFieldMapper mapper = getMapper(int.class);
+        assertEquals(0x00010203, mapper.getInt(getBuffer(), true, 0, 3));
+        assertEquals(0x03020100, mapper.getInt(getBuffer(), false, 0, 3));
+    }
+
+    @Test
+    void primitiveValueShouldThrowWhenSizeExceedsTypeWidth() {
+        final PrimitiveFieldMapper mapper = getMapper(short.class);
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> mapper.getShort(getBuffer(), true, 0, 3)
+        );
+        assertEquals(
+                "For type short maximum allowed size is 2, but requested parsing of 3 bytes. Would you like to use different data type?",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void primitiveValueShouldThrowForOtherPrimitiveType() {
+        final PrimitiveFieldMapper mapper = getMapper(int.class);
+        final Exception e = assertThrows(
+                UnsupportedOperationException.class,
+                () -> mapper.getLong(getBuffer(), true, 0, 4)
+        );
+        assertEquals("Mapper of int values does not support long values.", e.getMessage());
+    }
+
+    @Test
+    void customMapperShouldNotSupportOtherPrimitiveTypesByDefault() {
+        final PrimitiveFieldMapper mapper = new PrimitiveFieldMapper() {
+            @Override
+            public Class<?> getPrimitiveType() {
+                return int.class;
+            }
+
+            @Override
+            public boolean isEligible(Class<?> type) {
+                return type == int.class;
+            }
+
+            @Override
+            public Object getValue(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+                return getInt(buffer, isBigEndian, startByte, size);
+            }
+
+            @Override
+            public int getInt(ByteBuffer buffer, boolean isBigEndian, int startByte, int size) {
+                return 1;
+            }
+        };
+        assertEquals(1, mapper.getValue(getBuffer(), true, 0, 4));
+        final Exception e = assertThrows(
+                UnsupportedOperationException.class,
+                () -> mapper.getDouble(getBuffer(), true, 0, 4)
+        );
+        assertEquals("Mapper of int values does not support double values.", e.getMessage());
+    }
+
+}
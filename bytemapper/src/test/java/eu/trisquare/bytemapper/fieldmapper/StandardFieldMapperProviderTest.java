@@ -6,6 +6,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,7 +26,10 @@ class StandardFieldMapperProviderTest {
                 Integer.class, int.class,
                 Short.class, short.class,
                 Boolean.class, boolean.class,
-                Byte[].class, byte[].class
+                Byte[].class, byte[].class,
+                ByteBuffer.class,
+                boolean[].class, BitSet.class,
+                short[].class, int[].class, long[].class, float[].class, double[].class
         );
     }
 
@@ -0,0 +1,107 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StandardFieldWriterProviderTest {
+
+    private final StandardFieldWriterProvider writerProvider = new StandardFieldWriterProvider();
+
+    private final StandardFieldMapperProvider mapperProvider = new StandardFieldMapperProvider();
+
+    private static Stream<Object> valuesProvider() {
+        return Stream.of(
+                "ab",
+                BigInteger.valueOf(-3),
+                -2.5d,
+                1.5f,
+                Long.MIN_VALUE,
+                Integer.MIN_VALUE,
+                Short.MIN_VALUE,
+                Byte.MIN_VALUE,
+                true
+        );
+    }
+
+    @Test
+    void getWriterShouldThrowForUnsupportedType() {
+        Exception e = assertThrows(
+                MappingException.class,
+                () -> writerProvider.getWriter(Class.class)
+        );
+        assertEquals("No writer has been found for class: java.lang.Class", e.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("valuesProvider")
+    void writtenValueShouldBeMappedBack(Object value) {
+        final Class<?> type = value.getClass();
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        final int size = type == String.class ? 2 : type == Boolean.class ? 1 : 8;
+        final int width = Math.min(size, type == Float.class || type == Integer.class ? 4
+                : type == Short.class ? 2 : type == Byte.class ? 1 : size);
+        writerProvider.getWriter(type).putValue(buffer, false, 0, width, value);
+        assertEquals(value, mapperProvider.getMapper(type).getValue(buffer, false, 0, width));
+    }
+
+    @Test
+    void writtenByteBufferShouldBeMappedBack() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        final ByteBuffer value = ByteBuffer.wrap(new byte[]{1, 2, 3, 4});
+        writerProvider.getWriter(ByteBuffer.class).putValue(buffer, false, 2, 4, value);
+        assertEquals(value, mapperProvider.getMapper(ByteBuffer.class).getValue(buffer, false, 2, 4));
+    }
+
+    @Test
+    void writtenBitsShouldBeMappedBack() {
+        final ByteBuffer buffer = ByteBuffer.allocate(12);
+        final BitSet value = BitSet.valueOf(new long[]{0x8000000000000001L, 0x0F});
+        writerProvider.getWriter(BitSet.class).putValue(buffer, false, 1, 10, value);
+        assertEquals(value, mapperProvider.getMapper(BitSet.class).getValue(buffer, false, 1, 10));
+        final boolean[] bits = (boolean[]) mapperProvider.getMapper(boolean[].class).getValue(buffer, false, 1, 10);
+        assertEquals(80, bits.length);
+        assertTrue(bits[0] && bits[63] && bits[64] && bits[67] && !bits[68]);
+        writerProvider.getWriter(boolean[].class).putValue(buffer, true, 1, 10, bits);
+        assertEquals(value, mapperProvider.getMapper(BitSet.class).getValue(buffer, true, 1, 10));
+    }
+
+    @Test
+    void primitiveWriterShouldBeProvidedForPrimitiveType() {
+        final FieldWriter writer = writerProvider.getWriter(int.class);
+        assertTrue(writer instanceof PrimitiveFieldWriter);
+        assertEquals(int.class, ((PrimitiveFieldWriter) writer).getPrimitiveType());
+    }
+
+    @Test
+    void primitiveWriterShouldThrowWhenSizeExceedsTypeWidth() {
+        final PrimitiveFieldWriter writer = (PrimitiveFieldWriter) writerProvider.getWriter(short.class);
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> writer.putShort(ByteBuffer.allocate(4), true, 0, 3, (short) 1)
+        );
+        assertEquals(
+                "For type short maximum allowed size is 2, but requested writing of 3 bytes. Would you like to use different data type?",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void primitiveWriterShouldThrowForOtherPrimitiveType() {
+        final PrimitiveFieldWriter writer = (PrimitiveFieldWriter) writerProvider.getWriter(int.class);
+        final Exception e = assertThrows(
+                UnsupportedOperationException.class,
+                () -> writer.putLong(ByteBuffer.allocate(8), true, 0, 4, 1L)
+        );
+        assertEquals("Writer of int values does not support long values.", e.getMessage());
+    }
+
+}
@@ -0,0 +1,36 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.annotations.Interned;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StandardStructureMapperProviderTest {
+
+    @Test
+    void getStructureMapperShouldReturnMapperForObject() {
+        final StructureMapper mapper = new StandardStructureMapperProvider().getStructureMapper(Object.class);
+        assertNotNull(mapper);
+    }
+
+    @Test
+    void getStructureMapperShouldReturnMapperForNull() {
+        final StructureMapper mapper = new StandardStructureMapperProvider().getStructureMapper(null);
+        assertNotNull(mapper);
+    }
+
+    @Test
+    void getStructureMapperShouldReturnSingleInterningMapperForInternedClass() {
+        final StandardStructureMapperProvider provider = new StandardStructureMapperProvider();
+        final StructureMapper mapper = provider.getStructureMapper(InternedStructure.class);
+        assertTrue(mapper instanceof InterningStructureMapper);
+        assertSame(mapper, provider.getStructureMapper(InternedStructure.class));
+    }
+
+    @Interned(capacity = 16)
+    private static class InternedStructure {
+    }
+
+}
@@ -0,0 +1,540 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.Allocations;
+import eu.trisquare.bytemapper.annotations.ByteMapperConstructor;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StandardTypeMapperTest {
+
+    private final TypeMapper mapper = new StandardTypeMapper();
+
+    private static Stream<Long> longValuesProvider() {
+        return Stream.of(
+                Long.MIN_VALUE,
+                Long.MIN_VALUE + 1,
+                0L,
+                Long.MAX_VALUE - 1,
+                Long.MAX_VALUE
+        );
+    }
+
+    private static Stream<Integer> intValuesProvider() {
+        return Stream.of(
+                Integer.MIN_VALUE,
+                Integer.MIN_VALUE + 1,
+                0,
+                Integer.MAX_VALUE - 1,
+                Integer.MAX_VALUE
+        );
+    }
+
+    private static Stream<Short> shortValuesProvider() {
+        return Stream.of(
+                Short.MIN_VALUE,
+                (short) (Short.MIN_VALUE + 1),
+                (short) 0,
+                (short) (Short.MAX_VALUE - 1),
+                Short.MAX_VALUE
+        );
+    }
+
+    private static Stream<Byte> byteValuesProvider() {
+        return Stream.of(
+                Byte.MIN_VALUE,
+                (byte) (Byte.MIN_VALUE + 1),
+                (byte) 0,
+                (byte) (Byte.MAX_VALUE - 1),
+                Byte.MAX_VALUE
+        );
+    }
+
+    private static Stream<Float> floatValuesProvider() {
+        return Stream.of(
+                Float.MIN_VALUE,
+                -1F,
+                -0.12345F,
+                0f,
+                0.12345F,
+                1F,
+                Float.MAX_VALUE
+        );
+    }
+
+    private static Stream<Double> doubleValuesProvider() {
+        return Stream.of(
+                Double.MIN_VALUE,
+                -1d,
+                -0.12345d,
+                0d,
+                0.12345d,
+                1d,
+                Double.MAX_VALUE
+        );
+    }
+
+    @MethodSource("byteValuesProvider")
+    @ParameterizedTest
+    void toBooleanShouldReturnFalseOnlyIfGivenZeroes(byte b) {
+        final ByteBuffer buffer = ByteBuffer.allocate(1);
+        buffer.put(b);
+        buffer.flip();
+
+        assertEquals(b != 0, mapper.toBoolean(buffer, true, 0, 1));
+        assertEquals(b != 0, mapper.toBoolean(buffer, false, 0, 1));
+
+    }
+
+    @MethodSource("byteValuesProvider")
+    @ParameterizedTest
+    void toByteShouldReturnCorrectValue(byte b) {
+        final ByteBuffer buffer = ByteBuffer.allocate(1);
+        buffer.put(b);
+        buffer.flip();
+
+        assertEquals(b, mapper.toByte(buffer, true, 0, 1));
+        assertEquals(b, mapper.toByte(buffer, false, 0, 1));
+    }
+
+    @MethodSource("shortValuesProvider")
+    @ParameterizedTest
+    void toShortShouldReturnCorrectValue(short s) {
+        final ByteBuffer buffer = ByteBuffer.allocate(2);
+        buffer.putShort(s);
+        buffer.flip();
+
+        assertEquals(s, mapper.toShort(buffer, true, 0, 2));
+        assertEquals(Short.reverseBytes(s), mapper.toShort(buffer, false, 0, 2));
+    }
+
+    @MethodSource("intValuesProvider")
+    @ParameterizedTest
+    void toIntShouldReturnCorrectValue(int i) {
+        final ByteBuffer buffer = ByteBuffer.allocate(4);
+        buffer.putInt(i);
+        buffer.flip();
+
+        assertEquals(i, mapper.toInt(buffer, true, 0, 4));
+        assertEquals(Integer.reverseBytes(i), mapper.toInt(buffer, false, 0, 4));
+    }
+
+    @MethodSource("longValuesProvider")
+    @ParameterizedTest
+    void toLongShouldReturnCorrectValue(long l) {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putLong(l);
+        buffer.flip();
+
+        assertEquals(l, mapper.toLong(buffer, true, 0, 8));
+        assertEquals(Long.reverseBytes(l), mapper.toLong(buffer, false, 0, 8));
+    }
+
+    @MethodSource("floatValuesProvider")
+    @ParameterizedTest
+    void toFloat(float f) {
+        final ByteBuffer buffer = ByteBuffer.allocate(4);
+        buffer.putFloat(f);
+        buffer.flip();
+
+        assertEquals(f, mapper.toFloat(buffer, true, 0, 4));
+        assertEquals(
+                Float.intBitsToFloat(Integer.reverseBytes(Float.floatToRawIntBits(f))),
+                mapper.toFloat(buffer, false, 0, 4)
+        );
+    }
+
+    @MethodSource("doubleValuesProvider")
+    @ParameterizedTest
+    void toDouble(double d) {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putDouble(d);
+        buffer.flip();
+
+        assertEquals(d, mapper.toDouble(buffer, true, 0, 8));
+        assertEquals(
+                Double.longBitsToDouble(Long.reverseBytes(Double.doubleToRawLongBits(d))),
+                mapper.toDouble(buffer, false, 0, 8)
+        );
+    }
+
+    @Test
+    void partialWidthValuesShouldBePaddedWithZeroes() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5});
+
+        assertEquals((short) 0x0001, mapper.toShort(buffer, true, 0, 1));
+        assertEquals((short) 0x0100, mapper.toShort(buffer, false, 0, 1));
+        assertEquals(0x00010203, mapper.toInt(buffer, true, 0, 3));
+        assertEquals(0x03020100, mapper.toInt(buffer, false, 0, 3));
+        assertEquals(0x0000000102030405L, mapper.toLong(buffer, true, 0, 5));
+        assertEquals(0x0504030201000000L, mapper.toLong(buffer, false, 0, 5));
+        assertEquals(Float.intBitsToFloat(0x00000102), mapper.toFloat(buffer, true, 0, 2));
+        assertEquals(Double.longBitsToDouble(0x0302010000000000L), mapper.toDouble(buffer, false, 0, 3));
+    }
+
+    @Test
+    void valuesShouldNotDependOnBufferByteOrder() {
+        final ByteBuffer buffer = ByteBuffer.allocate(9).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 0);
+        buffer.putLong(0, 0x0102030405060708L);
+        buffer.put(8, (byte) 9);
+
+        assertEquals(0x0807060504030201L, mapper.toLong(buffer, true, 0, 8));
+        assertEquals(0x0102030405060708L, mapper.toLong(buffer, false, 0, 8));
+        assertEquals(0x06050403, mapper.toInt(buffer, true, 2, 4));
+        assertEquals(0x03040506, mapper.toInt(buffer, false, 2, 4));
+        assertEquals((short) 0x0109, mapper.toShort(buffer, true, 7, 2));
+        assertEquals((short) 0x0901, mapper.toShort(buffer, false, 7, 2));
+        assertEquals(ByteOrder.LITTLE_ENDIAN, buffer.order());
+    }
+
+    @Test
+    void primitiveValuesShouldBeDecodedWithoutAllocation() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(Long.MIN_VALUE);
+        buffer.putLong(Long.MAX_VALUE);
+        buffer.flip();
+        final ByteBuffer direct = ByteBuffer.allocateDirect(16);
+        direct.put(buffer.duplicate());
+        direct.flip();
+
+        final ByteBuffer[] sources = new ByteBuffer[]{buffer, direct};
+        final boolean[] endianness = new boolean[]{true, false};
+
+        final long allocated = Allocations.measure(100_000, () -> {
+            for (ByteBuffer source : sources) {
+                for (boolean isBigEndian : endianness) {
+                    mapper.toByte(source, isBigEndian, 1, 1);
+                    mapper.toShort(source, isBigEndian, 1, 2);
+                    mapper.toShort(source, isBigEndian, 1, 1);
+                    mapper.toInt(source, isBigEndian, 2, 4);
+                    mapper.toInt(source, isBigEndian, 2, 3);
+                    mapper.toLong(source, isBigEndian, 3, 8);
+                    mapper.toLong(source, isBigEndian, 3, 5);
+                    mapper.toFloat(source, isBigEndian, 4, 4);
+                    mapper.toDouble(source, isBigEndian, 5, 8);
+                    mapper.toBoolean(source, isBigEndian, 6, 8);
+                }
+            }
+        });
+        assertTrue(allocated < 100_000, "Decoding allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void toBooleanShouldFindAnyNonZeroByte() {
+        final ByteBuffer heap = ByteBuffer.allocate(40);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(40);
+        for (ByteBuffer buffer : new ByteBuffer[]{heap, direct}) {
+            for (int size = 1; size <= 20; size++) {
+                for (int index = 0; index < size; index++) {
+                    buffer.put(3 + index, (byte) 0x80);
+                    assertTrue(mapper.toBoolean(buffer, true, 3, size), "size " + size + ", index " + index);
+                    buffer.put(3 + index, (byte) 0x00);
+                }
+                buffer.put(2, (byte) 1).put(3 + size, (byte) 1);
+                assertFalse(mapper.toBoolean(buffer, true, 3, size), "size " + size);
+                buffer.put(2, (byte) 0).put(3 + size, (byte) 0);
+            }
+        }
+    }
+
+    @Test
+    void toBooleanShouldCheckBounds() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        assertThrows(IndexOutOfBoundsException.class, () -> mapper.toBoolean(buffer, true, 10, 7));
+        assertThrows(IndexOutOfBoundsException.class, () -> mapper.toBoolean(buffer, true, 14, 3));
+    }
+
+    @Test
+    void bitsShouldBeNumberedFromLeastSignificantBit() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) 0x82});
+        final boolean[] bigEndian = mapper.toBooleanArray(buffer, true, 0, 10);
+        assertEquals(80, bigEndian.length);
+        assertTrue(bigEndian[1] && bigEndian[7] && bigEndian[72]);
+        assertEquals(BitSet.valueOf(new long[]{0x82, 0x100}), mapper.toBitSet(buffer, true, 0, 10));
+
+        final boolean[] littleEndian = mapper.toBooleanArray(buffer, false, 0, 10);
+        assertTrue(littleEndian[0] && littleEndian[73] && littleEndian[79]);
+        assertEquals(BitSet.valueOf(buffer), mapper.toBitSet(buffer, false, 0, 10));
+        for (int n = 0; n < 80; n++) {
+            assertEquals(bigEndian[n], n == 1 || n == 7 || n == 72, "bit " + n);
+            assertEquals(littleEndian[n], n == 0 || n == 73 || n == 79, "bit " + n);
+        }
+    }
+
+    @Test
+    void primitiveArraysShouldBeDecodedInSourceOrder() {
+        final ByteBuffer heap = ByteBuffer.allocate(34);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(34).order(ByteOrder.LITTLE_ENDIAN);
+        for (ByteBuffer buffer : new ByteBuffer[]{heap, direct}) {
+            buffer.position(2);
+            buffer.slice().order(ByteOrder.BIG_ENDIAN).asLongBuffer().put(new long[]{1L, -2L, Long.MAX_VALUE, 0x0102030405060708L});
+            assertArrayEquals(new long[]{1L, -2L, Long.MAX_VALUE, 0x0102030405060708L}, mapper.toLongArray(buffer, true, 2, 32));
+            assertArrayEquals(new long[]{Long.reverseBytes(1L), Long.reverseBytes(-2L)}, mapper.toLongArray(buffer, false, 2, 16));
+            assertArrayEquals(new int[]{0, 1, -1, -2}, mapper.toIntArray(buffer, true, 2, 16));
+            assertArrayEquals(new short[]{0, 0, 0, 1}, mapper.toShortArray(buffer, true, 2, 8));
+            assertArrayEquals(new double[]{Double.longBitsToDouble(1L)}, mapper.toDoubleArray(buffer, true, 2, 8));
+            assertArrayEquals(new float[]{0f, Float.intBitsToFloat(0x01000000)}, mapper.toFloatArray(buffer, false, 2, 8));
+            assertEquals(2, buffer.position());
+        }
+    }
+
+    @Test
+    void primitiveArraySizeShouldBeMultipleOfElementSize() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        final Exception e = assertThrows(MappingException.class, () -> mapper.toIntArray(buffer, true, 0, 6));
+        assertEquals("Size of int array must be multiple of 4 bytes, but 6 was provided", e.getMessage());
+        assertThrows(IndexOutOfBoundsException.class, () -> mapper.toLongArray(buffer, true, 8, 16));
+    }
+
+    @Test
+    void toBigInteger() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(Long.MIN_VALUE);
+        buffer.putLong(Long.MAX_VALUE);
+        buffer.flip();
+
+        final BigInteger bi = BigInteger.valueOf(Long.MAX_VALUE).add(
+                BigInteger.valueOf(Long.MIN_VALUE).shiftLeft(64)
+        );
+
+        final BigInteger rBi = BigInteger.valueOf(Long.reverseBytes(Long.MIN_VALUE)).add(
+                BigInteger.valueOf(Long.reverseBytes(Long.MAX_VALUE)).shiftLeft(64)
+        );
+
+        assertEquals(bi, mapper.toBigInteger(buffer, true, 0, 16));
+        assertEquals(rBi, mapper.toBigInteger(buffer, false, 0, 16));
+    }
+
+    @Test
+    void shortBigIntegerShouldBeSignExtended() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) 0xFF, (byte) 0xFE, 0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) 0x80});
+        assertEquals(BigInteger.valueOf(-2), mapper.toBigInteger(buffer, true, 0, 2));
+        assertEquals(BigInteger.valueOf(-257), mapper.toBigInteger(buffer, false, 0, 2));
+        assertEquals(BigInteger.valueOf(0x01FEFF), mapper.toBigInteger(buffer, false, 0, 3));
+        assertEquals(BigInteger.valueOf(0x01000000_00000080L), mapper.toBigInteger(buffer, true, 2, 8));
+        assertEquals(BigInteger.valueOf(0x80000000_00000001L), mapper.toBigInteger(buffer, false, 2, 8));
+    }
+
+    @Test
+    void unsignedValuesShouldBeZeroExtended() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(0, -2L).putLong(8, Long.MIN_VALUE);
+        for (int size = 1; size < Long.BYTES; size++) {
+            final long expected = (1L << size * Byte.SIZE) - 2;
+            assertEquals(expected, mapper.toUnsignedLong(buffer, true, Long.BYTES - size, size));
+            assertEquals(BigInteger.valueOf(expected), mapper.toUnsignedBigInteger(buffer, true, Long.BYTES - size, size));
+            assertEquals(-1L >>> (Long.SIZE - size * Byte.SIZE), mapper.toUnsignedLong(buffer, false, 0, size));
+        }
+        assertEquals(-2L, mapper.toUnsignedLong(buffer, true, 0, 8));
+        assertEquals(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.valueOf(2)), mapper.toUnsignedBigInteger(buffer, true, 0, 8));
+        assertEquals(BigInteger.ONE.shiftLeft(63), mapper.toUnsignedBigInteger(buffer, true, 8, 8));
+        assertEquals(BigInteger.valueOf(0x80), mapper.toUnsignedBigInteger(buffer, false, 8, 8));
+        final BigInteger unsigned128 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.valueOf(2)).shiftLeft(64).setBit(63);
+        assertEquals(unsigned128, mapper.toUnsignedBigInteger(buffer, true, 0, 16));
+    }
+
+    @Test
+    void shortBigIntegersShouldNotCopyBytes() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putLong(0, 0x0001020304050607L);
+        final long allocated = Allocations.measure(100_000, () -> {
+            //values up to 16 are cached by BigInteger
+            mapper.toBigInteger(buffer, true, 7, 1);
+            mapper.toUnsignedBigInteger(buffer, false, 0, 1);
+        });
+        assertTrue(allocated < 100_000, "Decoding allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void testToString() {
+        final String testString = "123ABC,.'{}";
+        final String reversedString = new StringBuilder(testString).reverse().toString();
+        ByteBuffer buffer = ByteBuffer.wrap(testString.getBytes());
+        assertEquals(testString, mapper.toString(buffer, true, 0, testString.length()));
+        assertEquals(reversedString, mapper.toString(buffer, false, 0, testString.length()));
+    }
+
+    @Test
+    void toByteArray() {
+        final byte[] bytes = new byte[]{
+                Byte.MIN_VALUE, 0, 1, 2, 3, 4, 5, Byte.MAX_VALUE
+        };
+
+        final byte[] reversed = ArrayUtils.clone(bytes);
+        ArrayUtils.reverse(reversed);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        assertArrayEquals(bytes, mapper.toByteArray(buffer, true, 0, bytes.length));
+        assertArrayEquals(reversed, mapper.toByteArray(buffer, false, 0, bytes.length));
+    }
+
+    @Test
+    void toByteArrayShouldCopyFromBuffersWithoutAccessibleArray() {
+        final byte[] bytes = new byte[]{0, 1, 2, 3, 4, 5};
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+        final ByteBuffer readOnly = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        for (ByteBuffer buffer : new ByteBuffer[]{direct, readOnly}) {
+            assertArrayEquals(new byte[]{1, 2, 3}, mapper.toByteArray(buffer, true, 1, 3));
+            assertArrayEquals(new byte[]{3, 2, 1}, mapper.toByteArray(buffer, false, 1, 3));
+        }
+    }
+
+    @Test
+    void toByteArrayShouldRespectOffsetOfSlicedBuffer() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0, 1, 2, 3, 4, 5});
+        buffer.position(2);
+        final ByteBuffer slice = buffer.slice();
+        assertArrayEquals(new byte[]{3, 4}, mapper.toByteArray(slice, true, 1, 2));
+    }
+
+    @Test
+    void toByteArrayShouldThrowWhenBytesExceedLimit() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.limit(4);
+        assertThrows(IndexOutOfBoundsException.class, () -> mapper.toByteArray(buffer, true, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> mapper.toByteArray(buffer, true, -1, 2));
+    }
+
+    @Test
+    void toByteObjectArray() {
+        final Byte[] bytes = new Byte[]{
+                Byte.MIN_VALUE, 0, 1, 2, 3, 4, 5, Byte.MAX_VALUE
+        };
+
+        final Byte[] reversed = ArrayUtils.clone(bytes);
+        ArrayUtils.reverse(reversed);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(ArrayUtils.toPrimitive(bytes));
+
+        assertArrayEquals(bytes, mapper.toByteObjectArray(buffer, true, 0, bytes.length));
+        assertArrayEquals(reversed, mapper.toByteObjectArray(buffer, false, 0, bytes.length));
+    }
+
+    @Test
+    void toByteBufferShouldReturnReadOnlyViewOfSource() {
+        final byte[] bytes = new byte[]{0, 1, 2, 3, 4, 5};
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final ByteBuffer view = mapper.toByteBuffer(buffer, true, 1, 4);
+        assertTrue(view.isReadOnly());
+        assertEquals(0, view.position());
+        assertEquals(4, view.remaining());
+        assertEquals(0x01020304, view.getInt(0));
+        bytes[1] = 9;
+        assertEquals(9, view.get(0));
+        assertEquals(0, buffer.position());
+        assertEquals(bytes.length, buffer.limit());
+    }
+
+    @Test
+    void toByteBufferShouldExpressEndiannessWithOrder() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4});
+        final ByteBuffer bigEndian = mapper.toByteBuffer(buffer, true, 0, 4);
+        final ByteBuffer littleEndian = mapper.toByteBuffer(buffer, false, 0, 4);
+        assertEquals(ByteOrder.BIG_ENDIAN, bigEndian.order());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, littleEndian.order());
+        assertEquals(1, littleEndian.get(0));
+        assertEquals(0x04030201, littleEndian.getInt(0));
+    }
+
+    @Test
+    void toByteBufferShouldThrowWhenBytesExceedLimit() {
+        final ByteBuffer buffer = ByteBuffer.allocate(4);
+        assertThrows(IndexOutOfBoundsException.class, () -> mapper.toByteBuffer(buffer, true, 2, 3));
+    }
+
+    @Test
+    void toByteBufferShouldNotCopyData() {
+        final ByteBuffer buffer = ByteBuffer.allocate(4096);
+        final long copied = Allocations.measure(100, () -> mapper.toByteArray(buffer, true, 0, 4096));
+        final long viewed = Allocations.measure(100, () -> mapper.toByteBuffer(buffer, true, 0, 4096));
+        assertTrue(viewed < copied / 10, "View allocated " + viewed + " bytes, copy " + copied);
+    }
+
+    @Test
+    void toAnnotatedFieldsStructure() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.put((byte) 0);
+        buffer.put(Byte.MAX_VALUE);
+        buffer.putShort(Short.MAX_VALUE);
+        buffer.putInt(Integer.MAX_VALUE);
+        buffer.flip();
+        final AnnotatedFieldsStructureClass result = mapper.toStructure(buffer, AnnotatedFieldsStructureClass.class, 0, 8);
+        assertFalse(result.booleanValue);
+        assertEquals(Byte.MAX_VALUE, result.byteValue);
+        assertEquals(Short.MAX_VALUE, result.shortValue);
+        assertEquals(Integer.MAX_VALUE, result.intValue);
+    }
+
+    @Test
+    void toAnnotatedConstructorStructure() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.put((byte) 0);
+        buffer.put(Byte.MAX_VALUE);
+        buffer.putShort(Short.MAX_VALUE);
+        buffer.putInt(Integer.MAX_VALUE);
+        buffer.flip();
+        final AnnotatedConstructorStructureClass result = mapper.toStructure(buffer, AnnotatedConstructorStructureClass.class, 0, 8);
+        assertFalse(result.booleanValue);
+        assertEquals(Byte.MAX_VALUE, result.byteValue);
+        assertEquals(Short.MAX_VALUE, result.shortValue);
+        assertEquals(Integer.MAX_VALUE, result.intValue);
+    }
+
+    private static class AnnotatedConstructorStructureClass {
+
+        private final boolean booleanValue;
+        private final byte byteValue;
+        private final short shortValue;
+        private final int intValue;
+
+        @ByteMapperConstructor
+        public AnnotatedConstructorStructureClass(
+                @Value(startByte = 0) boolean booleanValue,
+                @Value(startByte = 1) byte byteValue,
+                @Value(startByte = 2, size = 2) short shortValue,
+                @Value(startByte = 4, size = 4) int intValue
+        ) {
+            this.booleanValue = booleanValue;
+            this.byteValue = byteValue;
+            this.shortValue = shortValue;
+            this.intValue = intValue;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class AnnotatedFieldsStructureClass {
+
+        @Value(startByte = 0)
+        private boolean booleanValue;
+
+        @Value(startByte = 1)
+        private byte byteValue;
+
+        @Value(startByte = 2, size = 2)
+        private short shortValue;
+
+        @Value(startByte = 4, size = 4)
+        private int intValue;
+
+        public AnnotatedFieldsStructureClass() {
+            //empty
+        }
+
+    }
+
+
+}
\ No newline at end of file
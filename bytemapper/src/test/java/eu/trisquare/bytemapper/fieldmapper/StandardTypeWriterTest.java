@@ -0,0 +1,252 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StandardTypeWriterTest {
+
+    private final TypeWriter writer = new StandardTypeWriter();
+
+    private final TypeMapper mapper = new StandardTypeMapper();
+
+    private static final boolean[] ENDIANNESS = {true, false};
+
+    private static ByteBuffer getBuffer(ByteOrder order) {
+        return ByteBuffer.allocate(12).order(order);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8})
+    void longShouldRoundTripForEachWidth(int size) {
+        final long mask = size == Long.BYTES ? -1L : (1L << (size * 8)) - 1;
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            for (boolean isBigEndian : ENDIANNESS) {
+                //partial little-endian values hold the most significant bytes
+                final long value = isBigEndian
+                        ? 0x0102030405060708L & mask
+                        : 0x0102030405060708L & Long.reverseBytes(mask);
+                final ByteBuffer buffer = getBuffer(order);
+                writer.putLong(buffer, isBigEndian, 2, size, value);
+                assertEquals(value, mapper.toLong(buffer, isBigEndian, 2, size));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE})
+    void intShouldRoundTripForFullWidth(int value) {
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            for (boolean isBigEndian : ENDIANNESS) {
+                final ByteBuffer buffer = getBuffer(order);
+                writer.putInt(buffer, isBigEndian, 1, Integer.BYTES, value);
+                assertEquals(value, mapper.toInt(buffer, isBigEndian, 1, Integer.BYTES));
+            }
+        }
+    }
+
+    @Test
+    void partialWidthShouldDropBytesExceedingSize() {
+        final ByteBuffer buffer = getBuffer(ByteOrder.BIG_ENDIAN);
+        writer.putInt(buffer, true, 0, 3, 0x11223344);
+        writer.putInt(buffer, false, 3, 3, 0x11223344);
+        assertArrayEquals(
+                new byte[]{0x22, 0x33, 0x44, 0x33, 0x22, 0x11, 0, 0, 0, 0, 0, 0},
+                buffer.array()
+        );
+    }
+
+    @Test
+    void shortAndByteShouldRoundTrip() {
+        for (boolean isBigEndian : ENDIANNESS) {
+            final ByteBuffer buffer = getBuffer(ByteOrder.BIG_ENDIAN);
+            writer.putShort(buffer, isBigEndian, 0, Short.BYTES, Short.MIN_VALUE);
+            writer.putByte(buffer, isBigEndian, 2, Byte.BYTES, Byte.MIN_VALUE);
+            assertEquals(Short.MIN_VALUE, mapper.toShort(buffer, isBigEndian, 0, Short.BYTES));
+            assertEquals(Byte.MIN_VALUE, mapper.toByte(buffer, isBigEndian, 2, Byte.BYTES));
+        }
+    }
+
+    @Test
+    void floatingPointValuesShouldRoundTrip() {
+        for (boolean isBigEndian : ENDIANNESS) {
+            final ByteBuffer buffer = getBuffer(ByteOrder.LITTLE_ENDIAN);
+            writer.putFloat(buffer, isBigEndian, 0, Float.BYTES, -1.5f);
+            writer.putDouble(buffer, isBigEndian, 4, Double.BYTES, Math.PI);
+            assertEquals(-1.5f, mapper.toFloat(buffer, isBigEndian, 0, Float.BYTES));
+            assertEquals(Math.PI, mapper.toDouble(buffer, isBigEndian, 4, Double.BYTES));
+        }
+    }
+
+    @Test
+    void booleanShouldClearAllBytesAndSetLeastSignificantOne() {
+        final ByteBuffer buffer = getBuffer(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(0, -1);
+        writer.putBoolean(buffer, true, 0, 2, true);
+        writer.putBoolean(buffer, false, 2, 2, false);
+        assertArrayEquals(new byte[]{0, 1, 0, 0}, new byte[]{buffer.get(0), buffer.get(1), buffer.get(2), buffer.get(3)});
+        assertTrue(mapper.toBoolean(buffer, true, 0, 2));
+        assertFalse(mapper.toBoolean(buffer, false, 2, 2));
+    }
+
+    @Test
+    void bigIntegerShouldBeSignExtended() {
+        for (boolean isBigEndian : ENDIANNESS) {
+            final ByteBuffer buffer = getBuffer(ByteOrder.BIG_ENDIAN);
+            writer.putBigInteger(buffer, isBigEndian, 0, 12, BigInteger.valueOf(-2));
+            assertEquals(BigInteger.valueOf(-2), mapper.toBigInteger(buffer, isBigEndian, 0, 12));
+        }
+    }
+
+    @Test
+    void unsignedValuesShouldRoundTrip() {
+        for (boolean isBigEndian : ENDIANNESS) {
+            final ByteBuffer buffer = ByteBuffer.allocate(20);
+            writer.putUnsignedLong(buffer, isBigEndian, 0, 3, 0xFFFFFE);
+            writer.putUnsignedLong(buffer, isBigEndian, 3, 8, -1L);
+            writer.putUnsignedBigInteger(buffer, isBigEndian, 11, 9, BigInteger.ONE.shiftLeft(64));
+            assertEquals(0xFFFFFE, mapper.toUnsignedLong(buffer, isBigEndian, 0, 3));
+            assertEquals(-1L, mapper.toUnsignedLong(buffer, isBigEndian, 3, 8));
+            assertEquals(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), mapper.toUnsignedBigInteger(buffer, isBigEndian, 3, 8));
+            assertEquals(BigInteger.ONE.shiftLeft(64), mapper.toUnsignedBigInteger(buffer, isBigEndian, 11, 9));
+        }
+    }
+
+    @Test
+    void unsignedValuesShouldBeValidated() {
+        final ByteBuffer buffer = getBuffer(ByteOrder.BIG_ENDIAN);
+        final MappingException tooLong = assertThrows(
+                MappingException.class,
+                () -> writer.putUnsignedLong(buffer, false, 0, 2, 0x10000)
+        );
+        assertEquals("Value of 3 bytes does not fit in 2 bytes.", tooLong.getMessage());
+        final MappingException negative = assertThrows(
+                MappingException.class,
+                () -> writer.putUnsignedBigInteger(buffer, true, 0, 2, BigInteger.valueOf(-1))
+        );
+        assertEquals("Unsigned value must not be negative, but -1 was provided", negative.getMessage());
+    }
+
+    @Test
+    void primitiveArraysShouldRoundTripAndClearRemainingBytes() {
+        for (boolean isBigEndian : ENDIANNESS) {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(28);
+            buffer.putLong(0, -1L).putLong(8, -1L).putLong(16, -1L).putInt(24, -1);
+            writer.putIntArray(buffer, isBigEndian, 1, 10, new int[]{1, -2});
+            assertArrayEquals(new int[]{1, -2}, mapper.toIntArray(buffer, isBigEndian, 1, 8));
+            assertArrayEquals(new short[]{0}, mapper.toShortArray(buffer, isBigEndian, 9, 2));
+            assertEquals(-1, buffer.get(0));
+            assertEquals(-1, buffer.get(11));
+
+            writer.putLongArray(buffer, isBigEndian, 12, 16, new long[]{Long.MIN_VALUE, 3L});
+            writer.putShortArray(buffer, isBigEndian, 0, 4, new short[]{-5, 6});
+            assertArrayEquals(new long[]{Long.MIN_VALUE, 3L}, mapper.toLongArray(buffer, isBigEndian, 12, 16));
+            assertArrayEquals(new short[]{-5, 6}, mapper.toShortArray(buffer, isBigEndian, 0, 4));
+
+            writer.putDoubleArray(buffer, isBigEndian, 4, 8, new double[]{-0.5});
+            writer.putFloatArray(buffer, isBigEndian, 12, 8, new float[]{1.5f, Float.NaN});
+            assertArrayEquals(new double[]{-0.5}, mapper.toDoubleArray(buffer, isBigEndian, 4, 8));
+            assertArrayEquals(new float[]{1.5f, Float.NaN}, mapper.toFloatArray(buffer, isBigEndian, 12, 8));
+        }
+    }
+
+    @Test
+    void primitiveArrayShouldFitInSize() {
+        final ByteBuffer buffer = getBuffer(ByteOrder.BIG_ENDIAN);
+        final MappingException e = assertThrows(
+                MappingException.class,
+                () -> writer.putIntArray(buffer, true, 0, 6, new int[2])
+        );
+        assertEquals("Value of 8 bytes does not fit in 6 bytes.", e.getMessage());
+    }
+
+    @Test
+    void bitsShouldRoundTripAndClearRemainingBits() {
+        for (boolean isBigEndian : ENDIANNESS) {
+            final ByteBuffer buffer = ByteBuffer.allocate(12);
+            buffer.putLong(0, -1L).putInt(8, -1);
+            final boolean[] bits = new boolean[70];
+            bits[0] = bits[65] = bits[69] = true;
+            writer.putBooleanArray(buffer, isBigEndian, 1, 10, bits);
+            assertArrayEquals(Arrays.copyOf(bits, 80), mapper.toBooleanArray(buffer, isBigEndian, 1, 10));
+            assertEquals(-1, buffer.get(0));
+            assertEquals(-1, buffer.get(11));
+
+            final BitSet bitSet = new BitSet();
+            bitSet.set(3);
+            bitSet.set(16);
+            writer.putBitSet(buffer, isBigEndian, 1, 3, bitSet);
+            assertEquals(bitSet, mapper.toBitSet(buffer, isBigEndian, 1, 3));
+        }
+    }
+
+    @Test
+    void bitsShouldFitInSize() {
+        final ByteBuffer buffer = getBuffer(ByteOrder.BIG_ENDIAN);
+        final BitSet bitSet = new BitSet();
+        bitSet.set(16);
+        final MappingException e = assertThrows(
+                MappingException.class,
+                () -> writer.putBitSet(buffer, true, 0, 2, bitSet)
+        );
+        assertEquals("Value of 17 bits does not fit in 2 bytes.", e.getMessage());
+        assertThrows(IndexOutOfBoundsException.class, () -> writer.putBooleanArray(buffer, true, 10, 3, new boolean[8]));
+    }
+
+    @Test
+    void stringShouldBeZeroPadded() {
+        for (boolean isBigEndian : ENDIANNESS) {
+            final ByteBuffer buffer = getBuffer(ByteOrder.BIG_ENDIAN);
+            buffer.put(0, (byte) 'x').put(4, (byte) 'x');
+            writer.putString(buffer, isBigEndian, 0, 5, "abc");
+            final String value = mapper.toString(buffer, isBigEndian, 0, 5);
+            assertEquals("abc", value.replace("\0", ""));
+        }
+    }
+
+    @Test
+    void byteArraysShouldRoundTrip() {
+        for (boolean isBigEndian : ENDIANNESS) {
+            final ByteBuffer buffer = getBuffer(ByteOrder.BIG_ENDIAN);
+            writer.putByteArray(buffer, isBigEndian, 0, 3, new byte[]{1, 2, 3});
+            writer.putByteObjectArray(buffer, isBigEndian, 3, 3, new Byte[]{4, 5, 6});
+            assertArrayEquals(new byte[]{1, 2, 3}, mapper.toByteArray(buffer, isBigEndian, 0, 3));
+            assertArrayEquals(new Byte[]{4, 5, 6}, mapper.toByteObjectArray(buffer, isBigEndian, 3, 3));
+        }
+    }
+
+    @Test
+    void byteBuffersShouldRoundTripWithoutReversal() {
+        for (boolean isBigEndian : ENDIANNESS) {
+            final ByteBuffer buffer = getBuffer(ByteOrder.BIG_ENDIAN);
+            final ByteBuffer value = ByteBuffer.wrap(new byte[]{0, 1, 2, 3});
+            value.position(1);
+            writer.putByteBuffer(buffer, isBigEndian, 2, 4, value);
+            assertEquals(1, value.position());
+            assertArrayEquals(new byte[]{0, 0, 1, 2, 3, 0, 0}, ArrayUtils.subarray(buffer.array(), 0, 7));
+            final ByteBuffer view = mapper.toByteBuffer(buffer, isBigEndian, 2, 4);
+            assertEquals(ByteBuffer.wrap(new byte[]{1, 2, 3, 0}), view);
+        }
+    }
+
+    @Test
+    void tooLongValueShouldThrow() {
+        final ByteBuffer buffer = getBuffer(ByteOrder.BIG_ENDIAN);
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> writer.putByteArray(buffer, true, 0, 2, new byte[]{1, 2, 3})
+        );
+        assertEquals("Value of 3 bytes does not fit in 2 bytes.", e.getMessage());
+    }
+
+}
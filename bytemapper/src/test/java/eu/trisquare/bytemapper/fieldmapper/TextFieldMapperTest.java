@@ -0,0 +1,133 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.Allocations;
+import eu.trisquare.bytemapper.annotations.Text;
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextFieldMapperTest {
+
+    private static ByteBuffer getBuffer(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void mapperShouldDecodeAllBytesByDefault() {
+        final TextFieldMapper mapper = new TextFieldMapper("UTF-8", Text.Padding.NONE, false, 0);
+        assertEquals("ab\0 ", mapper.getValue(getBuffer("_ab\0 _"), true, 1, 4));
+        assertEquals(" \0ba", mapper.getValue(getBuffer("_ab\0 _"), false, 1, 4));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"US-ASCII", "ISO-8859-1", "UTF-8"})
+    void mapperShouldSkipTrailingSpaces(String charset) {
+        final TextFieldMapper mapper = new TextFieldMapper(charset, Text.Padding.SPACE, false, 0);
+        assertEquals("IBM", mapper.getValue(getBuffer("IBM   "), true, 0, 6));
+        assertEquals("A B", mapper.getValue(getBuffer("A B"), true, 0, 3));
+        assertEquals("", mapper.getValue(getBuffer("    "), true, 0, 4));
+    }
+
+    @Test
+    void mapperShouldSkipTrailingNulCharacters() {
+        final TextFieldMapper mapper = new TextFieldMapper("US-ASCII", Text.Padding.NUL, false, 0);
+        assertEquals("ab", mapper.getValue(getBuffer("ab\0\0"), true, 0, 4));
+        assertEquals("ba", mapper.getValue(getBuffer("\0\0ab"), false, 0, 4));
+    }
+
+    @Test
+    void mapperShouldStopAtTerminator() {
+        final TextFieldMapper mapper = new TextFieldMapper("US-ASCII", Text.Padding.NONE, true, 0);
+        assertEquals("ab", mapper.getValue(getBuffer("ab\0cd"), true, 0, 5));
+        assertEquals("abcd", mapper.getValue(getBuffer("abcd"), true, 0, 4));
+        assertEquals("", mapper.getValue(getBuffer("\0abc"), true, 0, 4));
+    }
+
+    @Test
+    void mapperShouldDecodeLatin1Characters() {
+        final TextFieldMapper mapper = new TextFieldMapper("ISO-8859-1", Text.Padding.NONE, false, 0);
+        assertEquals("café", mapper.getValue(getBuffer("café"), true, 0, 4));
+    }
+
+    @Test
+    void mapperShouldSelectUtf16ByteOrderByEndianness() {
+        final TextFieldMapper mapper = new TextFieldMapper("UTF-16", Text.Padding.NUL, true, 0);
+        final ByteBuffer bigEndian = ByteBuffer.wrap("ab\0\0".getBytes(StandardCharsets.UTF_16BE));
+        final ByteBuffer littleEndian = ByteBuffer.wrap("ab\0\0".getBytes(StandardCharsets.UTF_16LE));
+        assertEquals("ab", mapper.getValue(bigEndian, true, 0, 8));
+        assertEquals("ab", mapper.getValue(littleEndian, false, 0, 8));
+    }
+
+    @Test
+    void mapperShouldDecodeFromBuffersWithoutAccessibleArray() {
+        final TextFieldMapper mapper = new TextFieldMapper("US-ASCII", Text.Padding.SPACE, false, 0);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(6);
+        direct.put("_IBM  ".getBytes(StandardCharsets.US_ASCII));
+        assertEquals("IBM", mapper.getValue(direct, true, 1, 5));
+        assertEquals("IBM", mapper.getValue(getBuffer("_IBM  ").asReadOnlyBuffer(), true, 1, 5));
+    }
+
+    @Test
+    void mapperShouldRespectOffsetOfSlicedBuffer() {
+        final TextFieldMapper mapper = new TextFieldMapper("US-ASCII", Text.Padding.NONE, false, 0);
+        final ByteBuffer buffer = getBuffer("__abcd");
+        buffer.position(2);
+        assertEquals("bc", mapper.getValue(buffer.slice(), true, 1, 2));
+    }
+
+    @Test
+    void mapperShouldThrowWhenBytesExceedLimit() {
+        final TextFieldMapper mapper = new TextFieldMapper("US-ASCII", Text.Padding.NONE, false, 0);
+        assertThrows(IndexOutOfBoundsException.class, () -> mapper.getValue(getBuffer("abc"), true, 1, 3));
+    }
+
+    @Test
+    void internedValuesShouldBeReturnedWithoutDecoding() {
+        final TextFieldMapper mapper = new TextFieldMapper("US-ASCII", Text.Padding.SPACE, false, 16);
+        final Object first = mapper.getValue(getBuffer("IBM   "), true, 0, 6);
+        final Object second = mapper.getValue(getBuffer("__IBM "), true, 2, 4);
+        final Object other = mapper.getValue(getBuffer("IBX   "), true, 0, 6);
+        assertEquals("IBM", first);
+        assertSame(first, second);
+        assertEquals("IBX", other);
+        assertSame(other, mapper.getValue(getBuffer("IBX"), true, 0, 3));
+    }
+
+    @Test
+    void internedValuesShouldBeDecodedWithoutAllocation() {
+        final TextFieldMapper mapper = new TextFieldMapper("US-ASCII", Text.Padding.SPACE, false, 64);
+        final ByteBuffer buffer = getBuffer("AAPL  MSFT  IBM   ");
+        final int iterations = 100_000;
+        final long allocated = Allocations.measure(iterations, () -> {
+            mapper.getValue(buffer, true, 0, 6);
+            mapper.getValue(buffer, true, 6, 6);
+            mapper.getValue(buffer, true, 12, 6);
+        });
+        assertTrue(allocated < iterations, "Interned values allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void mapperShouldThrowForUnsupportedCharset() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> new TextFieldMapper("NO-SUCH-CHARSET", Text.Padding.NONE, false, 0)
+        );
+        assertEquals("Unsupported charset: NO-SUCH-CHARSET", e.getMessage());
+    }
+
+    @Test
+    void mapperShouldThrowForNegativeInternCapacity() {
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> new TextFieldMapper("UTF-8", Text.Padding.NONE, false, -1)
+        );
+        assertEquals("Intern capacity must not be negative, but -1 was provided", e.getMessage());
+    }
+
+}
@@ -0,0 +1,64 @@
+package eu.trisquare.bytemapper.fieldmapper;
+
+import eu.trisquare.bytemapper.annotations.Text;
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextFieldWriterTest {
+
+    private static String write(TextFieldWriter writer, boolean isBigEndian, int size, String value) {
+        final ByteBuffer buffer = ByteBuffer.allocate(size + 2);
+        writer.putValue(buffer, isBigEndian, 1, size, value);
+        return new String(buffer.array(), StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    void valueShouldBePaddedWithSpaces() {
+        final TextFieldWriter writer = new TextFieldWriter("US-ASCII", Text.Padding.SPACE, false);
+        assertEquals("\0IBM   \0", write(writer, true, 6, "IBM"));
+        assertEquals("\0   MBI\0", write(writer, false, 6, "IBM"));
+    }
+
+    @Test
+    void terminatorShouldBeWrittenIfThereIsRoomForIt() {
+        final TextFieldWriter writer = new TextFieldWriter("US-ASCII", Text.Padding.SPACE, true);
+        assertEquals("\0ab\0 \0", write(writer, true, 4, "ab"));
+        assertEquals("\0abcd\0", write(writer, true, 4, "abcd"));
+    }
+
+    @Test
+    void utf16ValueShouldNotBeReversed() {
+        final TextFieldWriter writer = new TextFieldWriter("UTF-16", Text.Padding.NUL, false);
+        final ByteBuffer buffer = ByteBuffer.allocate(6);
+        writer.putValue(buffer, false, 0, 6, "ab");
+        assertArrayEquals(new byte[]{'a', 0, 'b', 0, 0, 0}, buffer.array());
+    }
+
+    @Test
+    void writtenValueShouldBeMappedBack() {
+        final TextFieldWriter writer = new TextFieldWriter("UTF-16", Text.Padding.SPACE, true);
+        final TextFieldMapper mapper = new TextFieldMapper("UTF-16", Text.Padding.SPACE, true, 0);
+        for (boolean isBigEndian : new boolean[]{true, false}) {
+            final ByteBuffer buffer = ByteBuffer.allocate(14);
+            writer.putValue(buffer, isBigEndian, 1, 12, "żółw");
+            assertEquals("żółw", mapper.getValue(buffer, isBigEndian, 1, 12));
+            assertEquals(0, buffer.get(13));
+        }
+    }
+
+    @Test
+    void tooLongValueShouldThrow() {
+        final TextFieldWriter writer = new TextFieldWriter("UTF-8", Text.Padding.NONE, false);
+        final Exception e = assertThrows(
+                MappingException.class,
+                () -> writer.putValue(ByteBuffer.allocate(4), true, 0, 2, "żó")
+        );
+        assertEquals("Value of 4 bytes does not fit in 2 bytes.", e.getMessage());
+    }
+
+}
@@ -0,0 +1,95 @@
+package eu.trisquare.bytemapper.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FramingTest {
+
+    private static ByteBuffer getBuffer(int... bytes) {
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
+        for (int value : bytes) {
+            buffer.put((byte) value);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    @Test
+    void fixedLengthShouldAlwaysReturnRecordSize() throws IOException {
+        final Framing framing = Framing.fixedLength(12);
+        assertEquals(12, framing.recordLength(getBuffer(), 0, 0));
+        assertEquals(0, framing.trailerLength());
+    }
+
+    @Test
+    void lengthFieldShouldBeReadWithGivenOffsetAndEndianness() throws IOException {
+        final ByteBuffer buffer = getBuffer(0xAA, 0xAA, 0x01, 0x02, 0x03);
+        assertEquals(1 + 3 + 0x010203, Framing.lengthField(1, 3, true).recordLength(buffer, 1, 4));
+        assertEquals(1 + 2 + 0x0201, Framing.lengthField(1, 2, false).recordLength(buffer, 1, 4));
+        assertEquals(0x0102, Framing.lengthField(0, 2, true, -2).recordLength(buffer, 2, 3));
+        assertEquals(4 + 0x0FFFFFFF, Framing.lengthField(0, 4, true).recordLength(getBuffer(0x0F, 0xFF, 0xFF, 0xFF), 0, 4));
+    }
+
+    @Test
+    void lengthFieldShouldRequireWholeField() throws IOException {
+        final ByteBuffer buffer = getBuffer(0x00, 0x01);
+        assertEquals(Framing.MORE_BYTES_REQUIRED, Framing.lengthField(1, 2, true).recordLength(buffer, 0, 2));
+    }
+
+    @Test
+    void lengthFieldShouldThrowForInvalidRecordLength() {
+        final Exception e = assertThrows(
+                IOException.class,
+                () -> Framing.lengthField(0, 1, true, -5).recordLength(getBuffer(2), 0, 1)
+        );
+        assertEquals("Length field value of 2 results in invalid record length of -2 bytes.", e.getMessage());
+        assertThrows(
+                IOException.class,
+                () -> Framing.lengthField(0, 4, true).recordLength(getBuffer(0xFF, 0xFF, 0xFF, 0xFF), 0, 4)
+        );
+    }
+
+    @Test
+    void delimiterShouldBeFoundAcrossPartialMatches() throws IOException {
+        final Framing framing = Framing.delimiter((byte) 1, (byte) 2);
+        assertEquals(2, framing.recordLength(getBuffer(9, 1, 1, 1, 2, 7), 1, 5));
+        assertEquals(Framing.MORE_BYTES_REQUIRED, framing.recordLength(getBuffer(9, 1, 1, 1, 2), 0, 4));
+        assertEquals(2, framing.trailerLength());
+    }
+
+    @Test
+    void delimiterSearchShouldResumeFromPartiallyReceivedDelimiter() throws IOException {
+        final Framing framing = Framing.delimiter((byte) 1, (byte) 2);
+        final ByteBuffer buffer = getBuffer(9, 1, 1, 1, 2, 7);
+        assertEquals(Framing.MORE_BYTES_REQUIRED, framing.recordLength(buffer, 0, 4, 0));
+        assertEquals(3, framing.recordLength(buffer, 0, 5, 4));
+        assertEquals(2, framing.recordLength(buffer, 1, 5, 3));
+        //bytes already scanned are not searched again
+        assertEquals(Framing.MORE_BYTES_REQUIRED, framing.recordLength(getBuffer(1, 2, 0, 0), 0, 4, 3));
+    }
+
+    @Test
+    void framingsShouldThrowForInvalidArguments() {
+        assertEquals(
+                "Record size should be bigger than 0, but 0 was provided",
+                assertThrows(IllegalArgumentException.class, () -> Framing.fixedLength(0)).getMessage()
+        );
+        assertEquals(
+                "Length field offset must not be negative, but -1 was provided.",
+                assertThrows(IllegalArgumentException.class, () -> Framing.lengthField(-1, 2, true)).getMessage()
+        );
+        assertEquals(
+                "Length field size should be between 1 and 4, but 5 was provided.",
+                assertThrows(IllegalArgumentException.class, () -> Framing.lengthField(0, 5, true)).getMessage()
+        );
+        assertEquals(
+                "Delimiter must not be empty.",
+                assertThrows(IllegalArgumentException.class, Framing::delimiter).getMessage()
+        );
+    }
+
+}
@@ -0,0 +1,188 @@
+package eu.trisquare.bytemapper.io;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordFileReaderTest {
+
+    private static final int RECORD_SIZE = 8;
+
+    private final ByteMapper byteMapper = new ByteMapperBuilder().build();
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Writes file with given header size and number of records, each consisting of record index and its negation
+     */
+    private Path writeFile(int headerSize, int count) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(headerSize + count * RECORD_SIZE);
+        buffer.position(headerSize);
+        for (int i = 0; i < count; i++) {
+            buffer.putInt(i);
+            buffer.putInt(-i);
+        }
+        final Path path = directory.resolve("records.bin");
+        Files.write(path, buffer.array());
+        return path;
+    }
+
+    private RecordFileReaderBuilder<Record> builder() {
+        return new RecordFileReaderBuilder<>(byteMapper, Record.class, RECORD_SIZE);
+    }
+
+    private static void assertRecord(int index, Record record) {
+        assertEquals(index, record.index);
+        assertEquals(-index, record.negation);
+    }
+
+    @Test
+    void readerShouldMapRecordsByIndexAcrossWindows() throws IOException {
+        final Path path = writeFile(3, 10);
+        try (RecordFileReader<Record> reader = builder().withHeaderSize(3).withWindowSize(20).open(path)) {
+            assertEquals(10, reader.getRecordsCount());
+            for (int index : new int[]{9, 0, 5, 4, 1, 8, 2}) {
+                assertRecord(index, reader.get(index));
+            }
+        }
+    }
+
+    @Test
+    void readerShouldIterateRecordsInOrder() throws IOException {
+        final Path path = writeFile(0, 7);
+        try (RecordFileReader<Record> reader = builder().withWindowSize(3 * RECORD_SIZE).withReadAhead(true).open(path)) {
+            final List<Record> iterated = new ArrayList<>();
+            for (Record record : reader) {
+                iterated.add(record);
+            }
+            final List<Record> consumed = new ArrayList<>();
+            reader.forEach(consumed::add);
+
+            assertEquals(7, iterated.size());
+            assertEquals(7, consumed.size());
+            for (int i = 0; i < 7; i++) {
+                assertRecord(i, iterated.get(i));
+                assertRecord(i, consumed.get(i));
+            }
+        }
+    }
+
+    @Test
+    void windowShouldContainAtLeastSingleRecord() throws IOException {
+        final Path path = writeFile(0, 3);
+        try (RecordFileReader<Record> reader = builder().withWindowSize(1).open(path)) {
+            assertRecord(2, reader.get(2));
+            assertRecord(1, reader.get(1));
+        }
+    }
+
+    @Test
+    void readerShouldHandleEmptyFile() throws IOException {
+        final Path path = writeFile(4, 0);
+        try (RecordFileReader<Record> reader = builder().withHeaderSize(4).open(path)) {
+            assertEquals(0, reader.getRecordsCount());
+            final Iterator<Record> iterator = reader.iterator();
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+            reader.forEach(record -> fail("No records expected"));
+        }
+    }
+
+    @Test
+    void readerShouldThrowForIndexOutOfBounds() throws IOException {
+        final Path path = writeFile(0, 2);
+        try (RecordFileReader<Record> reader = builder().open(path)) {
+            final Exception e = assertThrows(IndexOutOfBoundsException.class, () -> reader.get(2));
+            assertEquals("Record index should be between 0 and 1, but 2 was provided.", e.getMessage());
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.get(-1));
+        }
+    }
+
+    @Test
+    void recordsShouldNotExceedRecordSize() throws IOException {
+        final Path path = writeFile(0, 1);
+        try (RecordFileReader<Record> reader = new RecordFileReaderBuilder<>(byteMapper, Record.class, 4).open(path)) {
+            final Exception indexed = assertThrows(MappingException.class, () -> reader.get(0));
+            assertEquals("Last byte index should not exceed buffer limit of 4 bytes, but 8 was calculated", indexed.getMessage());
+            final Exception consumed = assertThrows(MappingException.class, () -> reader.forEach(record -> fail("No records expected")));
+            assertEquals(indexed.getMessage(), consumed.getMessage());
+        }
+    }
+
+    @Test
+    void iteratorShouldNotSkipRecordWhichFailedToMap() throws IOException {
+        final Path path = writeFile(0, 2);
+        final ByteMapper delegate = new ByteMapperBuilder().build();
+        final AtomicBoolean failure = new AtomicBoolean(true);
+        final ByteMapper flakyMapper = new ByteMapper() {
+            @Override
+            public <T> T mapValues(Class<T> clazz, ByteBuffer byteBuffer) {
+                if (failure.getAndSet(false)) {
+                    throw new IllegalStateException("Mapping failed");
+                }
+                return delegate.mapValues(clazz, byteBuffer);
+            }
+        };
+        try (RecordFileReader<Record> reader = new RecordFileReaderBuilder<>(flakyMapper, Record.class, RECORD_SIZE).open(path)) {
+            final Iterator<Record> iterator = reader.iterator();
+            assertThrows(IllegalStateException.class, iterator::next);
+            assertRecord(0, iterator.next());
+            assertRecord(1, iterator.next());
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    void openShouldThrowWhenFileIsNotMultipleOfRecordSize() throws IOException {
+        final Path path = writeFile(0, 2);
+        final Exception e = assertThrows(IOException.class, () -> builder().withHeaderSize(3).open(path));
+        assertEquals(
+                "Size of " + path + " excluding header of 3 bytes should be a multiple of record size of 8 bytes, but it is 13 bytes.",
+                e.getMessage()
+        );
+    }
+
+    @Test
+    void builderShouldThrowForInvalidArguments() {
+        assertEquals(
+                "Record size should be bigger than 0, but 0 was provided",
+                assertThrows(IllegalArgumentException.class, () -> new RecordFileReaderBuilder<>(byteMapper, Record.class, 0)).getMessage()
+        );
+        assertEquals(
+                "Header size must not be negative, but -1 was provided.",
+                assertThrows(IllegalArgumentException.class, () -> builder().withHeaderSize(-1)).getMessage()
+        );
+        assertEquals(
+                "Window size should be bigger than 0, but 0 was provided",
+                assertThrows(IllegalArgumentException.class, () -> builder().withWindowSize(0)).getMessage()
+        );
+    }
+
+    @SuppressWarnings("unused")
+    private static class Record {
+
+        @Value(startByte = 0, size = 4)
+        private int index;
+
+        @Value(startByte = 4, size = 4)
+        private int negation;
+
+    }
+
+}
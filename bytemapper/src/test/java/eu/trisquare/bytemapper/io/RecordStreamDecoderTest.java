@@ -0,0 +1,252 @@
+package eu.trisquare.bytemapper.io;
+
+import eu.trisquare.bytemapper.ByteMapper;
+import eu.trisquare.bytemapper.annotations.Value;
+import eu.trisquare.bytemapper.impl.ByteMapperBuilder;
+import eu.trisquare.bytemapper.impl.MappingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordStreamDecoderTest {
+
+    private final ByteMapper byteMapper = new ByteMapperBuilder().build();
+
+    /**
+     * Returns bytes of records, each consisting of 2-byte big-endian length of following bytes, 4-byte
+     * record index and not mapped text of index repeated index times
+     */
+    private static byte[] getLengthPrefixedRecords(int count) {
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        for (int i = 0; i < count; i++) {
+            final byte[] text = getText(i);
+            buffer.putShort((short) (Integer.BYTES + text.length));
+            buffer.putInt(i);
+            buffer.put(text);
+        }
+        return toArray(buffer);
+    }
+
+    private static byte[] getText(int index) {
+        final byte[] text = new byte[index];
+        for (int i = 0; i < index; i++) {
+            text[i] = (byte) ('0' + index);
+        }
+        return text;
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        buffer.flip();
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static <T> List<T> readAll(RecordStreamDecoder<T> decoder) throws IOException {
+        final List<T> records = new ArrayList<>();
+        T record;
+        while ((record = decoder.read()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 1024})
+    void decoderShouldReassembleLengthPrefixedRecordsFromChunks(int chunkSize) throws IOException {
+        final byte[] bytes = getLengthPrefixedRecords(6);
+        try (RecordStreamDecoder<PrefixedRecord> decoder = new RecordStreamDecoderBuilder<>(
+                byteMapper, PrefixedRecord.class, Framing.lengthField(0, 2, true)
+        ).withBufferSize(16).open(new ChunkedChannel(bytes, chunkSize))) {
+            final List<PrefixedRecord> records = readAll(decoder);
+            assertEquals(6, records.size());
+            for (int i = 0; i < 6; i++) {
+                assertEquals(Integer.BYTES + i, records.get(i).length);
+                assertEquals(i, records.get(i).index);
+            }
+            assertNull(decoder.read());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void decoderShouldMapFixedLengthRecordsFromInputStream(boolean directBuffer) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(5 * 4);
+        for (int i = 0; i < 5; i++) {
+            buffer.putShort((short) (i * 1000));
+            buffer.putShort((short) 0);
+        }
+        try (RecordStreamDecoder<FixedRecord> decoder = new RecordStreamDecoderBuilder<>(
+                byteMapper, FixedRecord.class, Framing.fixedLength(4)
+        ).withBufferSize(6).withDirectBuffer(directBuffer).open(new ByteArrayInputStream(buffer.array()))) {
+            final List<FixedRecord> records = readAll(decoder);
+            assertEquals(5, records.size());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(i * 1000, records.get(i).value);
+            }
+        }
+    }
+
+    @Test
+    void decoderShouldSkipDelimiters() throws IOException {
+        final byte[] bytes = "AB\r\nCD\r\n\r\nEF\r\n".getBytes();
+        try (RecordStreamDecoder<FixedRecord> decoder = new RecordStreamDecoderBuilder<>(
+                byteMapper, FixedRecord.class, Framing.delimiter((byte) '\r', (byte) '\n')
+        ).withBufferSize(5).open(new ChunkedChannel(bytes, 3))) {
+            assertEquals(0x4142, decoder.read().value);
+            assertEquals(0x4344, decoder.read().value);
+            assertThrows(MappingException.class, decoder::read);
+            assertEquals(0x4546, decoder.read().value);
+            assertNull(decoder.read());
+        }
+    }
+
+    @Test
+    void decoderShouldFindDelimitersOfRecordsReceivedByteByByte() throws IOException {
+        final byte[] bytes = "AB\r\nCD\r\n".getBytes();
+        try (RecordStreamDecoder<FixedRecord> decoder = new RecordStreamDecoderBuilder<>(
+                byteMapper, FixedRecord.class, Framing.delimiter((byte) '\r', (byte) '\n')
+        ).withBufferSize(6).open(new ChunkedChannel(bytes, 1))) {
+            assertEquals(0x4142, decoder.read().value);
+            assertEquals(0x4344, decoder.read().value);
+            assertNull(decoder.read());
+        }
+    }
+
+    @Test
+    void decoderShouldRejectNonBlockingChannels() throws IOException {
+        final RecordStreamDecoderBuilder<FixedRecord> builder = new RecordStreamDecoderBuilder<>(
+                byteMapper, FixedRecord.class, Framing.fixedLength(4)
+        );
+        final Pipe pipe = Pipe.open();
+        try (Pipe.SourceChannel source = pipe.source(); Pipe.SinkChannel ignored = pipe.sink()) {
+            source.configureBlocking(false);
+            final Exception e = assertThrows(IllegalArgumentException.class, () -> builder.open(source));
+            assertEquals("Channel must be in blocking mode.", e.getMessage());
+        }
+        final RecordStreamDecoder<FixedRecord> decoder = builder.open(new ChunkedChannel(new byte[4], 0));
+        final Exception e = assertThrows(IOException.class, decoder::read);
+        assertEquals("Channel returned no bytes. Only blocking channels are supported.", e.getMessage());
+    }
+
+    @Test
+    void decoderShouldThrowWhenStreamEndsWithinRecord() {
+        final byte[] bytes = getLengthPrefixedRecords(3);
+        final ChunkedChannel channel = new ChunkedChannel(bytes, bytes.length - 1, 2);
+        final RecordStreamDecoder<PrefixedRecord> decoder = new RecordStreamDecoderBuilder<>(
+                byteMapper, PrefixedRecord.class, Framing.lengthField(0, 2, true)
+        ).open(channel);
+        final Exception e = assertThrows(EOFException.class, () -> readAll(decoder));
+        assertEquals("Stream ended within record, 7 bytes were left.", e.getMessage());
+    }
+
+    @Test
+    void decoderShouldThrowWhenFrameExceedsBufferCapacity() {
+        final byte[] bytes = getLengthPrefixedRecords(4);
+        final RecordStreamDecoder<PrefixedRecord> knownLength = new RecordStreamDecoderBuilder<>(
+                byteMapper, PrefixedRecord.class, Framing.lengthField(0, 2, true)
+        ).withBufferSize(8).open(new ChunkedChannel(bytes, 1));
+        final Exception e = assertThrows(IOException.class, () -> readAll(knownLength));
+        assertEquals("Frame of 9 bytes exceeds read buffer capacity of 8 bytes.", e.getMessage());
+
+        final RecordStreamDecoder<FixedRecord> unknownLength = new RecordStreamDecoderBuilder<>(
+                byteMapper, FixedRecord.class, Framing.delimiter((byte) 0)
+        ).withBufferSize(4).open(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 0}));
+        final Exception delimiterException = assertThrows(IOException.class, unknownLength::read);
+        assertEquals("Frame exceeds read buffer capacity of 4 bytes.", delimiterException.getMessage());
+    }
+
+    @Test
+    void closeShouldCloseChannel() throws IOException {
+        final ChunkedChannel channel = new ChunkedChannel(new byte[0], 1);
+        new RecordStreamDecoderBuilder<>(byteMapper, FixedRecord.class, Framing.fixedLength(4)).open(channel).close();
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    void builderShouldThrowForInvalidBufferSize() {
+        final Exception e = assertThrows(
+                IllegalArgumentException.class,
+                () -> new RecordStreamDecoderBuilder<>(byteMapper, FixedRecord.class, Framing.fixedLength(4)).withBufferSize(0)
+        );
+        assertEquals("Buffer size should be bigger than 0, but 0 was provided", e.getMessage());
+    }
+
+    /**
+     * Channel returning given bytes in chunks of limited size, optionally truncated
+     */
+    private static class ChunkedChannel implements ReadableByteChannel {
+
+        private final byte[] bytes;
+
+        private final int length;
+
+        private final int chunkSize;
+
+        private int position;
+
+        private boolean open = true;
+
+        ChunkedChannel(byte[] bytes, int chunkSize) {
+            this(bytes, bytes.length, chunkSize);
+        }
+
+        ChunkedChannel(byte[] bytes, int length, int chunkSize) {
+            this.bytes = bytes;
+            this.length = length;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (position == length) {
+                return -1;
+            }
+            final int count = Math.min(Math.min(chunkSize, dst.remaining()), length - position);
+            dst.put(bytes, position, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class PrefixedRecord {
+
+        @Value(startByte = 0, size = 2)
+        private int length;
+
+        @Value(startByte = 2, size = 4)
+        private int index;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class FixedRecord {
+
+        @Value(startByte = 0, size = 2)
+        private int value;
+
+    }
+
+}